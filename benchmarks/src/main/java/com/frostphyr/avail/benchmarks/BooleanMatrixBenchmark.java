@@ -0,0 +1,41 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * Benchmarks the {@code boolean} overloads of {@link MatrixUtils}, which 
+ * are only the transpositions.
+ */
+public class BooleanMatrixBenchmark extends MatrixBenchmark {
+	
+	private boolean[][] matrix;
+	private boolean[] vector;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(size);
+		matrix = new boolean[size][size];
+		for (boolean[] row : matrix) {
+			for (int c = 0; c < size; c++) {
+				row[c] = random.nextBoolean();
+			}
+		}
+		vector = matrix[0].clone();
+	}
+	
+	@Benchmark
+	public boolean[][] transpose() {
+		return MatrixUtils.transpose(matrix);
+	}
+	
+	@Benchmark
+	public boolean[][] transposeVector() {
+		return MatrixUtils.transpose(vector);
+	}
+
+}
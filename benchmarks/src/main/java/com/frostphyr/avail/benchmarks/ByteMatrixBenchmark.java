@@ -0,0 +1,76 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * Benchmarks the {@code byte} overloads of {@link MatrixUtils}.
+ */
+public class ByteMatrixBenchmark extends MatrixBenchmark {
+	
+	private byte[][] matrix1;
+	private byte[][] matrix2;
+	private byte[][] column;
+	private byte[] vector;
+	private byte scalar;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(size);
+		matrix1 = randomMatrix(random, size, size);
+		matrix2 = randomMatrix(random, size, size);
+		column = randomMatrix(random, size, 1);
+		vector = randomMatrix(random, 1, size)[0];
+		scalar = (byte) (random.nextInt(7) - 3);
+	}
+	
+	private static byte[][] randomMatrix(Random random, int rows, int columns) {
+		byte[][] matrix = new byte[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = (byte) (random.nextInt(7) - 3);
+			}
+		}
+		return matrix;
+	}
+	
+	@Benchmark
+	public byte[][] add() {
+		return MatrixUtils.add(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public byte[][] multiply() {
+		return MatrixUtils.multiply(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public byte[][] multiplyMatrixVector() {
+		return MatrixUtils.multiply(column, vector);
+	}
+	
+	@Benchmark
+	public byte[] multiplyVectorMatrix() {
+		return MatrixUtils.multiply(vector, matrix1);
+	}
+	
+	@Benchmark
+	public byte[][] multiplyScalar() {
+		return MatrixUtils.multiply(matrix1, scalar);
+	}
+	
+	@Benchmark
+	public byte[][] transpose() {
+		return MatrixUtils.transpose(matrix1);
+	}
+	
+	@Benchmark
+	public byte[][] transposeVector() {
+		return MatrixUtils.transpose(vector);
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * Benchmarks the {@code char} overloads of {@link MatrixUtils}.
+ */
+public class CharMatrixBenchmark extends MatrixBenchmark {
+	
+	private char[][] matrix1;
+	private char[][] matrix2;
+	private char[][] column;
+	private char[] vector;
+	private char scalar;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(size);
+		matrix1 = randomMatrix(random, size, size);
+		matrix2 = randomMatrix(random, size, size);
+		column = randomMatrix(random, size, 1);
+		vector = randomMatrix(random, 1, size)[0];
+		scalar = (char) random.nextInt(4);
+	}
+	
+	private static char[][] randomMatrix(Random random, int rows, int columns) {
+		char[][] matrix = new char[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = (char) random.nextInt(4);
+			}
+		}
+		return matrix;
+	}
+	
+	@Benchmark
+	public char[][] add() {
+		return MatrixUtils.add(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public char[][] multiply() {
+		return MatrixUtils.multiply(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public char[][] multiplyMatrixVector() {
+		return MatrixUtils.multiply(column, vector);
+	}
+	
+	@Benchmark
+	public char[] multiplyVectorMatrix() {
+		return MatrixUtils.multiply(vector, matrix1);
+	}
+	
+	@Benchmark
+	public char[][] multiplyScalar() {
+		return MatrixUtils.multiply(matrix1, scalar);
+	}
+	
+	@Benchmark
+	public char[][] transpose() {
+		return MatrixUtils.transpose(matrix1);
+	}
+	
+	@Benchmark
+	public char[][] transposeVector() {
+		return MatrixUtils.transpose(vector);
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * Benchmarks the {@code double} overloads of {@link MatrixUtils}.
+ */
+public class DoubleMatrixBenchmark extends MatrixBenchmark {
+	
+	private double[][] matrix1;
+	private double[][] matrix2;
+	private double[][] column;
+	private double[] vector;
+	private double scalar;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(size);
+		matrix1 = randomMatrix(random, size, size);
+		matrix2 = randomMatrix(random, size, size);
+		column = randomMatrix(random, size, 1);
+		vector = randomMatrix(random, 1, size)[0];
+		scalar = random.nextDouble() * 2 - 1;
+	}
+	
+	private static double[][] randomMatrix(Random random, int rows, int columns) {
+		double[][] matrix = new double[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = random.nextDouble() * 2 - 1;
+			}
+		}
+		return matrix;
+	}
+	
+	@Benchmark
+	public double[][] add() {
+		return MatrixUtils.add(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public double[][] multiply() {
+		return MatrixUtils.multiply(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public double[][] multiplyMatrixVector() {
+		return MatrixUtils.multiply(column, vector);
+	}
+	
+	@Benchmark
+	public double[] multiplyVectorMatrix() {
+		return MatrixUtils.multiply(vector, matrix1);
+	}
+	
+	@Benchmark
+	public double[][] multiplyScalar() {
+		return MatrixUtils.multiply(matrix1, scalar);
+	}
+	
+	@Benchmark
+	public double[][] transpose() {
+		return MatrixUtils.transpose(matrix1);
+	}
+	
+	@Benchmark
+	public double[][] transposeVector() {
+		return MatrixUtils.transpose(vector);
+	}
+
+}
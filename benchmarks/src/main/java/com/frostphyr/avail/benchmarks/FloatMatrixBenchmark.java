@@ -0,0 +1,76 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * Benchmarks the {@code float} overloads of {@link MatrixUtils}.
+ */
+public class FloatMatrixBenchmark extends MatrixBenchmark {
+	
+	private float[][] matrix1;
+	private float[][] matrix2;
+	private float[][] column;
+	private float[] vector;
+	private float scalar;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(size);
+		matrix1 = randomMatrix(random, size, size);
+		matrix2 = randomMatrix(random, size, size);
+		column = randomMatrix(random, size, 1);
+		vector = randomMatrix(random, 1, size)[0];
+		scalar = random.nextFloat() * 2 - 1;
+	}
+	
+	private static float[][] randomMatrix(Random random, int rows, int columns) {
+		float[][] matrix = new float[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = random.nextFloat() * 2 - 1;
+			}
+		}
+		return matrix;
+	}
+	
+	@Benchmark
+	public float[][] add() {
+		return MatrixUtils.add(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public float[][] multiply() {
+		return MatrixUtils.multiply(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public float[][] multiplyMatrixVector() {
+		return MatrixUtils.multiply(column, vector);
+	}
+	
+	@Benchmark
+	public float[] multiplyVectorMatrix() {
+		return MatrixUtils.multiply(vector, matrix1);
+	}
+	
+	@Benchmark
+	public float[][] multiplyScalar() {
+		return MatrixUtils.multiply(matrix1, scalar);
+	}
+	
+	@Benchmark
+	public float[][] transpose() {
+		return MatrixUtils.transpose(matrix1);
+	}
+	
+	@Benchmark
+	public float[][] transposeVector() {
+		return MatrixUtils.transpose(vector);
+	}
+
+}
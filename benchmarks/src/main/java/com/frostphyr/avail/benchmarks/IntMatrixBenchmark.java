@@ -0,0 +1,76 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * Benchmarks the {@code int} overloads of {@link MatrixUtils}.
+ */
+public class IntMatrixBenchmark extends MatrixBenchmark {
+	
+	private int[][] matrix1;
+	private int[][] matrix2;
+	private int[][] column;
+	private int[] vector;
+	private int scalar;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(size);
+		matrix1 = randomMatrix(random, size, size);
+		matrix2 = randomMatrix(random, size, size);
+		column = randomMatrix(random, size, 1);
+		vector = randomMatrix(random, 1, size)[0];
+		scalar = random.nextInt(201) - 100;
+	}
+	
+	private static int[][] randomMatrix(Random random, int rows, int columns) {
+		int[][] matrix = new int[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = random.nextInt(201) - 100;
+			}
+		}
+		return matrix;
+	}
+	
+	@Benchmark
+	public int[][] add() {
+		return MatrixUtils.add(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public int[][] multiply() {
+		return MatrixUtils.multiply(matrix1, matrix2);
+	}
+	
+	@Benchmark
+	public int[][] multiplyMatrixVector() {
+		return MatrixUtils.multiply(column, vector);
+	}
+	
+	@Benchmark
+	public int[] multiplyVectorMatrix() {
+		return MatrixUtils.multiply(vector, matrix1);
+	}
+	
+	@Benchmark
+	public int[][] multiplyScalar() {
+		return MatrixUtils.multiply(matrix1, scalar);
+	}
+	
+	@Benchmark
+	public int[][] transpose() {
+		return MatrixUtils.transpose(matrix1);
+	}
+	
+	@Benchmark
+	public int[][] transposeVector() {
+		return MatrixUtils.transpose(vector);
+	}
+
+}
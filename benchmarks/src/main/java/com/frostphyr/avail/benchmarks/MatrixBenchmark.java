@@ -0,0 +1,37 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * The settings shared by the benchmarks of {@link MatrixUtils}, which 
+ * measure the throughput of each operation on square matrices of every 
+ * {@link #size}.
+ * <p>
+ * Each benchmark allocates its result, as the overloads without a result 
+ * parameter do, so the allocation rate reported by the {@code gc} profiler 
+ * includes it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class MatrixBenchmark {
+	
+	@Param({"4", "16", "64", "256", "1024", "4096"})
+	public int size;
+
+}
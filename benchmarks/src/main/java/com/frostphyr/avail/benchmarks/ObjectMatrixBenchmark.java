@@ -0,0 +1,42 @@
+package com.frostphyr.avail.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.frostphyr.avail.math.MatrixUtils;
+
+/**
+ * Benchmarks the {@code Object} overloads of {@link MatrixUtils}, which 
+ * are only the transpositions. The elements are boxed {@code Integer}s, so 
+ * only references are copied.
+ */
+public class ObjectMatrixBenchmark extends MatrixBenchmark {
+	
+	private Object[][] matrix;
+	private Object[] vector;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(size);
+		matrix = new Object[size][size];
+		for (Object[] row : matrix) {
+			for (int c = 0; c < size; c++) {
+				row[c] = random.nextInt();
+			}
+		}
+		vector = matrix[0].clone();
+	}
+	
+	@Benchmark
+	public Object[][] transpose() {
+		return MatrixUtils.transpose(matrix);
+	}
+	
+	@Benchmark
+	public Object[][] transposeVector() {
+		return MatrixUtils.transpose(vector);
+	}
+
+}
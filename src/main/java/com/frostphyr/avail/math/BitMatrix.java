@@ -0,0 +1,363 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A matrix of {@code boolean}s packed 64 to a {@code long}. Each row is 
+ * stored in its own run of words, with column {@code c} at bit 
+ * {@code c % 64} of word {@code c / 64}, so a matrix takes about one 
+ * sixty-fourth of the memory of a {@code boolean[][]} and its operations 
+ * work on 64 elements at a time.
+ * <p>
+ * Multiplication is over the Boolean semiring: an element of the product 
+ * is {@code true} if there is any {@code k} for which the element at 
+ * column {@code k} of the row of the first matrix and the element at row 
+ * {@code k} of the column of the second matrix are both {@code true}. 
+ * If a matrix is the adjacency matrix of a directed graph, its product with 
+ * itself describes the paths of length 2 and its 
+ * {@linkplain #transitiveClosure() transitive closure} describes which 
+ * vertices can reach which.
+ * 
+ * @since 1.6
+ */
+public final class BitMatrix {
+	
+	private final long[] words;
+	private final int rows;
+	private final int columns;
+	private final int rowWords;
+	
+	/**
+	 * Creates a new matrix with {@code rows} rows and {@code columns} 
+	 * columns where every element is {@code false}.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1 or if the matrix would need more than 
+	 * {@link Integer#MAX_VALUE} words
+	 */
+	public BitMatrix(int rows, int columns) {
+		Argument.checkGreaterThan(columns, 0, "columns");
+		this.rows = rows;
+		this.columns = columns;
+		this.rowWords = wordCount(columns);
+		this.words = new long[MatrixUtils.checkSize(rows, rowWords)];
+	}
+	
+	private BitMatrix(BitMatrix matrix) {
+		this.rows = matrix.rows;
+		this.columns = matrix.columns;
+		this.rowWords = matrix.rowWords;
+		this.words = matrix.words.clone();
+	}
+	
+	/**
+	 * Returns a new matrix with the same elements as {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return a new matrix with the same elements as {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix
+	 * @see MatrixUtils#validateMatrix(boolean[][])
+	 */
+	public static BitMatrix fromArray(boolean[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		BitMatrix result = new BitMatrix(matrix.length, matrix[0].length);
+		for (int r = 0; r < result.rows; r++) {
+			boolean[] row = matrix[r];
+			int start = r * result.rowWords;
+			for (int c = 0; c < result.columns; c++) {
+				if (row[c]) {
+					result.words[start + (c >>> 6)] |= 1L << c;
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns a new square matrix of {@code size} rows and columns whose 
+	 * only {@code true} elements are on its diagonal.
+	 * 
+	 * @param size the number of rows and columns
+	 * @return a new identity matrix of {@code size} rows and columns
+	 * @throws IllegalArgumentException if {@code size} is less than 1
+	 */
+	public static BitMatrix identity(int size) {
+		BitMatrix result = new BitMatrix(size, size);
+		for (int i = 0; i < size; i++) {
+			result.words[i * result.rowWords + (i >>> 6)] |= 1L << i;
+		}
+		return result;
+	}
+	
+	private static int wordCount(int bits) {
+		return (int) ((bits + 63L) >>> 6);
+	}
+	
+	/**
+	 * Returns a copy of this matrix as an array of rows.
+	 * 
+	 * @return a copy of this matrix as an array of rows
+	 */
+	public boolean[][] toArray() {
+		boolean[][] result = new boolean[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			boolean[] row = result[r];
+			int start = r * rowWords;
+			for (int c = 0; c < columns; c++) {
+				row[c] = (words[start + (c >>> 6)] & (1L << c)) != 0;
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the number of rows of this matrix.
+	 * 
+	 * @return the number of rows of this matrix
+	 */
+	public int getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of this matrix.
+	 * 
+	 * @return the number of columns of this matrix
+	 */
+	public int getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns the number of elements of this matrix that are {@code true}.
+	 * 
+	 * @return the number of elements of this matrix that are {@code true}
+	 */
+	public long cardinality() {
+		long count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public boolean get(int row, int column) {
+		return (words[index(row, column)] & (1L << column)) != 0;
+	}
+	
+	/**
+	 * Sets the element at {@code row} and {@code column} to {@code value}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @param value the value to set the element to
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public void set(int row, int column, boolean value) {
+		int index = index(row, column);
+		if (value) {
+			words[index] |= 1L << column;
+		} else {
+			words[index] &= ~(1L << column);
+		}
+	}
+	
+	private int index(int row, int column) {
+		if (row < 0 || row >= rows || column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		return row * rowWords + (column >>> 6);
+	}
+	
+	/**
+	 * Returns the element-wise OR of this matrix and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to OR with this matrix
+	 * @return the element-wise OR of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if it is a different size than this matrix
+	 */
+	public BitMatrix or(BitMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		if (rows != matrix.rows || columns != matrix.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		}
+		
+		BitMatrix result = new BitMatrix(this);
+		for (int i = 0; i < words.length; i++) {
+			result.words[i] |= matrix.words[i];
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the Boolean product of this matrix and {@code matrix}. For 
+	 * every {@code true} element of this matrix at row {@code r} and column 
+	 * {@code k}, row {@code k} of {@code matrix} is ORed into row {@code r} of 
+	 * the result a word at a time, so the product takes time proportional to 
+	 * the number of {@code true} elements of this matrix times the number of 
+	 * columns of {@code matrix} divided by 64.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return the Boolean product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if the number of columns of this matrix doesn't equal the number of 
+	 * rows of {@code matrix}
+	 */
+	public BitMatrix multiply(BitMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		if (columns != matrix.rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		BitMatrix result = new BitMatrix(rows, matrix.columns);
+		int resultWords = result.rowWords;
+		for (int r = 0; r < rows; r++) {
+			int start = r * rowWords;
+			int resultStart = r * resultWords;
+			for (int w = 0; w < rowWords; w++) {
+				long word = words[start + w];
+				while (word != 0) {
+					int k = (w << 6) + Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+					int row2 = k * resultWords;
+					for (int i = 0; i < resultWords; i++) {
+						result.words[resultStart + i] |= matrix.words[row2 + i];
+					}
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the transpose of this matrix. The matrix is transposed in 
+	 * blocks of 64 by 64 elements, each of which is transposed within its 64 
+	 * words by swapping progressively smaller sub-blocks.
+	 * 
+	 * @return the transpose of this matrix
+	 */
+	public BitMatrix transpose() {
+		BitMatrix result = new BitMatrix(columns, rows);
+		long[] block = new long[64];
+		for (int r0 = 0; r0 < rows; r0 += 64) {
+			int height = Math.min(64, rows - r0);
+			for (int w = 0; w < rowWords; w++) {
+				for (int i = 0; i < height; i++) {
+					block[i] = words[(r0 + i) * rowWords + w];
+				}
+				Arrays.fill(block, height, 64, 0);
+				transpose(block);
+				
+				int width = Math.min(64, columns - (w << 6));
+				int word = r0 >>> 6;
+				for (int i = 0; i < width; i++) {
+					result.words[((w << 6) + i) * result.rowWords + word] = block[i];
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Transposes the 64 by 64 bit matrix {@code block} in place, where bit 
+	 * {@code c} of word {@code r} is the element at row {@code r} and column 
+	 * {@code c}. The off-diagonal 32 by 32 sub-blocks are swapped, then the 
+	 * off-diagonal 16 by 16 sub-blocks of each quadrant, and so on down to 
+	 * single bits.
+	 */
+	private static void transpose(long[] block) {
+		long mask = 0x00000000FFFFFFFFL;
+		for (int j = 32; j != 0; j >>>= 1, mask ^= mask << j) {
+			for (int k = 0; k < 64; k = ((k | j) + 1) & ~j) {
+				long swap = ((block[k] >>> j) ^ block[k | j]) & mask;
+				block[k] ^= swap << j;
+				block[k | j] ^= swap;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the transitive closure of this matrix, which must be square. 
+	 * The element at row {@code r} and column {@code c} of the closure is 
+	 * {@code true} if there is a sequence of {@code true} elements of this 
+	 * matrix leading from {@code r} to {@code c}: that is, if {@code c} is 
+	 * reachable from {@code r} by a path of one or more edges in the graph 
+	 * this matrix is the adjacency matrix of. The closure is reflexive only 
+	 * where there are cycles, so it can be ORed with 
+	 * {@link #identity(int)} to make every vertex reach itself.
+	 * <p>
+	 * This uses Warshall's algorithm, ORing whole rows at a time, so it takes 
+	 * time proportional to the cube of the size divided by 64.
+	 * 
+	 * @return the transitive closure of this matrix
+	 * @throws IllegalArgumentException if this matrix is not square
+	 */
+	public BitMatrix transitiveClosure() {
+		if (rows != columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		BitMatrix result = new BitMatrix(this);
+		long[] closure = result.words;
+		for (int k = 0; k < rows; k++) {
+			int row2 = k * rowWords;
+			int word = k >>> 6;
+			long bit = 1L << k;
+			for (int r = 0; r < rows; r++) {
+				int row1 = r * rowWords;
+				if ((closure[row1 + word] & bit) != 0) {
+					for (int i = 0; i < rowWords; i++) {
+						closure[row1 + i] |= closure[row2 + i];
+					}
+				}
+			}
+		}
+		return result;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if (!(obj instanceof BitMatrix)) {
+			return false;
+		}
+		
+		BitMatrix matrix = (BitMatrix) obj;
+		return rows == matrix.rows && columns == matrix.columns && Arrays.equals(words, matrix.words);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * (31 * rows + columns) + Arrays.hashCode(words);
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.toString();
+	}
+
+}
@@ -0,0 +1,282 @@
+package com.frostphyr.avail.math;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Package-private kernels that multiply a chain of matrices in the order 
+ * that needs the fewest scalar multiplications.
+ * <p>
+ * The order is found with the classic dynamic-programming algorithm, 
+ * which takes time proportional to the cube of the number of matrices and 
+ * only looks at their dimensions. The chain is then multiplied by 
+ * recursively multiplying the two halves of each split. Intermediate 
+ * products are built from rows taken from a pool, and their rows are 
+ * returned to the pool as soon as the product has been used, so later 
+ * intermediate products with the same number of columns reuse them 
+ * instead of allocating new ones.
+ * 
+ * @since 1.6
+ */
+final class ChainKernels {
+	
+	private ChainKernels() {
+	}
+	
+	/**
+	 * Returns the optimal splits of a chain of matrices where matrix 
+	 * {@code i} has {@code dimensions[i]} rows and 
+	 * {@code dimensions[i + 1]} columns. Element {@code [i][j]} is the 
+	 * index of the last matrix of the left half of the optimal order of 
+	 * matrices {@code i} to {@code j}.
+	 */
+	static int[][] order(int[] dimensions) {
+		int count = dimensions.length - 1;
+		// Costs are doubles since the number of multiplications of a chain
+		// can exceed a long even though every matrix is small enough
+		double[][] costs = new double[count][count];
+		int[][] splits = new int[count][count];
+		for (int length = 2; length <= count; length++) {
+			for (int i = 0; i + length - 1 < count; i++) {
+				int j = i + length - 1;
+				double best = Double.POSITIVE_INFINITY;
+				for (int k = i; k < j; k++) {
+					double cost = costs[i][k] + costs[k + 1][j] + (double) dimensions[i] * dimensions[k + 1] * dimensions[j + 1];
+					if (cost < best) {
+						best = cost;
+						splits[i][j] = k;
+					}
+				}
+				costs[i][j] = best;
+			}
+		}
+		return splits;
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, which must be valid and 
+	 * compatible, multiplied in the order described by {@code splits}.
+	 */
+	static int[][] multiply(int[][][] matrices, int[][] splits) {
+		return multiply(matrices, splits, 0, matrices.length - 1, null);
+	}
+	
+	/**
+	 * Returns the product of matrices {@code i} to {@code j}. The product is 
+	 * a new array if {@code rows} is {@code null}, or is built from the 
+	 * pooled rows otherwise.
+	 */
+	private static int[][] multiply(int[][][] matrices, int[][] splits, int i, int j, Map<Integer, ArrayDeque<int[]>> rows) {
+		if (i == j) {
+			if (rows != null) {
+				return matrices[i];
+			}
+			
+			int[][] copy = new int[matrices[i].length][];
+			for (int r = 0; r < copy.length; r++) {
+				copy[r] = matrices[i][r].clone();
+			}
+			return copy;
+		}
+		
+		Map<Integer, ArrayDeque<int[]>> pool = rows != null ? rows : new HashMap<>();
+		int k = splits[i][j];
+		int[][] left = multiply(matrices, splits, i, k, pool);
+		int[][] right = multiply(matrices, splits, k + 1, j, pool);
+		MatrixUtils.checkSize(left.length, right[0].length);
+		int[][] product = new int[left.length][];
+		for (int r = 0; r < product.length; r++) {
+			int[] row = rows != null ? poll(pool, right[0].length) : null;
+			if (row != null) {
+				Arrays.fill(row, 0);
+			} else {
+				row = new int[right[0].length];
+			}
+			product[r] = row;
+		}
+		MatrixKernels.multiply(left, right, product);
+		if (k > i) {
+			release(left, left[0].length, pool);
+		}
+		if (k + 1 < j) {
+			release(right, right[0].length, pool);
+		}
+		return product;
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, which must be valid and 
+	 * compatible, multiplied in the order described by {@code splits}.
+	 */
+	static long[][] multiply(long[][][] matrices, int[][] splits) {
+		return multiply(matrices, splits, 0, matrices.length - 1, null);
+	}
+	
+	/**
+	 * Returns the product of matrices {@code i} to {@code j}. The product is 
+	 * a new array if {@code rows} is {@code null}, or is built from the 
+	 * pooled rows otherwise.
+	 */
+	private static long[][] multiply(long[][][] matrices, int[][] splits, int i, int j, Map<Integer, ArrayDeque<long[]>> rows) {
+		if (i == j) {
+			if (rows != null) {
+				return matrices[i];
+			}
+			
+			long[][] copy = new long[matrices[i].length][];
+			for (int r = 0; r < copy.length; r++) {
+				copy[r] = matrices[i][r].clone();
+			}
+			return copy;
+		}
+		
+		Map<Integer, ArrayDeque<long[]>> pool = rows != null ? rows : new HashMap<>();
+		int k = splits[i][j];
+		long[][] left = multiply(matrices, splits, i, k, pool);
+		long[][] right = multiply(matrices, splits, k + 1, j, pool);
+		MatrixUtils.checkSize(left.length, right[0].length);
+		long[][] product = new long[left.length][];
+		for (int r = 0; r < product.length; r++) {
+			long[] row = rows != null ? poll(pool, right[0].length) : null;
+			if (row != null) {
+				Arrays.fill(row, 0);
+			} else {
+				row = new long[right[0].length];
+			}
+			product[r] = row;
+		}
+		MatrixKernels.multiply(left, right, product);
+		if (k > i) {
+			release(left, left[0].length, pool);
+		}
+		if (k + 1 < j) {
+			release(right, right[0].length, pool);
+		}
+		return product;
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, which must be valid and 
+	 * compatible, multiplied in the order described by {@code splits}.
+	 */
+	static float[][] multiply(float[][][] matrices, int[][] splits) {
+		return multiply(matrices, splits, 0, matrices.length - 1, null);
+	}
+	
+	/**
+	 * Returns the product of matrices {@code i} to {@code j}. The product is 
+	 * a new array if {@code rows} is {@code null}, or is built from the 
+	 * pooled rows otherwise.
+	 */
+	private static float[][] multiply(float[][][] matrices, int[][] splits, int i, int j, Map<Integer, ArrayDeque<float[]>> rows) {
+		if (i == j) {
+			if (rows != null) {
+				return matrices[i];
+			}
+			
+			float[][] copy = new float[matrices[i].length][];
+			for (int r = 0; r < copy.length; r++) {
+				copy[r] = matrices[i][r].clone();
+			}
+			return copy;
+		}
+		
+		Map<Integer, ArrayDeque<float[]>> pool = rows != null ? rows : new HashMap<>();
+		int k = splits[i][j];
+		float[][] left = multiply(matrices, splits, i, k, pool);
+		float[][] right = multiply(matrices, splits, k + 1, j, pool);
+		MatrixUtils.checkSize(left.length, right[0].length);
+		float[][] product = new float[left.length][];
+		for (int r = 0; r < product.length; r++) {
+			float[] row = rows != null ? poll(pool, right[0].length) : null;
+			if (row != null) {
+				Arrays.fill(row, 0);
+			} else {
+				row = new float[right[0].length];
+			}
+			product[r] = row;
+		}
+		MatrixKernels.multiply(left, right, product);
+		if (k > i) {
+			release(left, left[0].length, pool);
+		}
+		if (k + 1 < j) {
+			release(right, right[0].length, pool);
+		}
+		return product;
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, which must be valid and 
+	 * compatible, multiplied in the order described by {@code splits}.
+	 */
+	static double[][] multiply(double[][][] matrices, int[][] splits) {
+		return multiply(matrices, splits, 0, matrices.length - 1, null);
+	}
+	
+	/**
+	 * Returns the product of matrices {@code i} to {@code j}. The product is 
+	 * a new array if {@code rows} is {@code null}, or is built from the 
+	 * pooled rows otherwise.
+	 */
+	private static double[][] multiply(double[][][] matrices, int[][] splits, int i, int j, Map<Integer, ArrayDeque<double[]>> rows) {
+		if (i == j) {
+			if (rows != null) {
+				return matrices[i];
+			}
+			
+			double[][] copy = new double[matrices[i].length][];
+			for (int r = 0; r < copy.length; r++) {
+				copy[r] = matrices[i][r].clone();
+			}
+			return copy;
+		}
+		
+		Map<Integer, ArrayDeque<double[]>> pool = rows != null ? rows : new HashMap<>();
+		int k = splits[i][j];
+		double[][] left = multiply(matrices, splits, i, k, pool);
+		double[][] right = multiply(matrices, splits, k + 1, j, pool);
+		MatrixUtils.checkSize(left.length, right[0].length);
+		double[][] product = new double[left.length][];
+		for (int r = 0; r < product.length; r++) {
+			double[] row = rows != null ? poll(pool, right[0].length) : null;
+			if (row != null) {
+				Arrays.fill(row, 0);
+			} else {
+				row = new double[right[0].length];
+			}
+			product[r] = row;
+		}
+		MatrixKernels.multiply(left, right, product);
+		if (k > i) {
+			release(left, left[0].length, pool);
+		}
+		if (k + 1 < j) {
+			release(right, right[0].length, pool);
+		}
+		return product;
+	}
+	
+	/**
+	 * Removes and returns a row of {@code length} elements from 
+	 * {@code pool}, or returns {@code null} if there are none.
+	 */
+	private static <T> T poll(Map<Integer, ArrayDeque<T>> pool, int length) {
+		ArrayDeque<T> free = pool.get(length);
+		return free != null ? free.poll() : null;
+	}
+	
+	/**
+	 * Adds the rows of {@code matrix}, each of which has {@code length} 
+	 * elements, to {@code pool}.
+	 */
+	private static <T> void release(T[] matrix, int length, Map<Integer, ArrayDeque<T>> pool) {
+		ArrayDeque<T> free = pool.computeIfAbsent(length, key -> new ArrayDeque<>());
+		for (T row : matrix) {
+			free.push(row);
+		}
+	}
+
+}
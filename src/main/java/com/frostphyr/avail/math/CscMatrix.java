@@ -0,0 +1,335 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * An immutable sparse matrix of {@code double}s in compressed sparse column 
+ * (CSC) format. Only the non-zero elements are stored, column by column, so 
+ * the cost of its operations scales with the number of non-zero elements 
+ * rather than with the number of rows times the number of columns.
+ * <p>
+ * The matrix is described by three arrays. The row indices and values of 
+ * the non-zero elements of column {@code c} are stored in order of 
+ * increasing row between indices {@code columnPointers[c]} (inclusive) and 
+ * {@code columnPointers[c + 1]} (exclusive) of {@code rowIndices} and 
+ * {@code values}.
+ * <p>
+ * The arrays of a matrix in CSC format are the same as the arrays of its 
+ * transpose in compressed sparse row format, so {@link #transpose()} 
+ * returns a {@link CsrMatrix} sharing the arrays of this matrix without 
+ * copying them.
+ * 
+ * @see CsrMatrix
+ * @since 1.6
+ */
+public final class CscMatrix {
+	
+	private final int rows;
+	private final int columns;
+	private final int[] columnPointers;
+	private final int[] rowIndices;
+	private final double[] values;
+	
+	CscMatrix(int rows, int columns, int[] columnPointers, int[] rowIndices, double[] values) {
+		this.rows = rows;
+		this.columns = columns;
+		this.columnPointers = columnPointers;
+		this.rowIndices = rowIndices;
+		this.values = values;
+	}
+	
+	/**
+	 * Returns a new matrix from copies of the specified arrays.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param columnPointers the index of the first element of each column in 
+	 * {@code rowIndices} and {@code values}, followed by the number of 
+	 * non-zero elements
+	 * @param rowIndices the row of each element
+	 * @param values the value of each element
+	 * @return a new matrix from copies of the specified arrays
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1, if any of the arrays is {@code null} or if the arrays 
+	 * don't describe a matrix with increasing row indices in every column
+	 */
+	public static CscMatrix of(int rows, int columns, int[] columnPointers, int[] rowIndices, double[] values) {
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		Argument.checkNotNull(columnPointers, "columnPointers");
+		Argument.checkNotNull(rowIndices, "rowIndices");
+		Argument.checkNotNull(values, "values");
+		CsrMatrix.checkStructure(columns, rows, columnPointers, rowIndices, values);
+		return new CscMatrix(rows, columns, columnPointers.clone(), rowIndices.clone(), values.clone());
+	}
+	
+	/**
+	 * Returns a new matrix containing the non-zero elements of 
+	 * {@code matrix}.
+	 * 
+	 * @param matrix the dense matrix to convert
+	 * @return a new matrix containing the non-zero elements of 
+	 * {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static CscMatrix fromDense(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		int[] columnPointers = new int[columns + 1];
+		for (double[] row : matrix) {
+			for (int c = 0; c < columns; c++) {
+				if (row[c] != 0) {
+					columnPointers[c + 1]++;
+				}
+			}
+		}
+		for (int c = 0; c < columns; c++) {
+			columnPointers[c + 1] += columnPointers[c];
+		}
+		
+		int[] next = Arrays.copyOf(columnPointers, columns);
+		int[] rowIndices = new int[columnPointers[columns]];
+		double[] values = new double[rowIndices.length];
+		for (int r = 0; r < rows; r++) {
+			double[] row = matrix[r];
+			for (int c = 0; c < columns; c++) {
+				if (row[c] != 0) {
+					int p = next[c]++;
+					rowIndices[p] = r;
+					values[p] = row[c];
+				}
+			}
+		}
+		return new CscMatrix(rows, columns, columnPointers, rowIndices, values);
+	}
+	
+	/**
+	 * Returns a new dense matrix with the same elements as this matrix.
+	 * 
+	 * @return a new dense matrix with the same elements as this matrix
+	 */
+	public double[][] toDense() {
+		double[][] result = new double[rows][columns];
+		for (int c = 0; c < columns; c++) {
+			for (int p = columnPointers[c]; p < columnPointers[c + 1]; p++) {
+				result[rowIndices[p]][c] = values[p];
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns this matrix in compressed sparse row format. Unlike 
+	 * {@link #transpose()}, this copies and reorders the elements, which 
+	 * takes time proportional to the number of non-zero elements plus the 
+	 * number of rows.
+	 * 
+	 * @return this matrix in compressed sparse row format
+	 */
+	public CsrMatrix toCsr() {
+		return CsrMatrix.transposeCopy(columns, rows, columnPointers, rowIndices, values);
+	}
+	
+	/**
+	 * Returns the transpose of this matrix. The transpose shares the arrays 
+	 * of this matrix, so this takes constant time.
+	 * 
+	 * @return the transpose of this matrix
+	 */
+	public CsrMatrix transpose() {
+		return new CsrMatrix(columns, rows, columnPointers, rowIndices, values);
+	}
+	
+	/**
+	 * Returns the number of rows of this matrix.
+	 * 
+	 * @return the number of rows of this matrix
+	 */
+	public int getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of this matrix.
+	 * 
+	 * @return the number of columns of this matrix
+	 */
+	public int getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns the number of elements stored by this matrix.
+	 * 
+	 * @return the number of elements stored by this matrix
+	 */
+	public int getNonZeroCount() {
+		return values.length;
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}. This performs a 
+	 * binary search of the column.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public double get(int row, int column) {
+		if (row < 0 || row >= rows || column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		
+		int index = Arrays.binarySearch(rowIndices, columnPointers[column], columnPointers[column + 1], row);
+		return index >= 0 ? values[index] : 0;
+	}
+	
+	/**
+	 * Returns the product of this matrix and the column vector 
+	 * {@code vector}.
+	 * 
+	 * @param vector the vector to multiply this matrix by
+	 * @return the product of this matrix and {@code vector}
+	 * @throws IllegalArgumentException if {@code vector} is {@code null} or 
+	 * if its length doesn't equal the number of columns of this matrix
+	 */
+	public double[] multiply(double[] vector) {
+		Argument.checkNotNull(vector, "vector");
+		if (vector.length != columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		double[] result = new double[rows];
+		for (int c = 0; c < columns; c++) {
+			double value = vector[c];
+			if (value != 0) {
+				for (int p = columnPointers[c]; p < columnPointers[c + 1]; p++) {
+					result[rowIndices[p]] += values[p] * value;
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and the dense {@code matrix}. This 
+	 * takes time proportional to the number of non-zero elements of this 
+	 * matrix times the number of columns of {@code matrix}.
+	 * 
+	 * @param matrix the dense matrix to multiply this matrix by
+	 * @return the product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if the number of columns of this matrix doesn't equal the 
+	 * number of rows of {@code matrix}
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public double[][] multiply(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		int resultColumns = matrix[0].length;
+		double[][] result = new double[rows][resultColumns];
+		for (int c = 0; c < columns; c++) {
+			double[] row = matrix[c];
+			for (int p = columnPointers[c]; p < columnPointers[c + 1]; p++) {
+				RowKernels.INSTANCE.multiplyAdd(values[p], row, 0, result[rowIndices[p]], 0, resultColumns);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of the dense {@code matrix} and this matrix, with 
+	 * {@code matrix} on the left. This takes time proportional to the number 
+	 * of rows of {@code matrix} times the number of non-zero elements of 
+	 * this matrix.
+	 * 
+	 * @param matrix the dense matrix to multiply by this matrix
+	 * @return the product of {@code matrix} and this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if the number of columns of {@code matrix} doesn't equal the 
+	 * number of rows of this matrix
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public double[][] premultiply(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		double[][] result = new double[matrix.length][columns];
+		for (int i = 0; i < matrix.length; i++) {
+			double[] row = matrix[i];
+			double[] resultRow = result[i];
+			for (int c = 0; c < columns; c++) {
+				double sum = 0;
+				for (int p = columnPointers[c]; p < columnPointers[c + 1]; p++) {
+					sum += row[rowIndices[p]] * values[p];
+				}
+				resultRow[c] = sum;
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code matrix}. This takes time 
+	 * proportional to the number of multiplications of non-zero elements 
+	 * plus the number of rows and columns. Elements of the result that are 
+	 * exactly 0 are not stored.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return the product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if the number of columns of this matrix doesn't equal the number of 
+	 * rows of {@code matrix}
+	 */
+	public CscMatrix multiply(CscMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		
+		// (AB)^T = B^T A^T, and the transposes of both operands and of the
+		// result are their CSR forms
+		return matrix.transpose().multiply(transpose()).transpose();
+	}
+	
+	/**
+	 * Returns the sum of this matrix and {@code matrix}. This takes time 
+	 * proportional to the number of non-zero elements of both matrices plus 
+	 * the number of columns. Elements of the result that are exactly 0 are 
+	 * not stored.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @return the sum of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if it is a different size than this matrix
+	 */
+	public CscMatrix add(CscMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		return transpose().add(matrix.transpose()).transpose();
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.append("nonZeroCount", values.length)
+				.toString();
+	}
+
+}
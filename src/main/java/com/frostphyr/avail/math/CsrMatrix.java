@@ -0,0 +1,477 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * An immutable sparse matrix of {@code double}s in compressed sparse row 
+ * (CSR) format. Only the non-zero elements are stored, row by row, so the 
+ * cost of its operations scales with the number of non-zero elements 
+ * rather than with the number of rows times the number of columns.
+ * <p>
+ * The matrix is described by three arrays. The column indices and values of 
+ * the non-zero elements of row {@code r} are stored in order of increasing 
+ * column between indices {@code rowPointers[r]} (inclusive) and 
+ * {@code rowPointers[r + 1]} (exclusive) of {@code columnIndices} and 
+ * {@code values}.
+ * <p>
+ * The arrays of a matrix in CSR format are the same as the arrays of its 
+ * transpose in compressed sparse column format, so {@link #transpose()} 
+ * returns a {@link CscMatrix} sharing the arrays of this matrix without 
+ * copying them.
+ * 
+ * @see CscMatrix
+ * @since 1.6
+ */
+public final class CsrMatrix {
+	
+	static final String EXCEPTION_MESSAGE_INVALID_STRUCTURE = "Invalid sparse matrix structure";
+	
+	private final int rows;
+	private final int columns;
+	private final int[] rowPointers;
+	private final int[] columnIndices;
+	private final double[] values;
+	
+	CsrMatrix(int rows, int columns, int[] rowPointers, int[] columnIndices, double[] values) {
+		this.rows = rows;
+		this.columns = columns;
+		this.rowPointers = rowPointers;
+		this.columnIndices = columnIndices;
+		this.values = values;
+	}
+	
+	/**
+	 * Returns a new matrix from copies of the specified arrays.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @param rowPointers the index of the first element of each row in 
+	 * {@code columnIndices} and {@code values}, followed by the number of 
+	 * non-zero elements
+	 * @param columnIndices the column of each element
+	 * @param values the value of each element
+	 * @return a new matrix from copies of the specified arrays
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1, if any of the arrays is {@code null} or if the arrays 
+	 * don't describe a matrix with increasing column indices in every row
+	 */
+	public static CsrMatrix of(int rows, int columns, int[] rowPointers, int[] columnIndices, double[] values) {
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		Argument.checkNotNull(rowPointers, "rowPointers");
+		Argument.checkNotNull(columnIndices, "columnIndices");
+		Argument.checkNotNull(values, "values");
+		checkStructure(rows, columns, rowPointers, columnIndices, values);
+		return new CsrMatrix(rows, columns, rowPointers.clone(), columnIndices.clone(), values.clone());
+	}
+	
+	/**
+	 * Checks that the arrays describe a valid matrix in CSR format, or a 
+	 * valid matrix in CSC format if {@code rows} and {@code columns} are 
+	 * swapped.
+	 */
+	static void checkStructure(int rows, int columns, int[] pointers, int[] indices, double[] values) {
+		if (pointers.length != rows + 1 || pointers[0] != 0 || pointers[rows] != indices.length
+				|| indices.length != values.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_STRUCTURE);
+		}
+		for (int r = 0; r < rows; r++) {
+			if (pointers[r] > pointers[r + 1]) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_STRUCTURE);
+			}
+			for (int p = pointers[r]; p < pointers[r + 1]; p++) {
+				if (indices[p] < 0 || indices[p] >= columns || (p > pointers[r] && indices[p] <= indices[p - 1])) {
+					throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_STRUCTURE);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns a new matrix containing the non-zero elements of 
+	 * {@code matrix}.
+	 * 
+	 * @param matrix the dense matrix to convert
+	 * @return a new matrix containing the non-zero elements of 
+	 * {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static CsrMatrix fromDense(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		int count = 0;
+		for (double[] row : matrix) {
+			for (double value : row) {
+				if (value != 0) {
+					count++;
+				}
+			}
+		}
+		
+		int[] rowPointers = new int[matrix.length + 1];
+		int[] columnIndices = new int[count];
+		double[] values = new double[count];
+		int p = 0;
+		for (int r = 0; r < matrix.length; r++) {
+			double[] row = matrix[r];
+			for (int c = 0; c < row.length; c++) {
+				if (row[c] != 0) {
+					columnIndices[p] = c;
+					values[p++] = row[c];
+				}
+			}
+			rowPointers[r + 1] = p;
+		}
+		return new CsrMatrix(matrix.length, matrix[0].length, rowPointers, columnIndices, values);
+	}
+	
+	/**
+	 * Returns a new dense matrix with the same elements as this matrix.
+	 * 
+	 * @return a new dense matrix with the same elements as this matrix
+	 */
+	public double[][] toDense() {
+		double[][] result = new double[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			double[] row = result[r];
+			for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++) {
+				row[columnIndices[p]] = values[p];
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns this matrix in compressed sparse column format. Unlike 
+	 * {@link #transpose()}, this copies and reorders the elements, which 
+	 * takes time proportional to the number of non-zero elements plus the 
+	 * number of columns.
+	 * 
+	 * @return this matrix in compressed sparse column format
+	 */
+	public CscMatrix toCsc() {
+		CsrMatrix transpose = transposeCopy(rows, columns, rowPointers, columnIndices, values);
+		return new CscMatrix(rows, columns, transpose.rowPointers, transpose.columnIndices, transpose.values);
+	}
+	
+	/**
+	 * Returns the transpose of this matrix. The transpose shares the arrays 
+	 * of this matrix, so this takes constant time.
+	 * 
+	 * @return the transpose of this matrix
+	 */
+	public CscMatrix transpose() {
+		return new CscMatrix(columns, rows, rowPointers, columnIndices, values);
+	}
+	
+	/**
+	 * Returns the number of rows of this matrix.
+	 * 
+	 * @return the number of rows of this matrix
+	 */
+	public int getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of this matrix.
+	 * 
+	 * @return the number of columns of this matrix
+	 */
+	public int getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns the number of elements stored by this matrix.
+	 * 
+	 * @return the number of elements stored by this matrix
+	 */
+	public int getNonZeroCount() {
+		return values.length;
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}. This performs a 
+	 * binary search of the row.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public double get(int row, int column) {
+		if (row < 0 || row >= rows || column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		
+		int index = Arrays.binarySearch(columnIndices, rowPointers[row], rowPointers[row + 1], column);
+		return index >= 0 ? values[index] : 0;
+	}
+	
+	/**
+	 * Returns the product of this matrix and the column vector 
+	 * {@code vector}.
+	 * 
+	 * @param vector the vector to multiply this matrix by
+	 * @return the product of this matrix and {@code vector}
+	 * @throws IllegalArgumentException if {@code vector} is {@code null} or 
+	 * if its length doesn't equal the number of columns of this matrix
+	 */
+	public double[] multiply(double[] vector) {
+		Argument.checkNotNull(vector, "vector");
+		if (vector.length != columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		double[] result = new double[rows];
+		for (int r = 0; r < rows; r++) {
+			double sum = 0;
+			for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++) {
+				sum += values[p] * vector[columnIndices[p]];
+			}
+			result[r] = sum;
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and the dense {@code matrix}. This 
+	 * takes time proportional to the number of non-zero elements of this 
+	 * matrix times the number of columns of {@code matrix}.
+	 * 
+	 * @param matrix the dense matrix to multiply this matrix by
+	 * @return the product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if the number of columns of this matrix doesn't equal the 
+	 * number of rows of {@code matrix}
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public double[][] multiply(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		int resultColumns = matrix[0].length;
+		double[][] result = new double[rows][resultColumns];
+		for (int r = 0; r < rows; r++) {
+			double[] resultRow = result[r];
+			for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++) {
+				RowKernels.INSTANCE.multiplyAdd(values[p], matrix[columnIndices[p]], 0, resultRow, 0, resultColumns);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of the dense {@code matrix} and this matrix, with 
+	 * {@code matrix} on the left. This takes time proportional to the number 
+	 * of rows of {@code matrix} times the number of its columns plus the 
+	 * number of non-zero elements of this matrix.
+	 * 
+	 * @param matrix the dense matrix to multiply by this matrix
+	 * @return the product of {@code matrix} and this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if the number of columns of {@code matrix} doesn't equal the 
+	 * number of rows of this matrix
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public double[][] premultiply(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		double[][] result = new double[matrix.length][columns];
+		for (int i = 0; i < matrix.length; i++) {
+			double[] row = matrix[i];
+			double[] resultRow = result[i];
+			for (int r = 0; r < rows; r++) {
+				double value = row[r];
+				if (value != 0) {
+					for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++) {
+						resultRow[columnIndices[p]] += value * values[p];
+					}
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code matrix}. This takes time 
+	 * proportional to the number of multiplications of non-zero elements 
+	 * plus the number of rows and columns. Elements of the result that are 
+	 * exactly 0 are not stored.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return the product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if the number of columns of this matrix doesn't equal the number of 
+	 * rows of {@code matrix}
+	 */
+	public CsrMatrix multiply(CsrMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		if (columns != matrix.rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		// Gustavson's algorithm, accumulating each row of the result in a
+		// dense array and marking each of its columns with the last row that
+		// touched it. Marking with the row rather than the position in the
+		// result keeps the marks valid after zeros are dropped from a row
+		int resultColumns = matrix.columns;
+		double[] accumulator = new double[resultColumns];
+		int[] lastRows = new int[resultColumns];
+		Arrays.fill(lastRows, -1);
+		int[] resultPointers = new int[rows + 1];
+		int[] resultIndices = new int[Math.max(16, values.length + matrix.values.length)];
+		double[] resultValues = new double[resultIndices.length];
+		int count = 0;
+		for (int r = 0; r < rows; r++) {
+			int rowStart = count;
+			for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++) {
+				double value = values[p];
+				int k = columnIndices[p];
+				for (int q = matrix.rowPointers[k]; q < matrix.rowPointers[k + 1]; q++) {
+					int c = matrix.columnIndices[q];
+					if (lastRows[c] != r) {
+						if (count == resultIndices.length) {
+							resultIndices = Arrays.copyOf(resultIndices, count * 2);
+							resultValues = Arrays.copyOf(resultValues, count * 2);
+						}
+						lastRows[c] = r;
+						resultIndices[count++] = c;
+						accumulator[c] = value * matrix.values[q];
+					} else {
+						accumulator[c] += value * matrix.values[q];
+					}
+				}
+			}
+			
+			Arrays.sort(resultIndices, rowStart, count);
+			int end = rowStart;
+			for (int p = rowStart; p < count; p++) {
+				int c = resultIndices[p];
+				if (accumulator[c] != 0) {
+					resultIndices[end] = c;
+					resultValues[end++] = accumulator[c];
+				}
+			}
+			count = end;
+			resultPointers[r + 1] = count;
+		}
+		return new CsrMatrix(rows, resultColumns, resultPointers,
+				Arrays.copyOf(resultIndices, count), Arrays.copyOf(resultValues, count));
+	}
+	
+	/**
+	 * Returns the sum of this matrix and {@code matrix}. This takes time 
+	 * proportional to the number of non-zero elements of both matrices plus 
+	 * the number of rows. Elements of the result that are exactly 0 are not 
+	 * stored.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @return the sum of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if it is a different size than this matrix
+	 */
+	public CsrMatrix add(CsrMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		if (rows != matrix.rows || columns != matrix.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		}
+		
+		int[] resultPointers = new int[rows + 1];
+		int[] resultIndices = new int[values.length + matrix.values.length];
+		double[] resultValues = new double[resultIndices.length];
+		int count = 0;
+		for (int r = 0; r < rows; r++) {
+			int p = rowPointers[r];
+			int pEnd = rowPointers[r + 1];
+			int q = matrix.rowPointers[r];
+			int qEnd = matrix.rowPointers[r + 1];
+			while (p < pEnd || q < qEnd) {
+				int c;
+				double value;
+				if (q == qEnd || (p < pEnd && columnIndices[p] < matrix.columnIndices[q])) {
+					c = columnIndices[p];
+					value = values[p++];
+				} else if (p == pEnd || matrix.columnIndices[q] < columnIndices[p]) {
+					c = matrix.columnIndices[q];
+					value = matrix.values[q++];
+				} else {
+					c = columnIndices[p];
+					value = values[p++] + matrix.values[q++];
+				}
+				
+				if (value != 0) {
+					resultIndices[count] = c;
+					resultValues[count++] = value;
+				}
+			}
+			resultPointers[r + 1] = count;
+		}
+		return new CsrMatrix(rows, columns, resultPointers,
+				Arrays.copyOf(resultIndices, count), Arrays.copyOf(resultValues, count));
+	}
+	
+	/**
+	 * Returns the arrays of the transpose of a matrix in CSR format, also in 
+	 * CSR format, using a counting sort over the columns.
+	 */
+	static CsrMatrix transposeCopy(int rows, int columns, int[] rowPointers, int[] columnIndices, double[] values) {
+		int[] resultPointers = new int[columns + 1];
+		for (int c : columnIndices) {
+			resultPointers[c + 1]++;
+		}
+		for (int c = 0; c < columns; c++) {
+			resultPointers[c + 1] += resultPointers[c];
+		}
+		
+		int[] next = Arrays.copyOf(resultPointers, columns);
+		int[] resultIndices = new int[values.length];
+		double[] resultValues = new double[values.length];
+		for (int r = 0; r < rows; r++) {
+			for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++) {
+				int q = next[columnIndices[p]]++;
+				resultIndices[q] = r;
+				resultValues[q] = values[p];
+			}
+		}
+		return new CsrMatrix(columns, rows, resultPointers, resultIndices, resultValues);
+	}
+	
+	int[] getRowPointers() {
+		return rowPointers;
+	}
+	
+	int[] getColumnIndices() {
+		return columnIndices;
+	}
+	
+	double[] getValues() {
+		return values;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.append("nonZeroCount", values.length)
+				.toString();
+	}
+
+}
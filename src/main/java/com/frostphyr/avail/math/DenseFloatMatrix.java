@@ -0,0 +1,438 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A matrix of {@code float}s stored in a single contiguous array in row-major 
+ * order. Unlike the jagged arrays used by {@link MatrixUtils}, the shape of 
+ * a {@code DenseFloatMatrix} is checked once when it is created, so its operations 
+ * only need to check that the shapes of their operands are compatible.
+ * <p>
+ * The element at row {@code r} and column {@code c} is stored at index 
+ * {@code offset + r * stride + c} of the backing array, where the stride is 
+ * at least the number of columns. Matrices created by the operations of 
+ * this class have an offset of 0 and a stride equal to their number of 
+ * columns.
+ * 
+ * @see DenseMatrix
+ * @see DenseLongMatrix
+ * @see DenseIntMatrix
+ * @since 1.6
+ */
+public final class DenseFloatMatrix {
+	
+	private final float[] data;
+	private final int offset;
+	private final int stride;
+	private final int rows;
+	private final int columns;
+	
+	/**
+	 * Creates a new matrix with {@code rows} rows and {@code columns} 
+	 * columns where every element is 0.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1 or if the matrix would have more than 
+	 * {@link Integer#MAX_VALUE} elements
+	 */
+	public DenseFloatMatrix(int rows, int columns) {
+		this(new float[MatrixUtils.checkSize(rows, columns)], 0, columns, rows, columns);
+	}
+	
+	private DenseFloatMatrix(float[] data, int offset, int stride, int rows, int columns) {
+		this.data = data;
+		this.offset = offset;
+		this.stride = stride;
+		this.rows = rows;
+		this.columns = columns;
+	}
+	
+	/**
+	 * Returns a matrix backed by {@code data}, which holds {@code rows} rows 
+	 * of {@code columns} elements one after another. The array is not copied, 
+	 * so changes to it are visible in the matrix and vice versa.
+	 * 
+	 * @param data the array to back the matrix with
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a matrix backed by {@code data}
+	 * @throws IllegalArgumentException if {@code data} is {@code null}, if 
+	 * {@code rows} or {@code columns} is less than 1 or if {@code data} is too 
+	 * small to hold the matrix
+	 * @see #wrap(float[], int, int, int, int)
+	 */
+	public static DenseFloatMatrix wrap(float[] data, int rows, int columns) {
+		return wrap(data, 0, columns, rows, columns);
+	}
+	
+	/**
+	 * Returns a matrix backed by {@code data}, where the element at row 
+	 * {@code r} and column {@code c} is stored at index 
+	 * {@code offset + r * stride + c}. The array is not copied, so changes to 
+	 * it are visible in the matrix and vice versa.
+	 * 
+	 * @param data the array to back the matrix with
+	 * @param offset the index of the first element of the matrix
+	 * @param stride the distance between the first elements of consecutive 
+	 * rows
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a matrix backed by {@code data}
+	 * @throws IllegalArgumentException if {@code data} is {@code null}, if 
+	 * {@code rows} or {@code columns} is less than 1, if {@code offset} is 
+	 * negative, if {@code stride} is less than {@code columns} or if 
+	 * {@code data} is too small to hold the matrix
+	 */
+	public static DenseFloatMatrix wrap(float[] data, int offset, int stride, int rows, int columns) {
+		Argument.checkNotNull(data, "data");
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		Argument.checkGreaterThanOrEqual(offset, 0, "offset");
+		Argument.checkGreaterThanOrEqual(stride, columns, "stride");
+		if (offset + (long) (rows - 1) * stride + columns > data.length) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_DATA_LENGTH);
+		}
+		return new DenseFloatMatrix(data, offset, stride, rows, columns);
+	}
+	
+	/**
+	 * Returns a new matrix containing a copy of {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return a new matrix containing a copy of {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it has more than {@link Integer#MAX_VALUE} elements
+	 * @see MatrixUtils#validateMatrix(float[][])
+	 */
+	public static DenseFloatMatrix fromArray(float[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		DenseFloatMatrix result = new DenseFloatMatrix(matrix.length, matrix[0].length);
+		for (int r = 0; r < result.rows; r++) {
+			System.arraycopy(matrix[r], 0, result.data, r * result.columns, result.columns);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns a copy of this matrix as an array of rows.
+	 * 
+	 * @return a copy of this matrix as an array of rows
+	 */
+	public float[][] toArray() {
+		float[][] result = new float[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			System.arraycopy(data, offset + r * stride, result[r], 0, columns);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the number of rows of this matrix.
+	 * 
+	 * @return the number of rows of this matrix
+	 */
+	public int getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of this matrix.
+	 * 
+	 * @return the number of columns of this matrix
+	 */
+	public int getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns the array backing this matrix. It is not a copy, so changes to 
+	 * it are visible in this matrix and vice versa.
+	 * 
+	 * @return the array backing this matrix
+	 * @see #getOffset()
+	 * @see #getStride()
+	 */
+	public float[] getData() {
+		return data;
+	}
+	
+	/**
+	 * Returns the index of the first element of this matrix in the array 
+	 * returned by {@link #getData()}.
+	 * 
+	 * @return the index of the first element of this matrix
+	 */
+	public int getOffset() {
+		return offset;
+	}
+	
+	/**
+	 * Returns the distance between the first elements of consecutive rows in 
+	 * the array returned by {@link #getData()}.
+	 * 
+	 * @return the distance between the first elements of consecutive rows
+	 */
+	public int getStride() {
+		return stride;
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public float get(int row, int column) {
+		return data[index(row, column)];
+	}
+	
+	/**
+	 * Sets the element at {@code row} and {@code column} to {@code value}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @param value the value to set the element to
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public void set(int row, int column, float value) {
+		data[index(row, column)] = value;
+	}
+	
+	private int index(int row, int column) {
+		if (row < 0 || row >= rows || column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		return offset + row * stride + column;
+	}
+	
+	/**
+	 * Returns the sum of this matrix and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @return the sum of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if it is a different size than this matrix
+	 */
+	public DenseFloatMatrix add(DenseFloatMatrix matrix) {
+		return add(matrix, new DenseFloatMatrix(rows, columns));
+	}
+	
+	/**
+	 * Stores the sum of this matrix and {@code matrix} in {@code result} and 
+	 * returns it. {@code result} may be this matrix or {@code matrix}, in 
+	 * which case the sum is computed in place, but must not otherwise share 
+	 * elements with them.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @param result the matrix to store the sum in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} is 
+	 * {@code null} or if either is a different size than this matrix
+	 */
+	public DenseFloatMatrix add(DenseFloatMatrix matrix, DenseFloatMatrix result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		if (rows != matrix.rows || columns != matrix.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (rows != result.rows || columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.add(data, offset, stride, matrix.data, matrix.offset, matrix.stride,
+				result.data, result.offset, result.stride, rows, columns);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return the product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if the number of columns of this matrix doesn't equal the number of 
+	 * rows of {@code matrix}
+	 */
+	public DenseFloatMatrix multiply(DenseFloatMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		return multiply(matrix, new DenseFloatMatrix(rows, matrix.columns));
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code matrix} in {@code result} 
+	 * and returns it. Any previous contents of {@code result} are 
+	 * overwritten. {@code result} must not be backed by the same array as 
+	 * this matrix or {@code matrix}.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as this matrix and as many columns as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} is 
+	 * {@code null}, if the number of columns of this matrix doesn't equal the 
+	 * number of rows of {@code matrix}, if {@code result} is the wrong size or 
+	 * if {@code result} is backed by the same array as an operand
+	 */
+	public DenseFloatMatrix multiply(DenseFloatMatrix matrix, DenseFloatMatrix result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		if (columns != matrix.rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (rows != result.rows || matrix.columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result.data == data || result.data == matrix.data) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		result.fill(0);
+		MatrixKernels.multiply(data, offset, stride, matrix.data, matrix.offset, matrix.stride,
+				result.data, result.offset, result.stride, rows, columns, matrix.columns);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code scalar}.
+	 * 
+	 * @param scalar the scalar to multiply this matrix by
+	 * @return the product of this matrix and {@code scalar}
+	 */
+	public DenseFloatMatrix multiply(float scalar) {
+		return multiply(scalar, new DenseFloatMatrix(rows, columns));
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code scalar} in {@code result} 
+	 * and returns it. {@code result} may be this matrix, in which case the 
+	 * product is computed in place, but must not otherwise share elements 
+	 * with it.
+	 * 
+	 * @param scalar the scalar to multiply this matrix by
+	 * @param result the matrix to store the product in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null} or 
+	 * if it is a different size than this matrix
+	 */
+	public DenseFloatMatrix multiply(float scalar, DenseFloatMatrix result) {
+		Argument.checkNotNull(result, "result");
+		if (rows != result.rows || columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.multiply(data, offset, stride, scalar, result.data, result.offset, result.stride, rows, columns);
+		return result;
+	}
+	
+	/**
+	 * Returns the transpose of this matrix, where each row becomes a column 
+	 * and each column becomes a row.
+	 * 
+	 * @return the transpose of this matrix
+	 */
+	public DenseFloatMatrix transpose() {
+		return transpose(new DenseFloatMatrix(columns, rows));
+	}
+	
+	/**
+	 * Stores the transpose of this matrix in {@code result} and returns it. 
+	 * {@code result} must not be backed by the same array as this matrix.
+	 * 
+	 * @param result the matrix to store the transpose in, which must have as 
+	 * many rows as this matrix has columns and as many columns as this 
+	 * matrix has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}, if 
+	 * it is the wrong size or if it is backed by the same array as this 
+	 * matrix
+	 */
+	public DenseFloatMatrix transpose(DenseFloatMatrix result) {
+		Argument.checkNotNull(result, "result");
+		if (rows != result.columns || columns != result.rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result.data == data) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		MatrixKernels.transpose(data, offset, stride, result.data, result.offset, result.stride, rows, columns);
+		return result;
+	}
+	
+	/**
+	 * Sets every element of this matrix to {@code value}.
+	 * 
+	 * @param value the value to set every element to
+	 */
+	public void fill(float value) {
+		if (stride == columns) {
+			Arrays.fill(data, offset, offset + rows * columns, value);
+		} else {
+			for (int r = 0; r < rows; r++) {
+				int row = offset + r * stride;
+				Arrays.fill(data, row, row + columns, value);
+			}
+		}
+	}
+	
+	/**
+	 * Returns whether {@code obj} is a {@code DenseFloatMatrix} with the same size 
+	 * and elements as this matrix.
+	 * 
+	 * @param obj the object to compare this matrix with
+	 * @return {@code true} if {@code obj} is equal to this matrix; 
+	 * {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if (!(obj instanceof DenseFloatMatrix)) {
+			return false;
+		}
+		
+		DenseFloatMatrix matrix = (DenseFloatMatrix) obj;
+		if (rows != matrix.rows || columns != matrix.columns) {
+			return false;
+		}
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset + r * stride;
+			int row2 = matrix.offset + r * matrix.stride;
+			for (int c = 0; c < columns; c++) {
+				if (Float.floatToIntBits(data[row1 + c]) != Float.floatToIntBits(matrix.data[row2 + c])) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	@Override
+	public int hashCode() {
+		int hash = 31 * rows + columns;
+		for (int r = 0; r < rows; r++) {
+			int row = offset + r * stride;
+			for (int c = 0; c < columns; c++) {
+				hash = 31 * hash + Float.hashCode(data[row + c]);
+			}
+		}
+		return hash;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.toString();
+	}
+
+}
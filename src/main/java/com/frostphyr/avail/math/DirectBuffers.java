@@ -0,0 +1,77 @@
+package com.frostphyr.avail.math;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Package-private helper that releases the native memory of direct and 
+ * mapped {@link ByteBuffer}s without waiting for them to be garbage 
+ * collected. There is no public API for this before the foreign memory API, 
+ * so it uses {@code sun.misc.Unsafe.invokeCleaner} on Java 9 and later and 
+ * the buffer's {@code cleaner()} on Java 8. If neither is available the 
+ * memory is released when the buffer is collected, as usual.
+ * 
+ * @since 1.6
+ */
+final class DirectBuffers {
+	
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+	private static final Method CLEANER;
+	private static final Method CLEAN;
+	
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		Method cleaner = null;
+		Method clean = null;
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field field = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			invokeCleaner = null;
+			try {
+				cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+				clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+			} catch (ReflectiveOperationException | RuntimeException e2) {
+				cleaner = null;
+				clean = null;
+			}
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+		CLEANER = cleaner;
+		CLEAN = clean;
+	}
+	
+	private DirectBuffers() {
+	}
+	
+	/**
+	 * Releases the native memory of {@code buffer}, which must be direct and 
+	 * must not be used afterwards. Returns whether the memory was released, 
+	 * as opposed to being left for the garbage collector.
+	 */
+	static boolean free(ByteBuffer buffer) {
+		try {
+			if (INVOKE_CLEANER != null) {
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+				return true;
+			} else if (CLEANER != null) {
+				Object cleaner = CLEANER.invoke(buffer);
+				if (cleaner != null) {
+					CLEAN.invoke(cleaner);
+					return true;
+				}
+			}
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// Leave it to the garbage collector
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,333 @@
+package com.frostphyr.avail.math;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A mutable 2x2 matrix of {@code double}s stored in fields rather than 
+ * in arrays. The element at row {@code r} and column {@code c} is the 
+ * field {@code mrc}, so {@code m10} is the first element of the last row.
+ * <p>
+ * The operations are fully unrolled and don't allocate or check the 
+ * shape of their operands, which is what dominates the cost of the 
+ * general operations of {@link MatrixUtils} for matrices this small. 
+ * Each operation either modifies this matrix or stores its result in a 
+ * matrix that is passed to it, which may be this matrix or an operand, 
+ * so the same matrices can be reused for every calculation.
+ * <p>
+ * Matrices are not safe for use by multiple threads at the same time 
+ * if any of the threads modifies the matrix.
+ * 
+ * @see Matrix2f
+ * @since 1.6
+ */
+public final class Matrix2d {
+	
+	private static final String EXCEPTION_MESSAGE_SIZE = "matrix must have 2 rows and 2 columns";
+	
+	/**
+	 * The elements of the first row.
+	 */
+	public double m00, m01;
+	
+	/**
+	 * The elements of the second row.
+	 */
+	public double m10, m11;
+	
+	/**
+	 * Creates a new identity matrix.
+	 */
+	public Matrix2d() {
+		m00 = 1;
+		m11 = 1;
+	}
+	
+	/**
+	 * Creates a new matrix with the specified elements, which are in 
+	 * row-major order.
+	 * 
+	 * @param m00 the element at row 0 and column 0
+	 * @param m01 the element at row 0 and column 1
+	 * @param m10 the element at row 1 and column 0
+	 * @param m11 the element at row 1 and column 1
+	 */
+	public Matrix2d(double m00, double m01,
+			double m10, double m11) {
+		set(m00, m01, m10, m11);
+	}
+	
+	/**
+	 * Creates a new matrix with the same elements as {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix2d(Matrix2d matrix) {
+		set(matrix);
+	}
+	
+	/**
+	 * Returns a new matrix with the elements of the 2x2 {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return a new matrix with the elements of {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have 2 rows and 2 columns
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static Matrix2d fromArray(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != 2 || matrix[0].length != 2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE);
+		}
+		
+		return new Matrix2d(matrix[0][0], matrix[0][1],
+				matrix[1][0], matrix[1][1]);
+	}
+	
+	/**
+	 * Returns a copy of this matrix as an array of rows.
+	 * 
+	 * @return a copy of this matrix as an array of rows
+	 */
+	public double[][] toArray() {
+		return new double[][] {{m00, m01}, {m10, m11}};
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public double get(int row, int column) {
+		switch (index(row, column)) {
+			case 0:
+				return m00;
+			case 1:
+				return m01;
+			case 2:
+				return m10;
+			default:
+				return m11;
+		}
+	}
+	
+	/**
+	 * Sets the element at {@code row} and {@code column} to {@code value}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @param value the value to set the element to
+	 * @return this matrix
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public Matrix2d set(int row, int column, double value) {
+		switch (index(row, column)) {
+			case 0:
+				m00 = value;
+				break;
+			case 1:
+				m01 = value;
+				break;
+			case 2:
+				m10 = value;
+				break;
+			default:
+				m11 = value;
+				break;
+		}
+		return this;
+	}
+	
+	private static int index(int row, int column) {
+		if (row < 0 || row >= 2 || column < 0 || column >= 2) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		return row * 2 + column;
+	}
+	
+	/**
+	 * Sets the elements of this matrix, which are in row-major order.
+	 * 
+	 * @param m00 the element at row 0 and column 0
+	 * @param m01 the element at row 0 and column 1
+	 * @param m10 the element at row 1 and column 0
+	 * @param m11 the element at row 1 and column 1
+	 * @return this matrix
+	 */
+	public Matrix2d set(double m00, double m01,
+			double m10, double m11) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m10 = m10;
+		this.m11 = m11;
+		return this;
+	}
+	
+	/**
+	 * Sets the elements of this matrix to those of {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix2d set(Matrix2d matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		return set(matrix.m00, matrix.m01,
+				matrix.m10, matrix.m11);
+	}
+	
+	/**
+	 * Sets this matrix to the identity matrix.
+	 * 
+	 * @return this matrix
+	 */
+	public Matrix2d setIdentity() {
+		return set(1, 0,
+				0, 1);
+	}
+	
+	/**
+	 * Multiplies this matrix by {@code matrix}, with {@code matrix} on the 
+	 * right, and stores the product in this matrix.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix2d multiply(Matrix2d matrix) {
+		return multiply(matrix, this);
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code matrix} in 
+	 * {@code result} and returns it. {@code result} may be either of the 
+	 * operands.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @param result the matrix to store the product in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is {@code null}
+	 */
+	public Matrix2d multiply(Matrix2d matrix, Matrix2d result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		
+		double r00 = m00 * matrix.m00 + m01 * matrix.m10;
+		double r01 = m00 * matrix.m01 + m01 * matrix.m11;
+		double r10 = m10 * matrix.m00 + m11 * matrix.m10;
+		double r11 = m10 * matrix.m01 + m11 * matrix.m11;
+		return result.set(r00, r01,
+				r10, r11);
+	}
+	
+	/**
+	 * Transposes this matrix in place.
+	 * 
+	 * @return this matrix
+	 */
+	public Matrix2d transpose() {
+		return transpose(this);
+	}
+	
+	/**
+	 * Stores the transpose of this matrix in {@code result} and returns it. 
+	 * {@code result} may be this matrix.
+	 * 
+	 * @param result the matrix to store the transpose in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}
+	 */
+	public Matrix2d transpose(Matrix2d result) {
+		Argument.checkNotNull(result, "result");
+		return result.set(m00, m10,
+				m01, m11);
+	}
+	
+	/**
+	 * Returns the determinant of this matrix.
+	 * 
+	 * @return the determinant of this matrix
+	 */
+	public double determinant() {
+		return m00 * m11 - m01 * m10;
+	}
+	
+	/**
+	 * Inverts this matrix in place.
+	 * 
+	 * @return this matrix
+	 * @throws ArithmeticException if this matrix is singular
+	 */
+	public Matrix2d invert() {
+		return invert(this);
+	}
+	
+	/**
+	 * Stores the inverse of this matrix in {@code result} and returns it. 
+	 * {@code result} may be this matrix. The inverse is calculated from the 
+	 * adjugate, which is accurate for well-conditioned matrices of this size 
+	 * but, unlike an inverse calculated by pivoting, loses precision in 
+	 * proportion to the condition number of the matrix.
+	 * 
+	 * @param result the matrix to store the inverse in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}
+	 * @throws ArithmeticException if this matrix is singular, in which case 
+	 * {@code result} is not modified
+	 */
+	public Matrix2d invert(Matrix2d result) {
+		Argument.checkNotNull(result, "result");
+		
+		double determinant = determinant();
+		if (determinant == 0) {
+			throw new ArithmeticException(MatrixUtils.EXCEPTION_MESSAGE_SINGULAR);
+		}
+		
+		double inverse = 1 / determinant;
+		return result.set(m11 * inverse, -m01 * inverse,
+				-m10 * inverse, m00 * inverse);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if (!(obj instanceof Matrix2d)) {
+			return false;
+		}
+		
+		Matrix2d matrix = (Matrix2d) obj;
+		return Double.doubleToLongBits(m00) == Double.doubleToLongBits(matrix.m00)
+				&& Double.doubleToLongBits(m01) == Double.doubleToLongBits(matrix.m01)
+				&& Double.doubleToLongBits(m10) == Double.doubleToLongBits(matrix.m10)
+				&& Double.doubleToLongBits(m11) == Double.doubleToLongBits(matrix.m11);
+	}
+	
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		hash = 31 * hash + Double.hashCode(m00);
+		hash = 31 * hash + Double.hashCode(m01);
+		hash = 31 * hash + Double.hashCode(m10);
+		hash = 31 * hash + Double.hashCode(m11);
+		return hash;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("row0", new double[] {m00, m01})
+				.append("row1", new double[] {m10, m11})
+				.toString();
+	}
+
+}
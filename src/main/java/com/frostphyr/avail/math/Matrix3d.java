@@ -0,0 +1,408 @@
+package com.frostphyr.avail.math;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A mutable 3x3 matrix of {@code double}s stored in fields rather than 
+ * in arrays. The element at row {@code r} and column {@code c} is the 
+ * field {@code mrc}, so {@code m20} is the first element of the last row.
+ * <p>
+ * The operations are fully unrolled and don't allocate or check the 
+ * shape of their operands, which is what dominates the cost of the 
+ * general operations of {@link MatrixUtils} for matrices this small. 
+ * Each operation either modifies this matrix or stores its result in a 
+ * matrix that is passed to it, which may be this matrix or an operand, 
+ * so the same matrices can be reused for every calculation.
+ * <p>
+ * Matrices are not safe for use by multiple threads at the same time 
+ * if any of the threads modifies the matrix.
+ * 
+ * @see Matrix3f
+ * @since 1.6
+ */
+public final class Matrix3d {
+	
+	private static final String EXCEPTION_MESSAGE_SIZE = "matrix must have 3 rows and 3 columns";
+	
+	/**
+	 * The elements of the first row.
+	 */
+	public double m00, m01, m02;
+	
+	/**
+	 * The elements of the second row.
+	 */
+	public double m10, m11, m12;
+	
+	/**
+	 * The elements of the third row.
+	 */
+	public double m20, m21, m22;
+	
+	/**
+	 * Creates a new identity matrix.
+	 */
+	public Matrix3d() {
+		m00 = 1;
+		m11 = 1;
+		m22 = 1;
+	}
+	
+	/**
+	 * Creates a new matrix with the specified elements, which are in 
+	 * row-major order.
+	 * 
+	 * @param m00 the element at row 0 and column 0
+	 * @param m01 the element at row 0 and column 1
+	 * @param m02 the element at row 0 and column 2
+	 * @param m10 the element at row 1 and column 0
+	 * @param m11 the element at row 1 and column 1
+	 * @param m12 the element at row 1 and column 2
+	 * @param m20 the element at row 2 and column 0
+	 * @param m21 the element at row 2 and column 1
+	 * @param m22 the element at row 2 and column 2
+	 */
+	public Matrix3d(double m00, double m01, double m02,
+			double m10, double m11, double m12,
+			double m20, double m21, double m22) {
+		set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+	}
+	
+	/**
+	 * Creates a new matrix with the same elements as {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix3d(Matrix3d matrix) {
+		set(matrix);
+	}
+	
+	/**
+	 * Returns a new matrix with the elements of the 3x3 {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return a new matrix with the elements of {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have 3 rows and 3 columns
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static Matrix3d fromArray(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != 3 || matrix[0].length != 3) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE);
+		}
+		
+		return new Matrix3d(matrix[0][0], matrix[0][1], matrix[0][2],
+				matrix[1][0], matrix[1][1], matrix[1][2],
+				matrix[2][0], matrix[2][1], matrix[2][2]);
+	}
+	
+	/**
+	 * Returns a copy of this matrix as an array of rows.
+	 * 
+	 * @return a copy of this matrix as an array of rows
+	 */
+	public double[][] toArray() {
+		return new double[][] {{m00, m01, m02}, {m10, m11, m12}, {m20, m21, m22}};
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public double get(int row, int column) {
+		switch (index(row, column)) {
+			case 0:
+				return m00;
+			case 1:
+				return m01;
+			case 2:
+				return m02;
+			case 3:
+				return m10;
+			case 4:
+				return m11;
+			case 5:
+				return m12;
+			case 6:
+				return m20;
+			case 7:
+				return m21;
+			default:
+				return m22;
+		}
+	}
+	
+	/**
+	 * Sets the element at {@code row} and {@code column} to {@code value}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @param value the value to set the element to
+	 * @return this matrix
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public Matrix3d set(int row, int column, double value) {
+		switch (index(row, column)) {
+			case 0:
+				m00 = value;
+				break;
+			case 1:
+				m01 = value;
+				break;
+			case 2:
+				m02 = value;
+				break;
+			case 3:
+				m10 = value;
+				break;
+			case 4:
+				m11 = value;
+				break;
+			case 5:
+				m12 = value;
+				break;
+			case 6:
+				m20 = value;
+				break;
+			case 7:
+				m21 = value;
+				break;
+			default:
+				m22 = value;
+				break;
+		}
+		return this;
+	}
+	
+	private static int index(int row, int column) {
+		if (row < 0 || row >= 3 || column < 0 || column >= 3) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		return row * 3 + column;
+	}
+	
+	/**
+	 * Sets the elements of this matrix, which are in row-major order.
+	 * 
+	 * @param m00 the element at row 0 and column 0
+	 * @param m01 the element at row 0 and column 1
+	 * @param m02 the element at row 0 and column 2
+	 * @param m10 the element at row 1 and column 0
+	 * @param m11 the element at row 1 and column 1
+	 * @param m12 the element at row 1 and column 2
+	 * @param m20 the element at row 2 and column 0
+	 * @param m21 the element at row 2 and column 1
+	 * @param m22 the element at row 2 and column 2
+	 * @return this matrix
+	 */
+	public Matrix3d set(double m00, double m01, double m02,
+			double m10, double m11, double m12,
+			double m20, double m21, double m22) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m02 = m02;
+		this.m10 = m10;
+		this.m11 = m11;
+		this.m12 = m12;
+		this.m20 = m20;
+		this.m21 = m21;
+		this.m22 = m22;
+		return this;
+	}
+	
+	/**
+	 * Sets the elements of this matrix to those of {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix3d set(Matrix3d matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		return set(matrix.m00, matrix.m01, matrix.m02,
+				matrix.m10, matrix.m11, matrix.m12,
+				matrix.m20, matrix.m21, matrix.m22);
+	}
+	
+	/**
+	 * Sets this matrix to the identity matrix.
+	 * 
+	 * @return this matrix
+	 */
+	public Matrix3d setIdentity() {
+		return set(1, 0, 0,
+				0, 1, 0,
+				0, 0, 1);
+	}
+	
+	/**
+	 * Multiplies this matrix by {@code matrix}, with {@code matrix} on the 
+	 * right, and stores the product in this matrix.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix3d multiply(Matrix3d matrix) {
+		return multiply(matrix, this);
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code matrix} in 
+	 * {@code result} and returns it. {@code result} may be either of the 
+	 * operands.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @param result the matrix to store the product in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is {@code null}
+	 */
+	public Matrix3d multiply(Matrix3d matrix, Matrix3d result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		
+		double r00 = m00 * matrix.m00 + m01 * matrix.m10 + m02 * matrix.m20;
+		double r01 = m00 * matrix.m01 + m01 * matrix.m11 + m02 * matrix.m21;
+		double r02 = m00 * matrix.m02 + m01 * matrix.m12 + m02 * matrix.m22;
+		double r10 = m10 * matrix.m00 + m11 * matrix.m10 + m12 * matrix.m20;
+		double r11 = m10 * matrix.m01 + m11 * matrix.m11 + m12 * matrix.m21;
+		double r12 = m10 * matrix.m02 + m11 * matrix.m12 + m12 * matrix.m22;
+		double r20 = m20 * matrix.m00 + m21 * matrix.m10 + m22 * matrix.m20;
+		double r21 = m20 * matrix.m01 + m21 * matrix.m11 + m22 * matrix.m21;
+		double r22 = m20 * matrix.m02 + m21 * matrix.m12 + m22 * matrix.m22;
+		return result.set(r00, r01, r02,
+				r10, r11, r12,
+				r20, r21, r22);
+	}
+	
+	/**
+	 * Transposes this matrix in place.
+	 * 
+	 * @return this matrix
+	 */
+	public Matrix3d transpose() {
+		return transpose(this);
+	}
+	
+	/**
+	 * Stores the transpose of this matrix in {@code result} and returns it. 
+	 * {@code result} may be this matrix.
+	 * 
+	 * @param result the matrix to store the transpose in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}
+	 */
+	public Matrix3d transpose(Matrix3d result) {
+		Argument.checkNotNull(result, "result");
+		return result.set(m00, m10, m20,
+				m01, m11, m21,
+				m02, m12, m22);
+	}
+	
+	/**
+	 * Returns the determinant of this matrix.
+	 * 
+	 * @return the determinant of this matrix
+	 */
+	public double determinant() {
+		return m00 * (m11 * m22 - m12 * m21)
+				+ m01 * (m12 * m20 - m10 * m22)
+				+ m02 * (m10 * m21 - m11 * m20);
+	}
+	
+	/**
+	 * Inverts this matrix in place.
+	 * 
+	 * @return this matrix
+	 * @throws ArithmeticException if this matrix is singular
+	 */
+	public Matrix3d invert() {
+		return invert(this);
+	}
+	
+	/**
+	 * Stores the inverse of this matrix in {@code result} and returns it. 
+	 * {@code result} may be this matrix. The inverse is calculated from the 
+	 * adjugate, which is accurate for well-conditioned matrices of this size 
+	 * but, unlike an inverse calculated by pivoting, loses precision in 
+	 * proportion to the condition number of the matrix.
+	 * 
+	 * @param result the matrix to store the inverse in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}
+	 * @throws ArithmeticException if this matrix is singular, in which case 
+	 * {@code result} is not modified
+	 */
+	public Matrix3d invert(Matrix3d result) {
+		Argument.checkNotNull(result, "result");
+		
+		double c00 = m11 * m22 - m12 * m21;
+		double c01 = m12 * m20 - m10 * m22;
+		double c02 = m10 * m21 - m11 * m20;
+		double determinant = m00 * c00 + m01 * c01 + m02 * c02;
+		if (determinant == 0) {
+			throw new ArithmeticException(MatrixUtils.EXCEPTION_MESSAGE_SINGULAR);
+		}
+		
+		double inverse = 1 / determinant;
+		return result.set(c00 * inverse, (m02 * m21 - m01 * m22) * inverse, (m01 * m12 - m02 * m11) * inverse,
+				c01 * inverse, (m00 * m22 - m02 * m20) * inverse, (m02 * m10 - m00 * m12) * inverse,
+				c02 * inverse, (m01 * m20 - m00 * m21) * inverse, (m00 * m11 - m01 * m10) * inverse);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if (!(obj instanceof Matrix3d)) {
+			return false;
+		}
+		
+		Matrix3d matrix = (Matrix3d) obj;
+		return Double.doubleToLongBits(m00) == Double.doubleToLongBits(matrix.m00)
+				&& Double.doubleToLongBits(m01) == Double.doubleToLongBits(matrix.m01)
+				&& Double.doubleToLongBits(m02) == Double.doubleToLongBits(matrix.m02)
+				&& Double.doubleToLongBits(m10) == Double.doubleToLongBits(matrix.m10)
+				&& Double.doubleToLongBits(m11) == Double.doubleToLongBits(matrix.m11)
+				&& Double.doubleToLongBits(m12) == Double.doubleToLongBits(matrix.m12)
+				&& Double.doubleToLongBits(m20) == Double.doubleToLongBits(matrix.m20)
+				&& Double.doubleToLongBits(m21) == Double.doubleToLongBits(matrix.m21)
+				&& Double.doubleToLongBits(m22) == Double.doubleToLongBits(matrix.m22);
+	}
+	
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		hash = 31 * hash + Double.hashCode(m00);
+		hash = 31 * hash + Double.hashCode(m01);
+		hash = 31 * hash + Double.hashCode(m02);
+		hash = 31 * hash + Double.hashCode(m10);
+		hash = 31 * hash + Double.hashCode(m11);
+		hash = 31 * hash + Double.hashCode(m12);
+		hash = 31 * hash + Double.hashCode(m20);
+		hash = 31 * hash + Double.hashCode(m21);
+		hash = 31 * hash + Double.hashCode(m22);
+		return hash;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("row0", new double[] {m00, m01, m02})
+				.append("row1", new double[] {m10, m11, m12})
+				.append("row2", new double[] {m20, m21, m22})
+				.toString();
+	}
+
+}
@@ -0,0 +1,531 @@
+package com.frostphyr.avail.math;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A mutable 4x4 matrix of {@code float}s stored in fields rather than 
+ * in arrays. The element at row {@code r} and column {@code c} is the 
+ * field {@code mrc}, so {@code m30} is the first element of the last row.
+ * <p>
+ * The operations are fully unrolled and don't allocate or check the 
+ * shape of their operands, which is what dominates the cost of the 
+ * general operations of {@link MatrixUtils} for matrices this small. 
+ * Each operation either modifies this matrix or stores its result in a 
+ * matrix that is passed to it, which may be this matrix or an operand, 
+ * so the same matrices can be reused for every calculation.
+ * <p>
+ * Matrices are not safe for use by multiple threads at the same time 
+ * if any of the threads modifies the matrix.
+ * 
+ * @see Matrix4d
+ * @since 1.6
+ */
+public final class Matrix4f {
+	
+	private static final String EXCEPTION_MESSAGE_SIZE = "matrix must have 4 rows and 4 columns";
+	
+	/**
+	 * The elements of the first row.
+	 */
+	public float m00, m01, m02, m03;
+	
+	/**
+	 * The elements of the second row.
+	 */
+	public float m10, m11, m12, m13;
+	
+	/**
+	 * The elements of the third row.
+	 */
+	public float m20, m21, m22, m23;
+	
+	/**
+	 * The elements of the fourth row.
+	 */
+	public float m30, m31, m32, m33;
+	
+	/**
+	 * Creates a new identity matrix.
+	 */
+	public Matrix4f() {
+		m00 = 1;
+		m11 = 1;
+		m22 = 1;
+		m33 = 1;
+	}
+	
+	/**
+	 * Creates a new matrix with the specified elements, which are in 
+	 * row-major order.
+	 * 
+	 * @param m00 the element at row 0 and column 0
+	 * @param m01 the element at row 0 and column 1
+	 * @param m02 the element at row 0 and column 2
+	 * @param m03 the element at row 0 and column 3
+	 * @param m10 the element at row 1 and column 0
+	 * @param m11 the element at row 1 and column 1
+	 * @param m12 the element at row 1 and column 2
+	 * @param m13 the element at row 1 and column 3
+	 * @param m20 the element at row 2 and column 0
+	 * @param m21 the element at row 2 and column 1
+	 * @param m22 the element at row 2 and column 2
+	 * @param m23 the element at row 2 and column 3
+	 * @param m30 the element at row 3 and column 0
+	 * @param m31 the element at row 3 and column 1
+	 * @param m32 the element at row 3 and column 2
+	 * @param m33 the element at row 3 and column 3
+	 */
+	public Matrix4f(float m00, float m01, float m02, float m03,
+			float m10, float m11, float m12, float m13,
+			float m20, float m21, float m22, float m23,
+			float m30, float m31, float m32, float m33) {
+		set(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+	}
+	
+	/**
+	 * Creates a new matrix with the same elements as {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix4f(Matrix4f matrix) {
+		set(matrix);
+	}
+	
+	/**
+	 * Returns a new matrix with the elements of the 4x4 {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return a new matrix with the elements of {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have 4 rows and 4 columns
+	 * @see MatrixUtils#validateMatrix(float[][])
+	 */
+	public static Matrix4f fromArray(float[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != 4 || matrix[0].length != 4) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE);
+		}
+		
+		return new Matrix4f(matrix[0][0], matrix[0][1], matrix[0][2], matrix[0][3],
+				matrix[1][0], matrix[1][1], matrix[1][2], matrix[1][3],
+				matrix[2][0], matrix[2][1], matrix[2][2], matrix[2][3],
+				matrix[3][0], matrix[3][1], matrix[3][2], matrix[3][3]);
+	}
+	
+	/**
+	 * Returns a copy of this matrix as an array of rows.
+	 * 
+	 * @return a copy of this matrix as an array of rows
+	 */
+	public float[][] toArray() {
+		return new float[][] {{m00, m01, m02, m03}, {m10, m11, m12, m13}, {m20, m21, m22, m23}, {m30, m31, m32, m33}};
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public float get(int row, int column) {
+		switch (index(row, column)) {
+			case 0:
+				return m00;
+			case 1:
+				return m01;
+			case 2:
+				return m02;
+			case 3:
+				return m03;
+			case 4:
+				return m10;
+			case 5:
+				return m11;
+			case 6:
+				return m12;
+			case 7:
+				return m13;
+			case 8:
+				return m20;
+			case 9:
+				return m21;
+			case 10:
+				return m22;
+			case 11:
+				return m23;
+			case 12:
+				return m30;
+			case 13:
+				return m31;
+			case 14:
+				return m32;
+			default:
+				return m33;
+		}
+	}
+	
+	/**
+	 * Sets the element at {@code row} and {@code column} to {@code value}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @param value the value to set the element to
+	 * @return this matrix
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 */
+	public Matrix4f set(int row, int column, float value) {
+		switch (index(row, column)) {
+			case 0:
+				m00 = value;
+				break;
+			case 1:
+				m01 = value;
+				break;
+			case 2:
+				m02 = value;
+				break;
+			case 3:
+				m03 = value;
+				break;
+			case 4:
+				m10 = value;
+				break;
+			case 5:
+				m11 = value;
+				break;
+			case 6:
+				m12 = value;
+				break;
+			case 7:
+				m13 = value;
+				break;
+			case 8:
+				m20 = value;
+				break;
+			case 9:
+				m21 = value;
+				break;
+			case 10:
+				m22 = value;
+				break;
+			case 11:
+				m23 = value;
+				break;
+			case 12:
+				m30 = value;
+				break;
+			case 13:
+				m31 = value;
+				break;
+			case 14:
+				m32 = value;
+				break;
+			default:
+				m33 = value;
+				break;
+		}
+		return this;
+	}
+	
+	private static int index(int row, int column) {
+		if (row < 0 || row >= 4 || column < 0 || column >= 4) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		return row * 4 + column;
+	}
+	
+	/**
+	 * Sets the elements of this matrix, which are in row-major order.
+	 * 
+	 * @param m00 the element at row 0 and column 0
+	 * @param m01 the element at row 0 and column 1
+	 * @param m02 the element at row 0 and column 2
+	 * @param m03 the element at row 0 and column 3
+	 * @param m10 the element at row 1 and column 0
+	 * @param m11 the element at row 1 and column 1
+	 * @param m12 the element at row 1 and column 2
+	 * @param m13 the element at row 1 and column 3
+	 * @param m20 the element at row 2 and column 0
+	 * @param m21 the element at row 2 and column 1
+	 * @param m22 the element at row 2 and column 2
+	 * @param m23 the element at row 2 and column 3
+	 * @param m30 the element at row 3 and column 0
+	 * @param m31 the element at row 3 and column 1
+	 * @param m32 the element at row 3 and column 2
+	 * @param m33 the element at row 3 and column 3
+	 * @return this matrix
+	 */
+	public Matrix4f set(float m00, float m01, float m02, float m03,
+			float m10, float m11, float m12, float m13,
+			float m20, float m21, float m22, float m23,
+			float m30, float m31, float m32, float m33) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m02 = m02;
+		this.m03 = m03;
+		this.m10 = m10;
+		this.m11 = m11;
+		this.m12 = m12;
+		this.m13 = m13;
+		this.m20 = m20;
+		this.m21 = m21;
+		this.m22 = m22;
+		this.m23 = m23;
+		this.m30 = m30;
+		this.m31 = m31;
+		this.m32 = m32;
+		this.m33 = m33;
+		return this;
+	}
+	
+	/**
+	 * Sets the elements of this matrix to those of {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix4f set(Matrix4f matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		return set(matrix.m00, matrix.m01, matrix.m02, matrix.m03,
+				matrix.m10, matrix.m11, matrix.m12, matrix.m13,
+				matrix.m20, matrix.m21, matrix.m22, matrix.m23,
+				matrix.m30, matrix.m31, matrix.m32, matrix.m33);
+	}
+	
+	/**
+	 * Sets this matrix to the identity matrix.
+	 * 
+	 * @return this matrix
+	 */
+	public Matrix4f setIdentity() {
+		return set(1, 0, 0, 0,
+				0, 1, 0, 0,
+				0, 0, 1, 0,
+				0, 0, 0, 1);
+	}
+	
+	/**
+	 * Multiplies this matrix by {@code matrix}, with {@code matrix} on the 
+	 * right, and stores the product in this matrix.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return this matrix
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 */
+	public Matrix4f multiply(Matrix4f matrix) {
+		return multiply(matrix, this);
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code matrix} in 
+	 * {@code result} and returns it. {@code result} may be either of the 
+	 * operands.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @param result the matrix to store the product in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is {@code null}
+	 */
+	public Matrix4f multiply(Matrix4f matrix, Matrix4f result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		
+		float r00 = m00 * matrix.m00 + m01 * matrix.m10 + m02 * matrix.m20 + m03 * matrix.m30;
+		float r01 = m00 * matrix.m01 + m01 * matrix.m11 + m02 * matrix.m21 + m03 * matrix.m31;
+		float r02 = m00 * matrix.m02 + m01 * matrix.m12 + m02 * matrix.m22 + m03 * matrix.m32;
+		float r03 = m00 * matrix.m03 + m01 * matrix.m13 + m02 * matrix.m23 + m03 * matrix.m33;
+		float r10 = m10 * matrix.m00 + m11 * matrix.m10 + m12 * matrix.m20 + m13 * matrix.m30;
+		float r11 = m10 * matrix.m01 + m11 * matrix.m11 + m12 * matrix.m21 + m13 * matrix.m31;
+		float r12 = m10 * matrix.m02 + m11 * matrix.m12 + m12 * matrix.m22 + m13 * matrix.m32;
+		float r13 = m10 * matrix.m03 + m11 * matrix.m13 + m12 * matrix.m23 + m13 * matrix.m33;
+		float r20 = m20 * matrix.m00 + m21 * matrix.m10 + m22 * matrix.m20 + m23 * matrix.m30;
+		float r21 = m20 * matrix.m01 + m21 * matrix.m11 + m22 * matrix.m21 + m23 * matrix.m31;
+		float r22 = m20 * matrix.m02 + m21 * matrix.m12 + m22 * matrix.m22 + m23 * matrix.m32;
+		float r23 = m20 * matrix.m03 + m21 * matrix.m13 + m22 * matrix.m23 + m23 * matrix.m33;
+		float r30 = m30 * matrix.m00 + m31 * matrix.m10 + m32 * matrix.m20 + m33 * matrix.m30;
+		float r31 = m30 * matrix.m01 + m31 * matrix.m11 + m32 * matrix.m21 + m33 * matrix.m31;
+		float r32 = m30 * matrix.m02 + m31 * matrix.m12 + m32 * matrix.m22 + m33 * matrix.m32;
+		float r33 = m30 * matrix.m03 + m31 * matrix.m13 + m32 * matrix.m23 + m33 * matrix.m33;
+		return result.set(r00, r01, r02, r03,
+				r10, r11, r12, r13,
+				r20, r21, r22, r23,
+				r30, r31, r32, r33);
+	}
+	
+	/**
+	 * Transposes this matrix in place.
+	 * 
+	 * @return this matrix
+	 */
+	public Matrix4f transpose() {
+		return transpose(this);
+	}
+	
+	/**
+	 * Stores the transpose of this matrix in {@code result} and returns it. 
+	 * {@code result} may be this matrix.
+	 * 
+	 * @param result the matrix to store the transpose in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}
+	 */
+	public Matrix4f transpose(Matrix4f result) {
+		Argument.checkNotNull(result, "result");
+		return result.set(m00, m10, m20, m30,
+				m01, m11, m21, m31,
+				m02, m12, m22, m32,
+				m03, m13, m23, m33);
+	}
+	
+	/**
+	 * Returns the determinant of this matrix.
+	 * 
+	 * @return the determinant of this matrix
+	 */
+	public float determinant() {
+		float s0 = m00 * m11 - m10 * m01;
+		float s1 = m00 * m12 - m10 * m02;
+		float s2 = m00 * m13 - m10 * m03;
+		float s3 = m01 * m12 - m11 * m02;
+		float s4 = m01 * m13 - m11 * m03;
+		float s5 = m02 * m13 - m12 * m03;
+		float c0 = m20 * m31 - m30 * m21;
+		float c1 = m20 * m32 - m30 * m22;
+		float c2 = m20 * m33 - m30 * m23;
+		float c3 = m21 * m32 - m31 * m22;
+		float c4 = m21 * m33 - m31 * m23;
+		float c5 = m22 * m33 - m32 * m23;
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+	
+	/**
+	 * Inverts this matrix in place.
+	 * 
+	 * @return this matrix
+	 * @throws ArithmeticException if this matrix is singular
+	 */
+	public Matrix4f invert() {
+		return invert(this);
+	}
+	
+	/**
+	 * Stores the inverse of this matrix in {@code result} and returns it. 
+	 * {@code result} may be this matrix. The inverse is calculated from the 
+	 * adjugate, which is accurate for well-conditioned matrices of this size 
+	 * but, unlike an inverse calculated by pivoting, loses precision in 
+	 * proportion to the condition number of the matrix.
+	 * 
+	 * @param result the matrix to store the inverse in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}
+	 * @throws ArithmeticException if this matrix is singular, in which case 
+	 * {@code result} is not modified
+	 */
+	public Matrix4f invert(Matrix4f result) {
+		Argument.checkNotNull(result, "result");
+		
+		float s0 = m00 * m11 - m10 * m01;
+		float s1 = m00 * m12 - m10 * m02;
+		float s2 = m00 * m13 - m10 * m03;
+		float s3 = m01 * m12 - m11 * m02;
+		float s4 = m01 * m13 - m11 * m03;
+		float s5 = m02 * m13 - m12 * m03;
+		float c0 = m20 * m31 - m30 * m21;
+		float c1 = m20 * m32 - m30 * m22;
+		float c2 = m20 * m33 - m30 * m23;
+		float c3 = m21 * m32 - m31 * m22;
+		float c4 = m21 * m33 - m31 * m23;
+		float c5 = m22 * m33 - m32 * m23;
+		float determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+		if (determinant == 0) {
+			throw new ArithmeticException(MatrixUtils.EXCEPTION_MESSAGE_SINGULAR);
+		}
+		
+		float inverse = 1 / determinant;
+		return result.set((m11 * c5 - m12 * c4 + m13 * c3) * inverse,
+				(-m01 * c5 + m02 * c4 - m03 * c3) * inverse,
+				(m31 * s5 - m32 * s4 + m33 * s3) * inverse,
+				(-m21 * s5 + m22 * s4 - m23 * s3) * inverse,
+				(-m10 * c5 + m12 * c2 - m13 * c1) * inverse,
+				(m00 * c5 - m02 * c2 + m03 * c1) * inverse,
+				(-m30 * s5 + m32 * s2 - m33 * s1) * inverse,
+				(m20 * s5 - m22 * s2 + m23 * s1) * inverse,
+				(m10 * c4 - m11 * c2 + m13 * c0) * inverse,
+				(-m00 * c4 + m01 * c2 - m03 * c0) * inverse,
+				(m30 * s4 - m31 * s2 + m33 * s0) * inverse,
+				(-m20 * s4 + m21 * s2 - m23 * s0) * inverse,
+				(-m10 * c3 + m11 * c1 - m12 * c0) * inverse,
+				(m00 * c3 - m01 * c1 + m02 * c0) * inverse,
+				(-m30 * s3 + m31 * s1 - m32 * s0) * inverse,
+				(m20 * s3 - m21 * s1 + m22 * s0) * inverse);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if (!(obj instanceof Matrix4f)) {
+			return false;
+		}
+		
+		Matrix4f matrix = (Matrix4f) obj;
+		return Float.floatToIntBits(m00) == Float.floatToIntBits(matrix.m00)
+				&& Float.floatToIntBits(m01) == Float.floatToIntBits(matrix.m01)
+				&& Float.floatToIntBits(m02) == Float.floatToIntBits(matrix.m02)
+				&& Float.floatToIntBits(m03) == Float.floatToIntBits(matrix.m03)
+				&& Float.floatToIntBits(m10) == Float.floatToIntBits(matrix.m10)
+				&& Float.floatToIntBits(m11) == Float.floatToIntBits(matrix.m11)
+				&& Float.floatToIntBits(m12) == Float.floatToIntBits(matrix.m12)
+				&& Float.floatToIntBits(m13) == Float.floatToIntBits(matrix.m13)
+				&& Float.floatToIntBits(m20) == Float.floatToIntBits(matrix.m20)
+				&& Float.floatToIntBits(m21) == Float.floatToIntBits(matrix.m21)
+				&& Float.floatToIntBits(m22) == Float.floatToIntBits(matrix.m22)
+				&& Float.floatToIntBits(m23) == Float.floatToIntBits(matrix.m23)
+				&& Float.floatToIntBits(m30) == Float.floatToIntBits(matrix.m30)
+				&& Float.floatToIntBits(m31) == Float.floatToIntBits(matrix.m31)
+				&& Float.floatToIntBits(m32) == Float.floatToIntBits(matrix.m32)
+				&& Float.floatToIntBits(m33) == Float.floatToIntBits(matrix.m33);
+	}
+	
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		hash = 31 * hash + Float.hashCode(m00);
+		hash = 31 * hash + Float.hashCode(m01);
+		hash = 31 * hash + Float.hashCode(m02);
+		hash = 31 * hash + Float.hashCode(m03);
+		hash = 31 * hash + Float.hashCode(m10);
+		hash = 31 * hash + Float.hashCode(m11);
+		hash = 31 * hash + Float.hashCode(m12);
+		hash = 31 * hash + Float.hashCode(m13);
+		hash = 31 * hash + Float.hashCode(m20);
+		hash = 31 * hash + Float.hashCode(m21);
+		hash = 31 * hash + Float.hashCode(m22);
+		hash = 31 * hash + Float.hashCode(m23);
+		hash = 31 * hash + Float.hashCode(m30);
+		hash = 31 * hash + Float.hashCode(m31);
+		hash = 31 * hash + Float.hashCode(m32);
+		hash = 31 * hash + Float.hashCode(m33);
+		return hash;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("row0", new float[] {m00, m01, m02, m03})
+				.append("row1", new float[] {m10, m11, m12, m13})
+				.append("row2", new float[] {m20, m21, m22, m23})
+				.append("row3", new float[] {m30, m31, m32, m33})
+				.toString();
+	}
+
+}
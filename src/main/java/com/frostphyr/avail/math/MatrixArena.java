@@ -0,0 +1,108 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A scope for the temporary matrices of a computation, which acquires them 
+ * from a {@link MatrixPool} and releases all of them back to it when it is 
+ * closed. An arena is meant to be used in a try-with-resources statement, 
+ * with each intermediate result stored in a matrix from 
+ * {@link #allocate(int, int)}:
+ * 
+ * <pre>
+ * try (MatrixArena arena = new MatrixArena(pool)) {
+ *     double[][] product = MatrixUtils.multiply(a, b, arena.allocate(a.length, b[0].length));
+ *     MatrixUtils.add(product, c, result);
+ * }
+ * </pre>
+ * 
+ * No matrix allocated by an arena may be used after the arena has been 
+ * closed. An arena can be used again after it has been closed, so an arena 
+ * that is kept and reused for every iteration of a loop doesn't allocate 
+ * anything once the pool holds matrices of the sizes the loop uses.
+ * <p>
+ * Arenas are not safe for use by multiple threads, although separate 
+ * arenas may share a pool.
+ * 
+ * @since 1.6
+ */
+public final class MatrixArena implements AutoCloseable {
+	
+	private final MatrixPool pool;
+	private double[][][] matrices = new double[8][][];
+	private int size;
+	
+	/**
+	 * Creates a new arena that acquires its matrices from {@code pool}.
+	 * 
+	 * @param pool the pool to acquire matrices from
+	 * @throws IllegalArgumentException if {@code pool} is {@code null}
+	 */
+	public MatrixArena(MatrixPool pool) {
+		this.pool = Argument.checkNotNull(pool, "pool");
+	}
+	
+	/**
+	 * Returns a matrix with {@code rows} rows and {@code columns} columns 
+	 * from the pool of this arena, which will be released when the arena is 
+	 * closed. The elements of the matrix are not cleared.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a matrix with {@code rows} rows and {@code columns} columns
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1
+	 * @see MatrixPool#acquire(int, int)
+	 */
+	public double[][] allocate(int rows, int columns) {
+		double[][] matrix = pool.acquire(rows, columns);
+		if (size == matrices.length) {
+			matrices = Arrays.copyOf(matrices, size * 2);
+		}
+		matrices[size++] = matrix;
+		return matrix;
+	}
+	
+	/**
+	 * Returns the pool this arena acquires its matrices from.
+	 * 
+	 * @return the pool this arena acquires its matrices from
+	 */
+	public MatrixPool getPool() {
+		return pool;
+	}
+	
+	/**
+	 * Returns the number of matrices allocated since this arena was created 
+	 * or last closed.
+	 * 
+	 * @return the number of matrices allocated by this arena
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Releases every matrix allocated since this arena was created or last 
+	 * closed to its pool, most recently allocated first.
+	 */
+	@Override
+	public void close() {
+		while (size > 0) {
+			pool.release(matrices[--size]);
+			matrices[size] = null;
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("pool", pool)
+				.append("size", size)
+				.toString();
+	}
+
+}
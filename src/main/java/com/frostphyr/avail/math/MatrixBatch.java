@@ -0,0 +1,854 @@
+package com.frostphyr.avail.math;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.frostphyr.avail.Argument;
+
+/**
+ * Operations on batches of small square matrices that are packed into a 
+ * single flat array, so that many independent matrices can be multiplied 
+ * or used to transform vectors in one call without validating or 
+ * allocating anything per matrix. The results are stored in an array 
+ * supplied by the caller, which can be reused for every batch.
+ * <p>
+ * A batch of {@code count} matrices of {@code size} rows and columns is 
+ * stored in one of two layouts, described by {@link Layout}. In 
+ * {@link Layout#ARRAY_OF_STRUCTURES} the element at row {@code r} and 
+ * column {@code c} of matrix {@code i} is at index 
+ * {@code (i * size + r) * size + c}, so every matrix is stored in 
+ * row-major order after the previous one. In 
+ * {@link Layout#STRUCTURE_OF_ARRAYS} it is at index 
+ * {@code (r * size + c) * count + i}, so the same element of every matrix 
+ * is stored together. Vectors are stored in the same way as matrices with 
+ * a single column: component {@code j} of vector {@code i} is at index 
+ * {@code i * size + j} or {@code j * count + i} respectively.
+ * <p>
+ * The array-of-structures layout has unrolled kernels for matrices of 2, 
+ * 3 and 4 rows and columns. The structure-of-arrays layout processes the 
+ * same element of a block of matrices in one loop, which the JIT compiler 
+ * can vectorize for any size.
+ * <p>
+ * The parallel operations divide the batch into ranges of matrices which 
+ * are computed as separate tasks. Batches too small to benefit from being 
+ * split are computed on the calling thread.
+ * 
+ * @see Matrix4d
+ * @see Matrix4f
+ * @since 1.6
+ */
+public final class MatrixBatch {
+	
+	/**
+	 * The ways in which a batch of matrices can be packed into an array.
+	 * 
+	 * @since 1.6
+	 */
+	public enum Layout {
+		
+		/**
+		 * Each matrix is stored in row-major order after the previous one.
+		 */
+		ARRAY_OF_STRUCTURES,
+		
+		/**
+		 * The same element of every matrix is stored together, in order of 
+		 * the matrices, and the elements are in row-major order.
+		 */
+		STRUCTURE_OF_ARRAYS
+		
+	}
+	
+	static final String EXCEPTION_MESSAGE_ARRAY_LENGTH = " is too small to hold the batch";
+	
+	/**
+	 * The number of matrices the structure-of-arrays kernels process at a 
+	 * time.
+	 */
+	private static final int PLANAR_BLOCK_SIZE = 256;
+	
+	private MatrixBatch() {
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices1} and the 
+	 * corresponding matrix of {@code matrices2} in {@code result} and 
+	 * returns it.
+	 * 
+	 * @param layout the layout of all three batches
+	 * @param size the number of rows and columns of each matrix
+	 * @param count the number of matrices in each batch
+	 * @param matrices1 the matrices to multiply
+	 * @param matrices2 the matrices to multiply by
+	 * @param result the array to store the products in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or if {@code result} is one of the operands
+	 */
+	public static double[] multiply(Layout layout, int size, int count, double[] matrices1, double[] matrices2, double[] result) {
+		checkMultiply(layout, size, count, matrices1, matrices2, result);
+		multiply(layout, size, count, matrices1, matrices2, result, 0, count);
+		return result;
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices1} and the 
+	 * corresponding matrix of {@code matrices2} in {@code result} and 
+	 * returns it, computed in parallel using 
+	 * {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param layout the layout of all three batches
+	 * @param size the number of rows and columns of each matrix
+	 * @param count the number of matrices in each batch
+	 * @param matrices1 the matrices to multiply
+	 * @param matrices2 the matrices to multiply by
+	 * @param result the array to store the products in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or if {@code result} is one of the operands
+	 * @see #parallelMultiply(Layout, int, int, double[], double[], double[], ForkJoinPool)
+	 */
+	public static double[] parallelMultiply(Layout layout, int size, int count, double[] matrices1, double[] matrices2, double[] result) {
+		return parallelMultiply(layout, size, count, matrices1, matrices2, result, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices1} and the 
+	 * corresponding matrix of {@code matrices2} in {@code result} and 
+	 * returns it, computed in parallel using {@code pool}. The result is 
+	 * the same as that of 
+	 * {@link #multiply(Layout, int, int, double[], double[], double[])}.
+	 * 
+	 * @param layout the layout of all three batches
+	 * @param size the number of rows and columns of each matrix
+	 * @param count the number of matrices in each batch
+	 * @param matrices1 the matrices to multiply
+	 * @param matrices2 the matrices to multiply by
+	 * @param result the array to store the products in
+	 * @param pool the pool to compute the products with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout}, {@code pool} or 
+	 * any of the arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or if {@code result} is one of the operands
+	 */
+	public static double[] parallelMultiply(Layout layout, int size, int count, double[] matrices1, double[] matrices2, double[] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		checkMultiply(layout, size, count, matrices1, matrices2, result);
+		ParallelKernels.invoke(pool, count, 1, (long) size * size * size,
+				(rowStart, rowEnd, columnStart, columnEnd) -> multiply(
+						layout, size, count, matrices1, matrices2, result, rowStart, rowEnd));
+		return result;
+	}
+	
+	private static void checkMultiply(Layout layout, int size, int count, double[] matrices1, double[] matrices2, double[] result) {
+		long length = checkBatch(layout, size, count, size);
+		checkLength(matrices1, "matrices1", length);
+		checkLength(matrices2, "matrices2", length);
+		checkLength(result, "result", length);
+		if (result == matrices1 || result == matrices2) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices} and the 
+	 * corresponding column vector of {@code vectors} in {@code result} and 
+	 * returns it.
+	 * 
+	 * @param layout the layout of the matrices and the vectors
+	 * @param size the number of rows and columns of each matrix and the 
+	 * number of components of each vector
+	 * @param count the number of matrices and vectors
+	 * @param matrices the matrices to transform the vectors by
+	 * @param vectors the vectors to transform
+	 * @param result the array to store the transformed vectors in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or vectors or if {@code result} is 
+	 * {@code vectors}
+	 */
+	public static double[] transform(Layout layout, int size, int count, double[] matrices, double[] vectors, double[] result) {
+		checkTransform(layout, size, count, matrices, vectors, result);
+		transform(layout, size, count, matrices, vectors, result, 0, count);
+		return result;
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices} and the 
+	 * corresponding column vector of {@code vectors} in {@code result} and 
+	 * returns it, computed in parallel using 
+	 * {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param layout the layout of the matrices and the vectors
+	 * @param size the number of rows and columns of each matrix and the 
+	 * number of components of each vector
+	 * @param count the number of matrices and vectors
+	 * @param matrices the matrices to transform the vectors by
+	 * @param vectors the vectors to transform
+	 * @param result the array to store the transformed vectors in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or vectors or if {@code result} is 
+	 * {@code vectors}
+	 * @see #parallelTransform(Layout, int, int, double[], double[], double[], ForkJoinPool)
+	 */
+	public static double[] parallelTransform(Layout layout, int size, int count, double[] matrices, double[] vectors, double[] result) {
+		return parallelTransform(layout, size, count, matrices, vectors, result, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices} and the 
+	 * corresponding column vector of {@code vectors} in {@code result} and 
+	 * returns it, computed in parallel using {@code pool}. The result is 
+	 * the same as that of 
+	 * {@link #transform(Layout, int, int, double[], double[], double[])}.
+	 * 
+	 * @param layout the layout of the matrices and the vectors
+	 * @param size the number of rows and columns of each matrix and the 
+	 * number of components of each vector
+	 * @param count the number of matrices and vectors
+	 * @param matrices the matrices to transform the vectors by
+	 * @param vectors the vectors to transform
+	 * @param result the array to store the transformed vectors in
+	 * @param pool the pool to compute the products with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout}, {@code pool} or 
+	 * any of the arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or vectors or if {@code result} is 
+	 * {@code vectors}
+	 */
+	public static double[] parallelTransform(Layout layout, int size, int count, double[] matrices, double[] vectors, double[] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		checkTransform(layout, size, count, matrices, vectors, result);
+		ParallelKernels.invoke(pool, count, 1, (long) size * size,
+				(rowStart, rowEnd, columnStart, columnEnd) -> transform(
+						layout, size, count, matrices, vectors, result, rowStart, rowEnd));
+		return result;
+	}
+	
+	private static void checkTransform(Layout layout, int size, int count, double[] matrices, double[] vectors, double[] result) {
+		long length = checkBatch(layout, size, count, 1);
+		checkLength(matrices, "matrices", length * size);
+		checkLength(vectors, "vectors", length);
+		checkLength(result, "result", length);
+		if (result == vectors) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+	}
+	
+	private static void checkLength(double[] array, String name, long length) {
+		Argument.checkNotNull(array, name);
+		if (array.length < length) {
+			throw new IllegalArgumentException(name + EXCEPTION_MESSAGE_ARRAY_LENGTH);
+		}
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices1} and the 
+	 * corresponding matrix of {@code matrices2} in {@code result} and 
+	 * returns it.
+	 * 
+	 * @param layout the layout of all three batches
+	 * @param size the number of rows and columns of each matrix
+	 * @param count the number of matrices in each batch
+	 * @param matrices1 the matrices to multiply
+	 * @param matrices2 the matrices to multiply by
+	 * @param result the array to store the products in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or if {@code result} is one of the operands
+	 */
+	public static float[] multiply(Layout layout, int size, int count, float[] matrices1, float[] matrices2, float[] result) {
+		checkMultiply(layout, size, count, matrices1, matrices2, result);
+		multiply(layout, size, count, matrices1, matrices2, result, 0, count);
+		return result;
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices1} and the 
+	 * corresponding matrix of {@code matrices2} in {@code result} and 
+	 * returns it, computed in parallel using 
+	 * {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param layout the layout of all three batches
+	 * @param size the number of rows and columns of each matrix
+	 * @param count the number of matrices in each batch
+	 * @param matrices1 the matrices to multiply
+	 * @param matrices2 the matrices to multiply by
+	 * @param result the array to store the products in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or if {@code result} is one of the operands
+	 * @see #parallelMultiply(Layout, int, int, float[], float[], float[], ForkJoinPool)
+	 */
+	public static float[] parallelMultiply(Layout layout, int size, int count, float[] matrices1, float[] matrices2, float[] result) {
+		return parallelMultiply(layout, size, count, matrices1, matrices2, result, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices1} and the 
+	 * corresponding matrix of {@code matrices2} in {@code result} and 
+	 * returns it, computed in parallel using {@code pool}. The result is 
+	 * the same as that of 
+	 * {@link #multiply(Layout, int, int, float[], float[], float[])}.
+	 * 
+	 * @param layout the layout of all three batches
+	 * @param size the number of rows and columns of each matrix
+	 * @param count the number of matrices in each batch
+	 * @param matrices1 the matrices to multiply
+	 * @param matrices2 the matrices to multiply by
+	 * @param result the array to store the products in
+	 * @param pool the pool to compute the products with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout}, {@code pool} or 
+	 * any of the arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or if {@code result} is one of the operands
+	 */
+	public static float[] parallelMultiply(Layout layout, int size, int count, float[] matrices1, float[] matrices2, float[] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		checkMultiply(layout, size, count, matrices1, matrices2, result);
+		ParallelKernels.invoke(pool, count, 1, (long) size * size * size,
+				(rowStart, rowEnd, columnStart, columnEnd) -> multiply(
+						layout, size, count, matrices1, matrices2, result, rowStart, rowEnd));
+		return result;
+	}
+	
+	private static void checkMultiply(Layout layout, int size, int count, float[] matrices1, float[] matrices2, float[] result) {
+		long length = checkBatch(layout, size, count, size);
+		checkLength(matrices1, "matrices1", length);
+		checkLength(matrices2, "matrices2", length);
+		checkLength(result, "result", length);
+		if (result == matrices1 || result == matrices2) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices} and the 
+	 * corresponding column vector of {@code vectors} in {@code result} and 
+	 * returns it.
+	 * 
+	 * @param layout the layout of the matrices and the vectors
+	 * @param size the number of rows and columns of each matrix and the 
+	 * number of components of each vector
+	 * @param count the number of matrices and vectors
+	 * @param matrices the matrices to transform the vectors by
+	 * @param vectors the vectors to transform
+	 * @param result the array to store the transformed vectors in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or vectors or if {@code result} is 
+	 * {@code vectors}
+	 */
+	public static float[] transform(Layout layout, int size, int count, float[] matrices, float[] vectors, float[] result) {
+		checkTransform(layout, size, count, matrices, vectors, result);
+		transform(layout, size, count, matrices, vectors, result, 0, count);
+		return result;
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices} and the 
+	 * corresponding column vector of {@code vectors} in {@code result} and 
+	 * returns it, computed in parallel using 
+	 * {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param layout the layout of the matrices and the vectors
+	 * @param size the number of rows and columns of each matrix and the 
+	 * number of components of each vector
+	 * @param count the number of matrices and vectors
+	 * @param matrices the matrices to transform the vectors by
+	 * @param vectors the vectors to transform
+	 * @param result the array to store the transformed vectors in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout} or any of the 
+	 * arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or vectors or if {@code result} is 
+	 * {@code vectors}
+	 * @see #parallelTransform(Layout, int, int, float[], float[], float[], ForkJoinPool)
+	 */
+	public static float[] parallelTransform(Layout layout, int size, int count, float[] matrices, float[] vectors, float[] result) {
+		return parallelTransform(layout, size, count, matrices, vectors, result, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the products of each matrix of {@code matrices} and the 
+	 * corresponding column vector of {@code vectors} in {@code result} and 
+	 * returns it, computed in parallel using {@code pool}. The result is 
+	 * the same as that of 
+	 * {@link #transform(Layout, int, int, float[], float[], float[])}.
+	 * 
+	 * @param layout the layout of the matrices and the vectors
+	 * @param size the number of rows and columns of each matrix and the 
+	 * number of components of each vector
+	 * @param count the number of matrices and vectors
+	 * @param matrices the matrices to transform the vectors by
+	 * @param vectors the vectors to transform
+	 * @param result the array to store the transformed vectors in
+	 * @param pool the pool to compute the products with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code layout}, {@code pool} or 
+	 * any of the arrays is {@code null}, if {@code size} is less than 1, if 
+	 * {@code count} is negative, if any of the arrays is too small to hold 
+	 * {@code count} matrices or vectors or if {@code result} is 
+	 * {@code vectors}
+	 */
+	public static float[] parallelTransform(Layout layout, int size, int count, float[] matrices, float[] vectors, float[] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		checkTransform(layout, size, count, matrices, vectors, result);
+		ParallelKernels.invoke(pool, count, 1, (long) size * size,
+				(rowStart, rowEnd, columnStart, columnEnd) -> transform(
+						layout, size, count, matrices, vectors, result, rowStart, rowEnd));
+		return result;
+	}
+	
+	private static void checkTransform(Layout layout, int size, int count, float[] matrices, float[] vectors, float[] result) {
+		long length = checkBatch(layout, size, count, 1);
+		checkLength(matrices, "matrices", length * size);
+		checkLength(vectors, "vectors", length);
+		checkLength(result, "result", length);
+		if (result == vectors) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+	}
+	
+	private static void checkLength(float[] array, String name, long length) {
+		Argument.checkNotNull(array, name);
+		if (array.length < length) {
+			throw new IllegalArgumentException(name + EXCEPTION_MESSAGE_ARRAY_LENGTH);
+		}
+	}
+	
+	/**
+	 * Checks the arguments describing a batch of {@code count} matrices of 
+	 * {@code size} rows and {@code columns} columns and returns the number 
+	 * of elements of the batch.
+	 */
+	private static long checkBatch(Layout layout, int size, int count, int columns) {
+		Argument.checkNotNull(layout, "layout");
+		Argument.checkGreaterThan(size, 0, "size");
+		Argument.checkGreaterThanOrEqual(count, 0, "count");
+		return (long) size * columns * count;
+	}
+	
+	/**
+	 * Multiplies the matrices between {@code start} (inclusive) and 
+	 * {@code end} (exclusive) of a batch of {@code count}.
+	 */
+	private static void multiply(Layout layout, int size, int count, double[] matrices1, double[] matrices2, double[] result, int start, int end) {
+		if (layout == Layout.STRUCTURE_OF_ARRAYS) {
+			multiplyPlanar(size, count, matrices1, matrices2, result, start, end);
+		} else if (size == 4) {
+			multiplyInterleaved4(matrices1, matrices2, result, start, end);
+		} else if (size == 3) {
+			multiplyInterleaved3(matrices1, matrices2, result, start, end);
+		} else if (size == 2) {
+			multiplyInterleaved2(matrices1, matrices2, result, start, end);
+		} else {
+			int length = size * size;
+			for (int i = start * length; i < end * length; i += length) {
+				for (int r = i; r < i + length; r += size) {
+					for (int c = 0; c < size; c++) {
+						double sum = 0;
+						for (int k = 0; k < size; k++) {
+							sum += matrices1[r + k] * matrices2[i + k * size + c];
+						}
+						result[r + c] = sum;
+					}
+				}
+			}
+		}
+	}
+	
+	private static void multiplyPlanar(int size, int count, double[] matrices1, double[] matrices2, double[] result, int start, int end) {
+		// Each element of a block of matrices is copied to its own row so that
+		// the loops over the block index every array from 0, which the JIT
+		// compiler vectorizes, and the rows stay in the cache for every pass
+		int length = size * size;
+		int blockSize = Math.min(PLANAR_BLOCK_SIZE, end - start);
+		double[][] block1 = new double[length][blockSize];
+		double[][] block2 = new double[length][blockSize];
+		double[] resultRow = new double[blockSize];
+		for (int blockStart = start; blockStart < end; blockStart += blockSize) {
+			int width = Math.min(blockSize, end - blockStart);
+			for (int e = 0; e < length; e++) {
+				System.arraycopy(matrices1, e * count + blockStart, block1[e], 0, width);
+				System.arraycopy(matrices2, e * count + blockStart, block2[e], 0, width);
+			}
+			
+			for (int r = 0; r < size; r++) {
+				for (int c = 0; c < size; c++) {
+					double[] row1 = block1[r * size];
+					double[] row2 = block2[c];
+					for (int i = 0; i < width; i++) {
+						resultRow[i] = row1[i] * row2[i];
+					}
+					for (int k = 1; k < size; k++) {
+						row1 = block1[r * size + k];
+						row2 = block2[k * size + c];
+						for (int i = 0; i < width; i++) {
+							resultRow[i] += row1[i] * row2[i];
+						}
+					}
+					System.arraycopy(resultRow, 0, result, (r * size + c) * count + blockStart, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transforms the vectors between {@code start} (inclusive) and 
+	 * {@code end} (exclusive) of a batch of {@code count}.
+	 */
+	private static void transform(Layout layout, int size, int count, double[] matrices, double[] vectors, double[] result, int start, int end) {
+		if (layout == Layout.STRUCTURE_OF_ARRAYS) {
+			transformPlanar(size, count, matrices, vectors, result, start, end);
+		} else if (size == 4) {
+			transformInterleaved4(matrices, vectors, result, start, end);
+		} else if (size == 3) {
+			transformInterleaved3(matrices, vectors, result, start, end);
+		} else if (size == 2) {
+			transformInterleaved2(matrices, vectors, result, start, end);
+		} else {
+			for (int i = start; i < end; i++) {
+				int m = i * size * size;
+				int v = i * size;
+				for (int r = 0; r < size; r++) {
+					double sum = 0;
+					for (int k = 0; k < size; k++) {
+						sum += matrices[m + r * size + k] * vectors[v + k];
+					}
+					result[v + r] = sum;
+				}
+			}
+		}
+	}
+	
+	private static void transformPlanar(int size, int count, double[] matrices, double[] vectors, double[] result, int start, int end) {
+		// Blocks are copied to rows in the same way as by multiplyPlanar
+		int length = size * size;
+		int blockSize = Math.min(PLANAR_BLOCK_SIZE, end - start);
+		double[][] matrixBlock = new double[length][blockSize];
+		double[][] vectorBlock = new double[size][blockSize];
+		double[] resultRow = new double[blockSize];
+		for (int blockStart = start; blockStart < end; blockStart += blockSize) {
+			int width = Math.min(blockSize, end - blockStart);
+			for (int e = 0; e < length; e++) {
+				System.arraycopy(matrices, e * count + blockStart, matrixBlock[e], 0, width);
+			}
+			for (int k = 0; k < size; k++) {
+				System.arraycopy(vectors, k * count + blockStart, vectorBlock[k], 0, width);
+			}
+			
+			for (int r = 0; r < size; r++) {
+				double[] matrixRow = matrixBlock[r * size];
+				double[] vectorRow = vectorBlock[0];
+				for (int i = 0; i < width; i++) {
+					resultRow[i] = matrixRow[i] * vectorRow[i];
+				}
+				for (int k = 1; k < size; k++) {
+					matrixRow = matrixBlock[r * size + k];
+					vectorRow = vectorBlock[k];
+					for (int i = 0; i < width; i++) {
+						resultRow[i] += matrixRow[i] * vectorRow[i];
+					}
+				}
+				System.arraycopy(resultRow, 0, result, r * count + blockStart, width);
+			}
+		}
+	}
+	
+	private static void multiplyInterleaved2(double[] matrices1, double[] matrices2, double[] result, int start, int end) {
+		for (int i = start * 4; i < end * 4; i += 4) {
+			double b00 = matrices2[i], b01 = matrices2[i + 1];
+			double b10 = matrices2[i + 2], b11 = matrices2[i + 3];
+			for (int r = i; r < i + 4; r += 2) {
+				double a0 = matrices1[r], a1 = matrices1[r + 1];
+				result[r] = a0 * b00 + a1 * b10;
+				result[r + 1] = a0 * b01 + a1 * b11;
+			}
+		}
+	}
+	
+	private static void multiplyInterleaved3(double[] matrices1, double[] matrices2, double[] result, int start, int end) {
+		for (int i = start * 9; i < end * 9; i += 9) {
+			double b00 = matrices2[i], b01 = matrices2[i + 1], b02 = matrices2[i + 2];
+			double b10 = matrices2[i + 3], b11 = matrices2[i + 4], b12 = matrices2[i + 5];
+			double b20 = matrices2[i + 6], b21 = matrices2[i + 7], b22 = matrices2[i + 8];
+			for (int r = i; r < i + 9; r += 3) {
+				double a0 = matrices1[r], a1 = matrices1[r + 1], a2 = matrices1[r + 2];
+				result[r] = a0 * b00 + a1 * b10 + a2 * b20;
+				result[r + 1] = a0 * b01 + a1 * b11 + a2 * b21;
+				result[r + 2] = a0 * b02 + a1 * b12 + a2 * b22;
+			}
+		}
+	}
+	
+	private static void multiplyInterleaved4(double[] matrices1, double[] matrices2, double[] result, int start, int end) {
+		for (int i = start * 16; i < end * 16; i += 16) {
+			double b00 = matrices2[i], b01 = matrices2[i + 1], b02 = matrices2[i + 2], b03 = matrices2[i + 3];
+			double b10 = matrices2[i + 4], b11 = matrices2[i + 5], b12 = matrices2[i + 6], b13 = matrices2[i + 7];
+			double b20 = matrices2[i + 8], b21 = matrices2[i + 9], b22 = matrices2[i + 10], b23 = matrices2[i + 11];
+			double b30 = matrices2[i + 12], b31 = matrices2[i + 13], b32 = matrices2[i + 14], b33 = matrices2[i + 15];
+			for (int r = i; r < i + 16; r += 4) {
+				double a0 = matrices1[r], a1 = matrices1[r + 1], a2 = matrices1[r + 2], a3 = matrices1[r + 3];
+				result[r] = a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+				result[r + 1] = a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+				result[r + 2] = a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+				result[r + 3] = a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+			}
+		}
+	}
+	
+	private static void transformInterleaved2(double[] matrices, double[] vectors, double[] result, int start, int end) {
+		for (int i = start; i < end; i++) {
+			int m = i * 4;
+			int v = i * 2;
+			double v0 = vectors[v], v1 = vectors[v + 1];
+			result[v] = matrices[m] * v0 + matrices[m + 1] * v1;
+			result[v + 1] = matrices[m + 2] * v0 + matrices[m + 3] * v1;
+		}
+	}
+	
+	private static void transformInterleaved3(double[] matrices, double[] vectors, double[] result, int start, int end) {
+		for (int i = start; i < end; i++) {
+			int m = i * 9;
+			int v = i * 3;
+			double v0 = vectors[v], v1 = vectors[v + 1], v2 = vectors[v + 2];
+			result[v] = matrices[m] * v0 + matrices[m + 1] * v1 + matrices[m + 2] * v2;
+			result[v + 1] = matrices[m + 3] * v0 + matrices[m + 4] * v1 + matrices[m + 5] * v2;
+			result[v + 2] = matrices[m + 6] * v0 + matrices[m + 7] * v1 + matrices[m + 8] * v2;
+		}
+	}
+	
+	private static void transformInterleaved4(double[] matrices, double[] vectors, double[] result, int start, int end) {
+		for (int i = start; i < end; i++) {
+			int m = i * 16;
+			int v = i * 4;
+			double v0 = vectors[v], v1 = vectors[v + 1], v2 = vectors[v + 2], v3 = vectors[v + 3];
+			result[v] = matrices[m] * v0 + matrices[m + 1] * v1 + matrices[m + 2] * v2 + matrices[m + 3] * v3;
+			result[v + 1] = matrices[m + 4] * v0 + matrices[m + 5] * v1 + matrices[m + 6] * v2 + matrices[m + 7] * v3;
+			result[v + 2] = matrices[m + 8] * v0 + matrices[m + 9] * v1 + matrices[m + 10] * v2 + matrices[m + 11] * v3;
+			result[v + 3] = matrices[m + 12] * v0 + matrices[m + 13] * v1 + matrices[m + 14] * v2 + matrices[m + 15] * v3;
+		}
+	}
+	
+	/**
+	 * Multiplies the matrices between {@code start} (inclusive) and 
+	 * {@code end} (exclusive) of a batch of {@code count}.
+	 */
+	private static void multiply(Layout layout, int size, int count, float[] matrices1, float[] matrices2, float[] result, int start, int end) {
+		if (layout == Layout.STRUCTURE_OF_ARRAYS) {
+			multiplyPlanar(size, count, matrices1, matrices2, result, start, end);
+		} else if (size == 4) {
+			multiplyInterleaved4(matrices1, matrices2, result, start, end);
+		} else if (size == 3) {
+			multiplyInterleaved3(matrices1, matrices2, result, start, end);
+		} else if (size == 2) {
+			multiplyInterleaved2(matrices1, matrices2, result, start, end);
+		} else {
+			int length = size * size;
+			for (int i = start * length; i < end * length; i += length) {
+				for (int r = i; r < i + length; r += size) {
+					for (int c = 0; c < size; c++) {
+						float sum = 0;
+						for (int k = 0; k < size; k++) {
+							sum += matrices1[r + k] * matrices2[i + k * size + c];
+						}
+						result[r + c] = sum;
+					}
+				}
+			}
+		}
+	}
+	
+	private static void multiplyPlanar(int size, int count, float[] matrices1, float[] matrices2, float[] result, int start, int end) {
+		// Each element of a block of matrices is copied to its own row so that
+		// the loops over the block index every array from 0, which the JIT
+		// compiler vectorizes, and the rows stay in the cache for every pass
+		int length = size * size;
+		int blockSize = Math.min(PLANAR_BLOCK_SIZE, end - start);
+		float[][] block1 = new float[length][blockSize];
+		float[][] block2 = new float[length][blockSize];
+		float[] resultRow = new float[blockSize];
+		for (int blockStart = start; blockStart < end; blockStart += blockSize) {
+			int width = Math.min(blockSize, end - blockStart);
+			for (int e = 0; e < length; e++) {
+				System.arraycopy(matrices1, e * count + blockStart, block1[e], 0, width);
+				System.arraycopy(matrices2, e * count + blockStart, block2[e], 0, width);
+			}
+			
+			for (int r = 0; r < size; r++) {
+				for (int c = 0; c < size; c++) {
+					float[] row1 = block1[r * size];
+					float[] row2 = block2[c];
+					for (int i = 0; i < width; i++) {
+						resultRow[i] = row1[i] * row2[i];
+					}
+					for (int k = 1; k < size; k++) {
+						row1 = block1[r * size + k];
+						row2 = block2[k * size + c];
+						for (int i = 0; i < width; i++) {
+							resultRow[i] += row1[i] * row2[i];
+						}
+					}
+					System.arraycopy(resultRow, 0, result, (r * size + c) * count + blockStart, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transforms the vectors between {@code start} (inclusive) and 
+	 * {@code end} (exclusive) of a batch of {@code count}.
+	 */
+	private static void transform(Layout layout, int size, int count, float[] matrices, float[] vectors, float[] result, int start, int end) {
+		if (layout == Layout.STRUCTURE_OF_ARRAYS) {
+			transformPlanar(size, count, matrices, vectors, result, start, end);
+		} else if (size == 4) {
+			transformInterleaved4(matrices, vectors, result, start, end);
+		} else if (size == 3) {
+			transformInterleaved3(matrices, vectors, result, start, end);
+		} else if (size == 2) {
+			transformInterleaved2(matrices, vectors, result, start, end);
+		} else {
+			for (int i = start; i < end; i++) {
+				int m = i * size * size;
+				int v = i * size;
+				for (int r = 0; r < size; r++) {
+					float sum = 0;
+					for (int k = 0; k < size; k++) {
+						sum += matrices[m + r * size + k] * vectors[v + k];
+					}
+					result[v + r] = sum;
+				}
+			}
+		}
+	}
+	
+	private static void transformPlanar(int size, int count, float[] matrices, float[] vectors, float[] result, int start, int end) {
+		// Blocks are copied to rows in the same way as by multiplyPlanar
+		int length = size * size;
+		int blockSize = Math.min(PLANAR_BLOCK_SIZE, end - start);
+		float[][] matrixBlock = new float[length][blockSize];
+		float[][] vectorBlock = new float[size][blockSize];
+		float[] resultRow = new float[blockSize];
+		for (int blockStart = start; blockStart < end; blockStart += blockSize) {
+			int width = Math.min(blockSize, end - blockStart);
+			for (int e = 0; e < length; e++) {
+				System.arraycopy(matrices, e * count + blockStart, matrixBlock[e], 0, width);
+			}
+			for (int k = 0; k < size; k++) {
+				System.arraycopy(vectors, k * count + blockStart, vectorBlock[k], 0, width);
+			}
+			
+			for (int r = 0; r < size; r++) {
+				float[] matrixRow = matrixBlock[r * size];
+				float[] vectorRow = vectorBlock[0];
+				for (int i = 0; i < width; i++) {
+					resultRow[i] = matrixRow[i] * vectorRow[i];
+				}
+				for (int k = 1; k < size; k++) {
+					matrixRow = matrixBlock[r * size + k];
+					vectorRow = vectorBlock[k];
+					for (int i = 0; i < width; i++) {
+						resultRow[i] += matrixRow[i] * vectorRow[i];
+					}
+				}
+				System.arraycopy(resultRow, 0, result, r * count + blockStart, width);
+			}
+		}
+	}
+	
+	private static void multiplyInterleaved2(float[] matrices1, float[] matrices2, float[] result, int start, int end) {
+		for (int i = start * 4; i < end * 4; i += 4) {
+			float b00 = matrices2[i], b01 = matrices2[i + 1];
+			float b10 = matrices2[i + 2], b11 = matrices2[i + 3];
+			for (int r = i; r < i + 4; r += 2) {
+				float a0 = matrices1[r], a1 = matrices1[r + 1];
+				result[r] = a0 * b00 + a1 * b10;
+				result[r + 1] = a0 * b01 + a1 * b11;
+			}
+		}
+	}
+	
+	private static void multiplyInterleaved3(float[] matrices1, float[] matrices2, float[] result, int start, int end) {
+		for (int i = start * 9; i < end * 9; i += 9) {
+			float b00 = matrices2[i], b01 = matrices2[i + 1], b02 = matrices2[i + 2];
+			float b10 = matrices2[i + 3], b11 = matrices2[i + 4], b12 = matrices2[i + 5];
+			float b20 = matrices2[i + 6], b21 = matrices2[i + 7], b22 = matrices2[i + 8];
+			for (int r = i; r < i + 9; r += 3) {
+				float a0 = matrices1[r], a1 = matrices1[r + 1], a2 = matrices1[r + 2];
+				result[r] = a0 * b00 + a1 * b10 + a2 * b20;
+				result[r + 1] = a0 * b01 + a1 * b11 + a2 * b21;
+				result[r + 2] = a0 * b02 + a1 * b12 + a2 * b22;
+			}
+		}
+	}
+	
+	private static void multiplyInterleaved4(float[] matrices1, float[] matrices2, float[] result, int start, int end) {
+		for (int i = start * 16; i < end * 16; i += 16) {
+			float b00 = matrices2[i], b01 = matrices2[i + 1], b02 = matrices2[i + 2], b03 = matrices2[i + 3];
+			float b10 = matrices2[i + 4], b11 = matrices2[i + 5], b12 = matrices2[i + 6], b13 = matrices2[i + 7];
+			float b20 = matrices2[i + 8], b21 = matrices2[i + 9], b22 = matrices2[i + 10], b23 = matrices2[i + 11];
+			float b30 = matrices2[i + 12], b31 = matrices2[i + 13], b32 = matrices2[i + 14], b33 = matrices2[i + 15];
+			for (int r = i; r < i + 16; r += 4) {
+				float a0 = matrices1[r], a1 = matrices1[r + 1], a2 = matrices1[r + 2], a3 = matrices1[r + 3];
+				result[r] = a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+				result[r + 1] = a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+				result[r + 2] = a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+				result[r + 3] = a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+			}
+		}
+	}
+	
+	private static void transformInterleaved2(float[] matrices, float[] vectors, float[] result, int start, int end) {
+		for (int i = start; i < end; i++) {
+			int m = i * 4;
+			int v = i * 2;
+			float v0 = vectors[v], v1 = vectors[v + 1];
+			result[v] = matrices[m] * v0 + matrices[m + 1] * v1;
+			result[v + 1] = matrices[m + 2] * v0 + matrices[m + 3] * v1;
+		}
+	}
+	
+	private static void transformInterleaved3(float[] matrices, float[] vectors, float[] result, int start, int end) {
+		for (int i = start; i < end; i++) {
+			int m = i * 9;
+			int v = i * 3;
+			float v0 = vectors[v], v1 = vectors[v + 1], v2 = vectors[v + 2];
+			result[v] = matrices[m] * v0 + matrices[m + 1] * v1 + matrices[m + 2] * v2;
+			result[v + 1] = matrices[m + 3] * v0 + matrices[m + 4] * v1 + matrices[m + 5] * v2;
+			result[v + 2] = matrices[m + 6] * v0 + matrices[m + 7] * v1 + matrices[m + 8] * v2;
+		}
+	}
+	
+	private static void transformInterleaved4(float[] matrices, float[] vectors, float[] result, int start, int end) {
+		for (int i = start; i < end; i++) {
+			int m = i * 16;
+			int v = i * 4;
+			float v0 = vectors[v], v1 = vectors[v + 1], v2 = vectors[v + 2], v3 = vectors[v + 3];
+			result[v] = matrices[m] * v0 + matrices[m + 1] * v1 + matrices[m + 2] * v2 + matrices[m + 3] * v3;
+			result[v + 1] = matrices[m + 4] * v0 + matrices[m + 5] * v1 + matrices[m + 6] * v2 + matrices[m + 7] * v3;
+			result[v + 2] = matrices[m + 8] * v0 + matrices[m + 9] * v1 + matrices[m + 10] * v2 + matrices[m + 11] * v3;
+			result[v + 3] = matrices[m + 12] * v0 + matrices[m + 13] * v1 + matrices[m + 14] * v2 + matrices[m + 15] * v3;
+		}
+	}
+
+}
@@ -0,0 +1,429 @@
+package com.frostphyr.avail.math;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * An elementwise expression of matrices of {@code double}s that is 
+ * evaluated lazily. An expression such as {@code (a + b) * s + c} computed 
+ * with {@link MatrixUtils} takes one call per operator, each of which 
+ * reads and writes every element and allocates a temporary matrix. The 
+ * same expression built with this class,
+ * <pre>
+ * MatrixExpression.of(a).add(b).multiply(s).add(c).evaluate()
+ * </pre>
+ * only records the operators until it is evaluated, and then computes the 
+ * whole expression in a single pass over the matrices with no temporary 
+ * matrices at all.
+ * <p>
+ * An expression is evaluated a tile at a time. For each tile of the 
+ * result, every operator is applied to the corresponding tile of its 
+ * operands, which is small enough to stay in the processor's cache, so 
+ * each operand is read from memory once and the result is written to 
+ * memory once however many operators there are. The operators are applied 
+ * in the same order and with the same rounding as if they were applied 
+ * one matrix at a time, so the result is exactly the same.
+ * <p>
+ * Expressions are immutable and the operands are not copied, so changes 
+ * to an operand are visible the next time an expression that uses it is 
+ * evaluated. The operands must not change size after they are added to an 
+ * expression.
+ * 
+ * @see MatrixUtils
+ * @since 1.6
+ */
+public abstract class MatrixExpression {
+	
+	/**
+	 * The number of rows and columns of the tiles an expression is evaluated 
+	 * in.
+	 */
+	static final int TILE_SIZE = 128;
+	
+	private final int rows;
+	private final int columns;
+	
+	/**
+	 * The number of tiles needed to evaluate the expression, which is one 
+	 * for the result of each operator plus one for each operand that has to 
+	 * be evaluated while another is held.
+	 */
+	private final int levels;
+	
+	MatrixExpression(int rows, int columns, int levels) {
+		this.rows = rows;
+		this.columns = columns;
+		this.levels = levels;
+	}
+	
+	/**
+	 * Returns an expression whose value is {@code matrix}.
+	 * 
+	 * @param matrix the matrix
+	 * @return an expression whose value is {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static MatrixExpression of(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return new Operand(matrix);
+	}
+	
+	/**
+	 * Returns the number of rows of the value of this expression.
+	 * 
+	 * @return the number of rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of the value of this expression.
+	 * 
+	 * @return the number of columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns an expression whose value is the sum of this expression and 
+	 * {@code expression}.
+	 * 
+	 * @param expression the expression to add
+	 * @return the sum of this expression and {@code expression}
+	 * @throws IllegalArgumentException if {@code expression} is {@code null} 
+	 * or if its value is a different size than this expression's
+	 */
+	public MatrixExpression add(MatrixExpression expression) {
+		checkSize(expression);
+		return new Sum(this, expression, false);
+	}
+	
+	/**
+	 * Returns an expression whose value is the sum of this expression and 
+	 * {@code matrix}.
+	 * 
+	 * @param matrix the matrix to add
+	 * @return the sum of this expression and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it is a different size than the value of this expression
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public MatrixExpression add(double[][] matrix) {
+		return add(of(matrix));
+	}
+	
+	/**
+	 * Returns an expression whose value is the difference of this expression 
+	 * and {@code expression}.
+	 * 
+	 * @param expression the expression to subtract
+	 * @return the difference of this expression and {@code expression}
+	 * @throws IllegalArgumentException if {@code expression} is {@code null} 
+	 * or if its value is a different size than this expression's
+	 */
+	public MatrixExpression subtract(MatrixExpression expression) {
+		checkSize(expression);
+		return new Sum(this, expression, true);
+	}
+	
+	/**
+	 * Returns an expression whose value is the difference of this expression 
+	 * and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to subtract
+	 * @return the difference of this expression and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it is a different size than the value of this expression
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public MatrixExpression subtract(double[][] matrix) {
+		return subtract(of(matrix));
+	}
+	
+	/**
+	 * Returns an expression whose value is this expression multiplied by 
+	 * {@code scalar}.
+	 * 
+	 * @param scalar the scalar to multiply by
+	 * @return this expression multiplied by {@code scalar}
+	 */
+	public MatrixExpression multiply(double scalar) {
+		return new Product(this, scalar);
+	}
+	
+	/**
+	 * Returns an expression whose value is the negation of this expression.
+	 * 
+	 * @return the negation of this expression
+	 */
+	public MatrixExpression negate() {
+		return new Negation(this);
+	}
+	
+	/**
+	 * Returns an expression whose value is the transpose of this expression. 
+	 * The transpose isn't computed separately; the operands are read in 
+	 * transposed order when the expression is evaluated.
+	 * 
+	 * @return the transpose of this expression
+	 */
+	public MatrixExpression transpose() {
+		return new Transpose(this);
+	}
+	
+	/**
+	 * Evaluates this expression and returns its value in a new matrix.
+	 * 
+	 * @return the value of this expression
+	 * @throws IllegalArgumentException if any of the operands is no longer a 
+	 * valid matrix of the size it had when it was added to the expression
+	 */
+	public double[][] evaluate() {
+		return evaluate(new double[rows][columns]);
+	}
+	
+	/**
+	 * Evaluates this expression, stores its value in {@code result} and 
+	 * returns it. {@code result} may be one of the operands of the 
+	 * expression, in which case the expression is evaluated in place, as 
+	 * long as it is not read through {@link #transpose()}.
+	 * 
+	 * @param result the matrix to store the value in, which must be the same 
+	 * size as the value of this expression
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is not a valid 
+	 * matrix, if it is a different size than the value of this expression, 
+	 * if it is an operand that is read transposed or if any of the operands 
+	 * is no longer a valid matrix of the size it had when it was added to the 
+	 * expression
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public double[][] evaluate(double[][] result) {
+		if (!MatrixUtils.validateMatrix(result)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != rows || result[0].length != columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (!validate(result, false)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		int size = Math.min(TILE_SIZE, Math.max(rows, columns));
+		double[][][] tiles = new double[levels][size][size];
+		for (int row = 0; row < rows; row += TILE_SIZE) {
+			int height = Math.min(TILE_SIZE, rows - row);
+			for (int column = 0; column < columns; column += TILE_SIZE) {
+				int width = Math.min(TILE_SIZE, columns - column);
+				evaluate(row, column, height, width, tiles, 0);
+				double[][] tile = tiles[0];
+				for (int i = 0; i < height; i++) {
+					System.arraycopy(tile[i], 0, result[row + i], column, width);
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Stores the elements of the value of this expression in the 
+	 * {@code height} rows starting at {@code row} and the {@code width} 
+	 * columns starting at {@code column} in {@code tiles[level]}, starting 
+	 * at its first row and column. The tiles after {@code level} can be used 
+	 * as temporary storage.
+	 */
+	abstract void evaluate(int row, int column, int height, int width, double[][][] tiles, int level);
+	
+	/**
+	 * Returns whether every operand of this expression is still a valid 
+	 * matrix of its original size and {@code result} isn't read transposed, 
+	 * where {@code transposed} is whether this expression is itself read 
+	 * transposed.
+	 * 
+	 * @throws IllegalArgumentException if an operand is no longer valid
+	 */
+	abstract boolean validate(double[][] result, boolean transposed);
+	
+	private void checkSize(MatrixExpression expression) {
+		Argument.checkNotNull(expression, "expression");
+		if (expression.rows != rows || expression.columns != columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.toString();
+	}
+	
+	private static final class Operand extends MatrixExpression {
+		
+		private final double[][] matrix;
+		
+		Operand(double[][] matrix) {
+			super(matrix.length, matrix[0].length, 1);
+			this.matrix = matrix;
+		}
+		
+		@Override
+		void evaluate(int row, int column, int height, int width, double[][][] tiles, int level) {
+			double[][] tile = tiles[level];
+			for (int i = 0; i < height; i++) {
+				System.arraycopy(matrix[row + i], column, tile[i], 0, width);
+			}
+		}
+		
+		@Override
+		boolean validate(double[][] result, boolean transposed) {
+			if (!MatrixUtils.validateMatrix(matrix) || matrix.length != getRows() || matrix[0].length != getColumns()) {
+				throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+			}
+			
+			return !transposed || matrix != result;
+		}
+		
+	}
+	
+	private static final class Sum extends MatrixExpression {
+		
+		private final MatrixExpression left;
+		private final MatrixExpression right;
+		private final boolean subtract;
+		
+		Sum(MatrixExpression left, MatrixExpression right, boolean subtract) {
+			super(left.getRows(), left.getColumns(), Math.max(left.levels, right.levels + 1));
+			this.left = left;
+			this.right = right;
+			this.subtract = subtract;
+		}
+		
+		@Override
+		void evaluate(int row, int column, int height, int width, double[][][] tiles, int level) {
+			left.evaluate(row, column, height, width, tiles, level);
+			right.evaluate(row, column, height, width, tiles, level + 1);
+			double[][] tile = tiles[level];
+			double[][] operand = tiles[level + 1];
+			for (int i = 0; i < height; i++) {
+				double[] tileRow = tile[i];
+				double[] operandRow = operand[i];
+				if (subtract) {
+					for (int j = 0; j < width; j++) {
+						tileRow[j] -= operandRow[j];
+					}
+				} else {
+					for (int j = 0; j < width; j++) {
+						tileRow[j] += operandRow[j];
+					}
+				}
+			}
+		}
+		
+		@Override
+		boolean validate(double[][] result, boolean transposed) {
+			boolean valid = left.validate(result, transposed);
+			return right.validate(result, transposed) && valid;
+		}
+		
+	}
+	
+	private static final class Product extends MatrixExpression {
+		
+		private final MatrixExpression expression;
+		private final double scalar;
+		
+		Product(MatrixExpression expression, double scalar) {
+			super(expression.getRows(), expression.getColumns(), expression.levels);
+			this.expression = expression;
+			this.scalar = scalar;
+		}
+		
+		@Override
+		void evaluate(int row, int column, int height, int width, double[][][] tiles, int level) {
+			expression.evaluate(row, column, height, width, tiles, level);
+			double[][] tile = tiles[level];
+			for (int i = 0; i < height; i++) {
+				double[] tileRow = tile[i];
+				for (int j = 0; j < width; j++) {
+					tileRow[j] *= scalar;
+				}
+			}
+		}
+		
+		@Override
+		boolean validate(double[][] result, boolean transposed) {
+			return expression.validate(result, transposed);
+		}
+		
+	}
+	
+	private static final class Negation extends MatrixExpression {
+		
+		private final MatrixExpression expression;
+		
+		Negation(MatrixExpression expression) {
+			super(expression.getRows(), expression.getColumns(), expression.levels);
+			this.expression = expression;
+		}
+		
+		@Override
+		void evaluate(int row, int column, int height, int width, double[][][] tiles, int level) {
+			expression.evaluate(row, column, height, width, tiles, level);
+			double[][] tile = tiles[level];
+			for (int i = 0; i < height; i++) {
+				double[] tileRow = tile[i];
+				for (int j = 0; j < width; j++) {
+					tileRow[j] = -tileRow[j];
+				}
+			}
+		}
+		
+		@Override
+		boolean validate(double[][] result, boolean transposed) {
+			return expression.validate(result, transposed);
+		}
+		
+	}
+	
+	private static final class Transpose extends MatrixExpression {
+		
+		private final MatrixExpression expression;
+		
+		Transpose(MatrixExpression expression) {
+			super(expression.getColumns(), expression.getRows(), expression.levels + 1);
+			this.expression = expression;
+		}
+		
+		@Override
+		public MatrixExpression transpose() {
+			return expression;
+		}
+		
+		@Override
+		void evaluate(int row, int column, int height, int width, double[][][] tiles, int level) {
+			expression.evaluate(column, row, width, height, tiles, level + 1);
+			double[][] tile = tiles[level];
+			double[][] operand = tiles[level + 1];
+			for (int j = 0; j < width; j++) {
+				double[] operandRow = operand[j];
+				for (int i = 0; i < height; i++) {
+					tile[i][j] = operandRow[i];
+				}
+			}
+		}
+		
+		@Override
+		boolean validate(double[][] result, boolean transposed) {
+			return expression.validate(result, !transposed);
+		}
+		
+	}
+
+}
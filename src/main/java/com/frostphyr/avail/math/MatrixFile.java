@@ -0,0 +1,279 @@
+package com.frostphyr.avail.math;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.frostphyr.avail.Argument;
+
+/**
+ * Reads and writes matrices of {@code double}s in a simple binary file 
+ * format by mapping the files into memory, so that matrices which don't 
+ * fit in memory can be operated on a tile at a time with the operating 
+ * system paging their elements to and from disk.
+ * <p>
+ * A file consists of a 32 byte header followed by the elements in 
+ * row-major order. The header is made up of:
+ * <ul>
+ * <li>the magic number {@code 0x41564D58} ({@code "AVMX"} in ASCII)</li>
+ * <li>the version of the format as an {@code int}, currently 1</li>
+ * <li>the type of the elements as an {@code int}, which is 
+ * {@link #TYPE_DOUBLE}</li>
+ * <li>an {@code int} that is reserved and 0</li>
+ * <li>the number of rows as a {@code long}</li>
+ * <li>the number of columns as a {@code long}</li>
+ * </ul>
+ * All of the values, including the elements, are little-endian.
+ * <p>
+ * The matrices returned by this class are {@link OffHeapMatrix}es whose 
+ * elements are the contents of the file, so changes to a matrix opened 
+ * for writing are changes to the file. The file is unmapped when the 
+ * matrix is closed.
+ * 
+ * @see OffHeapMatrix
+ * @since 1.6
+ */
+public final class MatrixFile {
+	
+	/**
+	 * The type of a file whose elements are {@code double}s.
+	 */
+	public static final int TYPE_DOUBLE = 1;
+	
+	static final int MAGIC = 0x41564D58;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 32;
+	
+	static final String EXCEPTION_MESSAGE_NOT_MATRIX_FILE = "File is not a matrix file";
+	static final String EXCEPTION_MESSAGE_UNSUPPORTED_VERSION = "Unsupported matrix file version: ";
+	static final String EXCEPTION_MESSAGE_UNSUPPORTED_TYPE = "Unsupported matrix file type: ";
+	static final String EXCEPTION_MESSAGE_TRUNCATED = "Matrix file is truncated";
+	
+	private MatrixFile() {
+	}
+	
+	/**
+	 * Creates a file at {@code path} for a matrix with {@code rows} rows and 
+	 * {@code columns} columns where every element is 0, replacing any 
+	 * existing file, and returns the matrix mapped for reading and writing.
+	 * 
+	 * @param path the path of the file to create
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return the matrix mapped from the new file
+	 * @throws IllegalArgumentException if {@code path} is {@code null}, if 
+	 * {@code rows} or {@code columns} is less than 1 or if the matrix would 
+	 * need more than {@link Long#MAX_VALUE} bytes
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static OffHeapMatrix create(Path path, long rows, long columns) throws IOException {
+		return create(path, rows, columns, OffHeapMatrix.CHUNK_SHIFT);
+	}
+	
+	static OffHeapMatrix create(Path path, long rows, long columns, int chunkShift) throws IOException {
+		Argument.checkNotNull(path, "path");
+		long size = OffHeapMatrix.checkSize(rows, columns);
+		if (size > (Long.MAX_VALUE - HEADER_SIZE) / Double.BYTES) {
+			throw new IllegalArgumentException(OffHeapMatrix.EXCEPTION_MESSAGE_TOO_MANY_BYTES);
+		}
+		
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(MAGIC).putInt(VERSION).putInt(TYPE_DOUBLE).putInt(0).putLong(rows).putLong(columns);
+			((Buffer) header).flip();
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+			return map(channel, MapMode.READ_WRITE, rows, columns, chunkShift);
+		}
+	}
+	
+	/**
+	 * Returns the matrix in the file at {@code path} mapped for reading only. 
+	 * Attempting to modify the matrix throws a 
+	 * {@link java.nio.ReadOnlyBufferException}.
+	 * 
+	 * @param path the path of the file to open
+	 * @return the matrix mapped from the file
+	 * @throws IllegalArgumentException if {@code path} is {@code null}
+	 * @throws IOException if an I/O error occurs or if the file is not a 
+	 * valid matrix file
+	 */
+	public static OffHeapMatrix open(Path path) throws IOException {
+		return open(path, false);
+	}
+	
+	/**
+	 * Returns the matrix in the file at {@code path} mapped for reading and, 
+	 * if {@code writable} is {@code true}, writing.
+	 * 
+	 * @param path the path of the file to open
+	 * @param writable whether the matrix can be modified
+	 * @return the matrix mapped from the file
+	 * @throws IllegalArgumentException if {@code path} is {@code null}
+	 * @throws IOException if an I/O error occurs or if the file is not a 
+	 * valid matrix file
+	 */
+	public static OffHeapMatrix open(Path path, boolean writable) throws IOException {
+		return open(path, writable, OffHeapMatrix.CHUNK_SHIFT);
+	}
+	
+	static OffHeapMatrix open(Path path, boolean writable, int chunkShift) throws IOException {
+		Argument.checkNotNull(path, "path");
+		
+		try (FileChannel channel = writable
+				? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+				: FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException(EXCEPTION_MESSAGE_NOT_MATRIX_FILE);
+				}
+			}
+			((Buffer) header).flip();
+			if (header.getInt() != MAGIC) {
+				throw new IOException(EXCEPTION_MESSAGE_NOT_MATRIX_FILE);
+			}
+			int version = header.getInt();
+			if (version != VERSION) {
+				throw new IOException(EXCEPTION_MESSAGE_UNSUPPORTED_VERSION + version);
+			}
+			int type = header.getInt();
+			if (type != TYPE_DOUBLE) {
+				throw new IOException(EXCEPTION_MESSAGE_UNSUPPORTED_TYPE + type);
+			}
+			header.getInt();
+			long rows = header.getLong();
+			long columns = header.getLong();
+			long size;
+			try {
+				size = OffHeapMatrix.checkSize(rows, columns);
+			} catch (IllegalArgumentException e) {
+				throw new IOException(EXCEPTION_MESSAGE_NOT_MATRIX_FILE, e);
+			}
+			if (size > (channel.size() - HEADER_SIZE) / Double.BYTES) {
+				throw new IOException(EXCEPTION_MESSAGE_TRUNCATED);
+			}
+			return map(channel, writable ? MapMode.READ_WRITE : MapMode.READ_ONLY, rows, columns, chunkShift);
+		}
+	}
+	
+	private static OffHeapMatrix map(FileChannel channel, MapMode mode, long rows, long columns, int chunkShift) throws IOException {
+		long size = rows * columns;
+		ByteBuffer[] chunks = new ByteBuffer[OffHeapMatrix.chunkCount(size, chunkShift)];
+		try {
+			for (int i = 0; i < chunks.length; i++) {
+				long start = (long) i << chunkShift;
+				long elements = Math.min(1L << chunkShift, size - start);
+				chunks[i] = channel.map(mode, HEADER_SIZE + start * Double.BYTES, elements * Double.BYTES)
+						.order(ByteOrder.LITTLE_ENDIAN);
+			}
+		} catch (IOException | RuntimeException | Error e) {
+			for (ByteBuffer chunk : chunks) {
+				if (chunk != null) {
+					DirectBuffers.free(chunk);
+				}
+			}
+			throw e;
+		}
+		return new OffHeapMatrix(rows, columns, chunkShift, chunks);
+	}
+	
+	/**
+	 * Writes {@code matrix} to a file at {@code path}, replacing any existing 
+	 * file.
+	 * 
+	 * @param path the path of the file to write
+	 * @param matrix the matrix to write
+	 * @throws IllegalArgumentException if {@code path} is {@code null} or if 
+	 * {@code matrix} is not a valid matrix
+	 * @throws IOException if an I/O error occurs
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static void write(Path path, double[][] matrix) throws IOException {
+		Argument.checkNotNull(path, "path");
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		try (OffHeapMatrix result = create(path, matrix.length, matrix[0].length)) {
+			for (int r = 0; r < matrix.length; r++) {
+				result.write((long) r * matrix[r].length, matrix[r], 0, matrix[r].length);
+			}
+		}
+	}
+	
+	/**
+	 * Multiplies the matrices in the files at {@code path1} and 
+	 * {@code path2} and writes the product to a file at {@code resultPath}, 
+	 * replacing any existing file. The matrices are mapped from their files 
+	 * and multiplied a tile at a time as described by 
+	 * {@link OffHeapMatrix#multiply(OffHeapMatrix, OffHeapMatrix)}, so none 
+	 * of them needs to fit in memory.
+	 * 
+	 * @param path1 the path of the matrix to multiply
+	 * @param path2 the path of the matrix to multiply by
+	 * @param resultPath the path of the file to write the product to
+	 * @throws IllegalArgumentException if any of the paths is {@code null}, 
+	 * if the number of columns of the first matrix doesn't equal the number 
+	 * of rows of the second or if {@code resultPath} is the same file as 
+	 * either of the operands
+	 * @throws IOException if an I/O error occurs or if either operand is not 
+	 * a valid matrix file
+	 */
+	public static void multiply(Path path1, Path path2, Path resultPath) throws IOException {
+		Argument.checkNotNull(path1, "path1");
+		Argument.checkNotNull(path2, "path2");
+		checkResultPath(resultPath, path1, path2);
+		
+		try (OffHeapMatrix matrix1 = open(path1); OffHeapMatrix matrix2 = open(path2)) {
+			if (matrix1.getColumns() != matrix2.getRows()) {
+				throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+			}
+			
+			try (OffHeapMatrix result = create(resultPath, matrix1.getRows(), matrix2.getColumns())) {
+				matrix1.multiply(matrix2, result);
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the matrix in the file at {@code path} and writes the 
+	 * transpose to a file at {@code resultPath}, replacing any existing 
+	 * file. The matrix is transposed a tile at a time as described by 
+	 * {@link OffHeapMatrix#transpose(OffHeapMatrix)}, so neither matrix 
+	 * needs to fit in memory.
+	 * 
+	 * @param path the path of the matrix to transpose
+	 * @param resultPath the path of the file to write the transpose to
+	 * @throws IllegalArgumentException if either path is {@code null} or if 
+	 * they are the same file
+	 * @throws IOException if an I/O error occurs or if the operand is not a 
+	 * valid matrix file
+	 */
+	public static void transpose(Path path, Path resultPath) throws IOException {
+		Argument.checkNotNull(path, "path");
+		checkResultPath(resultPath, path, path);
+		
+		try (OffHeapMatrix matrix = open(path);
+				OffHeapMatrix result = create(resultPath, matrix.getColumns(), matrix.getRows())) {
+			matrix.transpose(result);
+		}
+	}
+	
+	private static void checkResultPath(Path resultPath, Path path1, Path path2) throws IOException {
+		Argument.checkNotNull(resultPath, "resultPath");
+		if (Files.exists(resultPath)
+				&& (Files.isSameFile(resultPath, path1) || Files.isSameFile(resultPath, path2))) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+	}
+
+}
@@ -0,0 +1,1671 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+/**
+ * Package-private kernels used by {@link MatrixUtils} once the arguments 
+ * have been validated. None of the methods check their arguments.
+ * 
+ * @since 1.6
+ */
+final class MatrixKernels {
+	
+	/**
+	 * The approximate number of bytes that a tile of the second operand of a 
+	 * multiplication may occupy. It is sized for a typical per-core L2 cache 
+	 * so that a tile stays resident while the rows of the first operand are 
+	 * streamed past it.
+	 */
+	static final int TILE_BYTES = 256 * 1024;
+	
+	/**
+	 * The smallest edge length a tile will be reduced to.
+	 */
+	static final int MIN_TILE_SIZE = 16;
+	
+	/**
+	 * The edge length of the square tiles a matrix is transposed in.
+	 */
+	static final int TRANSPOSE_TILE_SIZE = 32;
+	
+	/**
+	 * The number of rows of the result that 
+	 * {@link #multiplyExtended(float[][], float[][], float[][])} accumulates 
+	 * at a time. Each block reads all of the second operand, so larger 
+	 * blocks read it less often at the cost of a larger accumulator.
+	 */
+	static final int EXTENDED_ROW_BLOCK_SIZE = 64;
+	
+	private static final RowKernels ROWS = RowKernels.INSTANCE;
+	
+	/**
+	 * The scratch tiles of the flat multiplication kernels, kept for each 
+	 * thread so that multiplying into an existing result doesn't allocate 
+	 * once the thread has multiplied matrices of that size.
+	 */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+	
+	private MatrixKernels() {
+	}
+	
+	/**
+	 * Returns whether a multiplication whose second operand has 
+	 * {@code rows} rows and {@code columns} columns of {@code elementBytes} 
+	 * sized elements is large enough to benefit from tiling.
+	 */
+	static boolean isTiled(int rows, int columns, int elementBytes) {
+		return (long) rows * columns * elementBytes > TILE_BYTES;
+	}
+	
+	/**
+	 * Returns the number of columns of the second operand to process per 
+	 * tile.
+	 */
+	static int columnTileSize(int columns, int elementBytes) {
+		int size = (int) Math.sqrt(TILE_BYTES / elementBytes);
+		size = Math.max(MIN_TILE_SIZE, size - size % MIN_TILE_SIZE);
+		return Math.min(columns, size);
+	}
+	
+	/**
+	 * Returns the number of rows of the second operand to process per tile 
+	 * given the number of columns per tile, filling the remainder of 
+	 * {@link #TILE_BYTES}.
+	 */
+	static int rowTileSize(int rows, int columnTileSize, int elementBytes) {
+		int size = Math.max(MIN_TILE_SIZE, TILE_BYTES / (columnTileSize * elementBytes));
+		return Math.min(rows, size);
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}.
+	 * 
+	 * @see #multiply(int[][], int[][], int[][], int, int, int, int)
+	 */
+	static void multiply(int[][] matrix1, int[][] matrix2, int[][] result) {
+		multiply(matrix1, matrix2, result, 0, matrix1.length, 0, matrix2[0].length);
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to the block 
+	 * of {@code result} between the specified rows and columns. For every 
+	 * element of {@code result} the products are accumulated in the same 
+	 * order as the untiled loop, so the outcome is identical whether or not 
+	 * tiling is used and however the result is divided into blocks.
+	 */
+	static void multiply(int[][] matrix1, int[][] matrix2, int[][] result,
+			int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		int inner = matrix2.length;
+		if (!isTiled(inner, columnEnd - columnStart, Integer.BYTES)) {
+			for (int r1 = rowStart; r1 < rowEnd; r1++) {
+				int[] row1 = matrix1[r1];
+				int[] resultRow = result[r1];
+				for (int c1 = 0; c1 < inner; c1++) {
+					int value = row1[c1];
+					int[] row2 = matrix2[c1];
+					ROWS.multiplyAdd(value, row2, columnStart, resultRow, columnStart, columnEnd - columnStart);
+				}
+			}
+			return;
+		}
+		
+		int columnTile = columnTileSize(columnEnd - columnStart, Integer.BYTES);
+		int innerTile = rowTileSize(inner, columnTile, Integer.BYTES);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = columnStart; j < columnEnd; j += columnTile) {
+				int columnTileEnd = Math.min(j + columnTile, columnEnd);
+				for (int r1 = rowStart; r1 < rowEnd; r1++) {
+					int[] row1 = matrix1[r1];
+					int[] resultRow = result[r1];
+					for (int c1 = i; c1 < innerEnd; c1++) {
+						int value = row1[c1];
+						int[] row2 = matrix2[c1];
+						ROWS.multiplyAdd(value, row2, j, resultRow, j, columnTileEnd - j);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}.
+	 * 
+	 * @see #multiply(long[][], long[][], long[][], int, int, int, int)
+	 */
+	static void multiply(long[][] matrix1, long[][] matrix2, long[][] result) {
+		multiply(matrix1, matrix2, result, 0, matrix1.length, 0, matrix2[0].length);
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to the block 
+	 * of {@code result} between the specified rows and columns. For every 
+	 * element of {@code result} the products are accumulated in the same 
+	 * order as the untiled loop, so the outcome is identical whether or not 
+	 * tiling is used and however the result is divided into blocks.
+	 */
+	static void multiply(long[][] matrix1, long[][] matrix2, long[][] result,
+			int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		int inner = matrix2.length;
+		if (!isTiled(inner, columnEnd - columnStart, Long.BYTES)) {
+			for (int r1 = rowStart; r1 < rowEnd; r1++) {
+				long[] row1 = matrix1[r1];
+				long[] resultRow = result[r1];
+				for (int c1 = 0; c1 < inner; c1++) {
+					long value = row1[c1];
+					long[] row2 = matrix2[c1];
+					for (int c2 = columnStart; c2 < columnEnd; c2++) {
+						resultRow[c2] += value * row2[c2];
+					}
+				}
+			}
+			return;
+		}
+		
+		int columnTile = columnTileSize(columnEnd - columnStart, Long.BYTES);
+		int innerTile = rowTileSize(inner, columnTile, Long.BYTES);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = columnStart; j < columnEnd; j += columnTile) {
+				int columnTileEnd = Math.min(j + columnTile, columnEnd);
+				for (int r1 = rowStart; r1 < rowEnd; r1++) {
+					long[] row1 = matrix1[r1];
+					long[] resultRow = result[r1];
+					for (int c1 = i; c1 < innerEnd; c1++) {
+						long value = row1[c1];
+						long[] row2 = matrix2[c1];
+						for (int c2 = j; c2 < columnTileEnd; c2++) {
+							resultRow[c2] += value * row2[c2];
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}.
+	 * 
+	 * @see #multiply(float[][], float[][], float[][], int, int, int, int)
+	 */
+	static void multiply(float[][] matrix1, float[][] matrix2, float[][] result) {
+		multiply(matrix1, matrix2, result, 0, matrix1.length, 0, matrix2[0].length);
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to the block 
+	 * of {@code result} between the specified rows and columns. For every 
+	 * element of {@code result} the products are accumulated in the same 
+	 * order as the untiled loop, so the outcome is identical whether or not 
+	 * tiling is used and however the result is divided into blocks.
+	 */
+	static void multiply(float[][] matrix1, float[][] matrix2, float[][] result,
+			int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		int inner = matrix2.length;
+		if (!isTiled(inner, columnEnd - columnStart, Float.BYTES)) {
+			for (int r1 = rowStart; r1 < rowEnd; r1++) {
+				float[] row1 = matrix1[r1];
+				float[] resultRow = result[r1];
+				for (int c1 = 0; c1 < inner; c1++) {
+					float value = row1[c1];
+					float[] row2 = matrix2[c1];
+					ROWS.multiplyAdd(value, row2, columnStart, resultRow, columnStart, columnEnd - columnStart);
+				}
+			}
+			return;
+		}
+		
+		int columnTile = columnTileSize(columnEnd - columnStart, Float.BYTES);
+		int innerTile = rowTileSize(inner, columnTile, Float.BYTES);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = columnStart; j < columnEnd; j += columnTile) {
+				int columnTileEnd = Math.min(j + columnTile, columnEnd);
+				for (int r1 = rowStart; r1 < rowEnd; r1++) {
+					float[] row1 = matrix1[r1];
+					float[] resultRow = result[r1];
+					for (int c1 = i; c1 < innerEnd; c1++) {
+						float value = row1[c1];
+						float[] row2 = matrix2[c1];
+						ROWS.multiplyAdd(value, row2, j, resultRow, j, columnTileEnd - j);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}.
+	 * 
+	 * @see #multiply(double[][], double[][], double[][], int, int, int, int)
+	 */
+	static void multiply(double[][] matrix1, double[][] matrix2, double[][] result) {
+		multiply(matrix1, matrix2, result, 0, matrix1.length, 0, matrix2[0].length);
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to the block 
+	 * of {@code result} between the specified rows and columns. For every 
+	 * element of {@code result} the products are accumulated in the same 
+	 * order as the untiled loop, so the outcome is identical whether or not 
+	 * tiling is used and however the result is divided into blocks.
+	 */
+	static void multiply(double[][] matrix1, double[][] matrix2, double[][] result,
+			int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		int inner = matrix2.length;
+		if (!isTiled(inner, columnEnd - columnStart, Double.BYTES)) {
+			for (int r1 = rowStart; r1 < rowEnd; r1++) {
+				double[] row1 = matrix1[r1];
+				double[] resultRow = result[r1];
+				for (int c1 = 0; c1 < inner; c1++) {
+					double value = row1[c1];
+					double[] row2 = matrix2[c1];
+					ROWS.multiplyAdd(value, row2, columnStart, resultRow, columnStart, columnEnd - columnStart);
+				}
+			}
+			return;
+		}
+		
+		int columnTile = columnTileSize(columnEnd - columnStart, Double.BYTES);
+		int innerTile = rowTileSize(inner, columnTile, Double.BYTES);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = columnStart; j < columnEnd; j += columnTile) {
+				int columnTileEnd = Math.min(j + columnTile, columnEnd);
+				for (int r1 = rowStart; r1 < rowEnd; r1++) {
+					double[] row1 = matrix1[r1];
+					double[] resultRow = result[r1];
+					for (int c1 = i; c1 < innerEnd; c1++) {
+						double value = row1[c1];
+						double[] row2 = matrix2[c1];
+						ROWS.multiplyAdd(value, row2, j, resultRow, j, columnTileEnd - j);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}, where each is a flat row-major matrix described by its 
+	 * array, the index of its first element and the distance between the 
+	 * first elements of consecutive rows.
+	 * <p>
+	 * Each tile of {@code matrix2} is copied into separate rows, and each 
+	 * row of the tile of {@code result} into a scratch row, before they are 
+	 * multiplied. The inner loop then indexes both of its arrays from 0, 
+	 * which the JIT compiler vectorizes far more reliably than two arrays 
+	 * indexed from unrelated offsets. The scratch rows belong to the calling 
+	 * thread and are reused by later calls.
+	 */
+	static void multiply(int[] matrix1, int offset1, int stride1, int[] matrix2, int offset2, int stride2,
+			int[] result, int offset, int stride, int rows, int inner, int columns) {
+		int columnTile = columns;
+		int innerTile = inner;
+		if (isTiled(inner, columns, Integer.BYTES)) {
+			columnTile = columnTileSize(columns, Integer.BYTES);
+			innerTile = rowTileSize(inner, columnTile, Integer.BYTES);
+		}
+		
+		Scratch scratch = SCRATCH.get();
+		int[][] tile = scratch.intTile(innerTile, columnTile);
+		int[] resultTile = scratch.intRow(columnTile);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = 0; j < columns; j += columnTile) {
+				int width = Math.min(j + columnTile, columns) - j;
+				for (int k = i; k < innerEnd; k++) {
+					System.arraycopy(matrix2, offset2 + k * stride2 + j, tile[k - i], 0, width);
+				}
+				
+				for (int r = 0; r < rows; r++) {
+					int row1 = offset1 + r * stride1;
+					int resultRow = offset + r * stride + j;
+					System.arraycopy(result, resultRow, resultTile, 0, width);
+					for (int k = i; k < innerEnd; k++) {
+						ROWS.multiplyAdd(matrix1[row1 + k], tile[k - i], 0, resultTile, 0, width);
+					}
+					System.arraycopy(resultTile, 0, result, resultRow, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the sum of the flat row-major matrices {@code matrix1} and 
+	 * {@code matrix2} in {@code result}.
+	 * 
+	 * @see #multiply(int[], int, int, int[], int, int, int[], int, int, int, int, int)
+	 */
+	static void add(int[] matrix1, int offset1, int stride1, int[] matrix2, int offset2, int stride2,
+			int[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int row2 = offset2 + r * stride2;
+			int resultRow = offset + r * stride;
+			ROWS.add(matrix1, row1, matrix2, row2, result, resultRow, columns);
+		}
+	}
+	
+	/**
+	 * Stores the product of the flat row-major {@code matrix} and 
+	 * {@code scalar} in {@code result}.
+	 * 
+	 * @see #multiply(int[], int, int, int[], int, int, int[], int, int, int, int, int)
+	 */
+	static void multiply(int[] matrix, int offset1, int stride1, int scalar,
+			int[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int resultRow = offset + r * stride;
+			ROWS.multiply(matrix, row1, scalar, result, resultRow, columns);
+		}
+	}
+	
+	/**
+	 * Stores the transpose of the flat row-major {@code matrix}, which has 
+	 * {@code rows} rows and {@code columns} columns, in {@code result}. The 
+	 * matrix is copied in square tiles so that both the reads and the writes 
+	 * stay within a few cache lines at a time.
+	 * 
+	 * @see #multiply(int[], int, int, int[], int, int, int[], int, int, int, int, int)
+	 */
+	static void transpose(int[] matrix, int offset1, int stride1,
+			int[] result, int offset, int stride, int rows, int columns) {
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					int row1 = offset1 + r * stride1;
+					for (int c = j; c < columnEnd; c++) {
+						result[offset + c * stride + r] = matrix[row1 + c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}, where each is a flat row-major matrix described by its 
+	 * array, the index of its first element and the distance between the 
+	 * first elements of consecutive rows.
+	 * <p>
+	 * Each tile of {@code matrix2} is copied into separate rows, and each 
+	 * row of the tile of {@code result} into a scratch row, before they are 
+	 * multiplied. The inner loop then indexes both of its arrays from 0, 
+	 * which the JIT compiler vectorizes far more reliably than two arrays 
+	 * indexed from unrelated offsets. The scratch rows belong to the calling 
+	 * thread and are reused by later calls.
+	 */
+	static void multiply(long[] matrix1, int offset1, int stride1, long[] matrix2, int offset2, int stride2,
+			long[] result, int offset, int stride, int rows, int inner, int columns) {
+		int columnTile = columns;
+		int innerTile = inner;
+		if (isTiled(inner, columns, Long.BYTES)) {
+			columnTile = columnTileSize(columns, Long.BYTES);
+			innerTile = rowTileSize(inner, columnTile, Long.BYTES);
+		}
+		
+		Scratch scratch = SCRATCH.get();
+		long[][] tile = scratch.longTile(innerTile, columnTile);
+		long[] resultTile = scratch.longRow(columnTile);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = 0; j < columns; j += columnTile) {
+				int width = Math.min(j + columnTile, columns) - j;
+				for (int k = i; k < innerEnd; k++) {
+					System.arraycopy(matrix2, offset2 + k * stride2 + j, tile[k - i], 0, width);
+				}
+				
+				for (int r = 0; r < rows; r++) {
+					int row1 = offset1 + r * stride1;
+					int resultRow = offset + r * stride + j;
+					System.arraycopy(result, resultRow, resultTile, 0, width);
+					for (int k = i; k < innerEnd; k++) {
+						long value = matrix1[row1 + k];
+						long[] tileRow = tile[k - i];
+						for (int c = 0; c < width; c++) {
+							resultTile[c] += value * tileRow[c];
+						}
+					}
+					System.arraycopy(resultTile, 0, result, resultRow, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the sum of the flat row-major matrices {@code matrix1} and 
+	 * {@code matrix2} in {@code result}.
+	 * 
+	 * @see #multiply(long[], int, int, long[], int, int, long[], int, int, int, int, int)
+	 */
+	static void add(long[] matrix1, int offset1, int stride1, long[] matrix2, int offset2, int stride2,
+			long[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int row2 = offset2 + r * stride2;
+			int resultRow = offset + r * stride;
+			for (int c = 0; c < columns; c++) {
+				result[resultRow + c] = matrix1[row1 + c] + matrix2[row2 + c];
+			}
+		}
+	}
+	
+	/**
+	 * Stores the product of the flat row-major {@code matrix} and 
+	 * {@code scalar} in {@code result}.
+	 * 
+	 * @see #multiply(long[], int, int, long[], int, int, long[], int, int, int, int, int)
+	 */
+	static void multiply(long[] matrix, int offset1, int stride1, long scalar,
+			long[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int resultRow = offset + r * stride;
+			for (int c = 0; c < columns; c++) {
+				result[resultRow + c] = matrix[row1 + c] * scalar;
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of the flat row-major {@code matrix}, which has 
+	 * {@code rows} rows and {@code columns} columns, in {@code result}. The 
+	 * matrix is copied in square tiles so that both the reads and the writes 
+	 * stay within a few cache lines at a time.
+	 * 
+	 * @see #multiply(long[], int, int, long[], int, int, long[], int, int, int, int, int)
+	 */
+	static void transpose(long[] matrix, int offset1, int stride1,
+			long[] result, int offset, int stride, int rows, int columns) {
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					int row1 = offset1 + r * stride1;
+					for (int c = j; c < columnEnd; c++) {
+						result[offset + c * stride + r] = matrix[row1 + c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}, where each is a flat row-major matrix described by its 
+	 * array, the index of its first element and the distance between the 
+	 * first elements of consecutive rows.
+	 * <p>
+	 * Each tile of {@code matrix2} is copied into separate rows, and each 
+	 * row of the tile of {@code result} into a scratch row, before they are 
+	 * multiplied. The inner loop then indexes both of its arrays from 0, 
+	 * which the JIT compiler vectorizes far more reliably than two arrays 
+	 * indexed from unrelated offsets. The scratch rows belong to the calling 
+	 * thread and are reused by later calls.
+	 */
+	static void multiply(float[] matrix1, int offset1, int stride1, float[] matrix2, int offset2, int stride2,
+			float[] result, int offset, int stride, int rows, int inner, int columns) {
+		int columnTile = columns;
+		int innerTile = inner;
+		if (isTiled(inner, columns, Float.BYTES)) {
+			columnTile = columnTileSize(columns, Float.BYTES);
+			innerTile = rowTileSize(inner, columnTile, Float.BYTES);
+		}
+		
+		Scratch scratch = SCRATCH.get();
+		float[][] tile = scratch.floatTile(innerTile, columnTile);
+		float[] resultTile = scratch.floatRow(columnTile);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = 0; j < columns; j += columnTile) {
+				int width = Math.min(j + columnTile, columns) - j;
+				for (int k = i; k < innerEnd; k++) {
+					System.arraycopy(matrix2, offset2 + k * stride2 + j, tile[k - i], 0, width);
+				}
+				
+				for (int r = 0; r < rows; r++) {
+					int row1 = offset1 + r * stride1;
+					int resultRow = offset + r * stride + j;
+					System.arraycopy(result, resultRow, resultTile, 0, width);
+					for (int k = i; k < innerEnd; k++) {
+						ROWS.multiplyAdd(matrix1[row1 + k], tile[k - i], 0, resultTile, 0, width);
+					}
+					System.arraycopy(resultTile, 0, result, resultRow, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the sum of the flat row-major matrices {@code matrix1} and 
+	 * {@code matrix2} in {@code result}.
+	 * 
+	 * @see #multiply(float[], int, int, float[], int, int, float[], int, int, int, int, int)
+	 */
+	static void add(float[] matrix1, int offset1, int stride1, float[] matrix2, int offset2, int stride2,
+			float[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int row2 = offset2 + r * stride2;
+			int resultRow = offset + r * stride;
+			ROWS.add(matrix1, row1, matrix2, row2, result, resultRow, columns);
+		}
+	}
+	
+	/**
+	 * Stores the product of the flat row-major {@code matrix} and 
+	 * {@code scalar} in {@code result}.
+	 * 
+	 * @see #multiply(float[], int, int, float[], int, int, float[], int, int, int, int, int)
+	 */
+	static void multiply(float[] matrix, int offset1, int stride1, float scalar,
+			float[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int resultRow = offset + r * stride;
+			ROWS.multiply(matrix, row1, scalar, result, resultRow, columns);
+		}
+	}
+	
+	/**
+	 * Stores the transpose of the flat row-major {@code matrix}, which has 
+	 * {@code rows} rows and {@code columns} columns, in {@code result}. The 
+	 * matrix is copied in square tiles so that both the reads and the writes 
+	 * stay within a few cache lines at a time.
+	 * 
+	 * @see #multiply(float[], int, int, float[], int, int, float[], int, int, int, int, int)
+	 */
+	static void transpose(float[] matrix, int offset1, int stride1,
+			float[] result, int offset, int stride, int rows, int columns) {
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					int row1 = offset1 + r * stride1;
+					for (int c = j; c < columnEnd; c++) {
+						result[offset + c * stride + r] = matrix[row1 + c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}, where each is a flat row-major matrix described by its 
+	 * array, the index of its first element and the distance between the 
+	 * first elements of consecutive rows.
+	 * <p>
+	 * Each tile of {@code matrix2} is copied into separate rows, and each 
+	 * row of the tile of {@code result} into a scratch row, before they are 
+	 * multiplied. The inner loop then indexes both of its arrays from 0, 
+	 * which the JIT compiler vectorizes far more reliably than two arrays 
+	 * indexed from unrelated offsets. The scratch rows belong to the calling 
+	 * thread and are reused by later calls.
+	 */
+	static void multiply(double[] matrix1, int offset1, int stride1, double[] matrix2, int offset2, int stride2,
+			double[] result, int offset, int stride, int rows, int inner, int columns) {
+		int columnTile = columns;
+		int innerTile = inner;
+		if (isTiled(inner, columns, Double.BYTES)) {
+			columnTile = columnTileSize(columns, Double.BYTES);
+			innerTile = rowTileSize(inner, columnTile, Double.BYTES);
+		}
+		
+		Scratch scratch = SCRATCH.get();
+		double[][] tile = scratch.doubleTile(innerTile, columnTile);
+		double[] resultTile = scratch.doubleRow(columnTile);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = 0; j < columns; j += columnTile) {
+				int width = Math.min(j + columnTile, columns) - j;
+				for (int k = i; k < innerEnd; k++) {
+					System.arraycopy(matrix2, offset2 + k * stride2 + j, tile[k - i], 0, width);
+				}
+				
+				for (int r = 0; r < rows; r++) {
+					int row1 = offset1 + r * stride1;
+					int resultRow = offset + r * stride + j;
+					System.arraycopy(result, resultRow, resultTile, 0, width);
+					for (int k = i; k < innerEnd; k++) {
+						ROWS.multiplyAdd(matrix1[row1 + k], tile[k - i], 0, resultTile, 0, width);
+					}
+					System.arraycopy(resultTile, 0, result, resultRow, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the sum of the flat row-major matrices {@code matrix1} and 
+	 * {@code matrix2} in {@code result}.
+	 * 
+	 * @see #multiply(double[], int, int, double[], int, int, double[], int, int, int, int, int)
+	 */
+	static void add(double[] matrix1, int offset1, int stride1, double[] matrix2, int offset2, int stride2,
+			double[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int row2 = offset2 + r * stride2;
+			int resultRow = offset + r * stride;
+			ROWS.add(matrix1, row1, matrix2, row2, result, resultRow, columns);
+		}
+	}
+	
+	/**
+	 * Stores the product of the flat row-major {@code matrix} and 
+	 * {@code scalar} in {@code result}.
+	 * 
+	 * @see #multiply(double[], int, int, double[], int, int, double[], int, int, int, int, int)
+	 */
+	static void multiply(double[] matrix, int offset1, int stride1, double scalar,
+			double[] result, int offset, int stride, int rows, int columns) {
+		for (int r = 0; r < rows; r++) {
+			int row1 = offset1 + r * stride1;
+			int resultRow = offset + r * stride;
+			ROWS.multiply(matrix, row1, scalar, result, resultRow, columns);
+		}
+	}
+	
+	/**
+	 * Stores the transpose of the flat row-major {@code matrix}, which has 
+	 * {@code rows} rows and {@code columns} columns, in {@code result}. The 
+	 * matrix is copied in square tiles so that both the reads and the writes 
+	 * stay within a few cache lines at a time.
+	 * 
+	 * @see #multiply(double[], int, int, double[], int, int, double[], int, int, int, int, int)
+	 */
+	static void transpose(double[] matrix, int offset1, int stride1,
+			double[] result, int offset, int stride, int rows, int columns) {
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					int row1 = offset1 + r * stride1;
+					for (int c = j; c < columnEnd; c++) {
+						result[offset + c * stride + r] = matrix[row1 + c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, which may be either operand.
+	 */
+	static void add(int[][] matrix1, int[][] matrix2, int[][] result) {
+		add(matrix1, matrix2, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the sum of the rows of {@code matrix1} and {@code matrix2} 
+	 * between {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) 
+	 * in {@code result}, which may be either operand.
+	 */
+	static void add(int[][] matrix1, int[][] matrix2, int[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			int[] row1 = matrix1[r];
+			int[] row2 = matrix2[r];
+			int[] resultRow = result[r];
+			ROWS.add(row1, 0, row2, 0, resultRow, 0, resultRow.length);
+		}
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(int[][] matrix, int scalar, int[][] result) {
+		multiply(matrix, scalar, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the product of the rows of {@code matrix} between 
+	 * {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) and 
+	 * {@code scalar} in {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(int[][] matrix, int scalar, int[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			int[] row = matrix[r];
+			int[] resultRow = result[r];
+			ROWS.multiply(row, 0, scalar, resultRow, 0, resultRow.length);
+		}
+	}
+	
+	/**
+	 * Sets every element of {@code matrix} to {@code value}.
+	 */
+	static void fill(int[][] matrix, int value) {
+		for (int[] row : matrix) {
+			Arrays.fill(row, value);
+		}
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, which may be either operand.
+	 */
+	static void add(long[][] matrix1, long[][] matrix2, long[][] result) {
+		add(matrix1, matrix2, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the sum of the rows of {@code matrix1} and {@code matrix2} 
+	 * between {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) 
+	 * in {@code result}, which may be either operand.
+	 */
+	static void add(long[][] matrix1, long[][] matrix2, long[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			long[] row1 = matrix1[r];
+			long[] row2 = matrix2[r];
+			long[] resultRow = result[r];
+			for (int c = 0; c < resultRow.length; c++) {
+				resultRow[c] = row1[c] + row2[c];
+			}
+		}
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(long[][] matrix, long scalar, long[][] result) {
+		multiply(matrix, scalar, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the product of the rows of {@code matrix} between 
+	 * {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) and 
+	 * {@code scalar} in {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(long[][] matrix, long scalar, long[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			long[] row = matrix[r];
+			long[] resultRow = result[r];
+			for (int c = 0; c < resultRow.length; c++) {
+				resultRow[c] = row[c] * scalar;
+			}
+		}
+	}
+	
+	/**
+	 * Sets every element of {@code matrix} to {@code value}.
+	 */
+	static void fill(long[][] matrix, long value) {
+		for (long[] row : matrix) {
+			Arrays.fill(row, value);
+		}
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, which may be either operand.
+	 */
+	static void add(float[][] matrix1, float[][] matrix2, float[][] result) {
+		add(matrix1, matrix2, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the sum of the rows of {@code matrix1} and {@code matrix2} 
+	 * between {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) 
+	 * in {@code result}, which may be either operand.
+	 */
+	static void add(float[][] matrix1, float[][] matrix2, float[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			float[] row1 = matrix1[r];
+			float[] row2 = matrix2[r];
+			float[] resultRow = result[r];
+			ROWS.add(row1, 0, row2, 0, resultRow, 0, resultRow.length);
+		}
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(float[][] matrix, float scalar, float[][] result) {
+		multiply(matrix, scalar, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the product of the rows of {@code matrix} between 
+	 * {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) and 
+	 * {@code scalar} in {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(float[][] matrix, float scalar, float[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			float[] row = matrix[r];
+			float[] resultRow = result[r];
+			ROWS.multiply(row, 0, scalar, resultRow, 0, resultRow.length);
+		}
+	}
+	
+	/**
+	 * Sets every element of {@code matrix} to {@code value}.
+	 */
+	static void fill(float[][] matrix, float value) {
+		for (float[] row : matrix) {
+			Arrays.fill(row, value);
+		}
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, which may be either operand.
+	 */
+	static void add(double[][] matrix1, double[][] matrix2, double[][] result) {
+		add(matrix1, matrix2, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the sum of the rows of {@code matrix1} and {@code matrix2} 
+	 * between {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) 
+	 * in {@code result}, which may be either operand.
+	 */
+	static void add(double[][] matrix1, double[][] matrix2, double[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			double[] row1 = matrix1[r];
+			double[] row2 = matrix2[r];
+			double[] resultRow = result[r];
+			ROWS.add(row1, 0, row2, 0, resultRow, 0, resultRow.length);
+		}
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(double[][] matrix, double scalar, double[][] result) {
+		multiply(matrix, scalar, result, 0, result.length);
+	}
+	
+	/**
+	 * Stores the product of the rows of {@code matrix} between 
+	 * {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) and 
+	 * {@code scalar} in {@code result}, which may be {@code matrix}.
+	 */
+	static void multiply(double[][] matrix, double scalar, double[][] result, int rowStart, int rowEnd) {
+		for (int r = rowStart; r < rowEnd; r++) {
+			double[] row = matrix[r];
+			double[] resultRow = result[r];
+			ROWS.multiply(row, 0, scalar, resultRow, 0, resultRow.length);
+		}
+	}
+	
+	/**
+	 * Sets every element of {@code matrix} to {@code value}.
+	 */
+	static void fill(double[][] matrix, double value) {
+		for (double[] row : matrix) {
+			Arrays.fill(row, value);
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(byte[][] matrix, byte[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					byte[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(byte[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				byte[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					byte value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					byte[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						byte value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(short[][] matrix, short[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					short[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(short[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				short[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					short value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					short[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						short value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(int[][] matrix, int[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					int[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(int[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				int[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					int value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					int[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						int value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(long[][] matrix, long[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					long[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(long[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				long[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					long value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					long[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						long value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(float[][] matrix, float[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					float[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(float[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				float[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					float value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					float[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						float value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(double[][] matrix, double[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					double[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(double[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				double[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					double value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					double[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						double value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(char[][] matrix, char[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					char[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(char[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				char[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					char value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					char[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						char value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(boolean[][] matrix, boolean[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					boolean[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(boolean[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				boolean[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					boolean value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					boolean[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						boolean value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result}. The 
+	 * matrix is copied in square tiles so that the writes to each row of 
+	 * {@code result} stay within a few cache lines at a time rather than 
+	 * touching a different row for every element.
+	 */
+	static void transpose(Object[][] matrix, Object[][] result) {
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		for (int i = 0; i < rows; i += TRANSPOSE_TILE_SIZE) {
+			int rowEnd = Math.min(i + TRANSPOSE_TILE_SIZE, rows);
+			for (int j = 0; j < columns; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, columns);
+				for (int r = i; r < rowEnd; r++) {
+					Object[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						result[c][r] = row[c];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place by swapping the 
+	 * elements on either side of the diagonal, one pair of tiles at a time.
+	 */
+	static void transposeInPlace(Object[][] matrix) {
+		int size = matrix.length;
+		for (int i = 0; i < size; i += TRANSPOSE_TILE_SIZE) {
+			int tileEnd = Math.min(i + TRANSPOSE_TILE_SIZE, size);
+			for (int r = i; r < tileEnd; r++) {
+				Object[] row = matrix[r];
+				for (int c = r + 1; c < tileEnd; c++) {
+					Object value = row[c];
+					row[c] = matrix[c][r];
+					matrix[c][r] = value;
+				}
+			}
+			
+			for (int j = tileEnd; j < size; j += TRANSPOSE_TILE_SIZE) {
+				int columnEnd = Math.min(j + TRANSPOSE_TILE_SIZE, size);
+				for (int r = i; r < tileEnd; r++) {
+					Object[] row = matrix[r];
+					for (int c = j; c < columnEnd; c++) {
+						Object value = row[c];
+						row[c] = matrix[c][r];
+						matrix[c][r] = value;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}, widening every element to {@code int} before it is 
+	 * multiplied. Each tile of {@code matrix2} is widened into separate rows 
+	 * of a scratch tile, so that the inner loop is the same 
+	 * {@code int} row update as the other multiplications. The scratch tile 
+	 * belongs to the calling thread and is reused by later calls.
+	 */
+	static void multiplyWide(byte[][] matrix1, byte[][] matrix2, int[][] result) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		int columnTile = columns;
+		int innerTile = inner;
+		if (isTiled(inner, columns, Integer.BYTES)) {
+			columnTile = columnTileSize(columns, Integer.BYTES);
+			innerTile = rowTileSize(inner, columnTile, Integer.BYTES);
+		}
+		
+		Scratch scratch = SCRATCH.get();
+		int[][] tile = scratch.intTile(innerTile, columnTile);
+		int[] resultTile = scratch.intRow(columnTile);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = 0; j < columns; j += columnTile) {
+				int width = Math.min(j + columnTile, columns) - j;
+				for (int k = i; k < innerEnd; k++) {
+					byte[] row2 = matrix2[k];
+					int[] tileRow = tile[k - i];
+					for (int c = 0; c < width; c++) {
+						tileRow[c] = row2[j + c];
+					}
+				}
+				
+				for (int r = 0; r < result.length; r++) {
+					byte[] row1 = matrix1[r];
+					int[] resultRow = result[r];
+					System.arraycopy(resultRow, j, resultTile, 0, width);
+					for (int k = i; k < innerEnd; k++) {
+						ROWS.multiplyAdd(row1[k], tile[k - i], 0, resultTile, 0, width);
+					}
+					System.arraycopy(resultTile, 0, resultRow, j, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}, widening every element to {@code long} before it is 
+	 * multiplied. Each tile of {@code matrix2} is widened into separate rows 
+	 * of a scratch tile, so that the inner loop is the same 
+	 * {@code long} row update as the other multiplications. The scratch tile 
+	 * belongs to the calling thread and is reused by later calls.
+	 */
+	static void multiplyWide(short[][] matrix1, short[][] matrix2, long[][] result) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		int columnTile = columns;
+		int innerTile = inner;
+		if (isTiled(inner, columns, Long.BYTES)) {
+			columnTile = columnTileSize(columns, Long.BYTES);
+			innerTile = rowTileSize(inner, columnTile, Long.BYTES);
+		}
+		
+		Scratch scratch = SCRATCH.get();
+		long[][] tile = scratch.longTile(innerTile, columnTile);
+		long[] resultTile = scratch.longRow(columnTile);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = 0; j < columns; j += columnTile) {
+				int width = Math.min(j + columnTile, columns) - j;
+				for (int k = i; k < innerEnd; k++) {
+					short[] row2 = matrix2[k];
+					long[] tileRow = tile[k - i];
+					for (int c = 0; c < width; c++) {
+						tileRow[c] = row2[j + c];
+					}
+				}
+				
+				for (int r = 0; r < result.length; r++) {
+					short[] row1 = matrix1[r];
+					long[] resultRow = result[r];
+					System.arraycopy(resultRow, j, resultTile, 0, width);
+					for (int k = i; k < innerEnd; k++) {
+						long value = row1[k];
+						long[] tileRow = tile[k - i];
+						for (int c = 0; c < width; c++) {
+							resultTile[c] += value * tileRow[c];
+						}
+					}
+					System.arraycopy(resultTile, 0, resultRow, j, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the product of {@code matrix1} and {@code matrix2} to 
+	 * {@code result}, widening every element to {@code double} before it is 
+	 * multiplied. Each tile of {@code matrix2} is widened into separate rows 
+	 * of a scratch tile, so that the inner loop is the same 
+	 * {@code double} row update as the other multiplications. The scratch 
+	 * tile belongs to the calling thread and is reused by later calls.
+	 */
+	static void multiplyWide(float[][] matrix1, float[][] matrix2, double[][] result) {
+		multiplyWide(matrix1, 0, matrix1.length, matrix2, result);
+	}
+	
+	/**
+	 * Adds the product of the rows of {@code matrix1} from 
+	 * {@code rowStart} (inclusive) to {@code rowEnd} (exclusive) and 
+	 * {@code matrix2} to the first {@code rowEnd - rowStart} rows of 
+	 * {@code result}, widening every element to {@code double} before it is 
+	 * multiplied.
+	 */
+	static void multiplyWide(float[][] matrix1, int rowStart, int rowEnd, float[][] matrix2, double[][] result) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		int columnTile = columns;
+		int innerTile = inner;
+		if (isTiled(inner, columns, Double.BYTES)) {
+			columnTile = columnTileSize(columns, Double.BYTES);
+			innerTile = rowTileSize(inner, columnTile, Double.BYTES);
+		}
+		
+		Scratch scratch = SCRATCH.get();
+		double[][] tile = scratch.doubleTile(innerTile, columnTile);
+		double[] resultTile = scratch.doubleRow(columnTile);
+		for (int i = 0; i < inner; i += innerTile) {
+			int innerEnd = Math.min(i + innerTile, inner);
+			for (int j = 0; j < columns; j += columnTile) {
+				int width = Math.min(j + columnTile, columns) - j;
+				for (int k = i; k < innerEnd; k++) {
+					float[] row2 = matrix2[k];
+					double[] tileRow = tile[k - i];
+					for (int c = 0; c < width; c++) {
+						tileRow[c] = row2[j + c];
+					}
+				}
+				
+				for (int r = rowStart; r < rowEnd; r++) {
+					float[] row1 = matrix1[r];
+					double[] resultRow = result[r - rowStart];
+					System.arraycopy(resultRow, j, resultTile, 0, width);
+					for (int k = i; k < innerEnd; k++) {
+						ROWS.multiplyAdd(row1[k], tile[k - i], 0, resultTile, 0, width);
+					}
+					System.arraycopy(resultTile, 0, resultRow, j, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, accumulating the products as {@code double}s and 
+	 * rounding each element to {@code float} once. The rows of the result 
+	 * are accumulated in blocks of {@link #EXTENDED_ROW_BLOCK_SIZE} by 
+	 * {@link #multiplyWide(float[][], int, int, float[][], double[][])}, so 
+	 * only one block of {@code double}s is needed however large the result 
+	 * is, and the block belongs to the calling thread and is reused by later 
+	 * calls.
+	 */
+	static void multiplyExtended(float[][] matrix1, float[][] matrix2, float[][] result) {
+		int columns = matrix2[0].length;
+		int blockRows = Math.min(EXTENDED_ROW_BLOCK_SIZE, matrix1.length);
+		double[][] block = SCRATCH.get().doubleBlock(blockRows, columns);
+		for (int rowStart = 0; rowStart < matrix1.length; rowStart += blockRows) {
+			int rowEnd = Math.min(rowStart + blockRows, matrix1.length);
+			for (int r = rowStart; r < rowEnd; r++) {
+				Arrays.fill(block[r - rowStart], 0, columns, 0);
+			}
+			multiplyWide(matrix1, rowStart, rowEnd, matrix2, block);
+			for (int r = rowStart; r < rowEnd; r++) {
+				double[] blockRow = block[r - rowStart];
+				float[] resultRow = result[r];
+				for (int c = 0; c < columns; c++) {
+					resultRow[c] = (float) blockRow[c];
+				}
+			}
+		}
+	}
+	
+	/**
+	 * The scratch tiles of one thread. A tile is replaced only when it is 
+	 * too small for a multiplication, rather than grown to the largest size 
+	 * seen in each dimension, so it never holds much more than 
+	 * {@link #TILE_BYTES}. The block of 
+	 * {@link #multiplyExtended(float[][], float[][], float[][])} is the 
+	 * exception, as it holds up to {@link #EXTENDED_ROW_BLOCK_SIZE} whole 
+	 * rows of a result.
+	 */
+	private static class Scratch {
+		
+		private int[][] intTile = new int[0][0];
+		private int[] intRow = new int[0];
+		private long[][] longTile = new long[0][0];
+		private long[] longRow = new long[0];
+		private float[][] floatTile = new float[0][0];
+		private float[] floatRow = new float[0];
+		private double[][] doubleTile = new double[0][0];
+		private double[] doubleRow = new double[0];
+		private double[][] doubleBlock = new double[0][0];
+		
+		int[][] intTile(int rows, int columns) {
+			if (intTile.length < rows || intTile[0].length < columns) {
+				intTile = new int[rows][columns];
+			}
+			return intTile;
+		}
+		
+		int[] intRow(int length) {
+			if (intRow.length < length) {
+				intRow = new int[length];
+			}
+			return intRow;
+		}
+		
+		long[][] longTile(int rows, int columns) {
+			if (longTile.length < rows || longTile[0].length < columns) {
+				longTile = new long[rows][columns];
+			}
+			return longTile;
+		}
+		
+		long[] longRow(int length) {
+			if (longRow.length < length) {
+				longRow = new long[length];
+			}
+			return longRow;
+		}
+		
+		float[][] floatTile(int rows, int columns) {
+			if (floatTile.length < rows || floatTile[0].length < columns) {
+				floatTile = new float[rows][columns];
+			}
+			return floatTile;
+		}
+		
+		float[] floatRow(int length) {
+			if (floatRow.length < length) {
+				floatRow = new float[length];
+			}
+			return floatRow;
+		}
+		
+		double[][] doubleTile(int rows, int columns) {
+			if (doubleTile.length < rows || doubleTile[0].length < columns) {
+				doubleTile = new double[rows][columns];
+			}
+			return doubleTile;
+		}
+		
+		double[] doubleRow(int length) {
+			if (doubleRow.length < length) {
+				doubleRow = new double[length];
+			}
+			return doubleRow;
+		}
+		
+		double[][] doubleBlock(int rows, int columns) {
+			if (doubleBlock.length < rows || doubleBlock[0].length < columns) {
+				doubleBlock = new double[rows][columns];
+			}
+			return doubleBlock;
+		}
+		
+	}
+
+}
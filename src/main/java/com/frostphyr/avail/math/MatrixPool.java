@@ -0,0 +1,186 @@
+package com.frostphyr.avail.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A pool of {@code double[][]}s that can be reused as the results of the 
+ * operations of {@link MatrixUtils} that store their result in a given 
+ * matrix, so that code which repeatedly computes results of the same sizes 
+ * doesn't allocate a new matrix for each of them.
+ * <p>
+ * {@link #acquire(int, int)} returns a matrix of the requested size that 
+ * has been released to the pool, or a new one if there isn't one, and 
+ * {@link #release(double[][])} returns a matrix to the pool once it is no 
+ * longer needed. The pool retains at most {@link #getCapacity()} matrices 
+ * in total, and matrices released while it is full are left to the 
+ * garbage collector, so a pool never holds more memory than its largest 
+ * matrices would take up. Acquiring and releasing matrices of sizes that 
+ * are already in the pool doesn't allocate anything.
+ * <p>
+ * The elements of an acquired matrix are whatever they were when it was 
+ * released, so it should only be used where every element is overwritten, 
+ * such as the result of {@link MatrixUtils#multiply(double[][], double[][], double[][])}. 
+ * A matrix must not be used after it has been released. 
+ * {@link MatrixArena} releases every matrix acquired within a scope 
+ * together.
+ * <p>
+ * Pools are safe for use by multiple threads.
+ * 
+ * @see MatrixArena
+ * @since 1.6
+ */
+public final class MatrixPool {
+	
+	static final String EXCEPTION_MESSAGE_RELEASED = "Matrix has already been released to the pool";
+	
+	private final int capacity;
+	private final List<Shape> shapes = new ArrayList<>();
+	private int size;
+	
+	/**
+	 * Creates a new empty pool that retains at most {@code capacity} 
+	 * matrices.
+	 * 
+	 * @param capacity the maximum number of matrices to retain
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1
+	 */
+	public MatrixPool(int capacity) {
+		this.capacity = Argument.checkGreaterThan(capacity, 0, "capacity");
+	}
+	
+	/**
+	 * Returns a matrix with {@code rows} rows and {@code columns} columns, 
+	 * removing it from the pool if the pool has one of that size and 
+	 * creating a new one otherwise. The elements of a matrix from the pool 
+	 * are not cleared.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a matrix with {@code rows} rows and {@code columns} columns
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1
+	 */
+	public synchronized double[][] acquire(int rows, int columns) {
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		
+		for (int i = 0; i < shapes.size(); i++) {
+			Shape shape = shapes.get(i);
+			if (shape.size > 0 && shape.rows == rows && shape.columns == columns) {
+				double[][] matrix = shape.matrices[--shape.size];
+				shape.matrices[shape.size] = null;
+				size--;
+				return matrix;
+			}
+		}
+		return new double[rows][columns];
+	}
+	
+	/**
+	 * Returns {@code matrix} to the pool so that it can be acquired again, 
+	 * unless the pool already holds {@link #getCapacity()} matrices. 
+	 * {@code matrix} doesn't need to have been acquired from this pool.
+	 * 
+	 * @param matrix the matrix to release
+	 * @return whether {@code matrix} was retained by the pool
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it is already in the pool
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public synchronized boolean release(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		int rows = matrix.length;
+		int columns = matrix[0].length;
+		Shape free = null;
+		for (int i = 0; i < shapes.size(); i++) {
+			Shape shape = shapes.get(i);
+			if (shape.rows == rows && shape.columns == columns) {
+				for (int j = 0; j < shape.size; j++) {
+					if (shape.matrices[j] == matrix) {
+						throw new IllegalArgumentException(EXCEPTION_MESSAGE_RELEASED);
+					}
+				}
+				return size < capacity && push(shape, matrix);
+			} else if (free == null && shape.size == 0) {
+				free = shape;
+			}
+		}
+		
+		if (size == capacity) {
+			return false;
+		} else if (free == null) {
+			// A new size only needs a new shape if every existing shape holds
+			// a matrix, so there are never more shapes than the capacity
+			free = new Shape();
+			shapes.add(free);
+		}
+		free.rows = rows;
+		free.columns = columns;
+		return push(free, matrix);
+	}
+	
+	private boolean push(Shape shape, double[][] matrix) {
+		if (shape.size == shape.matrices.length) {
+			shape.matrices = Arrays.copyOf(shape.matrices, Math.min(shape.size * 2, capacity));
+		}
+		shape.matrices[shape.size++] = matrix;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Removes every matrix from the pool.
+	 */
+	public synchronized void clear() {
+		shapes.clear();
+		size = 0;
+	}
+	
+	/**
+	 * Returns the number of matrices in the pool.
+	 * 
+	 * @return the number of matrices in the pool
+	 */
+	public synchronized int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns the maximum number of matrices the pool retains.
+	 * 
+	 * @return the maximum number of matrices the pool retains
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	@Override
+	public synchronized String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("capacity", capacity)
+				.append("size", size)
+				.toString();
+	}
+	
+	/**
+	 * The matrices in the pool with the same number of rows and columns. A 
+	 * shape without any matrices is reused for the next size released.
+	 */
+	private static class Shape {
+		
+		int rows;
+		int columns;
+		double[][][] matrices = new double[1][][];
+		int size;
+		
+	}
+
+}
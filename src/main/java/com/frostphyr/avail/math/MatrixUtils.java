@@ -1,5 +1,9 @@
 package com.frostphyr.avail.math;
 
+import java.util.concurrent.ForkJoinPool;
+
+import com.frostphyr.avail.Argument;
+
 /**
  * Utility class containing methods to assist with using matrices that are 
  * represented as arrays.
@@ -8,13 +12,33 @@ package com.frostphyr.avail.math;
  */
 public class MatrixUtils {
 	
-	private static final String EXCEPTION_MESSAGE_INVALID_MATRIX = "Invalid matrix, must not be null and every row of the matrix must be the same size";
-	private static final String EXCEPTION_MESSAGE_SIZE_MISMATCH = "matrix1 and matrix2 must be the same size";
-	private static final String EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH = "Number of columns of matrix1 must be equal to the number of rows of matrix2";
+	static final String EXCEPTION_MESSAGE_INVALID_MATRIX = "Invalid matrix, must not be null and every row of the matrix must be the same size";
+	static final String EXCEPTION_MESSAGE_SIZE_MISMATCH = "matrix1 and matrix2 must be the same size";
+	static final String EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH = "Number of columns of matrix1 must be equal to the number of rows of matrix2";
+	static final String EXCEPTION_MESSAGE_DATA_LENGTH = "data is too small to hold the matrix";
+	static final String EXCEPTION_MESSAGE_RESULT_SIZE = "result must be the same size as the result of the operation";
+	static final String EXCEPTION_MESSAGE_RESULT_ALIAS = "result must not be the same matrix as an operand";
+	static final String EXCEPTION_MESSAGE_NOT_SQUARE = "matrix must have the same number of rows and columns";
+	static final String EXCEPTION_MESSAGE_TOO_LARGE = "Matrix must not have more than Integer.MAX_VALUE elements";
+	static final String EXCEPTION_MESSAGE_SINGULAR = "Matrix is singular";
 	
 	private MatrixUtils() {
 	}
 	
+	/**
+	 * Returns the number of elements of a flat matrix with {@code rows} rows 
+	 * and {@code columns} columns, throwing if there can't be such a matrix.
+	 */
+	static int checkSize(int rows, int columns) {
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		long size = (long) rows * columns;
+		if (size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_TOO_LARGE);
+		}
+		return (int) size;
+	}
+	
 	/**
 	 * Returns whether {@code matrix} is valid. A matrix is valid if it meets 
 	 * the following criteria:
@@ -667,14 +691,33 @@ public class MatrixUtils {
 		}
 		
 		byte[][] result = new byte[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
-		}
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(byte[][])
+	 * @since 1.6
+	 */
+	public static byte[][] transposeInPlace(byte[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
 	/**
 	 * Returns the transpose of {@code matrix}. The transpose is created by 
 	 * flipping {@code matrix}, where each row will become a column and each 
@@ -691,14 +734,33 @@ public class MatrixUtils {
 		}
 		
 		short[][] result = new short[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
-		}
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(short[][])
+	 * @since 1.6
+	 */
+	public static short[][] transposeInPlace(short[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
 	/**
 	 * Returns the transpose of {@code matrix}. The transpose is created by 
 	 * flipping {@code matrix}, where each row will become a column and each 
@@ -715,11 +777,59 @@ public class MatrixUtils {
 		}
 		
 		int[][] result = new int[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
+		MatrixKernels.transpose(matrix, result);
+		return result;
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] transposeInPlace(int[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result} and returns 
+	 * it. The transpose is created by flipping {@code matrix}, where each 
+	 * row will become a column and each column will become a row.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @param result the matrix to store the transpose in, which must have as 
+	 * many rows as {@code matrix} has columns and as many columns as 
+	 * {@code matrix} has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code result} is {@code matrix}
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] transpose(int[][] matrix, int[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix[0].length || result[0].length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
@@ -739,11 +849,59 @@ public class MatrixUtils {
 		}
 		
 		long[][] result = new long[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
+		MatrixKernels.transpose(matrix, result);
+		return result;
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] transposeInPlace(long[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result} and returns 
+	 * it. The transpose is created by flipping {@code matrix}, where each 
+	 * row will become a column and each column will become a row.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @param result the matrix to store the transpose in, which must have as 
+	 * many rows as {@code matrix} has columns and as many columns as 
+	 * {@code matrix} has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code result} is {@code matrix}
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] transpose(long[][] matrix, long[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix[0].length || result[0].length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
@@ -763,11 +921,59 @@ public class MatrixUtils {
 		}
 		
 		float[][] result = new float[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
+		MatrixKernels.transpose(matrix, result);
+		return result;
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] transposeInPlace(float[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result} and returns 
+	 * it. The transpose is created by flipping {@code matrix}, where each 
+	 * row will become a column and each column will become a row.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @param result the matrix to store the transpose in, which must have as 
+	 * many rows as {@code matrix} has columns and as many columns as 
+	 * {@code matrix} has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code result} is {@code matrix}
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] transpose(float[][] matrix, float[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix[0].length || result[0].length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
@@ -787,11 +993,59 @@ public class MatrixUtils {
 		}
 		
 		double[][] result = new double[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
+		MatrixKernels.transpose(matrix, result);
+		return result;
+	}
+	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] transposeInPlace(double[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result} and returns 
+	 * it. The transpose is created by flipping {@code matrix}, where each 
+	 * row will become a column and each column will become a row.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @param result the matrix to store the transpose in, which must have as 
+	 * many rows as {@code matrix} has columns and as many columns as 
+	 * {@code matrix} has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code result} is {@code matrix}
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] transpose(double[][] matrix, double[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix[0].length || result[0].length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
@@ -811,14 +1065,33 @@ public class MatrixUtils {
 		}
 		
 		char[][] result = new char[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
-		}
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(char[][])
+	 * @since 1.6
+	 */
+	public static char[][] transposeInPlace(char[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
 	/**
 	 * Returns the transpose of {@code matrix}. The transpose is created by 
 	 * flipping {@code matrix}, where each row will become a column and each 
@@ -835,14 +1108,33 @@ public class MatrixUtils {
 		}
 		
 		boolean[][] result = new boolean[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
-		}
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(boolean[][])
+	 * @since 1.6
+	 */
+	public static boolean[][] transposeInPlace(boolean[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
 	/**
 	 * Returns the transpose of {@code matrix}. The transpose is created by 
 	 * flipping {@code matrix}, where each row will become a column and each 
@@ -859,14 +1151,33 @@ public class MatrixUtils {
 		}
 		
 		Object[][] result = new Object[matrix[0].length][matrix.length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[c][r] = matrix[r][c];
-			}
-		}
+		MatrixKernels.transpose(matrix, result);
 		return result;
 	}
 	
+	/**
+	 * Transposes the square {@code matrix} in place and returns it. Each 
+	 * element is swapped with the element mirrored across the diagonal, so 
+	 * no additional memory is allocated.
+	 * 
+	 * @param matrix the matrix to transpose
+	 * @return {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix or if it doesn't have the same number of rows and columns
+	 * @see #validateMatrix(Object[][])
+	 * @since 1.6
+	 */
+	public static Object[][] transposeInPlace(Object[][] matrix) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		MatrixKernels.transposeInPlace(matrix);
+		return matrix;
+	}
+	
 	/**
 	 * Returns the sum of {@code matrix1} and {@code matrix2}.
 	 * 
@@ -933,9 +1244,7 @@ public class MatrixUtils {
 		}
 		
 		int[] result = new int[matrix1.length];
-		for (int i = 0; i < matrix1.length; i++) {
-			result[i] = matrix1[i] + matrix2[i];
-		}
+		RowKernels.INSTANCE.add(matrix1, 0, matrix2, 0, result, 0, result.length);
 		return result;
 	}
 	
@@ -981,9 +1290,7 @@ public class MatrixUtils {
 		}
 		
 		float[] result = new float[matrix1.length];
-		for (int i = 0; i < matrix1.length; i++) {
-			result[i] = matrix1[i] + matrix2[i];
-		}
+		RowKernels.INSTANCE.add(matrix1, 0, matrix2, 0, result, 0, result.length);
 		return result;
 	}
 	
@@ -1005,9 +1312,7 @@ public class MatrixUtils {
 		}
 		
 		double[] result = new double[matrix1.length];
-		for (int i = 0; i < matrix1.length; i++) {
-			result[i] = matrix1[i] + matrix2[i];
-		}
+		RowKernels.INSTANCE.add(matrix1, 0, matrix2, 0, result, 0, result.length);
 		return result;
 	}
 	
@@ -1105,11 +1410,36 @@ public class MatrixUtils {
 		}
 		
 		int[][] result = new int[matrix1.length][matrix1[0].length];
-		for (int r = 0; r < matrix1.length; r++) {
-			for (int c = 0; c < matrix1[0].length; c++) {
-				result[r][c] = matrix1[r][c] + matrix2[r][c];
-			}
+		MatrixKernels.add(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix1} or {@code matrix2}, in which case the sum is 
+	 * computed in place.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix or if they are different sizes
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] add(int[][] matrix1, int[][] matrix2, int[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
 		}
+		
+		MatrixKernels.add(matrix1, matrix2, result);
 		return result;
 	}
 	
@@ -1139,6 +1469,35 @@ public class MatrixUtils {
 		return result;
 	}
 	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix1} or {@code matrix2}, in which case the sum is 
+	 * computed in place.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix or if they are different sizes
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] add(long[][] matrix1, long[][] matrix2, long[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.add(matrix1, matrix2, result);
+		return result;
+	}
+	
 	/**
 	 * Returns the sum of {@code matrix1} and {@code matrix2}.
 	 * 
@@ -1157,11 +1516,36 @@ public class MatrixUtils {
 		}
 		
 		float[][] result = new float[matrix1.length][matrix1[0].length];
-		for (int r = 0; r < matrix1.length; r++) {
-			for (int c = 0; c < matrix1[0].length; c++) {
-				result[r][c] = matrix1[r][c] + matrix2[r][c];
-			}
+		MatrixKernels.add(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix1} or {@code matrix2}, in which case the sum is 
+	 * computed in place.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix or if they are different sizes
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] add(float[][] matrix1, float[][] matrix2, float[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
 		}
+		
+		MatrixKernels.add(matrix1, matrix2, result);
 		return result;
 	}
 	
@@ -1183,11 +1567,36 @@ public class MatrixUtils {
 		}
 		
 		double[][] result = new double[matrix1.length][matrix1[0].length];
-		for (int r = 0; r < matrix1.length; r++) {
-			for (int c = 0; c < matrix1[0].length; c++) {
-				result[r][c] = matrix1[r][c] + matrix2[r][c];
-			}
+		MatrixKernels.add(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix1} or {@code matrix2}, in which case the sum is 
+	 * computed in place.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix or if they are different sizes
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] add(double[][] matrix1, double[][] matrix2, double[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
 		}
+		
+		MatrixKernels.add(matrix1, matrix2, result);
 		return result;
 	}
 	
@@ -1349,16 +1758,48 @@ public class MatrixUtils {
 		}
 		
 		float[] result = new float[matrix2[0].length];
-		for (int r1 = 0; r1 < matrix1.length; r1++) {
-			for (int c2 = 0; c2 < matrix2[0].length; c2++) {
-				result[c2] += matrix1[r1] * matrix2[r1][c2];
-			}
-		}
+		VectorKernels.multiply(matrix1, matrix2, result);
 		return result;
 	}
 	
 	/**
-	 * Returns the product of {@code matrix1} and {@code matrix2}.
+	 * Stores the product of the row vector {@code matrix1} and 
+	 * {@code matrix2} in {@code result} and returns it. Any previous 
+	 * contents of {@code result} are overwritten. The rows of 
+	 * {@code matrix2} are added to the result four at a time, which 
+	 * gives the same result as adding them one at a time.
+	 * 
+	 * @param matrix1 the row vector to multiply
+	 * @param matrix2 the matrix to multiply
+	 * @param result the vector to store the product in, which must have as 
+	 * many elements as {@code matrix2} has columns
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the length of 
+	 * {@code matrix1} doesn't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong length or if {@code result} is 
+	 * {@code matrix1}
+	 * @see #validateMatrix(float[])
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[] multiply(float[] matrix1, float[][] matrix2, float[] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		VectorKernels.multiply(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}.
 	 * 
 	 * @param matrix1 the first matrix to multiply
 	 * @param matrix2 the second matrix to multiply
@@ -1377,11 +1818,43 @@ public class MatrixUtils {
 		}
 		
 		double[] result = new double[matrix2[0].length];
-		for (int r1 = 0; r1 < matrix1.length; r1++) {
-			for (int c2 = 0; c2 < matrix2[0].length; c2++) {
-				result[c2] += matrix1[r1] * matrix2[r1][c2];
-			}
+		VectorKernels.multiply(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of the row vector {@code matrix1} and 
+	 * {@code matrix2} in {@code result} and returns it. Any previous 
+	 * contents of {@code result} are overwritten. The rows of 
+	 * {@code matrix2} are added to the result four at a time, which 
+	 * gives the same result as adding them one at a time.
+	 * 
+	 * @param matrix1 the row vector to multiply
+	 * @param matrix2 the matrix to multiply
+	 * @param result the vector to store the product in, which must have as 
+	 * many elements as {@code matrix2} has columns
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the length of 
+	 * {@code matrix1} doesn't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong length or if {@code result} is 
+	 * {@code matrix1}
+	 * @see #validateMatrix(double[])
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[] multiply(double[] matrix1, double[][] matrix2, double[] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		VectorKernels.multiply(matrix1, matrix2, result);
 		return result;
 	}
 	
@@ -1619,6 +2092,7 @@ public class MatrixUtils {
 	 * is not a valid matrix or if the number of columns of {@code matrix1} 
 	 * don't equal the number of rows of {@code matrix2}
 	 * @see #validateMatrix(byte[][])
+	 * @see #multiplyWide(byte[][], byte[][])
 	 */
 	public static byte[][] multiply(byte[][] matrix1, byte[][] matrix2) {
 		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
@@ -1638,6 +2112,67 @@ public class MatrixUtils {
 		return result;
 	}
 	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2} as 
+	 * {@code int}s. Unlike {@link #multiply(byte[][], byte[][])}, every 
+	 * element is widened to {@code int} before it is multiplied and the 
+	 * products are accumulated as {@code int}s, so the result is exact 
+	 * as long as {@code matrix1} has no more than 131071 columns. This suits 
+	 * quantized data, which can be stored in the smaller type and multiplied 
+	 * without overflow.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #validateMatrix(byte[][])
+	 * @since 1.6
+	 */
+	public static int[][] multiplyWide(byte[][] matrix1, byte[][] matrix2) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		int[][] result = new int[matrix1.length][matrix2[0].length];
+		MatrixKernels.multiplyWide(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} as 
+	 * {@code int}s in {@code result} and returns it. Any previous 
+	 * contents of {@code result} are overwritten.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2} or 
+	 * if {@code result} is the wrong size
+	 * @see #multiplyWide(byte[][], byte[][])
+	 * @since 1.6
+	 */
+	public static int[][] multiplyWide(byte[][] matrix1, byte[][] matrix2, int[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.fill(result, 0);
+		MatrixKernels.multiplyWide(matrix1, matrix2, result);
+		return result;
+	}
+	
 	/**
 	 * Returns the product of {@code matrix1} and {@code matrix2}.
 	 * 
@@ -1648,6 +2183,7 @@ public class MatrixUtils {
 	 * is not a valid matrix or if the number of columns of {@code matrix1} 
 	 * don't equal the number of rows of {@code matrix2}
 	 * @see #validateMatrix(short[][])
+	 * @see #multiplyWide(short[][], short[][])
 	 */
 	public static short[][] multiply(short[][] matrix1, short[][] matrix2) {
 		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
@@ -1667,8 +2203,207 @@ public class MatrixUtils {
 		return result;
 	}
 	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2} as 
+	 * {@code long}s. Unlike {@link #multiply(short[][], short[][])}, every 
+	 * element is widened to {@code long} before it is multiplied and the 
+	 * products are accumulated as {@code long}s, so the result is exact 
+	 * for any matrix that fits in memory.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #validateMatrix(short[][])
+	 * @since 1.6
+	 */
+	public static long[][] multiplyWide(short[][] matrix1, short[][] matrix2) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		long[][] result = new long[matrix1.length][matrix2[0].length];
+		MatrixKernels.multiplyWide(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} as 
+	 * {@code long}s in {@code result} and returns it. Any previous 
+	 * contents of {@code result} are overwritten.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2} or 
+	 * if {@code result} is the wrong size
+	 * @see #multiplyWide(short[][], short[][])
+	 * @since 1.6
+	 */
+	public static long[][] multiplyWide(short[][] matrix1, short[][] matrix2, long[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.fill(result, 0);
+		MatrixKernels.multiplyWide(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2} as 
+	 * {@code double}s. Unlike {@link #multiply(float[][], float[][])}, every 
+	 * element is widened to {@code double} before it is multiplied and the 
+	 * products are accumulated as {@code double}s. The product of two 
+	 * {@code float}s is exact as a {@code double}, so the only rounding is in 
+	 * the accumulation, which is as accurate as multiplying 
+	 * {@code double[][]}s. This suits data that is stored as {@code float}s 
+	 * to halve its size but needs to be accumulated accurately.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #validateMatrix(float[][])
+	 * @see #multiplyExtended(float[][], float[][])
+	 * @since 1.6
+	 */
+	public static double[][] multiplyWide(float[][] matrix1, float[][] matrix2) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		double[][] result = new double[matrix1.length][matrix2[0].length];
+		MatrixKernels.multiplyWide(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} as 
+	 * {@code double}s in {@code result} and returns it. Any previous 
+	 * contents of {@code result} are overwritten.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2} or 
+	 * if {@code result} is the wrong size
+	 * @see #multiplyWide(float[][], float[][])
+	 * @since 1.6
+	 */
+	public static double[][] multiplyWide(float[][] matrix1, float[][] matrix2, double[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.fill(result, 0);
+		MatrixKernels.multiplyWide(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, 
+	 * accumulated as {@code double}s and rounded to {@code float}s. Each 
+	 * element is the product {@link #multiplyWide(float[][], float[][])} 
+	 * would return rounded once to the nearest {@code float}, so it is 
+	 * usually much more accurate than that of 
+	 * {@link #multiply(float[][], float[][])}, which rounds after every 
+	 * addition, while the operands and the result are still 
+	 * {@code float}s.
+	 * <p>
+	 * The rows of the result are accumulated in blocks, so the temporary 
+	 * storage needed is a small multiple of a row of the result rather than 
+	 * a {@code double} copy of all of it.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] multiplyExtended(float[][] matrix1, float[][] matrix2) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		float[][] result = new float[matrix1.length][matrix2[0].length];
+		MatrixKernels.multiplyExtended(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2}, 
+	 * accumulated as {@code double}s and rounded to {@code float}s, in 
+	 * {@code result} and returns it. Any previous contents of 
+	 * {@code result} are overwritten.
+	 * <p>
+	 * {@code result} must not be {@code matrix1} or {@code matrix2} and 
+	 * must not share any rows with them, since each element of the operands 
+	 * is read after elements of the result have been written.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong size or if {@code result} is 
+	 * {@code matrix1} or {@code matrix2}
+	 * @see #multiplyExtended(float[][], float[][])
+	 * @since 1.6
+	 */
+	public static float[][] multiplyExtended(float[][] matrix1, float[][] matrix2, float[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1 || result == matrix2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		MatrixKernels.multiplyExtended(matrix1, matrix2, result);
+		return result;
+	}
+	
 	/**
 	 * Returns the product of {@code matrix1} and {@code matrix2}.
+	 * <p>
+	 * Once {@code matrix2} is too large to stay in cache, the product is 
+	 * computed in cache-sized tiles. The result is the same as it would be 
+	 * without tiling.
 	 * 
 	 * @param matrix1 the first matrix to multiply
 	 * @param matrix2 the second matrix to multiply
@@ -1686,18 +2421,54 @@ public class MatrixUtils {
 		}
 		
 		int[][] result = new int[matrix1.length][matrix2[0].length];
-		for (int r1 = 0; r1 < matrix1.length; r1++) {
-			for (int c1 = 0; c1 < matrix1[0].length; c1++) {
-				for (int c2 = 0; c2 < matrix2[0].length; c2++) {
-					result[r1][c2] += matrix1[r1][c1] * matrix2[c1][c2];
-				}
-			}
+		MatrixKernels.multiply(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. Any previous contents of 
+	 * {@code result} are overwritten.
+	 * <p>
+	 * {@code result} must not be {@code matrix1} or {@code matrix2} and 
+	 * must not share any rows with them, since each element of the operands 
+	 * is read after elements of the result have been written.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong size or if {@code result} is 
+	 * {@code matrix1} or {@code matrix2}
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] multiply(int[][] matrix1, int[][] matrix2, int[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1 || result == matrix2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.fill(result, 0);
+		MatrixKernels.multiply(matrix1, matrix2, result);
 		return result;
 	}
 	
 	/**
 	 * Returns the product of {@code matrix1} and {@code matrix2}.
+	 * <p>
+	 * Once {@code matrix2} is too large to stay in cache, the product is 
+	 * computed in cache-sized tiles. The result is the same as it would be 
+	 * without tiling.
 	 * 
 	 * @param matrix1 the first matrix to multiply
 	 * @param matrix2 the second matrix to multiply
@@ -1715,18 +2486,54 @@ public class MatrixUtils {
 		}
 		
 		long[][] result = new long[matrix1.length][matrix2[0].length];
-		for (int r1 = 0; r1 < matrix1.length; r1++) {
-			for (int c1 = 0; c1 < matrix1[0].length; c1++) {
-				for (int c2 = 0; c2 < matrix2[0].length; c2++) {
-					result[r1][c2] += matrix1[r1][c1] * matrix2[c1][c2];
-				}
-			}
+		MatrixKernels.multiply(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. Any previous contents of 
+	 * {@code result} are overwritten.
+	 * <p>
+	 * {@code result} must not be {@code matrix1} or {@code matrix2} and 
+	 * must not share any rows with them, since each element of the operands 
+	 * is read after elements of the result have been written.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong size or if {@code result} is 
+	 * {@code matrix1} or {@code matrix2}
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] multiply(long[][] matrix1, long[][] matrix2, long[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1 || result == matrix2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.fill(result, 0);
+		MatrixKernels.multiply(matrix1, matrix2, result);
 		return result;
 	}
 	
 	/**
 	 * Returns the product of {@code matrix1} and {@code matrix2}.
+	 * <p>
+	 * Once {@code matrix2} is too large to stay in cache, the product is 
+	 * computed in cache-sized tiles. The result is the same as it would be 
+	 * without tiling.
 	 * 
 	 * @param matrix1 the first matrix to multiply
 	 * @param matrix2 the second matrix to multiply
@@ -1744,18 +2551,54 @@ public class MatrixUtils {
 		}
 		
 		float[][] result = new float[matrix1.length][matrix2[0].length];
-		for (int r1 = 0; r1 < matrix1.length; r1++) {
-			for (int c1 = 0; c1 < matrix1[0].length; c1++) {
-				for (int c2 = 0; c2 < matrix2[0].length; c2++) {
-					result[r1][c2] += matrix1[r1][c1] * matrix2[c1][c2];
-				}
-			}
+		MatrixKernels.multiply(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. Any previous contents of 
+	 * {@code result} are overwritten.
+	 * <p>
+	 * {@code result} must not be {@code matrix1} or {@code matrix2} and 
+	 * must not share any rows with them, since each element of the operands 
+	 * is read after elements of the result have been written.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong size or if {@code result} is 
+	 * {@code matrix1} or {@code matrix2}
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] multiply(float[][] matrix1, float[][] matrix2, float[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1 || result == matrix2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.fill(result, 0);
+		MatrixKernels.multiply(matrix1, matrix2, result);
 		return result;
 	}
 	
 	/**
 	 * Returns the product of {@code matrix1} and {@code matrix2}.
+	 * <p>
+	 * Once {@code matrix2} is too large to stay in cache, the product is 
+	 * computed in cache-sized tiles. The result is the same as it would be 
+	 * without tiling.
 	 * 
 	 * @param matrix1 the first matrix to multiply
 	 * @param matrix2 the second matrix to multiply
@@ -1773,13 +2616,45 @@ public class MatrixUtils {
 		}
 		
 		double[][] result = new double[matrix1.length][matrix2[0].length];
-		for (int r1 = 0; r1 < matrix1.length; r1++) {
-			for (int c1 = 0; c1 < matrix1[0].length; c1++) {
-				for (int c2 = 0; c2 < matrix2[0].length; c2++) {
-					result[r1][c2] += matrix1[r1][c1] * matrix2[c1][c2];
-				}
-			}
+		MatrixKernels.multiply(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. Any previous contents of 
+	 * {@code result} are overwritten.
+	 * <p>
+	 * {@code result} must not be {@code matrix1} or {@code matrix2} and 
+	 * must not share any rows with them, since each element of the operands 
+	 * is read after elements of the result have been written.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong size or if {@code result} is 
+	 * {@code matrix1} or {@code matrix2}
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] multiply(double[][] matrix1, double[][] matrix2, double[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1 || result == matrix2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
 		}
+		
+		MatrixKernels.fill(result, 0);
+		MatrixKernels.multiply(matrix1, matrix2, result);
 		return result;
 	}
 	
@@ -1869,9 +2744,7 @@ public class MatrixUtils {
 		}
 		
 		int[] result = new int[matrix.length];
-		for (int i = 0; i < matrix.length; i++) {
-			result[i] = matrix[i] * scalar;
-		}
+		RowKernels.INSTANCE.multiply(matrix, 0, scalar, result, 0, result.length);
 		return result;
 	}
 	
@@ -1911,9 +2784,7 @@ public class MatrixUtils {
 		}
 		
 		float[] result = new float[matrix.length];
-		for (int i = 0; i < matrix.length; i++) {
-			result[i] = matrix[i] * scalar;
-		}
+		RowKernels.INSTANCE.multiply(matrix, 0, scalar, result, 0, result.length);
 		return result;
 	}
 	
@@ -1932,9 +2803,7 @@ public class MatrixUtils {
 		}
 		
 		double[] result = new double[matrix.length];
-		for (int i = 0; i < matrix.length; i++) {
-			result[i] = matrix[i] * scalar;
-		}
+		RowKernels.INSTANCE.multiply(matrix, 0, scalar, result, 0, result.length);
 		return result;
 	}
 	
@@ -2020,22 +2889,44 @@ public class MatrixUtils {
 		}
 		
 		int[][] result = new int[matrix.length][matrix[0].length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[r][c] = matrix[r][c] * scalar;
-			}
-		}
+		MatrixKernels.multiply(matrix, scalar, result);
 		return result;
 	}
 	
 	/**
-	 * Returns the product of {@code matrix} and {@code scalar}.
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix}, in which case the product is computed in place.
 	 * 
 	 * @param matrix the matrix to multiply the scalar by
 	 * @param scalar the scalar to multiply {@code matrix} by
-	 * @return the product of {@code matrix} and {@code scalar}
-	 * @throws IllegalArgumentException if {@code matrix} is not a valid matrix
-	 * @see #validateMatrix(long[][])
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix or if {@code result} is the wrong size
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] multiply(int[][] matrix, int scalar, int[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.multiply(matrix, scalar, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and {@code scalar}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code scalar}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid matrix
+	 * @see #validateMatrix(long[][])
 	 */
 	public static long[][] multiply(long[][] matrix, long scalar) {
 		if (!validateMatrix(matrix)) {
@@ -2051,6 +2942,32 @@ public class MatrixUtils {
 		return result;
 	}
 	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix}, in which case the product is computed in place.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix or if {@code result} is the wrong size
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] multiply(long[][] matrix, long scalar, long[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.multiply(matrix, scalar, result);
+		return result;
+	}
+	
 	/**
 	 * Returns the product of {@code matrix} and {@code scalar}.
 	 * 
@@ -2066,11 +2983,33 @@ public class MatrixUtils {
 		}
 		
 		float[][] result = new float[matrix.length][matrix[0].length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[r][c] = matrix[r][c] * scalar;
-			}
+		MatrixKernels.multiply(matrix, scalar, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix}, in which case the product is computed in place.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix or if {@code result} is the wrong size
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] multiply(float[][] matrix, float scalar, float[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
 		}
+		
+		MatrixKernels.multiply(matrix, scalar, result);
 		return result;
 	}
 	
@@ -2089,11 +3028,33 @@ public class MatrixUtils {
 		}
 		
 		double[][] result = new double[matrix.length][matrix[0].length];
-		for (int r = 0; r < matrix.length; r++) {
-			for (int c = 0; c < matrix[0].length; c++) {
-				result[r][c] = matrix[r][c] * scalar;
-			}
+		MatrixKernels.multiply(matrix, scalar, result);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result} and returns it. {@code result} may be 
+	 * {@code matrix}, in which case the product is computed in place.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix or if {@code result} is the wrong size
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] multiply(double[][] matrix, double scalar, double[][] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
 		}
+		
+		MatrixKernels.multiply(matrix, scalar, result);
 		return result;
 	}
 	
@@ -2119,5 +3080,1677 @@ public class MatrixUtils {
 		}
 		return result;
 	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #parallelMultiply(int[][], int[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static int[][] parallelMultiply(int[][] matrix1, int[][] matrix2) {
+		return parallelMultiply(matrix1, matrix2, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@code pool}. The result is divided into blocks of 
+	 * rows and columns which are computed as separate tasks. Products too 
+	 * small to benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(int[][], int[][])}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param pool the pool to compute the product with
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix, if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2} or if {@code pool} 
+	 * is {@code null}
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] parallelMultiply(int[][] matrix1, int[][] matrix2, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		int[][] result = new int[matrix1.length][matrix2[0].length];
+		ParallelKernels.multiply(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #parallelMultiply(long[][], long[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static long[][] parallelMultiply(long[][] matrix1, long[][] matrix2) {
+		return parallelMultiply(matrix1, matrix2, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@code pool}. The result is divided into blocks of 
+	 * rows and columns which are computed as separate tasks. Products too 
+	 * small to benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(long[][], long[][])}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param pool the pool to compute the product with
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix, if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2} or if {@code pool} 
+	 * is {@code null}
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] parallelMultiply(long[][] matrix1, long[][] matrix2, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		long[][] result = new long[matrix1.length][matrix2[0].length];
+		ParallelKernels.multiply(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #parallelMultiply(float[][], float[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static float[][] parallelMultiply(float[][] matrix1, float[][] matrix2) {
+		return parallelMultiply(matrix1, matrix2, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@code pool}. The result is divided into blocks of 
+	 * rows and columns which are computed as separate tasks. Products too 
+	 * small to benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(float[][], float[][])}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param pool the pool to compute the product with
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix, if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2} or if {@code pool} 
+	 * is {@code null}
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] parallelMultiply(float[][] matrix1, float[][] matrix2, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		float[][] result = new float[matrix1.length][matrix2[0].length];
+		ParallelKernels.multiply(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2}
+	 * @see #parallelMultiply(double[][], double[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static double[][] parallelMultiply(double[][] matrix1, double[][] matrix2) {
+		return parallelMultiply(matrix1, matrix2, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}, computed 
+	 * in parallel using {@code pool}. The result is divided into blocks of 
+	 * rows and columns which are computed as separate tasks. Products too 
+	 * small to benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(double[][], double[][])}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param pool the pool to compute the product with
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix, if the number of columns of {@code matrix1} 
+	 * don't equal the number of rows of {@code matrix2} or if {@code pool} 
+	 * is {@code null}
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] parallelMultiply(double[][] matrix1, double[][] matrix2, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1[0].length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		double[][] result = new double[matrix1.length][matrix2[0].length];
+		ParallelKernels.multiply(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of the square matrices {@code matrix1} and 
+	 * {@code matrix2} using Strassen's algorithm and a leaf size of 256.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid square matrix or if they are different sizes
+	 * @see #strassenMultiply(long[][], long[][], int)
+	 * @since 1.6
+	 */
+	public static long[][] strassenMultiply(long[][] matrix1, long[][] matrix2) {
+		return strassenMultiply(matrix1, matrix2, StrassenKernels.DEFAULT_LEAF_SIZE);
+	}
+	
+	/**
+	 * Returns the product of the square matrices {@code matrix1} and 
+	 * {@code matrix2} using Strassen's algorithm. Each level of recursion 
+	 * halves the size of the matrices and computes 7 products of the halves 
+	 * instead of 8, so the product takes time proportional to
+	 * <i>n</i><sup>log<sub>2</sub>7</sup> (about <i>n</i><sup>2.81</sup>) 
+	 * instead of <i>n</i><sup>3</sup>. Blocks no larger than 
+	 * {@code leafSize} are multiplied with the same kernel as 
+	 * {@link #multiply(long[][], long[][])}, which is also used for the whole 
+	 * product if the matrices are no larger than {@code leafSize}.
+	 * <p>
+	 * The matrices are copied and zero-padded to the leaf size times a 
+	 * power of 2, so this uses about 4 times the memory of the result in 
+	 * temporary storage.
+	 * <p>
+	 * Since {@code long} arithmetic wraps around, every intermediate result 
+	 * is exact modulo 2<sup>64</sup>, so the result is identical to that of 
+	 * {@link #multiply(long[][], long[][])}.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param leafSize the size below which the classic algorithm is used
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid square matrix, if they are different sizes or if 
+	 * {@code leafSize} is less than 1
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] strassenMultiply(long[][] matrix1, long[][] matrix2, int leafSize) {
+		Argument.checkGreaterThan(leafSize, 0, "leafSize");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix1[0].length || matrix2.length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		} else if (matrix1.length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		}
+		
+		if (matrix1.length <= leafSize) {
+			return multiply(matrix1, matrix2);
+		}
+		int padded = StrassenKernels.paddedSize(matrix1.length, leafSize);
+		checkSize(padded, padded);
+		return StrassenKernels.multiply(matrix1, matrix2, leafSize);
+	}
+	
+	/**
+	 * Returns the product of the square matrices {@code matrix1} and 
+	 * {@code matrix2} using Strassen's algorithm and a leaf size of 256.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid square matrix or if they are different sizes
+	 * @see #strassenMultiply(double[][], double[][], int)
+	 * @since 1.6
+	 */
+	public static double[][] strassenMultiply(double[][] matrix1, double[][] matrix2) {
+		return strassenMultiply(matrix1, matrix2, StrassenKernels.DEFAULT_LEAF_SIZE);
+	}
+	
+	/**
+	 * Returns the product of the square matrices {@code matrix1} and 
+	 * {@code matrix2} using Strassen's algorithm. Each level of recursion 
+	 * halves the size of the matrices and computes 7 products of the halves 
+	 * instead of 8, so the product takes time proportional to
+	 * <i>n</i><sup>log<sub>2</sub>7</sup> (about <i>n</i><sup>2.81</sup>) 
+	 * instead of <i>n</i><sup>3</sup>. Blocks no larger than 
+	 * {@code leafSize} are multiplied with the same kernel as 
+	 * {@link #multiply(double[][], double[][])}, which is also used for the whole 
+	 * product if the matrices are no larger than {@code leafSize}.
+	 * <p>
+	 * The matrices are copied and zero-padded to the leaf size times a 
+	 * power of 2, so this uses about 4 times the memory of the result in 
+	 * temporary storage.
+	 * <p>
+	 * The result is not identical to that of 
+	 * {@link #multiply(double[][], double[][])} and its error bound is 
+	 * weaker. With a leaf size of <i>n<sub>0</sub></i>, a padded size of 
+	 * <i>n</i> and a unit roundoff of <i>u</i> (2<sup>-53</sup>), 
+	 * Higham (<i>Accuracy and Stability of Numerical Algorithms</i>, 
+	 * chapter 23) bounds the error by
+	 * <blockquote>
+	 * max|C - &#264;| &lt;= ((n/n<sub>0</sub>)<sup>log<sub>2</sub>12</sup> (n<sub>0</sub><sup>2</sup> + 5n<sub>0</sub>) - 5n) u max|A| max|B| + O(u<sup>2</sup>)
+	 * </blockquote>
+	 * The bound is normwise rather than componentwise, so elements of the 
+	 * result that are much smaller than the largest elements of the 
+	 * operands can have a large relative error. The error of the classic 
+	 * algorithm is bounded componentwise by about <i>nu</i>|A||B|. Larger 
+	 * leaf sizes give tighter bounds.
+	 * 
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param leafSize the size below which the classic algorithm is used
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid square matrix, if they are different sizes or if 
+	 * {@code leafSize} is less than 1
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] strassenMultiply(double[][] matrix1, double[][] matrix2, int leafSize) {
+		Argument.checkGreaterThan(leafSize, 0, "leafSize");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix1[0].length || matrix2.length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		} else if (matrix1.length != matrix2.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		}
+		
+		if (matrix1.length <= leafSize) {
+			return multiply(matrix1, matrix2);
+		}
+		int padded = StrassenKernels.paddedSize(matrix1.length, leafSize);
+		checkSize(padded, padded);
+		return StrassenKernels.multiply(matrix1, matrix2, leafSize);
+	}
+	
+	/**
+	 * Stores {@code alpha * matrix1 * matrix2 + beta * result} in 
+	 * {@code result} and returns it.
+	 * 
+	 * @param alpha the scalar to multiply the product by
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param beta the scalar to multiply the previous contents of 
+	 * {@code result} by
+	 * @param result the matrix to add the product to
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong size or if {@code result} is 
+	 * {@code matrix1} or {@code matrix2}
+	 * @see #multiplyAdd(float, float[][], boolean, float[][], boolean, float, float[][])
+	 * @since 1.6
+	 */
+	public static float[][] multiplyAdd(float alpha, float[][] matrix1, float[][] matrix2, float beta, float[][] result) {
+		return multiplyAdd(alpha, matrix1, false, matrix2, false, beta, result);
+	}
+	
+	/**
+	 * Stores {@code alpha * op(matrix1) * op(matrix2) + beta * result} in 
+	 * {@code result} and returns it, where {@code op(matrix)} is the 
+	 * transpose of {@code matrix} if its flag is {@code true} and 
+	 * {@code matrix} itself otherwise. This is the same as
+	 * <pre>
+	 * add(multiply(multiply(op(matrix1), op(matrix2)), alpha), multiply(result, beta))
+	 * </pre>
+	 * but it is computed in place in a single pass, without transposing the 
+	 * operands or allocating any intermediate matrices. Because the products 
+	 * are scaled and summed in a different order, the result can differ from 
+	 * that expression by rounding.
+	 * <p>
+	 * If {@code beta} is 0 the previous contents of {@code result} are not 
+	 * read, so they don't need to be initialized and any {@code NaN}s in 
+	 * them are not propagated. If {@code alpha} is 0 the operands are not 
+	 * multiplied.
+	 * <p>
+	 * {@code result} must not be {@code matrix1} or {@code matrix2} and 
+	 * must not share any rows with them, since each element of the operands 
+	 * is read after elements of the result have been written.
+	 * 
+	 * @param alpha the scalar to multiply the product by
+	 * @param matrix1 the first matrix to multiply
+	 * @param transpose1 whether to use the transpose of {@code matrix1}
+	 * @param matrix2 the second matrix to multiply
+	 * @param transpose2 whether to use the transpose of {@code matrix2}
+	 * @param beta the scalar to multiply the previous contents of 
+	 * {@code result} by
+	 * @param result the matrix to add the product to, which must have as 
+	 * many rows as {@code op(matrix1)} and as many columns as 
+	 * {@code op(matrix2)}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code op(matrix1)} don't equal the number of rows of 
+	 * {@code op(matrix2)}, if {@code result} is the wrong size or if 
+	 * {@code result} is {@code matrix1} or {@code matrix2}
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] multiplyAdd(float alpha, float[][] matrix1, boolean transpose1, float[][] matrix2, boolean transpose2,
+			float beta, float[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		int rows = transpose1 ? matrix1[0].length : matrix1.length;
+		int inner = transpose1 ? matrix1.length : matrix1[0].length;
+		int columns = transpose2 ? matrix2.length : matrix2[0].length;
+		if (inner != (transpose2 ? matrix2[0].length : matrix2.length)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != rows || result[0].length != columns) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1 || result == matrix2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		MultiplyAddKernels.multiplyAdd(alpha, matrix1, transpose1, matrix2, transpose2, beta, result);
+		return result;
+	}
+	
+	/**
+	 * Stores {@code alpha * matrix1 * matrix2 + beta * result} in 
+	 * {@code result} and returns it.
+	 * 
+	 * @param alpha the scalar to multiply the product by
+	 * @param matrix1 the first matrix to multiply
+	 * @param matrix2 the second matrix to multiply
+	 * @param beta the scalar to multiply the previous contents of 
+	 * {@code result} by
+	 * @param result the matrix to add the product to
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, 
+	 * if {@code result} is the wrong size or if {@code result} is 
+	 * {@code matrix1} or {@code matrix2}
+	 * @see #multiplyAdd(double, double[][], boolean, double[][], boolean, double, double[][])
+	 * @since 1.6
+	 */
+	public static double[][] multiplyAdd(double alpha, double[][] matrix1, double[][] matrix2, double beta, double[][] result) {
+		return multiplyAdd(alpha, matrix1, false, matrix2, false, beta, result);
+	}
+	
+	/**
+	 * Stores {@code alpha * op(matrix1) * op(matrix2) + beta * result} in 
+	 * {@code result} and returns it, where {@code op(matrix)} is the 
+	 * transpose of {@code matrix} if its flag is {@code true} and 
+	 * {@code matrix} itself otherwise. This is the same as
+	 * <pre>
+	 * add(multiply(multiply(op(matrix1), op(matrix2)), alpha), multiply(result, beta))
+	 * </pre>
+	 * but it is computed in place in a single pass, without transposing the 
+	 * operands or allocating any intermediate matrices. Because the products 
+	 * are scaled and summed in a different order, the result can differ from 
+	 * that expression by rounding.
+	 * <p>
+	 * If {@code beta} is 0 the previous contents of {@code result} are not 
+	 * read, so they don't need to be initialized and any {@code NaN}s in 
+	 * them are not propagated. If {@code alpha} is 0 the operands are not 
+	 * multiplied.
+	 * <p>
+	 * {@code result} must not be {@code matrix1} or {@code matrix2} and 
+	 * must not share any rows with them, since each element of the operands 
+	 * is read after elements of the result have been written.
+	 * 
+	 * @param alpha the scalar to multiply the product by
+	 * @param matrix1 the first matrix to multiply
+	 * @param transpose1 whether to use the transpose of {@code matrix1}
+	 * @param matrix2 the second matrix to multiply
+	 * @param transpose2 whether to use the transpose of {@code matrix2}
+	 * @param beta the scalar to multiply the previous contents of 
+	 * {@code result} by
+	 * @param result the matrix to add the product to, which must have as 
+	 * many rows as {@code op(matrix1)} and as many columns as 
+	 * {@code op(matrix2)}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code op(matrix1)} don't equal the number of rows of 
+	 * {@code op(matrix2)}, if {@code result} is the wrong size or if 
+	 * {@code result} is {@code matrix1} or {@code matrix2}
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] multiplyAdd(double alpha, double[][] matrix1, boolean transpose1, double[][] matrix2, boolean transpose2,
+			double beta, double[][] result) {
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		int rows = transpose1 ? matrix1[0].length : matrix1.length;
+		int inner = transpose1 ? matrix1.length : matrix1[0].length;
+		int columns = transpose2 ? matrix2.length : matrix2[0].length;
+		if (inner != (transpose2 ? matrix2[0].length : matrix2.length)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != rows || result[0].length != columns) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == matrix1 || result == matrix2) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		MultiplyAddKernels.multiplyAdd(alpha, matrix1, transpose1, matrix2, transpose2, beta, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, multiplied in the order that 
+	 * needs the fewest scalar multiplications. For example, if {@code A} is 
+	 * 10x1000, {@code B} is 1000x10 and {@code C} is 10x1000, 
+	 * {@code (A * B) * C} needs 200,000 multiplications while 
+	 * {@code A * (B * C)} needs 20,000,000.
+	 * <p>
+	 * The order is chosen from the dimensions of the matrices with the 
+	 * classic dynamic-programming algorithm, which takes time proportional 
+	 * to the cube of the number of matrices. Rows of intermediate products 
+	 * are reused by later intermediate products with the same number of 
+	 * columns once they are no longer needed. Overflow wraps around, so the 
+	 * result is the same in any order.
+	 * 
+	 * @param matrices the matrices to multiply, in order
+	 * @return the product of {@code matrices}, which is a new matrix even if 
+	 * only one matrix is specified
+	 * @throws IllegalArgumentException if {@code matrices} is {@code null} 
+	 * or empty, if any of them is not a valid matrix, if the number of 
+	 * columns of any of them doesn't equal the number of rows of the next 
+	 * or if an intermediate product would have more than 
+	 * {@link Integer#MAX_VALUE} elements
+	 * @see #multiply(int[][], int[][])
+	 * @since 1.6
+	 */
+	public static int[][] multiplyChain(int[][]... matrices) {
+		Argument.checkNotNull(matrices, "matrices");
+		Argument.checkGreaterThan(matrices.length, 0, "matrices.length");
+		int[] dimensions = new int[matrices.length + 1];
+		for (int i = 0; i < matrices.length; i++) {
+			if (!validateMatrix(matrices[i])) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+			} else if (i > 0 && matrices[i].length != dimensions[i]) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+			}
+			dimensions[i] = matrices[i].length;
+			dimensions[i + 1] = matrices[i][0].length;
+		}
+		
+		return ChainKernels.multiply(matrices, ChainKernels.order(dimensions));
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, multiplied in the order that 
+	 * needs the fewest scalar multiplications. For example, if {@code A} is 
+	 * 10x1000, {@code B} is 1000x10 and {@code C} is 10x1000, 
+	 * {@code (A * B) * C} needs 200,000 multiplications while 
+	 * {@code A * (B * C)} needs 20,000,000.
+	 * <p>
+	 * The order is chosen from the dimensions of the matrices with the 
+	 * classic dynamic-programming algorithm, which takes time proportional 
+	 * to the cube of the number of matrices. Rows of intermediate products 
+	 * are reused by later intermediate products with the same number of 
+	 * columns once they are no longer needed. Overflow wraps around, so the 
+	 * result is the same in any order.
+	 * 
+	 * @param matrices the matrices to multiply, in order
+	 * @return the product of {@code matrices}, which is a new matrix even if 
+	 * only one matrix is specified
+	 * @throws IllegalArgumentException if {@code matrices} is {@code null} 
+	 * or empty, if any of them is not a valid matrix, if the number of 
+	 * columns of any of them doesn't equal the number of rows of the next 
+	 * or if an intermediate product would have more than 
+	 * {@link Integer#MAX_VALUE} elements
+	 * @see #multiply(long[][], long[][])
+	 * @since 1.6
+	 */
+	public static long[][] multiplyChain(long[][]... matrices) {
+		Argument.checkNotNull(matrices, "matrices");
+		Argument.checkGreaterThan(matrices.length, 0, "matrices.length");
+		int[] dimensions = new int[matrices.length + 1];
+		for (int i = 0; i < matrices.length; i++) {
+			if (!validateMatrix(matrices[i])) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+			} else if (i > 0 && matrices[i].length != dimensions[i]) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+			}
+			dimensions[i] = matrices[i].length;
+			dimensions[i + 1] = matrices[i][0].length;
+		}
+		
+		return ChainKernels.multiply(matrices, ChainKernels.order(dimensions));
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, multiplied in the order that 
+	 * needs the fewest scalar multiplications. For example, if {@code A} is 
+	 * 10x1000, {@code B} is 1000x10 and {@code C} is 10x1000, 
+	 * {@code (A * B) * C} needs 200,000 multiplications while 
+	 * {@code A * (B * C)} needs 20,000,000.
+	 * <p>
+	 * The order is chosen from the dimensions of the matrices with the 
+	 * classic dynamic-programming algorithm, which takes time proportional 
+	 * to the cube of the number of matrices. Rows of intermediate products 
+	 * are reused by later intermediate products with the same number of 
+	 * columns once they are no longer needed. Since floating-point 
+	 * arithmetic is not associative, the result may differ slightly from 
+	 * multiplying the matrices from left to right.
+	 * 
+	 * @param matrices the matrices to multiply, in order
+	 * @return the product of {@code matrices}, which is a new matrix even if 
+	 * only one matrix is specified
+	 * @throws IllegalArgumentException if {@code matrices} is {@code null} 
+	 * or empty, if any of them is not a valid matrix, if the number of 
+	 * columns of any of them doesn't equal the number of rows of the next 
+	 * or if an intermediate product would have more than 
+	 * {@link Integer#MAX_VALUE} elements
+	 * @see #multiply(float[][], float[][])
+	 * @since 1.6
+	 */
+	public static float[][] multiplyChain(float[][]... matrices) {
+		Argument.checkNotNull(matrices, "matrices");
+		Argument.checkGreaterThan(matrices.length, 0, "matrices.length");
+		int[] dimensions = new int[matrices.length + 1];
+		for (int i = 0; i < matrices.length; i++) {
+			if (!validateMatrix(matrices[i])) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+			} else if (i > 0 && matrices[i].length != dimensions[i]) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+			}
+			dimensions[i] = matrices[i].length;
+			dimensions[i + 1] = matrices[i][0].length;
+		}
+		
+		return ChainKernels.multiply(matrices, ChainKernels.order(dimensions));
+	}
+	
+	/**
+	 * Returns the product of {@code matrices}, multiplied in the order that 
+	 * needs the fewest scalar multiplications. For example, if {@code A} is 
+	 * 10x1000, {@code B} is 1000x10 and {@code C} is 10x1000, 
+	 * {@code (A * B) * C} needs 200,000 multiplications while 
+	 * {@code A * (B * C)} needs 20,000,000.
+	 * <p>
+	 * The order is chosen from the dimensions of the matrices with the 
+	 * classic dynamic-programming algorithm, which takes time proportional 
+	 * to the cube of the number of matrices. Rows of intermediate products 
+	 * are reused by later intermediate products with the same number of 
+	 * columns once they are no longer needed. Since floating-point 
+	 * arithmetic is not associative, the result may differ slightly from 
+	 * multiplying the matrices from left to right.
+	 * 
+	 * @param matrices the matrices to multiply, in order
+	 * @return the product of {@code matrices}, which is a new matrix even if 
+	 * only one matrix is specified
+	 * @throws IllegalArgumentException if {@code matrices} is {@code null} 
+	 * or empty, if any of them is not a valid matrix, if the number of 
+	 * columns of any of them doesn't equal the number of rows of the next 
+	 * or if an intermediate product would have more than 
+	 * {@link Integer#MAX_VALUE} elements
+	 * @see #multiply(double[][], double[][])
+	 * @since 1.6
+	 */
+	public static double[][] multiplyChain(double[][]... matrices) {
+		Argument.checkNotNull(matrices, "matrices");
+		Argument.checkGreaterThan(matrices.length, 0, "matrices.length");
+		int[] dimensions = new int[matrices.length + 1];
+		for (int i = 0; i < matrices.length; i++) {
+			if (!validateMatrix(matrices[i])) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+			} else if (i > 0 && matrices[i].length != dimensions[i]) {
+				throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+			}
+			dimensions[i] = matrices[i].length;
+			dimensions[i + 1] = matrices[i][0].length;
+		}
+		
+		return ChainKernels.multiply(matrices, ChainKernels.order(dimensions));
+	}
+	
+	/**
+	 * Returns the square {@code matrix} raised to the power 
+	 * {@code exponent}, computed by repeated squaring. This takes at most 
+	 * 2&nbsp;log<sub>2</sub>{@code exponent} products rather than 
+	 * {@code exponent - 1}, and uses the same amount of temporary storage as 
+	 * the result regardless of the exponent.
+	 * <p>
+	 * Since {@code long} arithmetic wraps around, the result is exact 
+	 * modulo 2<sup>64</sup>. Use {@link #power(long[][], long, long)} to 
+	 * calculate it modulo a different number.
+	 * 
+	 * @param matrix the matrix to raise to a power
+	 * @param exponent the power to raise {@code matrix} to
+	 * @return {@code matrix} raised to the power {@code exponent}, which is 
+	 * the identity matrix if {@code exponent} is 0
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * square matrix or if {@code exponent} is negative
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] power(long[][] matrix, long exponent) {
+		Argument.checkGreaterThanOrEqual(exponent, 0L, "exponent");
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		return PowerKernels.power(matrix, exponent);
+	}
+	
+	/**
+	 * Returns the square {@code matrix} raised to the power 
+	 * {@code exponent} modulo {@code modulus}, computed by repeated squaring. 
+	 * Every element of the result is between 0 (inclusive) and 
+	 * {@code modulus} (exclusive), and it is exact however large the 
+	 * elements of the intermediate products would be.
+	 * <p>
+	 * The elements of {@code matrix} may be negative or larger than 
+	 * {@code modulus}, in which case they are reduced first. Moduli up to 
+	 * 3037000500, whose reduced elements can be multiplied without 
+	 * overflowing, are much faster than larger moduli, which need up to 63 
+	 * modular additions per multiplication.
+	 * 
+	 * @param matrix the matrix to raise to a power
+	 * @param exponent the power to raise {@code matrix} to
+	 * @param modulus the modulus to calculate the power with
+	 * @return {@code matrix} raised to the power {@code exponent} modulo 
+	 * {@code modulus}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * square matrix, if {@code exponent} is negative or if {@code modulus} 
+	 * is less than 1
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] power(long[][] matrix, long exponent, long modulus) {
+		Argument.checkGreaterThan(modulus, 0L, "modulus");
+		Argument.checkGreaterThanOrEqual(exponent, 0L, "exponent");
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		return PowerKernels.power(matrix, exponent, modulus);
+	}
+	
+	/**
+	 * Returns the square {@code matrix} raised to the power 
+	 * {@code exponent}, computed by repeated squaring. This takes at most 
+	 * 2&nbsp;log<sub>2</sub>{@code exponent} products rather than 
+	 * {@code exponent - 1}, and uses the same amount of temporary storage as 
+	 * the result regardless of the exponent.
+	 * <p>
+	 * Since fewer products are rounded, the result is usually at least as 
+	 * accurate as that of multiplying {@code matrix} by itself repeatedly, 
+	 * but it is not necessarily identical.
+	 * 
+	 * @param matrix the matrix to raise to a power
+	 * @param exponent the power to raise {@code matrix} to
+	 * @return {@code matrix} raised to the power {@code exponent}, which is 
+	 * the identity matrix if {@code exponent} is 0
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * square matrix or if {@code exponent} is negative
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] power(double[][] matrix, long exponent) {
+		Argument.checkGreaterThanOrEqual(exponent, 0L, "exponent");
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix.length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_NOT_SQUARE);
+		}
+		
+		return PowerKernels.power(matrix, exponent);
+	}
+	
+	/**
+	 * Returns the sum of {@code matrix1} and {@code matrix2}.
+	 * 
+	 * @param matrix1 the first view to add
+	 * @param matrix2 the second view to add
+	 * @return the sum of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is {@code null} or if they are different sizes
+	 * @since 1.6
+	 */
+	public static double[][] add(MatrixView matrix1, MatrixView matrix2) {
+		Argument.checkNotNull(matrix1, "matrix1");
+		double[][] result = new double[matrix1.getRows()][matrix1.getColumns()];
+		add(matrix1, matrix2, MatrixView.of(result));
+		return result;
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. {@code result} may overlap either 
+	 * operand.
+	 * 
+	 * @param matrix1 the first view to add
+	 * @param matrix2 the second view to add
+	 * @param result the view to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is {@code null} or if they are different sizes
+	 * @since 1.6
+	 */
+	public static MatrixView add(MatrixView matrix1, MatrixView matrix2, MatrixView result) {
+		Argument.checkNotNull(matrix1, "matrix1");
+		Argument.checkNotNull(matrix2, "matrix2");
+		Argument.checkNotNull(result, "result");
+		if (matrix1.getRows() != matrix2.getRows() || matrix1.getColumns() != matrix2.getColumns()) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.getRows() != matrix1.getRows() || result.getColumns() != matrix1.getColumns()) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ViewKernels.add(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix1} and {@code matrix2}.
+	 * 
+	 * @param matrix1 the first view to multiply
+	 * @param matrix2 the second view to multiply
+	 * @return the product of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is {@code null}, if the number of columns of {@code matrix1} don't 
+	 * equal the number of rows of {@code matrix2} or if any of the matrices 
+	 * has more than {@link Integer#MAX_VALUE} elements
+	 * @since 1.6
+	 */
+	public static double[][] multiply(MatrixView matrix1, MatrixView matrix2) {
+		Argument.checkNotNull(matrix1, "matrix1");
+		Argument.checkNotNull(matrix2, "matrix2");
+		double[][] result = new double[matrix1.getRows()][matrix2.getColumns()];
+		multiply(matrix1, matrix2, MatrixView.of(result));
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} in 
+	 * {@code result} and returns it. Any previous contents of 
+	 * {@code result} are overwritten. {@code result} may overlap either 
+	 * operand, in which case the operand is copied before the product is 
+	 * computed.
+	 * <p>
+	 * Operands that aren't views of a flat array with contiguous rows are 
+	 * packed into one before they are multiplied, which takes time 
+	 * proportional to their size rather than to the product.
+	 * 
+	 * @param matrix1 the first view to multiply
+	 * @param matrix2 the second view to multiply
+	 * @param result the view to store the product in, which must have as 
+	 * many rows as {@code matrix1} and as many columns as {@code matrix2}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is {@code null}, if the number of columns of 
+	 * {@code matrix1} don't equal the number of rows of {@code matrix2}, if 
+	 * {@code result} is the wrong size or if any of the matrices has more 
+	 * than {@link Integer#MAX_VALUE} elements
+	 * @since 1.6
+	 */
+	public static MatrixView multiply(MatrixView matrix1, MatrixView matrix2, MatrixView result) {
+		Argument.checkNotNull(matrix1, "matrix1");
+		Argument.checkNotNull(matrix2, "matrix2");
+		Argument.checkNotNull(result, "result");
+		if (matrix1.getColumns() != matrix2.getRows()) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.getRows() != matrix1.getRows() || result.getColumns() != matrix2.getColumns()) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		checkSize(matrix1.getRows(), matrix1.getColumns());
+		checkSize(matrix2.getRows(), matrix2.getColumns());
+		checkSize(result.getRows(), result.getColumns());
+		
+		ViewKernels.multiply(matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and {@code scalar}.
+	 * 
+	 * @param matrix the view to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code scalar}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 * @since 1.6
+	 */
+	public static double[][] multiply(MatrixView matrix, double scalar) {
+		Argument.checkNotNull(matrix, "matrix");
+		double[][] result = new double[matrix.getRows()][matrix.getColumns()];
+		multiply(matrix, scalar, MatrixView.of(result));
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result} and returns it. {@code result} may overlap 
+	 * {@code matrix}.
+	 * 
+	 * @param matrix the view to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the view to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is {@code null} or if {@code result} is the wrong size
+	 * @since 1.6
+	 */
+	public static MatrixView multiply(MatrixView matrix, double scalar, MatrixView result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		if (result.getRows() != matrix.getRows() || result.getColumns() != matrix.getColumns()) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ViewKernels.multiply(matrix, scalar, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the transpose of {@code matrix}, where each row will become a 
+	 * column and each column will become a row. Use 
+	 * {@link MatrixView#transpose()} instead to read a view transposed 
+	 * without copying it.
+	 * 
+	 * @param matrix the view to transpose
+	 * @return the transpose of {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null}
+	 * @since 1.6
+	 */
+	public static double[][] transpose(MatrixView matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		double[][] result = new double[matrix.getColumns()][matrix.getRows()];
+		ViewKernels.copy(matrix.transpose(), MatrixView.of(result));
+		return result;
+	}
+	
+	/**
+	 * Stores the transpose of {@code matrix} in {@code result} and returns 
+	 * it. {@code result} may overlap {@code matrix}, in which case 
+	 * {@code matrix} is copied before the transpose is stored.
+	 * 
+	 * @param matrix the view to transpose
+	 * @param result the view to store the transpose in, which must have as 
+	 * many rows as {@code matrix} has columns and as many columns as 
+	 * {@code matrix} has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is {@code null} or if {@code result} is the wrong size
+	 * @since 1.6
+	 */
+	public static MatrixView transpose(MatrixView matrix, MatrixView result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		if (result.getRows() != matrix.getColumns() || result.getColumns() != matrix.getRows()) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ViewKernels.copy(matrix.transpose(), result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and the column vector 
+	 * {@code vector}, as a vector with an element for each row of 
+	 * {@code matrix}.
+	 * <p>
+	 * Unlike {@link #multiply(float[][], float[])}, which multiplies a 
+	 * column by a row, this computes the dot product of each row of 
+	 * {@code matrix} with {@code vector}. The dot products of four rows 
+	 * are computed at a time, each in the same order as a plain loop.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code vector}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code vector} 
+	 * is not a valid matrix or if the number of columns of {@code matrix} 
+	 * doesn't equal the length of {@code vector}
+	 * @see #validateMatrix(float[])
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[] multiplyVector(float[][] matrix, float[] vector) {
+		if (!validateMatrix(matrix) || !validateMatrix(vector)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != vector.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		float[] result = new float[matrix.length];
+		VectorKernels.multiply(matrix, vector, result, 0, matrix.length);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and the column vector 
+	 * {@code vector} in {@code result} and returns it.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @param result the vector to store the product in, which must have as 
+	 * many elements as {@code matrix} has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix}, {@code vector} or 
+	 * {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix} doesn't equal the length of {@code vector}, if 
+	 * {@code result} is the wrong length or if {@code result} is 
+	 * {@code vector}
+	 * @see #multiplyVector(float[][], float[])
+	 * @see #validateMatrix(float[])
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[] multiplyVector(float[][] matrix, float[] vector, float[] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(vector) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != vector.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == vector) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		VectorKernels.multiply(matrix, vector, result, 0, matrix.length);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and the column vector 
+	 * {@code vector}, computed in parallel using 
+	 * {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code vector}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code vector} 
+	 * is not a valid matrix or if the number of columns of {@code matrix} 
+	 * doesn't equal the length of {@code vector}
+	 * @see #parallelMultiplyVector(float[][], float[], float[], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static float[] parallelMultiplyVector(float[][] matrix, float[] vector) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelMultiplyVector(matrix, vector, new float[matrix.length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and the column vector 
+	 * {@code vector} in {@code result}, computed in parallel using 
+	 * {@code pool}, and returns it. The rows of {@code matrix} are divided 
+	 * into ranges which are computed as separate tasks, so this is most 
+	 * effective for tall matrices. Products too small to benefit from being 
+	 * split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiplyVector(float[][], float[])}.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @param result the vector to store the product in, which must have as 
+	 * many elements as {@code matrix} has rows
+	 * @param pool the pool to compute the product with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix}, {@code vector} or 
+	 * {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix} doesn't equal the length of {@code vector}, if 
+	 * {@code result} is the wrong length, if {@code result} is 
+	 * {@code vector} or if {@code pool} is {@code null}
+	 * @see #validateMatrix(float[])
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[] parallelMultiplyVector(float[][] matrix, float[] vector, float[] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix) || !validateMatrix(vector) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != vector.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == vector) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		ParallelKernels.multiply(pool, matrix, vector, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and the column vector 
+	 * {@code vector}, as a vector with an element for each row of 
+	 * {@code matrix}.
+	 * <p>
+	 * Unlike {@link #multiply(double[][], double[])}, which multiplies a 
+	 * column by a row, this computes the dot product of each row of 
+	 * {@code matrix} with {@code vector}. The dot products of four rows 
+	 * are computed at a time, each in the same order as a plain loop.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code vector}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code vector} 
+	 * is not a valid matrix or if the number of columns of {@code matrix} 
+	 * doesn't equal the length of {@code vector}
+	 * @see #validateMatrix(double[])
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[] multiplyVector(double[][] matrix, double[] vector) {
+		if (!validateMatrix(matrix) || !validateMatrix(vector)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != vector.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		}
+		
+		double[] result = new double[matrix.length];
+		VectorKernels.multiply(matrix, vector, result, 0, matrix.length);
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and the column vector 
+	 * {@code vector} in {@code result} and returns it.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @param result the vector to store the product in, which must have as 
+	 * many elements as {@code matrix} has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix}, {@code vector} or 
+	 * {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix} doesn't equal the length of {@code vector}, if 
+	 * {@code result} is the wrong length or if {@code result} is 
+	 * {@code vector}
+	 * @see #multiplyVector(double[][], double[])
+	 * @see #validateMatrix(double[])
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[] multiplyVector(double[][] matrix, double[] vector, double[] result) {
+		if (!validateMatrix(matrix) || !validateMatrix(vector) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != vector.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == vector) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		VectorKernels.multiply(matrix, vector, result, 0, matrix.length);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and the column vector 
+	 * {@code vector}, computed in parallel using 
+	 * {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code vector}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code vector} 
+	 * is not a valid matrix or if the number of columns of {@code matrix} 
+	 * doesn't equal the length of {@code vector}
+	 * @see #parallelMultiplyVector(double[][], double[], double[], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static double[] parallelMultiplyVector(double[][] matrix, double[] vector) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelMultiplyVector(matrix, vector, new double[matrix.length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and the column vector 
+	 * {@code vector} in {@code result}, computed in parallel using 
+	 * {@code pool}, and returns it. The rows of {@code matrix} are divided 
+	 * into ranges which are computed as separate tasks, so this is most 
+	 * effective for tall matrices. Products too small to benefit from being 
+	 * split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiplyVector(double[][], double[])}.
+	 * 
+	 * @param matrix the matrix to multiply
+	 * @param vector the column vector to multiply {@code matrix} by
+	 * @param result the vector to store the product in, which must have as 
+	 * many elements as {@code matrix} has rows
+	 * @param pool the pool to compute the product with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix}, {@code vector} or 
+	 * {@code result} is not a valid matrix, if the number of columns of 
+	 * {@code matrix} doesn't equal the length of {@code vector}, if 
+	 * {@code result} is the wrong length, if {@code result} is 
+	 * {@code vector} or if {@code pool} is {@code null}
+	 * @see #validateMatrix(double[])
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[] parallelMultiplyVector(double[][] matrix, double[] vector, double[] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix) || !validateMatrix(vector) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix[0].length != vector.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (result.length != matrix.length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == vector) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		ParallelKernels.multiply(pool, matrix, vector, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the sum of {@code matrix1} and {@code matrix2}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @return the sum of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if they are different sizes
+	 * @see #parallelAdd(int[][], int[][], int[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static int[][] parallelAdd(int[][] matrix1, int[][] matrix2) {
+		if (!validateMatrix(matrix1)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelAdd(matrix1, matrix2, new int[matrix1.length][matrix1[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix1} or {@code matrix2}, in 
+	 * which case the sum is computed in place. The rows are divided into 
+	 * ranges which are added as separate tasks, so that a large matrix can 
+	 * use the memory bandwidth of more than one core. Sums too small to 
+	 * benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #add(int[][], int[][], int[][])}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @param pool the pool to compute the sum with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if they are different sizes 
+	 * or if {@code pool} is {@code null}
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] parallelAdd(int[][] matrix1, int[][] matrix2, int[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.add(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and {@code scalar}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code scalar}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid matrix
+	 * @see #parallelMultiply(int[][], int, int[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static int[][] parallelMultiply(int[][] matrix, int scalar) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelMultiply(matrix, scalar, new int[matrix.length][matrix[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix}, in which case the product 
+	 * is computed in place. The rows are divided into ranges which are 
+	 * multiplied as separate tasks. Products too small to benefit from being 
+	 * split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(int[][], int, int[][])}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @param pool the pool to compute the product with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code pool} is {@code null}
+	 * @see #validateMatrix(int[][])
+	 * @since 1.6
+	 */
+	public static int[][] parallelMultiply(int[][] matrix, int scalar, int[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.multiply(pool, matrix, scalar, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the sum of {@code matrix1} and {@code matrix2}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @return the sum of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if they are different sizes
+	 * @see #parallelAdd(long[][], long[][], long[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static long[][] parallelAdd(long[][] matrix1, long[][] matrix2) {
+		if (!validateMatrix(matrix1)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelAdd(matrix1, matrix2, new long[matrix1.length][matrix1[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix1} or {@code matrix2}, in 
+	 * which case the sum is computed in place. The rows are divided into 
+	 * ranges which are added as separate tasks, so that a large matrix can 
+	 * use the memory bandwidth of more than one core. Sums too small to 
+	 * benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #add(long[][], long[][], long[][])}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @param pool the pool to compute the sum with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if they are different sizes 
+	 * or if {@code pool} is {@code null}
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] parallelAdd(long[][] matrix1, long[][] matrix2, long[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.add(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and {@code scalar}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code scalar}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid matrix
+	 * @see #parallelMultiply(long[][], long, long[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static long[][] parallelMultiply(long[][] matrix, long scalar) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelMultiply(matrix, scalar, new long[matrix.length][matrix[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix}, in which case the product 
+	 * is computed in place. The rows are divided into ranges which are 
+	 * multiplied as separate tasks. Products too small to benefit from being 
+	 * split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(long[][], long, long[][])}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @param pool the pool to compute the product with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code pool} is {@code null}
+	 * @see #validateMatrix(long[][])
+	 * @since 1.6
+	 */
+	public static long[][] parallelMultiply(long[][] matrix, long scalar, long[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.multiply(pool, matrix, scalar, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the sum of {@code matrix1} and {@code matrix2}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @return the sum of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if they are different sizes
+	 * @see #parallelAdd(float[][], float[][], float[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static float[][] parallelAdd(float[][] matrix1, float[][] matrix2) {
+		if (!validateMatrix(matrix1)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelAdd(matrix1, matrix2, new float[matrix1.length][matrix1[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix1} or {@code matrix2}, in 
+	 * which case the sum is computed in place. The rows are divided into 
+	 * ranges which are added as separate tasks, so that a large matrix can 
+	 * use the memory bandwidth of more than one core. Sums too small to 
+	 * benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #add(float[][], float[][], float[][])}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @param pool the pool to compute the sum with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if they are different sizes 
+	 * or if {@code pool} is {@code null}
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] parallelAdd(float[][] matrix1, float[][] matrix2, float[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.add(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and {@code scalar}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code scalar}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid matrix
+	 * @see #parallelMultiply(float[][], float, float[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static float[][] parallelMultiply(float[][] matrix, float scalar) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelMultiply(matrix, scalar, new float[matrix.length][matrix[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix}, in which case the product 
+	 * is computed in place. The rows are divided into ranges which are 
+	 * multiplied as separate tasks. Products too small to benefit from being 
+	 * split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(float[][], float, float[][])}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @param pool the pool to compute the product with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code pool} is {@code null}
+	 * @see #validateMatrix(float[][])
+	 * @since 1.6
+	 */
+	public static float[][] parallelMultiply(float[][] matrix, float scalar, float[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.multiply(pool, matrix, scalar, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the sum of {@code matrix1} and {@code matrix2}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @return the sum of {@code matrix1} and {@code matrix2}
+	 * @throws IllegalArgumentException if {@code matrix1} or {@code matrix2} 
+	 * is not a valid matrix or if they are different sizes
+	 * @see #parallelAdd(double[][], double[][], double[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static double[][] parallelAdd(double[][] matrix1, double[][] matrix2) {
+		if (!validateMatrix(matrix1)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelAdd(matrix1, matrix2, new double[matrix1.length][matrix1[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the sum of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix1} or {@code matrix2}, in 
+	 * which case the sum is computed in place. The rows are divided into 
+	 * ranges which are added as separate tasks, so that a large matrix can 
+	 * use the memory bandwidth of more than one core. Sums too small to 
+	 * benefit from being split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #add(double[][], double[][], double[][])}.
+	 * 
+	 * @param matrix1 the first matrix to add
+	 * @param matrix2 the second matrix to add
+	 * @param result the matrix to store the sum in, which must be the same 
+	 * size as {@code matrix1} and {@code matrix2}
+	 * @param pool the pool to compute the sum with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix1}, {@code matrix2} 
+	 * or {@code result} is not a valid matrix, if they are different sizes 
+	 * or if {@code pool} is {@code null}
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] parallelAdd(double[][] matrix1, double[][] matrix2, double[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix1) || !validateMatrix(matrix2) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (matrix1.length != matrix2.length || matrix1[0].length != matrix2[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (result.length != matrix1.length || result[0].length != matrix1[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.add(pool, matrix1, matrix2, result);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of {@code matrix} and {@code scalar}, computed in 
+	 * parallel using {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @return the product of {@code matrix} and {@code scalar}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid matrix
+	 * @see #parallelMultiply(double[][], double, double[][], ForkJoinPool)
+	 * @since 1.6
+	 */
+	public static double[][] parallelMultiply(double[][] matrix, double scalar) {
+		if (!validateMatrix(matrix)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return parallelMultiply(matrix, scalar, new double[matrix.length][matrix[0].length], ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and {@code scalar} in 
+	 * {@code result}, computed in parallel using {@code pool}, and returns 
+	 * it. {@code result} may be {@code matrix}, in which case the product 
+	 * is computed in place. The rows are divided into ranges which are 
+	 * multiplied as separate tasks. Products too small to benefit from being 
+	 * split are computed on the calling thread.
+	 * <p>
+	 * The result is the same as that of 
+	 * {@link #multiply(double[][], double, double[][])}.
+	 * 
+	 * @param matrix the matrix to multiply the scalar by
+	 * @param scalar the scalar to multiply {@code matrix} by
+	 * @param result the matrix to store the product in, which must be the 
+	 * same size as {@code matrix}
+	 * @param pool the pool to compute the product with
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is not a valid matrix, if {@code result} is the wrong size or if 
+	 * {@code pool} is {@code null}
+	 * @see #validateMatrix(double[][])
+	 * @since 1.6
+	 */
+	public static double[][] parallelMultiply(double[][] matrix, double scalar, double[][] result, ForkJoinPool pool) {
+		Argument.checkNotNull(pool, "pool");
+		if (!validateMatrix(matrix) || !validateMatrix(result)) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_INVALID_MATRIX);
+		} else if (result.length != matrix.length || result[0].length != matrix[0].length) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		ParallelKernels.multiply(pool, matrix, scalar, result);
+		return result;
+	}
 
 }
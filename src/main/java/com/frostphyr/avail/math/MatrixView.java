@@ -0,0 +1,414 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A rectangular window of {@code double}s over a jagged array or a flat 
+ * array, which can be operated on by some of the operations of 
+ * {@link MatrixUtils} without copying the elements into a new matrix 
+ * first. A view reads and writes the elements of the array it is over, so 
+ * changes to the array are visible in the view and vice versa.
+ * <p>
+ * A view of a view selects the rows starting at a row offset and then 
+ * every {@code rowStride}th row after it, and likewise for the columns, so 
+ * a view can be a block of a matrix, every other element of a matrix or 
+ * any other regular subset of it. {@link #transpose()} returns a view 
+ * whose rows are the columns of the view, which also doesn't copy 
+ * anything.
+ * <p>
+ * The operations of {@link MatrixUtils} that accept views are 
+ * {@link MatrixUtils#add(MatrixView, MatrixView, MatrixView) add}, 
+ * {@link MatrixUtils#multiply(MatrixView, MatrixView, MatrixView) multiply}, 
+ * {@link MatrixUtils#multiply(MatrixView, double, MatrixView) multiply} by 
+ * a scalar and 
+ * {@link MatrixUtils#transpose(MatrixView, MatrixView) transpose}, each 
+ * with and without a result view. The other operations, including the 
+ * parallel ones, take arrays, which {@link #toArray()} copies a view into. 
+ * The operations that accept views read rows that are contiguous in the 
+ * backing array directly and copy other rows a row at a time. Their result 
+ * is correct even when the result overlaps an operand, but an operand that 
+ * overlaps the result without being the same view as it is copied first.
+ * <p>
+ * Views are treated as overlapping when they are views of the same array, 
+ * which for a jagged array is the outer {@code double[][]} rather than its 
+ * rows. Two jagged arrays that share row arrays, such as an array and a 
+ * copy of it made with {@link Object#clone()}, give views that aren't 
+ * detected as overlapping, so an operand over one of them must not overlap 
+ * a result over the other.
+ * <p>
+ * A view of a jagged array checks the array when it is created, so the 
+ * rows of the array must not be replaced with rows of a different length 
+ * while the view is used.
+ * 
+ * @see DenseMatrix#view()
+ * @since 1.6
+ */
+public final class MatrixView {
+	
+	static final String EXCEPTION_MESSAGE_OUTSIDE = "View must be inside the matrix it is a view of";
+	
+	private final double[][] matrix;
+	private final double[] data;
+	private final int offset;
+	private final int stride;
+	private final int rowOffset;
+	private final int columnOffset;
+	private final int rowStride;
+	private final int columnStride;
+	private final int rows;
+	private final int columns;
+	private final boolean transposed;
+	
+	private MatrixView(double[][] matrix, double[] data, int offset, int stride, int rowOffset, int columnOffset,
+			int rowStride, int columnStride, int rows, int columns, boolean transposed) {
+		this.matrix = matrix;
+		this.data = data;
+		this.offset = offset;
+		this.stride = stride;
+		this.rowOffset = rowOffset;
+		this.columnOffset = columnOffset;
+		this.rowStride = rowStride;
+		this.columnStride = columnStride;
+		this.rows = rows;
+		this.columns = columns;
+		this.transposed = transposed;
+	}
+	
+	/**
+	 * Returns a view of all of {@code matrix}.
+	 * 
+	 * @param matrix the matrix to view
+	 * @return a view of {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static MatrixView of(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		return new MatrixView(matrix, null, 0, 0, 0, 0, 1, 1, matrix.length, matrix[0].length, false);
+	}
+	
+	/**
+	 * Returns a view of {@code data}, which holds {@code rows} rows of 
+	 * {@code columns} elements one after another.
+	 * 
+	 * @param data the array to view
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a view of {@code data}
+	 * @throws IllegalArgumentException if {@code data} is {@code null}, if 
+	 * {@code rows} or {@code columns} is less than 1 or if {@code data} is too 
+	 * small to hold the matrix
+	 * @see #wrap(double[], int, int, int, int)
+	 */
+	public static MatrixView wrap(double[] data, int rows, int columns) {
+		return wrap(data, 0, columns, rows, columns);
+	}
+	
+	/**
+	 * Returns a view of {@code data}, where the element at row {@code r} and 
+	 * column {@code c} is stored at index {@code offset + r * stride + c}.
+	 * 
+	 * @param data the array to view
+	 * @param offset the index of the first element of the matrix
+	 * @param stride the distance between the first elements of consecutive 
+	 * rows
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a view of {@code data}
+	 * @throws IllegalArgumentException if {@code data} is {@code null}, if 
+	 * {@code rows} or {@code columns} is less than 1, if {@code offset} is 
+	 * negative, if {@code stride} is less than {@code columns} or if 
+	 * {@code data} is too small to hold the matrix
+	 * @see DenseMatrix#wrap(double[], int, int, int, int)
+	 */
+	public static MatrixView wrap(double[] data, int offset, int stride, int rows, int columns) {
+		Argument.checkNotNull(data, "data");
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		Argument.checkGreaterThanOrEqual(offset, 0, "offset");
+		Argument.checkGreaterThanOrEqual(stride, columns, "stride");
+		if (offset + (long) (rows - 1) * stride + columns > data.length) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_DATA_LENGTH);
+		}
+		return new MatrixView(null, data, offset, stride, 0, 0, 1, 1, rows, columns, false);
+	}
+	
+	/**
+	 * Returns a view of the {@code rows} rows starting at {@code row} and the 
+	 * {@code columns} columns starting at {@code column} of this view.
+	 * 
+	 * @param row the first row of the new view
+	 * @param column the first column of the new view
+	 * @param rows the number of rows of the new view
+	 * @param columns the number of columns of the new view
+	 * @return a view of a block of this view
+	 * @throws IllegalArgumentException if {@code row} or {@code column} is 
+	 * negative, if {@code rows} or {@code columns} is less than 1 or if the 
+	 * block is not inside this view
+	 */
+	public MatrixView view(int row, int column, int rows, int columns) {
+		return view(row, column, 1, 1, rows, columns);
+	}
+	
+	/**
+	 * Returns a view of {@code rows} rows of this view starting at 
+	 * {@code row} and {@code rowStride} rows apart, and of {@code columns} 
+	 * columns starting at {@code column} and {@code columnStride} columns 
+	 * apart. The element at row {@code r} and column {@code c} of the new 
+	 * view is the element at row {@code row + r * rowStride} and column 
+	 * {@code column + c * columnStride} of this view.
+	 * 
+	 * @param row the first row of the new view
+	 * @param column the first column of the new view
+	 * @param rowStride the distance between consecutive rows of the new view
+	 * @param columnStride the distance between consecutive columns of the new 
+	 * view
+	 * @param rows the number of rows of the new view
+	 * @param columns the number of columns of the new view
+	 * @return a view of a subset of this view
+	 * @throws IllegalArgumentException if {@code row} or {@code column} is 
+	 * negative, if any of {@code rowStride}, {@code columnStride}, 
+	 * {@code rows} and {@code columns} is less than 1 or if the last row or 
+	 * column of the new view is not inside this view
+	 */
+	public MatrixView view(int row, int column, int rowStride, int columnStride, int rows, int columns) {
+		Argument.checkGreaterThanOrEqual(row, 0, "row");
+		Argument.checkGreaterThanOrEqual(column, 0, "column");
+		Argument.checkGreaterThan(rowStride, 0, "rowStride");
+		Argument.checkGreaterThan(columnStride, 0, "columnStride");
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		if (row + (long) (rows - 1) * rowStride >= this.rows || column + (long) (columns - 1) * columnStride >= this.columns) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_OUTSIDE);
+		}
+		
+		if (rows == 1) {
+			rowStride = 1;
+		}
+		if (columns == 1) {
+			columnStride = 1;
+		}
+		if (transposed) {
+			return new MatrixView(matrix, data, offset, stride, rowOffset + column * this.rowStride,
+					columnOffset + row * this.columnStride, columnStride * this.rowStride, rowStride * this.columnStride,
+					rows, columns, true);
+		}
+		return new MatrixView(matrix, data, offset, stride, rowOffset + row * this.rowStride,
+				columnOffset + column * this.columnStride, rowStride * this.rowStride, columnStride * this.columnStride,
+				rows, columns, false);
+	}
+	
+	/**
+	 * Returns a view of the transpose of this view, whose rows are the 
+	 * columns of this view and whose columns are the rows of this view.
+	 * 
+	 * @return the transpose of this view
+	 */
+	public MatrixView transpose() {
+		return new MatrixView(matrix, data, offset, stride, rowOffset, columnOffset, rowStride, columnStride,
+				columns, rows, !transposed);
+	}
+	
+	/**
+	 * Returns the number of rows of this view.
+	 * 
+	 * @return the number of rows of this view
+	 */
+	public int getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of this view.
+	 * 
+	 * @return the number of columns of this view
+	 */
+	public int getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this view
+	 */
+	public double get(int row, int column) {
+		checkIndex(row, column);
+		return getElement(row, column);
+	}
+	
+	/**
+	 * Sets the element at {@code row} and {@code column} to {@code value}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @param value the value to set the element to
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this view
+	 */
+	public void set(int row, int column, double value) {
+		checkIndex(row, column);
+		setElement(row, column, value);
+	}
+	
+	/**
+	 * Sets every element of this view to {@code value}.
+	 * 
+	 * @param value the value to set every element to
+	 */
+	public void fill(double value) {
+		for (int r = 0; r < rows; r++) {
+			if (isRowContiguous()) {
+				int index = rowIndex(r);
+				Arrays.fill(rowArray(r), index, index + columns, value);
+			} else {
+				for (int c = 0; c < columns; c++) {
+					setElement(r, c, value);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns a copy of this view as an array of rows.
+	 * 
+	 * @return a copy of this view as an array of rows
+	 */
+	public double[][] toArray() {
+		double[][] result = new double[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			read(r, result[r]);
+		}
+		return result;
+	}
+	
+	private void checkIndex(int row, int column) {
+		if (row < 0 || row >= rows || column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+	}
+	
+	double getElement(int row, int column) {
+		int backingRow = rowOffset + (transposed ? column : row) * rowStride;
+		int backingColumn = columnOffset + (transposed ? row : column) * columnStride;
+		return matrix != null ? matrix[backingRow][backingColumn] : data[offset + backingRow * stride + backingColumn];
+	}
+	
+	void setElement(int row, int column, double value) {
+		int backingRow = rowOffset + (transposed ? column : row) * rowStride;
+		int backingColumn = columnOffset + (transposed ? row : column) * columnStride;
+		if (matrix != null) {
+			matrix[backingRow][backingColumn] = value;
+		} else {
+			data[offset + backingRow * stride + backingColumn] = value;
+		}
+	}
+	
+	/**
+	 * Returns whether the elements of each row of this view are next to each 
+	 * other in the array returned by {@link #rowArray(int)}.
+	 */
+	boolean isRowContiguous() {
+		return !transposed && columnStride == 1;
+	}
+	
+	/**
+	 * Returns whether this view is a view of a flat array in which the 
+	 * elements of each row are next to each other, so it can be passed to 
+	 * the flat kernels of {@link MatrixKernels} along with 
+	 * {@link #rowIndex(int) rowIndex(0)} and {@link #rowDistance()}.
+	 */
+	boolean isDense() {
+		return data != null && isRowContiguous();
+	}
+	
+	/**
+	 * Returns the array holding {@code row}, if this view is row-contiguous.
+	 */
+	double[] rowArray(int row) {
+		return matrix != null ? matrix[rowOffset + row * rowStride] : data;
+	}
+	
+	/**
+	 * Returns the index of the first element of {@code row} in 
+	 * {@link #rowArray(int)}, if this view is row-contiguous.
+	 */
+	int rowIndex(int row) {
+		return matrix != null ? columnOffset : offset + (rowOffset + row * rowStride) * stride + columnOffset;
+	}
+	
+	/**
+	 * Returns the distance between the first elements of consecutive rows, if 
+	 * this view is dense.
+	 */
+	int rowDistance() {
+		return rowStride * stride;
+	}
+	
+	/**
+	 * Copies {@code row} into the start of {@code destination}.
+	 */
+	void read(int row, double[] destination) {
+		if (isRowContiguous()) {
+			System.arraycopy(rowArray(row), rowIndex(row), destination, 0, columns);
+		} else {
+			for (int c = 0; c < columns; c++) {
+				destination[c] = getElement(row, c);
+			}
+		}
+	}
+	
+	/**
+	 * Copies the start of {@code source} into {@code row}.
+	 */
+	void write(int row, double[] source) {
+		if (isRowContiguous()) {
+			System.arraycopy(source, 0, rowArray(row), rowIndex(row), columns);
+		} else {
+			for (int c = 0; c < columns; c++) {
+				setElement(row, c, source[c]);
+			}
+		}
+	}
+	
+	/**
+	 * Returns whether this view and {@code view} are views of the same array. 
+	 * Views of different jagged arrays that share row arrays are not 
+	 * detected.
+	 */
+	boolean sharesArray(MatrixView view) {
+		return matrix != null ? matrix == view.matrix : data == view.data;
+	}
+	
+	/**
+	 * Returns whether this view and {@code view} are views of the same 
+	 * elements in the same order.
+	 */
+	boolean isSameView(MatrixView view) {
+		return sharesArray(view) && offset == view.offset && stride == view.stride
+				&& rowOffset == view.rowOffset && columnOffset == view.columnOffset
+				&& rowStride == view.rowStride && columnStride == view.columnStride
+				&& rows == view.rows && columns == view.columns && transposed == view.transposed;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.append("transposed", transposed)
+				.toString();
+	}
+
+}
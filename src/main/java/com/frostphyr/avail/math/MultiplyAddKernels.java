@@ -0,0 +1,293 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+/**
+ * Package-private kernels for the fused 
+ * {@code result = alpha * op(matrix1) * op(matrix2) + beta * result} 
+ * operation, used by {@link MatrixUtils} once the arguments have been 
+ * validated. Each combination of transposed operands has its own loop order 
+ * so that the products are always added along rows, and no temporary 
+ * matrices are allocated apart from cache-sized tiles when {@code matrix2} 
+ * is transposed.
+ * 
+ * @since 1.6
+ */
+final class MultiplyAddKernels {
+	
+	private static final RowKernels ROWS = RowKernels.INSTANCE;
+	
+	private MultiplyAddKernels() {
+	}
+	
+	static void multiplyAdd(float alpha, float[][] matrix1, boolean transpose1, float[][] matrix2, boolean transpose2,
+			float beta, float[][] result) {
+		if (alpha == 0) {
+			for (float[] row : result) {
+				scale(row, 0, row.length, beta);
+			}
+		} else if (!transpose1 && !transpose2) {
+			multiplyAddNN(alpha, matrix1, matrix2, beta, result);
+		} else if (transpose1 && !transpose2) {
+			multiplyAddTN(alpha, matrix1, matrix2, beta, result);
+		} else {
+			multiplyAddXT(alpha, matrix1, transpose1, matrix2, beta, result);
+		}
+	}
+	
+	/**
+	 * Neither operand transposed. The rows of {@code matrix2} are streamed 
+	 * into each row of the result in the same tiles as 
+	 * {@link MatrixKernels#multiply(float[][], float[][], float[][])}, and each 
+	 * tile of the result is scaled by {@code beta} just before the first 
+	 * products are added to it.
+	 */
+	private static void multiplyAddNN(float alpha, float[][] matrix1, float[][] matrix2, float beta, float[][] result) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		int columnTile = columns;
+		int innerTile = inner;
+		if (MatrixKernels.isTiled(inner, columns, Float.BYTES)) {
+			columnTile = MatrixKernels.columnTileSize(columns, Float.BYTES);
+			innerTile = MatrixKernels.rowTileSize(inner, columnTile, Float.BYTES);
+		}
+		
+		for (int j = 0; j < columns; j += columnTile) {
+			int columnEnd = Math.min(j + columnTile, columns);
+			for (int i = 0; i < inner; i += innerTile) {
+				int innerEnd = Math.min(i + innerTile, inner);
+				for (int r = 0; r < result.length; r++) {
+					float[] row1 = matrix1[r];
+					float[] resultRow = result[r];
+					if (i == 0) {
+						scale(resultRow, j, columnEnd, beta);
+					}
+					for (int k = i; k < innerEnd; k++) {
+						ROWS.multiplyAdd(alpha * row1[k], matrix2[k], j, resultRow, j, columnEnd - j);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@code matrix1} transposed. Row {@code k} of {@code matrix1} holds 
+	 * column {@code k} of its transpose, so each pair of rows 
+	 * {@code matrix1[k]} and {@code matrix2[k]} is added to a block of rows 
+	 * of the result small enough to stay in cache.
+	 */
+	private static void multiplyAddTN(float alpha, float[][] matrix1, float[][] matrix2, float beta, float[][] result) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		int blockRows = Math.max(1, MatrixKernels.TILE_BYTES / (columns * Float.BYTES));
+		for (int r0 = 0; r0 < result.length; r0 += blockRows) {
+			int r1 = Math.min(r0 + blockRows, result.length);
+			for (int r = r0; r < r1; r++) {
+				scale(result[r], 0, columns, beta);
+			}
+			for (int k = 0; k < inner; k++) {
+				float[] row1 = matrix1[k];
+				float[] row2 = matrix2[k];
+				for (int r = r0; r < r1; r++) {
+					ROWS.multiplyAdd(alpha * row1[r], row2, 0, result[r], 0, columns);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@code matrix2} transposed, and {@code matrix1} possibly transposed. 
+	 * Each tile of the transpose of {@code matrix2} is copied out of its 
+	 * columns into separate rows, and each row of the tile of the result 
+	 * into a scratch row, so that the products are added along rows indexed 
+	 * from 0 as in 
+	 * {@link MatrixKernels#multiply(float[], int, int, float[], int, int, float[], int, int, int, int, int)}.
+	 */
+	private static void multiplyAddXT(float alpha, float[][] matrix1, boolean transpose1, float[][] matrix2,
+			float beta, float[][] result) {
+		int inner = matrix2[0].length;
+		int columns = matrix2.length;
+		int columnTile = columns;
+		int innerTile = inner;
+		if (MatrixKernels.isTiled(inner, columns, Float.BYTES)) {
+			columnTile = MatrixKernels.columnTileSize(columns, Float.BYTES);
+			innerTile = MatrixKernels.rowTileSize(inner, columnTile, Float.BYTES);
+		}
+		
+		float[][] tile = new float[innerTile][columnTile];
+		float[] resultTile = new float[columnTile];
+		for (int j = 0; j < columns; j += columnTile) {
+			int width = Math.min(j + columnTile, columns) - j;
+			for (int i = 0; i < inner; i += innerTile) {
+				int innerEnd = Math.min(i + innerTile, inner);
+				for (int c = 0; c < width; c++) {
+					float[] row2 = matrix2[j + c];
+					for (int k = i; k < innerEnd; k++) {
+						tile[k - i][c] = row2[k];
+					}
+				}
+				
+				for (int r = 0; r < result.length; r++) {
+					System.arraycopy(result[r], j, resultTile, 0, width);
+					if (i == 0) {
+						scale(resultTile, 0, width, beta);
+					}
+					for (int k = i; k < innerEnd; k++) {
+						float value = transpose1 ? matrix1[k][r] : matrix1[r][k];
+						ROWS.multiplyAdd(alpha * value, tile[k - i], 0, resultTile, 0, width);
+					}
+					System.arraycopy(resultTile, 0, result[r], j, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Multiplies the elements of {@code row} between {@code start} 
+	 * (inclusive) and {@code end} (exclusive) by {@code beta}. If 
+	 * {@code beta} is 0 they are set to 0 without being read.
+	 */
+	private static void scale(float[] row, int start, int end, float beta) {
+		if (beta == 0) {
+			Arrays.fill(row, start, end, 0);
+		} else if (beta != 1) {
+			ROWS.multiply(row, start, beta, row, start, end - start);
+		}
+	}
+	
+	static void multiplyAdd(double alpha, double[][] matrix1, boolean transpose1, double[][] matrix2, boolean transpose2,
+			double beta, double[][] result) {
+		if (alpha == 0) {
+			for (double[] row : result) {
+				scale(row, 0, row.length, beta);
+			}
+		} else if (!transpose1 && !transpose2) {
+			multiplyAddNN(alpha, matrix1, matrix2, beta, result);
+		} else if (transpose1 && !transpose2) {
+			multiplyAddTN(alpha, matrix1, matrix2, beta, result);
+		} else {
+			multiplyAddXT(alpha, matrix1, transpose1, matrix2, beta, result);
+		}
+	}
+	
+	/**
+	 * Neither operand transposed. The rows of {@code matrix2} are streamed 
+	 * into each row of the result in the same tiles as 
+	 * {@link MatrixKernels#multiply(double[][], double[][], double[][])}, and each 
+	 * tile of the result is scaled by {@code beta} just before the first 
+	 * products are added to it.
+	 */
+	private static void multiplyAddNN(double alpha, double[][] matrix1, double[][] matrix2, double beta, double[][] result) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		int columnTile = columns;
+		int innerTile = inner;
+		if (MatrixKernels.isTiled(inner, columns, Double.BYTES)) {
+			columnTile = MatrixKernels.columnTileSize(columns, Double.BYTES);
+			innerTile = MatrixKernels.rowTileSize(inner, columnTile, Double.BYTES);
+		}
+		
+		for (int j = 0; j < columns; j += columnTile) {
+			int columnEnd = Math.min(j + columnTile, columns);
+			for (int i = 0; i < inner; i += innerTile) {
+				int innerEnd = Math.min(i + innerTile, inner);
+				for (int r = 0; r < result.length; r++) {
+					double[] row1 = matrix1[r];
+					double[] resultRow = result[r];
+					if (i == 0) {
+						scale(resultRow, j, columnEnd, beta);
+					}
+					for (int k = i; k < innerEnd; k++) {
+						ROWS.multiplyAdd(alpha * row1[k], matrix2[k], j, resultRow, j, columnEnd - j);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@code matrix1} transposed. Row {@code k} of {@code matrix1} holds 
+	 * column {@code k} of its transpose, so each pair of rows 
+	 * {@code matrix1[k]} and {@code matrix2[k]} is added to a block of rows 
+	 * of the result small enough to stay in cache.
+	 */
+	private static void multiplyAddTN(double alpha, double[][] matrix1, double[][] matrix2, double beta, double[][] result) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		int blockRows = Math.max(1, MatrixKernels.TILE_BYTES / (columns * Double.BYTES));
+		for (int r0 = 0; r0 < result.length; r0 += blockRows) {
+			int r1 = Math.min(r0 + blockRows, result.length);
+			for (int r = r0; r < r1; r++) {
+				scale(result[r], 0, columns, beta);
+			}
+			for (int k = 0; k < inner; k++) {
+				double[] row1 = matrix1[k];
+				double[] row2 = matrix2[k];
+				for (int r = r0; r < r1; r++) {
+					ROWS.multiplyAdd(alpha * row1[r], row2, 0, result[r], 0, columns);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@code matrix2} transposed, and {@code matrix1} possibly transposed. 
+	 * Each tile of the transpose of {@code matrix2} is copied out of its 
+	 * columns into separate rows, and each row of the tile of the result 
+	 * into a scratch row, so that the products are added along rows indexed 
+	 * from 0 as in 
+	 * {@link MatrixKernels#multiply(double[], int, int, double[], int, int, double[], int, int, int, int, int)}.
+	 */
+	private static void multiplyAddXT(double alpha, double[][] matrix1, boolean transpose1, double[][] matrix2,
+			double beta, double[][] result) {
+		int inner = matrix2[0].length;
+		int columns = matrix2.length;
+		int columnTile = columns;
+		int innerTile = inner;
+		if (MatrixKernels.isTiled(inner, columns, Double.BYTES)) {
+			columnTile = MatrixKernels.columnTileSize(columns, Double.BYTES);
+			innerTile = MatrixKernels.rowTileSize(inner, columnTile, Double.BYTES);
+		}
+		
+		double[][] tile = new double[innerTile][columnTile];
+		double[] resultTile = new double[columnTile];
+		for (int j = 0; j < columns; j += columnTile) {
+			int width = Math.min(j + columnTile, columns) - j;
+			for (int i = 0; i < inner; i += innerTile) {
+				int innerEnd = Math.min(i + innerTile, inner);
+				for (int c = 0; c < width; c++) {
+					double[] row2 = matrix2[j + c];
+					for (int k = i; k < innerEnd; k++) {
+						tile[k - i][c] = row2[k];
+					}
+				}
+				
+				for (int r = 0; r < result.length; r++) {
+					System.arraycopy(result[r], j, resultTile, 0, width);
+					if (i == 0) {
+						scale(resultTile, 0, width, beta);
+					}
+					for (int k = i; k < innerEnd; k++) {
+						double value = transpose1 ? matrix1[k][r] : matrix1[r][k];
+						ROWS.multiplyAdd(alpha * value, tile[k - i], 0, resultTile, 0, width);
+					}
+					System.arraycopy(resultTile, 0, result[r], j, width);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Multiplies the elements of {@code row} between {@code start} 
+	 * (inclusive) and {@code end} (exclusive) by {@code beta}. If 
+	 * {@code beta} is 0 they are set to 0 without being read.
+	 */
+	private static void scale(double[] row, int start, int end, double beta) {
+		if (beta == 0) {
+			Arrays.fill(row, start, end, 0);
+		} else if (beta != 1) {
+			ROWS.multiply(row, start, beta, row, start, end - start);
+		}
+	}
+
+}
@@ -0,0 +1,580 @@
+package com.frostphyr.avail.math;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A matrix of {@code double}s stored outside of the Java heap in row-major 
+ * order. The elements are held in direct {@link ByteBuffer}s of up to 
+ * 2<sup>27</sup> elements (1 GiB) each, so a matrix isn't limited to 
+ * {@link Integer#MAX_VALUE} elements, its rows can be longer than an array 
+ * and it adds nothing to the work of the garbage collector. Direct memory 
+ * is limited separately from the heap by 
+ * {@code -XX:MaxDirectMemorySize}.
+ * <p>
+ * The native memory is released as soon as {@link #close()} is called, 
+ * rather than whenever the matrix happens to be garbage collected, so a 
+ * matrix should be used in a try-with-resources statement or otherwise 
+ * closed once it is no longer needed. Using a matrix after it has been 
+ * closed throws an {@link IllegalStateException}.
+ * <p>
+ * The operations stream the elements through small on-heap buffers in 
+ * bulk and use the same kernels as {@link MatrixUtils}. Matrices are not 
+ * safe for use by multiple threads at the same time, even if they are 
+ * only read.
+ * 
+ * @since 1.6
+ */
+public final class OffHeapMatrix implements AutoCloseable {
+	
+	static final int CHUNK_SHIFT = 27;
+	
+	static final String EXCEPTION_MESSAGE_CLOSED = "Matrix has been closed";
+	static final String EXCEPTION_MESSAGE_TOO_MANY_BYTES = "Matrix must not need more than Long.MAX_VALUE bytes";
+	
+	/**
+	 * The number of elements an operation processes at a time.
+	 */
+	private static final int SEGMENT_SIZE = 8192;
+	
+	/**
+	 * The edge length of the tiles a matrix is transposed in.
+	 */
+	private static final int TRANSPOSE_TILE_SIZE = 256;
+	
+	/**
+	 * The number of elements of the left operand and of the result that a 
+	 * block of rows of a product covers.
+	 */
+	private static final long ROW_BLOCK_SIZE = 1L << 23;
+	
+	private static final RowKernels ROWS = RowKernels.INSTANCE;
+	
+	private final long rows;
+	private final long columns;
+	private final int chunkShift;
+	private final ByteBuffer[] chunks;
+	private final DoubleBuffer[] buffers;
+	private boolean closed;
+	
+	/**
+	 * Creates a new matrix with {@code rows} rows and {@code columns} 
+	 * columns where every element is 0.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1 or if the matrix would need more than 
+	 * {@link Long#MAX_VALUE} bytes
+	 * @throws OutOfMemoryError if there isn't enough direct memory for the 
+	 * matrix
+	 */
+	public OffHeapMatrix(long rows, long columns) {
+		this(rows, columns, CHUNK_SHIFT);
+	}
+	
+	OffHeapMatrix(long rows, long columns, int chunkShift) {
+		this(rows, columns, chunkShift, allocate(checkSize(rows, columns), chunkShift));
+	}
+	
+	/**
+	 * Creates a matrix whose elements are stored in {@code chunks}, each of 
+	 * which holds 2<sup>{@code chunkShift}</sup> elements apart from the 
+	 * last, in the byte order of the chunk. The matrix takes ownership of 
+	 * the buffers.
+	 */
+	OffHeapMatrix(long rows, long columns, int chunkShift, ByteBuffer[] chunks) {
+		this.rows = rows;
+		this.columns = columns;
+		this.chunkShift = chunkShift;
+		this.chunks = chunks;
+		this.buffers = new DoubleBuffer[chunks.length];
+		for (int i = 0; i < chunks.length; i++) {
+			buffers[i] = chunks[i].asDoubleBuffer();
+		}
+	}
+	
+	/**
+	 * Returns the number of elements of a matrix of {@code rows} by 
+	 * {@code columns} after checking that its size is valid.
+	 */
+	static long checkSize(long rows, long columns) {
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		if (rows > (Long.MAX_VALUE / Double.BYTES) / columns) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_TOO_MANY_BYTES);
+		}
+		return rows * columns;
+	}
+	
+	/**
+	 * Returns the number of chunks of 2<sup>{@code chunkShift}</sup>
+	 * elements needed to hold {@code size} elements.
+	 */
+	static int chunkCount(long size, int chunkShift) {
+		long count = ((size - 1) >>> chunkShift) + 1;
+		if (count > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(EXCEPTION_MESSAGE_TOO_MANY_BYTES);
+		}
+		return (int) count;
+	}
+	
+	private static ByteBuffer[] allocate(long size, int chunkShift) {
+		ByteBuffer[] chunks = new ByteBuffer[chunkCount(size, chunkShift)];
+		try {
+			for (int i = 0; i < chunks.length; i++) {
+				long elements = Math.min(1L << chunkShift, size - ((long) i << chunkShift));
+				chunks[i] = ByteBuffer.allocateDirect((int) (elements * Double.BYTES)).order(ByteOrder.nativeOrder());
+			}
+		} catch (OutOfMemoryError e) {
+			for (ByteBuffer chunk : chunks) {
+				if (chunk != null) {
+					DirectBuffers.free(chunk);
+				}
+			}
+			throw e;
+		}
+		return chunks;
+	}
+	
+	/**
+	 * Returns a new matrix containing a copy of {@code matrix}.
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return a new matrix containing a copy of {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix
+	 * @see MatrixUtils#validateMatrix(double[][])
+	 */
+	public static OffHeapMatrix fromArray(double[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		
+		OffHeapMatrix result = new OffHeapMatrix(matrix.length, matrix[0].length);
+		for (int r = 0; r < matrix.length; r++) {
+			result.write((long) r * result.columns, matrix[r], 0, matrix[r].length);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns a copy of this matrix as an array of rows.
+	 * 
+	 * @return a copy of this matrix as an array of rows
+	 * @throws IllegalStateException if this matrix has been closed or if it 
+	 * has too many rows or columns to fit in an array
+	 */
+	public double[][] toArray() {
+		checkOpen();
+		if (rows > Integer.MAX_VALUE || columns > Integer.MAX_VALUE) {
+			throw new IllegalStateException(MatrixUtils.EXCEPTION_MESSAGE_TOO_LARGE);
+		}
+		
+		double[][] result = new double[(int) rows][(int) columns];
+		for (int r = 0; r < rows; r++) {
+			read((long) r * columns, result[r], 0, result[r].length);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the number of rows of this matrix.
+	 * 
+	 * @return the number of rows of this matrix
+	 */
+	public long getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of this matrix.
+	 * 
+	 * @return the number of columns of this matrix
+	 */
+	public long getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns the element at {@code row} and {@code column}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @return the element at {@code row} and {@code column}
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 * @throws IllegalStateException if this matrix has been closed
+	 */
+	public double get(long row, long column) {
+		long index = index(row, column);
+		return buffers[(int) (index >>> chunkShift)].get((int) (index & ((1L << chunkShift) - 1)));
+	}
+	
+	/**
+	 * Sets the element at {@code row} and {@code column} to {@code value}.
+	 * 
+	 * @param row the row of the element
+	 * @param column the column of the element
+	 * @param value the value to set the element to
+	 * @throws IndexOutOfBoundsException if {@code row} or {@code column} is 
+	 * outside of this matrix
+	 * @throws IllegalStateException if this matrix has been closed
+	 */
+	public void set(long row, long column, double value) {
+		long index = index(row, column);
+		buffers[(int) (index >>> chunkShift)].put((int) (index & ((1L << chunkShift) - 1)), value);
+	}
+	
+	private long index(long row, long column) {
+		checkOpen();
+		if (row < 0 || row >= rows || column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException("row=" + row + ",column=" + column);
+		}
+		return row * columns + column;
+	}
+	
+	/**
+	 * Sets every element of this matrix to {@code value}.
+	 * 
+	 * @param value the value to set every element to
+	 * @throws IllegalStateException if this matrix has been closed
+	 */
+	public void fill(double value) {
+		checkOpen();
+		double[] segment = new double[SEGMENT_SIZE];
+		Arrays.fill(segment, value);
+		long size = rows * columns;
+		for (long i = 0; i < size; i += SEGMENT_SIZE) {
+			write(i, segment, 0, (int) Math.min(SEGMENT_SIZE, size - i));
+		}
+	}
+	
+	/**
+	 * Returns the sum of this matrix and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @return the sum of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if it is a different size than this matrix
+	 * @throws IllegalStateException if either matrix has been closed
+	 */
+	public OffHeapMatrix add(OffHeapMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		checkOpen();
+		return add(matrix, new OffHeapMatrix(rows, columns));
+	}
+	
+	/**
+	 * Stores the sum of this matrix and {@code matrix} in {@code result} and 
+	 * returns it. {@code result} may be either of the operands.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @param result the matrix to store the sum in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is {@code null} or if either is a different size than this matrix
+	 * @throws IllegalStateException if any of the matrices has been closed
+	 */
+	public OffHeapMatrix add(OffHeapMatrix matrix, OffHeapMatrix result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		checkOpen();
+		matrix.checkOpen();
+		result.checkOpen();
+		if (rows != matrix.rows || columns != matrix.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (rows != result.rows || columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		double[] segment1 = new double[SEGMENT_SIZE];
+		double[] segment2 = new double[SEGMENT_SIZE];
+		long size = rows * columns;
+		for (long i = 0; i < size; i += SEGMENT_SIZE) {
+			int length = (int) Math.min(SEGMENT_SIZE, size - i);
+			read(i, segment1, 0, length);
+			matrix.read(i, segment2, 0, length);
+			ROWS.add(segment1, 0, segment2, 0, segment1, 0, length);
+			result.write(i, segment1, 0, length);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return the product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if the number of columns of this matrix doesn't equal the number of 
+	 * rows of {@code matrix}
+	 * @throws IllegalStateException if either matrix has been closed
+	 */
+	public OffHeapMatrix multiply(OffHeapMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		checkOpen();
+		return multiply(matrix, new OffHeapMatrix(rows, matrix.columns));
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code matrix} in 
+	 * {@code result} and returns it. Any previous contents of 
+	 * {@code result} are overwritten.
+	 * <p>
+	 * The product is computed in tiles of {@code matrix} that are copied 
+	 * onto the heap once and then multiplied by every row of a block of rows 
+	 * of this matrix, so each element of the block and of its rows of the 
+	 * result is transferred once per tile of rows of {@code matrix} rather 
+	 * than once per element. The blocks are about 64 MiB of this matrix and 
+	 * of the result, so when the matrices are mapped from files each of them 
+	 * is read from disk about once while the block stays in the page cache, 
+	 * and {@code matrix} is read once per block.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as this matrix and as many columns as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} 
+	 * is {@code null}, if the number of columns of this matrix doesn't equal 
+	 * the number of rows of {@code matrix}, if {@code result} is the wrong 
+	 * size or if {@code result} is this matrix or {@code matrix}
+	 * @throws IllegalStateException if any of the matrices has been closed
+	 */
+	public OffHeapMatrix multiply(OffHeapMatrix matrix, OffHeapMatrix result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		checkOpen();
+		matrix.checkOpen();
+		result.checkOpen();
+		if (columns != matrix.rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (rows != result.rows || matrix.columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == this || result == matrix) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		result.fill(0);
+		long inner = columns;
+		long resultColumns = matrix.columns;
+		int columnTile = MatrixKernels.columnTileSize((int) Math.min(resultColumns, Integer.MAX_VALUE), Double.BYTES);
+		int innerTile = MatrixKernels.rowTileSize((int) Math.min(inner, Integer.MAX_VALUE), columnTile, Double.BYTES);
+		double[][] tile = new double[innerTile][columnTile];
+		double[] row = new double[innerTile];
+		double[] resultRow = new double[columnTile];
+		long rowBlock = Math.max(1, ROW_BLOCK_SIZE / (inner + resultColumns));
+		for (long r0 = 0; r0 < rows; r0 += rowBlock) {
+			long rowEnd = Math.min(rows, r0 + rowBlock);
+			for (long i = 0; i < inner; i += innerTile) {
+				int height = (int) Math.min(innerTile, inner - i);
+				for (long j = 0; j < resultColumns; j += columnTile) {
+					int width = (int) Math.min(columnTile, resultColumns - j);
+					for (int k = 0; k < height; k++) {
+						matrix.read((i + k) * resultColumns + j, tile[k], 0, width);
+					}
+					
+					for (long r = r0; r < rowEnd; r++) {
+						read(r * inner + i, row, 0, height);
+						long resultIndex = r * resultColumns + j;
+						result.read(resultIndex, resultRow, 0, width);
+						for (int k = 0; k < height; k++) {
+							ROWS.multiplyAdd(row[k], tile[k], 0, resultRow, 0, width);
+						}
+						result.write(resultIndex, resultRow, 0, width);
+					}
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code scalar}.
+	 * 
+	 * @param scalar the scalar to multiply this matrix by
+	 * @return the product of this matrix and {@code scalar}
+	 * @throws IllegalStateException if this matrix has been closed
+	 */
+	public OffHeapMatrix multiply(double scalar) {
+		checkOpen();
+		return multiply(scalar, new OffHeapMatrix(rows, columns));
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code scalar} in 
+	 * {@code result} and returns it. {@code result} may be this matrix.
+	 * 
+	 * @param scalar the scalar to multiply this matrix by
+	 * @param result the matrix to store the product in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null} or 
+	 * if it is a different size than this matrix
+	 * @throws IllegalStateException if either matrix has been closed
+	 */
+	public OffHeapMatrix multiply(double scalar, OffHeapMatrix result) {
+		Argument.checkNotNull(result, "result");
+		checkOpen();
+		result.checkOpen();
+		if (rows != result.rows || columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		double[] segment = new double[SEGMENT_SIZE];
+		long size = rows * columns;
+		for (long i = 0; i < size; i += SEGMENT_SIZE) {
+			int length = (int) Math.min(SEGMENT_SIZE, size - i);
+			read(i, segment, 0, length);
+			ROWS.multiply(segment, 0, scalar, segment, 0, length);
+			result.write(i, segment, 0, length);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the transpose of this matrix.
+	 * 
+	 * @return the transpose of this matrix
+	 * @throws IllegalStateException if this matrix has been closed
+	 */
+	public OffHeapMatrix transpose() {
+		checkOpen();
+		return transpose(new OffHeapMatrix(columns, rows));
+	}
+	
+	/**
+	 * Stores the transpose of this matrix in {@code result} and returns it. 
+	 * The matrix is transposed in square tiles which are read a row at a 
+	 * time, transposed on the heap and written a row at a time.
+	 * 
+	 * @param result the matrix to store the transpose in, which must have as 
+	 * many rows as this matrix has columns and as many columns as this 
+	 * matrix has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}, if 
+	 * it is the wrong size or if it is this matrix
+	 * @throws IllegalStateException if either matrix has been closed
+	 */
+	public OffHeapMatrix transpose(OffHeapMatrix result) {
+		Argument.checkNotNull(result, "result");
+		checkOpen();
+		result.checkOpen();
+		if (result.rows != columns || result.columns != rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result == this) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		double[][] tile = new double[TRANSPOSE_TILE_SIZE][TRANSPOSE_TILE_SIZE];
+		double[][] transposed = new double[TRANSPOSE_TILE_SIZE][TRANSPOSE_TILE_SIZE];
+		for (long r0 = 0; r0 < rows; r0 += TRANSPOSE_TILE_SIZE) {
+			int height = (int) Math.min(TRANSPOSE_TILE_SIZE, rows - r0);
+			for (long c0 = 0; c0 < columns; c0 += TRANSPOSE_TILE_SIZE) {
+				int width = (int) Math.min(TRANSPOSE_TILE_SIZE, columns - c0);
+				for (int i = 0; i < height; i++) {
+					read((r0 + i) * columns + c0, tile[i], 0, width);
+				}
+				for (int i = 0; i < height; i++) {
+					double[] row = tile[i];
+					for (int j = 0; j < width; j++) {
+						transposed[j][i] = row[j];
+					}
+				}
+				for (int j = 0; j < width; j++) {
+					result.write((c0 + j) * rows + r0, transposed[j], 0, height);
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Copies {@code length} elements starting at the row-major 
+	 * {@code index} into {@code destination}.
+	 */
+	void read(long index, double[] destination, int offset, int length) {
+		int mask = (1 << chunkShift) - 1;
+		while (length > 0) {
+			DoubleBuffer buffer = buffers[(int) (index >>> chunkShift)];
+			int position = (int) (index & mask);
+			int count = Math.min(length, buffer.capacity() - position);
+			((Buffer) buffer).position(position);
+			buffer.get(destination, offset, count);
+			index += count;
+			offset += count;
+			length -= count;
+		}
+	}
+	
+	/**
+	 * Copies {@code length} elements of {@code source} to the row-major 
+	 * {@code index}.
+	 */
+	void write(long index, double[] source, int offset, int length) {
+		int mask = (1 << chunkShift) - 1;
+		while (length > 0) {
+			DoubleBuffer buffer = buffers[(int) (index >>> chunkShift)];
+			int position = (int) (index & mask);
+			int count = Math.min(length, buffer.capacity() - position);
+			((Buffer) buffer).position(position);
+			buffer.put(source, offset, count);
+			index += count;
+			offset += count;
+			length -= count;
+		}
+	}
+	
+	void checkOpen() {
+		if (closed) {
+			throw new IllegalStateException(EXCEPTION_MESSAGE_CLOSED);
+		}
+	}
+	
+	/**
+	 * Returns whether this matrix has been closed.
+	 * 
+	 * @return whether this matrix has been closed
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+	
+	/**
+	 * Releases the native memory of this matrix. If the matrix is mapped 
+	 * from a writable file, its changes are written to the file first. 
+	 * Calling this more than once has no effect.
+	 * 
+	 * @see MatrixFile
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			for (int i = 0; i < chunks.length; i++) {
+				if (chunks[i] instanceof MappedByteBuffer && !chunks[i].isReadOnly()) {
+					((MappedByteBuffer) chunks[i]).force();
+				}
+				buffers[i] = null;
+				DirectBuffers.free(chunks[i]);
+				chunks[i] = null;
+			}
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.append("closed", closed)
+				.toString();
+	}
+
+}
@@ -0,0 +1,178 @@
+package com.frostphyr.avail.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Package-private helpers that run the kernels of {@link MatrixKernels} on a 
+ * {@link ForkJoinPool}. The result is divided into blocks of rows and 
+ * columns which are computed independently, so every element is still 
+ * computed by exactly one thread in the same order as the sequential kernel.
+ * 
+ * @since 1.6
+ */
+final class ParallelKernels {
+	
+	/**
+	 * The amount of work, measured in elementary operations (such as a 
+	 * single multiply-add), below which an operation is not split any 
+	 * further.
+	 */
+	static final long GRAIN = 1L << 18;
+	
+	private ParallelKernels() {
+	}
+	
+	/**
+	 * Computes a block of a result. The block is the rows between 
+	 * {@code rowStart} (inclusive) and {@code rowEnd} (exclusive) and the 
+	 * columns between {@code columnStart} (inclusive) and {@code columnEnd} 
+	 * (exclusive).
+	 */
+	interface BlockKernel {
+		
+		void compute(int rowStart, int rowEnd, int columnStart, int columnEnd);
+		
+	}
+	
+	/**
+	 * Computes a result of {@code rows} by {@code columns} elements, each of 
+	 * which costs {@code cost} operations, using {@code pool}. The work is 
+	 * performed on the calling thread if it is too small to be worth 
+	 * splitting or if {@code pool} has a parallelism of 1.
+	 */
+	static void invoke(ForkJoinPool pool, int rows, int columns, long cost, BlockKernel kernel) {
+		if (pool.getParallelism() == 1 || rows * (long) columns * cost <= GRAIN) {
+			kernel.compute(0, rows, 0, columns);
+		} else {
+			pool.invoke(new BlockTask(kernel, cost, 0, rows, 0, columns));
+		}
+	}
+	
+	static void multiply(ForkJoinPool pool, int[][] matrix1, int[][] matrix2, int[][] result) {
+		invoke(pool, matrix1.length, matrix2[0].length, matrix2.length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix1, matrix2, result, rowStart, rowEnd, columnStart, columnEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, long[][] matrix1, long[][] matrix2, long[][] result) {
+		invoke(pool, matrix1.length, matrix2[0].length, matrix2.length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix1, matrix2, result, rowStart, rowEnd, columnStart, columnEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, float[][] matrix1, float[][] matrix2, float[][] result) {
+		invoke(pool, matrix1.length, matrix2[0].length, matrix2.length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix1, matrix2, result, rowStart, rowEnd, columnStart, columnEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, double[][] matrix1, double[][] matrix2, double[][] result) {
+		invoke(pool, matrix1.length, matrix2[0].length, matrix2.length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix1, matrix2, result, rowStart, rowEnd, columnStart, columnEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, float[][] matrix, float[] vector, float[] result) {
+		invoke(pool, matrix.length, 1, vector.length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> VectorKernels.multiply(
+						matrix, vector, result, rowStart, rowEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, double[][] matrix, double[] vector, double[] result) {
+		invoke(pool, matrix.length, 1, vector.length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> VectorKernels.multiply(
+						matrix, vector, result, rowStart, rowEnd));
+	}
+	
+	static void add(ForkJoinPool pool, int[][] matrix1, int[][] matrix2, int[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.add(
+						matrix1, matrix2, result, rowStart, rowEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, int[][] matrix, int scalar, int[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix, scalar, result, rowStart, rowEnd));
+	}
+	
+	static void add(ForkJoinPool pool, long[][] matrix1, long[][] matrix2, long[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.add(
+						matrix1, matrix2, result, rowStart, rowEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, long[][] matrix, long scalar, long[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix, scalar, result, rowStart, rowEnd));
+	}
+	
+	static void add(ForkJoinPool pool, float[][] matrix1, float[][] matrix2, float[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.add(
+						matrix1, matrix2, result, rowStart, rowEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, float[][] matrix, float scalar, float[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix, scalar, result, rowStart, rowEnd));
+	}
+	
+	static void add(ForkJoinPool pool, double[][] matrix1, double[][] matrix2, double[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.add(
+						matrix1, matrix2, result, rowStart, rowEnd));
+	}
+	
+	static void multiply(ForkJoinPool pool, double[][] matrix, double scalar, double[][] result) {
+		invoke(pool, result.length, 1, result[0].length,
+				(rowStart, rowEnd, columnStart, columnEnd) -> MatrixKernels.multiply(
+						matrix, scalar, result, rowStart, rowEnd));
+	}
+	
+	@SuppressWarnings("serial")
+	private static class BlockTask extends RecursiveAction {
+		
+		private final BlockKernel kernel;
+		private final long cost;
+		private final int rowStart;
+		private final int rowEnd;
+		private final int columnStart;
+		private final int columnEnd;
+		
+		BlockTask(BlockKernel kernel, long cost, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+			this.kernel = kernel;
+			this.cost = cost;
+			this.rowStart = rowStart;
+			this.rowEnd = rowEnd;
+			this.columnStart = columnStart;
+			this.columnEnd = columnEnd;
+		}
+		
+		@Override
+		protected void compute() {
+			int rows = rowEnd - rowStart;
+			int columns = columnEnd - columnStart;
+			if (rows * (long) columns * cost <= GRAIN) {
+				kernel.compute(rowStart, rowEnd, columnStart, columnEnd);
+			} else if (rows > 1 && rows * 8L >= columns) {
+				// Splitting rows is preferred since each task then writes
+				// whole rows and reads the second operand as a whole
+				int middle = (rowStart + rowEnd) >>> 1;
+				invokeAll(new BlockTask(kernel, cost, rowStart, middle, columnStart, columnEnd),
+						new BlockTask(kernel, cost, middle, rowEnd, columnStart, columnEnd));
+			} else if (columns >= 2 * MatrixKernels.MIN_TILE_SIZE) {
+				int middle = (columnStart + columnEnd) >>> 1;
+				invokeAll(new BlockTask(kernel, cost, rowStart, rowEnd, columnStart, middle),
+						new BlockTask(kernel, cost, rowStart, rowEnd, middle, columnEnd));
+			} else {
+				kernel.compute(rowStart, rowEnd, columnStart, columnEnd);
+			}
+		}
+		
+	}
+
+}
@@ -0,0 +1,212 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+/**
+ * Package-private kernels that raise square matrices to a power by 
+ * repeated squaring, used by {@link MatrixUtils} once the arguments have 
+ * been validated.
+ * <p>
+ * The bits of the exponent are processed from the most significant, 
+ * squaring the result for every bit after the first and multiplying it 
+ * by the matrix for every set bit. A power <i>k</i> therefore takes at 
+ * most 2&nbsp;log<sub>2</sub><i>k</i> products. Each product is written to 
+ * a scratch matrix which then swaps places with the result, so apart from 
+ * the result only one matrix of temporary storage is used however large 
+ * the exponent is.
+ * 
+ * @since 1.6
+ */
+final class PowerKernels {
+	
+	/**
+	 * The largest modulus for which the product of two reduced elements 
+	 * can't overflow a {@code long}, which is one more than the floor of the 
+	 * square root of {@link Long#MAX_VALUE}.
+	 */
+	static final long MAX_DIRECT_MODULUS = 3037000500L;
+	
+	private PowerKernels() {
+	}
+	
+	/**
+	 * Returns {@code matrix} raised to the power {@code exponent}, which 
+	 * must not be negative.
+	 */
+	static long[][] power(long[][] matrix, long exponent) {
+		int size = matrix.length;
+		if (exponent == 0) {
+			return identity(size, 1);
+		}
+		
+		long[][] result = copy(matrix);
+		long[][] scratch = new long[size][size];
+		for (int bit = 62 - Long.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+			MatrixKernels.fill(scratch, 0);
+			MatrixKernels.multiply(result, result, scratch);
+			long[][] swap = result;
+			result = scratch;
+			scratch = swap;
+			if ((exponent >>> bit & 1) != 0) {
+				MatrixKernels.fill(scratch, 0);
+				MatrixKernels.multiply(result, matrix, scratch);
+				swap = result;
+				result = scratch;
+				scratch = swap;
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns {@code matrix} raised to the power {@code exponent}, which 
+	 * must not be negative.
+	 */
+	static double[][] power(double[][] matrix, long exponent) {
+		int size = matrix.length;
+		if (exponent == 0) {
+			double[][] result = new double[size][size];
+			for (int i = 0; i < size; i++) {
+				result[i][i] = 1;
+			}
+			return result;
+		}
+		
+		double[][] result = new double[size][];
+		for (int r = 0; r < size; r++) {
+			result[r] = matrix[r].clone();
+		}
+		double[][] scratch = new double[size][size];
+		for (int bit = 62 - Long.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+			MatrixKernels.fill(scratch, 0);
+			MatrixKernels.multiply(result, result, scratch);
+			double[][] swap = result;
+			result = scratch;
+			scratch = swap;
+			if ((exponent >>> bit & 1) != 0) {
+				MatrixKernels.fill(scratch, 0);
+				MatrixKernels.multiply(result, matrix, scratch);
+				swap = result;
+				result = scratch;
+				scratch = swap;
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns {@code matrix} raised to the power {@code exponent} modulo 
+	 * {@code modulus}, which must be positive. The exponent must not be 
+	 * negative.
+	 */
+	static long[][] power(long[][] matrix, long exponent, long modulus) {
+		int size = matrix.length;
+		if (exponent == 0) {
+			return identity(size, 1 % modulus);
+		}
+		
+		long[][] base = new long[size][size];
+		for (int r = 0; r < size; r++) {
+			for (int c = 0; c < size; c++) {
+				base[r][c] = Math.floorMod(matrix[r][c], modulus);
+			}
+		}
+		long[][] result = copy(base);
+		long[][] scratch = new long[size][size];
+		for (int bit = 62 - Long.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+			multiply(result, result, scratch, modulus);
+			long[][] swap = result;
+			result = scratch;
+			scratch = swap;
+			if ((exponent >>> bit & 1) != 0) {
+				multiply(result, base, scratch, modulus);
+				swap = result;
+				result = scratch;
+				scratch = swap;
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} modulo 
+	 * {@code modulus} in {@code result}. Every element of the operands must 
+	 * be between 0 (inclusive) and {@code modulus} (exclusive), and every 
+	 * element of the result is too.
+	 */
+	static void multiply(long[][] matrix1, long[][] matrix2, long[][] result, long modulus) {
+		int inner = matrix2.length;
+		int columns = matrix2[0].length;
+		for (int r = 0; r < matrix1.length; r++) {
+			long[] row1 = matrix1[r];
+			long[] resultRow = result[r];
+			Arrays.fill(resultRow, 0);
+			for (int k = 0; k < inner; k++) {
+				long value = row1[k];
+				if (value == 0) {
+					continue;
+				}
+				
+				long[] row2 = matrix2[k];
+				if (modulus <= MAX_DIRECT_MODULUS) {
+					for (int c = 0; c < columns; c++) {
+						long sum = resultRow[c] + value * row2[c] % modulus;
+						resultRow[c] = sum >= modulus ? sum - modulus : sum;
+					}
+				} else {
+					for (int c = 0; c < columns; c++) {
+						resultRow[c] = addMod(resultRow[c], multiplyMod(value, row2[c], modulus), modulus);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns {@code (a * b) mod modulus} without overflowing, where 
+	 * {@code a} and {@code b} are between 0 (inclusive) and 
+	 * {@code modulus} (exclusive). This adds {@code a} times each bit of 
+	 * {@code b}, which takes up to 63 modular additions.
+	 */
+	static long multiplyMod(long a, long b, long modulus) {
+		if (((a | b) >>> 31) == 0) {
+			return a * b % modulus;
+		}
+		
+		long result = 0;
+		while (b != 0) {
+			if ((b & 1) != 0) {
+				result = addMod(result, a, modulus);
+			}
+			a = addMod(a, a, modulus);
+			b >>>= 1;
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns {@code (a + b) mod modulus} without overflowing, where 
+	 * {@code a} and {@code b} are between 0 (inclusive) and 
+	 * {@code modulus} (exclusive).
+	 */
+	private static long addMod(long a, long b, long modulus) {
+		return a >= modulus - b ? a - (modulus - b) : a + b;
+	}
+	
+	private static long[][] identity(int size, long one) {
+		long[][] result = new long[size][size];
+		for (int i = 0; i < size; i++) {
+			result[i][i] = one;
+		}
+		return result;
+	}
+	
+	private static long[][] copy(long[][] matrix) {
+		long[][] result = new long[matrix.length][];
+		for (int r = 0; r < matrix.length; r++) {
+			result[r] = matrix[r].clone();
+		}
+		return result;
+	}
+
+}
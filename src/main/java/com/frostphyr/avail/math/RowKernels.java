@@ -0,0 +1,153 @@
+package com.frostphyr.avail.math;
+
+/**
+ * Package-private kernels operating on contiguous runs of elements, which 
+ * the kernels of {@link MatrixKernels} are built from. This class contains 
+ * the plain loops used on every Java version. On Java 17 and later, a 
+ * subclass using the incubating Vector API is included in the versioned 
+ * section of the multi-release JAR and is used in place of this class when 
+ * the {@code jdk.incubator.vector} module is available, for example when 
+ * the JVM is started with {@code --add-modules jdk.incubator.vector}.
+ * <p>
+ * Every implementation must produce exactly the same results as the plain 
+ * loops, so a multiply-add is always a separate multiplication and 
+ * addition rather than a fused one.
+ * 
+ * @since 1.6
+ */
+class RowKernels {
+	
+	/**
+	 * The name of the system property that disables the Vector API kernels 
+	 * when set to {@code false}.
+	 */
+	static final String PROPERTY_VECTORIZE = "com.frostphyr.avail.math.vectorize";
+	
+	private static final String VECTOR_CLASS_NAME = "com.frostphyr.avail.math.VectorRowKernels";
+	
+	/**
+	 * The kernels in use.
+	 */
+	static final RowKernels INSTANCE = load();
+	
+	RowKernels() {
+	}
+	
+	private static RowKernels load() {
+		if (!"false".equalsIgnoreCase(System.getProperty(PROPERTY_VECTORIZE))) {
+			try {
+				return (RowKernels) Class.forName(VECTOR_CLASS_NAME)
+						.getDeclaredConstructor()
+						.newInstance();
+			} catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+				// Either not running from the versioned section of the JAR or the
+				// incubator module isn't available, so fall back to the plain loops
+			}
+		}
+		return new RowKernels();
+	}
+	
+	/**
+	 * Returns whether these kernels use explicit vector instructions.
+	 */
+	boolean isVectorized() {
+		return false;
+	}
+	
+	/**
+	 * Stores {@code matrix1[offset1 + i] + matrix2[offset2 + i]} in 
+	 * {@code result[offset + i]} for every {@code i} less than 
+	 * {@code length}.
+	 */
+	void add(int[] matrix1, int offset1, int[] matrix2, int offset2, int[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] = matrix1[offset1 + i] + matrix2[offset2 + i];
+		}
+	}
+	
+	/**
+	 * Stores {@code matrix[offset1 + i] * scalar} in 
+	 * {@code result[offset + i]} for every {@code i} less than 
+	 * {@code length}.
+	 */
+	void multiply(int[] matrix, int offset1, int scalar, int[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] = matrix[offset1 + i] * scalar;
+		}
+	}
+	
+	/**
+	 * Adds {@code value * matrix[offset1 + i]} to {@code result[offset + i]} 
+	 * for every {@code i} less than {@code length}.
+	 */
+	void multiplyAdd(int value, int[] matrix, int offset1, int[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] += value * matrix[offset1 + i];
+		}
+	}
+	
+	/**
+	 * Stores {@code matrix1[offset1 + i] + matrix2[offset2 + i]} in 
+	 * {@code result[offset + i]} for every {@code i} less than 
+	 * {@code length}.
+	 */
+	void add(float[] matrix1, int offset1, float[] matrix2, int offset2, float[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] = matrix1[offset1 + i] + matrix2[offset2 + i];
+		}
+	}
+	
+	/**
+	 * Stores {@code matrix[offset1 + i] * scalar} in 
+	 * {@code result[offset + i]} for every {@code i} less than 
+	 * {@code length}.
+	 */
+	void multiply(float[] matrix, int offset1, float scalar, float[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] = matrix[offset1 + i] * scalar;
+		}
+	}
+	
+	/**
+	 * Adds {@code value * matrix[offset1 + i]} to {@code result[offset + i]} 
+	 * for every {@code i} less than {@code length}.
+	 */
+	void multiplyAdd(float value, float[] matrix, int offset1, float[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] += value * matrix[offset1 + i];
+		}
+	}
+	
+	/**
+	 * Stores {@code matrix1[offset1 + i] + matrix2[offset2 + i]} in 
+	 * {@code result[offset + i]} for every {@code i} less than 
+	 * {@code length}.
+	 */
+	void add(double[] matrix1, int offset1, double[] matrix2, int offset2, double[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] = matrix1[offset1 + i] + matrix2[offset2 + i];
+		}
+	}
+	
+	/**
+	 * Stores {@code matrix[offset1 + i] * scalar} in 
+	 * {@code result[offset + i]} for every {@code i} less than 
+	 * {@code length}.
+	 */
+	void multiply(double[] matrix, int offset1, double scalar, double[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] = matrix[offset1 + i] * scalar;
+		}
+	}
+	
+	/**
+	 * Adds {@code value * matrix[offset1 + i]} to {@code result[offset + i]} 
+	 * for every {@code i} less than {@code length}.
+	 */
+	void multiplyAdd(double value, double[] matrix, int offset1, double[] result, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			result[offset + i] += value * matrix[offset1 + i];
+		}
+	}
+
+}
@@ -0,0 +1,319 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+/**
+ * Package-private kernels for Strassen's matrix multiplication, used by 
+ * {@link MatrixUtils} once the arguments have been validated.
+ * <p>
+ * Each level of the recursion replaces the 8 half-size products of the 
+ * classic algorithm with 7, at the cost of 18 half-size additions. The 
+ * operands are copied into flat row-major arrays, zero-padded so that their 
+ * size is a leaf size times a power of 2, and all of the temporaries of the 
+ * recursion are taken from a single workspace array allocated up front.
+ * 
+ * @since 1.6
+ */
+final class StrassenKernels {
+	
+	/**
+	 * The leaf size used when one isn't specified. Below roughly this size 
+	 * the additions cost more than the product they save.
+	 */
+	static final int DEFAULT_LEAF_SIZE = 256;
+	
+	private StrassenKernels() {
+	}
+	
+	/**
+	 * Returns the size of the blocks that a matrix of {@code size} is 
+	 * divided into, which is the result of halving {@code size}, rounding 
+	 * up, until it is no larger than {@code leafSize}.
+	 */
+	static int leafSize(int size, int leafSize) {
+		while (size > leafSize) {
+			size = (size + 1) >>> 1;
+		}
+		return size;
+	}
+	
+	/**
+	 * Returns the size that a matrix of {@code size} is padded to, which is 
+	 * its leaf size times a power of 2.
+	 */
+	static int paddedSize(int size, int leafSize) {
+		int leaf = size;
+		int levels = 0;
+		while (leaf > leafSize) {
+			leaf = (leaf + 1) >>> 1;
+			levels++;
+		}
+		return leaf << levels;
+	}
+	
+	/**
+	 * Returns the number of elements of workspace needed to multiply 
+	 * matrices of {@code size} down to blocks of {@code leaf}.
+	 */
+	static int workspaceSize(int size, int leaf) {
+		int total = 0;
+		while (size > leaf) {
+			size >>>= 1;
+			total += 3 * size * size;
+		}
+		return total;
+	}
+	
+	/**
+	 * Returns the product of the square matrices {@code matrix1} and 
+	 * {@code matrix2} using Strassen's algorithm, recursing until the blocks 
+	 * are no larger than {@code leafSize}.
+	 */
+	static double[][] multiply(double[][] matrix1, double[][] matrix2, int leafSize) {
+		int size = matrix1.length;
+		int leaf = leafSize(size, leafSize);
+		int padded = paddedSize(size, leafSize);
+		
+		double[] flat1 = new double[padded * padded];
+		double[] flat2 = new double[padded * padded];
+		for (int r = 0; r < size; r++) {
+			System.arraycopy(matrix1[r], 0, flat1, r * padded, size);
+			System.arraycopy(matrix2[r], 0, flat2, r * padded, size);
+		}
+		double[] flatResult = new double[padded * padded];
+		multiply(flat1, 0, padded, flat2, 0, padded, flatResult, 0, padded, padded, leaf,
+				new double[workspaceSize(padded, leaf)], 0);
+		
+		double[][] result = new double[size][];
+		for (int r = 0; r < size; r++) {
+			result[r] = Arrays.copyOfRange(flatResult, r * padded, r * padded + size);
+		}
+		return result;
+	}
+	
+	/**
+	 * Stores the product of the {@code size} by {@code size} flat row-major 
+	 * matrices {@code matrix1} and {@code matrix2} in {@code result}. 
+	 * {@code size} must be {@code leaf} times a power of 2, and 
+	 * {@code work} must have at least {@link #workspaceSize(int, int)} 
+	 * elements from {@code workOffset}.
+	 */
+	private static void multiply(double[] matrix1, int offset1, int stride1, double[] matrix2, int offset2, int stride2,
+			double[] result, int offset, int stride, int size, int leaf, double[] work, int workOffset) {
+		if (size <= leaf) {
+			for (int r = 0; r < size; r++) {
+				int resultRow = offset + r * stride;
+				Arrays.fill(result, resultRow, resultRow + size, 0);
+			}
+			MatrixKernels.multiply(matrix1, offset1, stride1, matrix2, offset2, stride2,
+					result, offset, stride, size, size, size);
+			return;
+		}
+		
+		int half = size >>> 1;
+		int a11 = offset1;
+		int a12 = offset1 + half;
+		int a21 = offset1 + half * stride1;
+		int a22 = a21 + half;
+		int b11 = offset2;
+		int b12 = offset2 + half;
+		int b21 = offset2 + half * stride2;
+		int b22 = b21 + half;
+		int c11 = offset;
+		int c12 = offset + half;
+		int c21 = offset + half * stride;
+		int c22 = c21 + half;
+		int s = workOffset;
+		int t = s + half * half;
+		int p = t + half * half;
+		int next = p + half * half;
+		
+		// M1 = (A11 + A22)(B11 + B22), C11 = M1, C22 = M1
+		MatrixKernels.add(matrix1, a11, stride1, matrix1, a22, stride1, work, s, half, half, half);
+		MatrixKernels.add(matrix2, b11, stride2, matrix2, b22, stride2, work, t, half, half, half);
+		multiply(work, s, half, work, t, half, work, p, half, half, leaf, work, next);
+		copy(work, p, half, result, c11, stride, half);
+		copy(work, p, half, result, c22, stride, half);
+		
+		// M2 = (A21 + A22)B11, C21 = M2, C22 -= M2
+		MatrixKernels.add(matrix1, a21, stride1, matrix1, a22, stride1, work, s, half, half, half);
+		multiply(work, s, half, matrix2, b11, stride2, work, p, half, half, leaf, work, next);
+		copy(work, p, half, result, c21, stride, half);
+		subtract(result, c22, stride, work, p, half, result, c22, stride, half);
+		
+		// M3 = A11(B12 - B22), C12 = M3, C22 += M3
+		subtract(matrix2, b12, stride2, matrix2, b22, stride2, work, t, half, half);
+		multiply(matrix1, a11, stride1, work, t, half, work, p, half, half, leaf, work, next);
+		copy(work, p, half, result, c12, stride, half);
+		MatrixKernels.add(result, c22, stride, work, p, half, result, c22, stride, half, half);
+		
+		// M4 = A22(B21 - B11), C11 += M4, C21 += M4
+		subtract(matrix2, b21, stride2, matrix2, b11, stride2, work, t, half, half);
+		multiply(matrix1, a22, stride1, work, t, half, work, p, half, half, leaf, work, next);
+		MatrixKernels.add(result, c11, stride, work, p, half, result, c11, stride, half, half);
+		MatrixKernels.add(result, c21, stride, work, p, half, result, c21, stride, half, half);
+		
+		// M5 = (A11 + A12)B22, C11 -= M5, C12 += M5
+		MatrixKernels.add(matrix1, a11, stride1, matrix1, a12, stride1, work, s, half, half, half);
+		multiply(work, s, half, matrix2, b22, stride2, work, p, half, half, leaf, work, next);
+		subtract(result, c11, stride, work, p, half, result, c11, stride, half);
+		MatrixKernels.add(result, c12, stride, work, p, half, result, c12, stride, half, half);
+		
+		// M6 = (A21 - A11)(B11 + B12), C22 += M6
+		subtract(matrix1, a21, stride1, matrix1, a11, stride1, work, s, half, half);
+		MatrixKernels.add(matrix2, b11, stride2, matrix2, b12, stride2, work, t, half, half, half);
+		multiply(work, s, half, work, t, half, work, p, half, half, leaf, work, next);
+		MatrixKernels.add(result, c22, stride, work, p, half, result, c22, stride, half, half);
+		
+		// M7 = (A12 - A22)(B21 + B22), C11 += M7
+		subtract(matrix1, a12, stride1, matrix1, a22, stride1, work, s, half, half);
+		MatrixKernels.add(matrix2, b21, stride2, matrix2, b22, stride2, work, t, half, half, half);
+		multiply(work, s, half, work, t, half, work, p, half, half, leaf, work, next);
+		MatrixKernels.add(result, c11, stride, work, p, half, result, c11, stride, half, half);
+	}
+	
+	private static void subtract(double[] matrix1, int offset1, int stride1, double[] matrix2, int offset2, int stride2,
+			double[] result, int offset, int stride, int size) {
+		for (int r = 0; r < size; r++) {
+			int row1 = offset1 + r * stride1;
+			int row2 = offset2 + r * stride2;
+			int resultRow = offset + r * stride;
+			for (int c = 0; c < size; c++) {
+				result[resultRow + c] = matrix1[row1 + c] - matrix2[row2 + c];
+			}
+		}
+	}
+	
+	private static void copy(double[] matrix, int offset1, int stride1, double[] result, int offset, int stride, int size) {
+		for (int r = 0; r < size; r++) {
+			System.arraycopy(matrix, offset1 + r * stride1, result, offset + r * stride, size);
+		}
+	}
+	
+	/**
+	 * Returns the product of the square matrices {@code matrix1} and 
+	 * {@code matrix2} using Strassen's algorithm, recursing until the blocks 
+	 * are no larger than {@code leafSize}.
+	 */
+	static long[][] multiply(long[][] matrix1, long[][] matrix2, int leafSize) {
+		int size = matrix1.length;
+		int leaf = leafSize(size, leafSize);
+		int padded = paddedSize(size, leafSize);
+		
+		long[] flat1 = new long[padded * padded];
+		long[] flat2 = new long[padded * padded];
+		for (int r = 0; r < size; r++) {
+			System.arraycopy(matrix1[r], 0, flat1, r * padded, size);
+			System.arraycopy(matrix2[r], 0, flat2, r * padded, size);
+		}
+		long[] flatResult = new long[padded * padded];
+		multiply(flat1, 0, padded, flat2, 0, padded, flatResult, 0, padded, padded, leaf,
+				new long[workspaceSize(padded, leaf)], 0);
+		
+		long[][] result = new long[size][];
+		for (int r = 0; r < size; r++) {
+			result[r] = Arrays.copyOfRange(flatResult, r * padded, r * padded + size);
+		}
+		return result;
+	}
+	
+	/**
+	 * Stores the product of the {@code size} by {@code size} flat row-major 
+	 * matrices {@code matrix1} and {@code matrix2} in {@code result}. 
+	 * {@code size} must be {@code leaf} times a power of 2, and 
+	 * {@code work} must have at least {@link #workspaceSize(int, int)} 
+	 * elements from {@code workOffset}.
+	 */
+	private static void multiply(long[] matrix1, int offset1, int stride1, long[] matrix2, int offset2, int stride2,
+			long[] result, int offset, int stride, int size, int leaf, long[] work, int workOffset) {
+		if (size <= leaf) {
+			for (int r = 0; r < size; r++) {
+				int resultRow = offset + r * stride;
+				Arrays.fill(result, resultRow, resultRow + size, 0);
+			}
+			MatrixKernels.multiply(matrix1, offset1, stride1, matrix2, offset2, stride2,
+					result, offset, stride, size, size, size);
+			return;
+		}
+		
+		int half = size >>> 1;
+		int a11 = offset1;
+		int a12 = offset1 + half;
+		int a21 = offset1 + half * stride1;
+		int a22 = a21 + half;
+		int b11 = offset2;
+		int b12 = offset2 + half;
+		int b21 = offset2 + half * stride2;
+		int b22 = b21 + half;
+		int c11 = offset;
+		int c12 = offset + half;
+		int c21 = offset + half * stride;
+		int c22 = c21 + half;
+		int s = workOffset;
+		int t = s + half * half;
+		int p = t + half * half;
+		int next = p + half * half;
+		
+		// M1 = (A11 + A22)(B11 + B22), C11 = M1, C22 = M1
+		MatrixKernels.add(matrix1, a11, stride1, matrix1, a22, stride1, work, s, half, half, half);
+		MatrixKernels.add(matrix2, b11, stride2, matrix2, b22, stride2, work, t, half, half, half);
+		multiply(work, s, half, work, t, half, work, p, half, half, leaf, work, next);
+		copy(work, p, half, result, c11, stride, half);
+		copy(work, p, half, result, c22, stride, half);
+		
+		// M2 = (A21 + A22)B11, C21 = M2, C22 -= M2
+		MatrixKernels.add(matrix1, a21, stride1, matrix1, a22, stride1, work, s, half, half, half);
+		multiply(work, s, half, matrix2, b11, stride2, work, p, half, half, leaf, work, next);
+		copy(work, p, half, result, c21, stride, half);
+		subtract(result, c22, stride, work, p, half, result, c22, stride, half);
+		
+		// M3 = A11(B12 - B22), C12 = M3, C22 += M3
+		subtract(matrix2, b12, stride2, matrix2, b22, stride2, work, t, half, half);
+		multiply(matrix1, a11, stride1, work, t, half, work, p, half, half, leaf, work, next);
+		copy(work, p, half, result, c12, stride, half);
+		MatrixKernels.add(result, c22, stride, work, p, half, result, c22, stride, half, half);
+		
+		// M4 = A22(B21 - B11), C11 += M4, C21 += M4
+		subtract(matrix2, b21, stride2, matrix2, b11, stride2, work, t, half, half);
+		multiply(matrix1, a22, stride1, work, t, half, work, p, half, half, leaf, work, next);
+		MatrixKernels.add(result, c11, stride, work, p, half, result, c11, stride, half, half);
+		MatrixKernels.add(result, c21, stride, work, p, half, result, c21, stride, half, half);
+		
+		// M5 = (A11 + A12)B22, C11 -= M5, C12 += M5
+		MatrixKernels.add(matrix1, a11, stride1, matrix1, a12, stride1, work, s, half, half, half);
+		multiply(work, s, half, matrix2, b22, stride2, work, p, half, half, leaf, work, next);
+		subtract(result, c11, stride, work, p, half, result, c11, stride, half);
+		MatrixKernels.add(result, c12, stride, work, p, half, result, c12, stride, half, half);
+		
+		// M6 = (A21 - A11)(B11 + B12), C22 += M6
+		subtract(matrix1, a21, stride1, matrix1, a11, stride1, work, s, half, half);
+		MatrixKernels.add(matrix2, b11, stride2, matrix2, b12, stride2, work, t, half, half, half);
+		multiply(work, s, half, work, t, half, work, p, half, half, leaf, work, next);
+		MatrixKernels.add(result, c22, stride, work, p, half, result, c22, stride, half, half);
+		
+		// M7 = (A12 - A22)(B21 + B22), C11 += M7
+		subtract(matrix1, a12, stride1, matrix1, a22, stride1, work, s, half, half);
+		MatrixKernels.add(matrix2, b21, stride2, matrix2, b22, stride2, work, t, half, half, half);
+		multiply(work, s, half, work, t, half, work, p, half, half, leaf, work, next);
+		MatrixKernels.add(result, c11, stride, work, p, half, result, c11, stride, half, half);
+	}
+	
+	private static void subtract(long[] matrix1, int offset1, int stride1, long[] matrix2, int offset2, int stride2,
+			long[] result, int offset, int stride, int size) {
+		for (int r = 0; r < size; r++) {
+			int row1 = offset1 + r * stride1;
+			int row2 = offset2 + r * stride2;
+			int resultRow = offset + r * stride;
+			for (int c = 0; c < size; c++) {
+				result[resultRow + c] = matrix1[row1 + c] - matrix2[row2 + c];
+			}
+		}
+	}
+	
+	private static void copy(long[] matrix, int offset1, int stride1, long[] result, int offset, int stride, int size) {
+		for (int r = 0; r < size; r++) {
+			System.arraycopy(matrix, offset1 + r * stride1, result, offset + r * stride, size);
+		}
+	}
+
+}
@@ -0,0 +1,253 @@
+package com.frostphyr.avail.math;
+
+import com.frostphyr.avail.Argument;
+import com.frostphyr.avail.ToStringBuilder;
+
+/**
+ * A handle to a {@code int[][]} matrix that has been validated once, so that 
+ * a chain of operations on it doesn't need to check every row again. The 
+ * operations of this class only compare the recorded sizes of their 
+ * operands, and the matrices they return are valid by construction.
+ * <p>
+ * The wrapped array is not copied. The elements may be changed freely, but 
+ * replacing or resizing any of its rows after it has been wrapped breaks 
+ * the guarantee this class relies on and results in undefined behavior.
+ * 
+ * @see ValidatedMatrix
+ * @see ValidatedFloatMatrix
+ * @see ValidatedLongMatrix
+ * @see MatrixUtils#validateMatrix(int[][])
+ * @since 1.6
+ */
+public final class ValidatedIntMatrix {
+	
+	private final int[][] matrix;
+	private final int rows;
+	private final int columns;
+	
+	private ValidatedIntMatrix(int[][] matrix) {
+		this.matrix = matrix;
+		this.rows = matrix.length;
+		this.columns = matrix[0].length;
+	}
+	
+	/**
+	 * Validates {@code matrix} and returns a handle to it.
+	 * 
+	 * @param matrix the matrix to validate
+	 * @return a handle to {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is not a valid 
+	 * matrix
+	 * @see MatrixUtils#validateMatrix(int[][])
+	 */
+	public static ValidatedIntMatrix of(int[][] matrix) {
+		if (!MatrixUtils.validateMatrix(matrix)) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_INVALID_MATRIX);
+		}
+		return new ValidatedIntMatrix(matrix);
+	}
+	
+	/**
+	 * Returns a handle to a new matrix with {@code rows} rows and 
+	 * {@code columns} columns where every element is 0.
+	 * 
+	 * @param rows the number of rows
+	 * @param columns the number of columns
+	 * @return a handle to a new matrix
+	 * @throws IllegalArgumentException if {@code rows} or {@code columns} is 
+	 * less than 1
+	 */
+	public static ValidatedIntMatrix create(int rows, int columns) {
+		Argument.checkGreaterThan(rows, 0, "rows");
+		Argument.checkGreaterThan(columns, 0, "columns");
+		return new ValidatedIntMatrix(new int[rows][columns]);
+	}
+	
+	/**
+	 * Returns the wrapped matrix. It is not a copy.
+	 * 
+	 * @return the wrapped matrix
+	 */
+	public int[][] getMatrix() {
+		return matrix;
+	}
+	
+	/**
+	 * Returns the number of rows of the wrapped matrix.
+	 * 
+	 * @return the number of rows of the wrapped matrix
+	 */
+	public int getRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the number of columns of the wrapped matrix.
+	 * 
+	 * @return the number of columns of the wrapped matrix
+	 */
+	public int getColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Returns the sum of this matrix and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @return the sum of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if it is a different size than this matrix
+	 * @see MatrixUtils#add(int[][], int[][])
+	 */
+	public ValidatedIntMatrix add(ValidatedIntMatrix matrix) {
+		return add(matrix, create(rows, columns));
+	}
+	
+	/**
+	 * Stores the sum of this matrix and {@code matrix} in {@code result} and 
+	 * returns it. {@code result} may be this matrix or {@code matrix}, in 
+	 * which case the sum is computed in place.
+	 * 
+	 * @param matrix the matrix to add to this matrix
+	 * @param result the matrix to store the sum in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} is 
+	 * {@code null} or if either is a different size than this matrix
+	 * @see MatrixUtils#add(int[][], int[][], int[][])
+	 */
+	public ValidatedIntMatrix add(ValidatedIntMatrix matrix, ValidatedIntMatrix result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		if (rows != matrix.rows || columns != matrix.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_SIZE_MISMATCH);
+		} else if (rows != result.rows || columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.add(this.matrix, matrix.matrix, result.matrix);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code matrix}.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @return the product of this matrix and {@code matrix}
+	 * @throws IllegalArgumentException if {@code matrix} is {@code null} or 
+	 * if the number of columns of this matrix doesn't equal the number of 
+	 * rows of {@code matrix}
+	 * @see MatrixUtils#multiply(int[][], int[][])
+	 */
+	public ValidatedIntMatrix multiply(ValidatedIntMatrix matrix) {
+		Argument.checkNotNull(matrix, "matrix");
+		return multiply(matrix, create(rows, matrix.columns));
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code matrix} in {@code result} 
+	 * and returns it. Any previous contents of {@code result} are 
+	 * overwritten. {@code result} must not be this matrix or {@code matrix}.
+	 * 
+	 * @param matrix the matrix to multiply this matrix by
+	 * @param result the matrix to store the product in, which must have as 
+	 * many rows as this matrix and as many columns as {@code matrix}
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code matrix} or {@code result} is 
+	 * {@code null}, if the number of columns of this matrix doesn't equal the 
+	 * number of rows of {@code matrix}, if {@code result} is the wrong size or 
+	 * if {@code result} wraps the same matrix as an operand
+	 * @see MatrixUtils#multiply(int[][], int[][], int[][])
+	 */
+	public ValidatedIntMatrix multiply(ValidatedIntMatrix matrix, ValidatedIntMatrix result) {
+		Argument.checkNotNull(matrix, "matrix");
+		Argument.checkNotNull(result, "result");
+		if (columns != matrix.rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_COLUMN_ROW_MISMATCH);
+		} else if (rows != result.rows || matrix.columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result.matrix == this.matrix || result.matrix == matrix.matrix) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		MatrixKernels.fill(result.matrix, 0);
+		MatrixKernels.multiply(this.matrix, matrix.matrix, result.matrix);
+		return result;
+	}
+	
+	/**
+	 * Returns the product of this matrix and {@code scalar}.
+	 * 
+	 * @param scalar the scalar to multiply this matrix by
+	 * @return the product of this matrix and {@code scalar}
+	 * @see MatrixUtils#multiply(int[][], int)
+	 */
+	public ValidatedIntMatrix multiply(int scalar) {
+		return multiply(scalar, create(rows, columns));
+	}
+	
+	/**
+	 * Stores the product of this matrix and {@code scalar} in {@code result} 
+	 * and returns it. {@code result} may be this matrix, in which case the 
+	 * product is computed in place.
+	 * 
+	 * @param scalar the scalar to multiply this matrix by
+	 * @param result the matrix to store the product in
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null} or 
+	 * if it is a different size than this matrix
+	 * @see MatrixUtils#multiply(int[][], int, int[][])
+	 */
+	public ValidatedIntMatrix multiply(int scalar, ValidatedIntMatrix result) {
+		Argument.checkNotNull(result, "result");
+		if (rows != result.rows || columns != result.columns) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		}
+		
+		MatrixKernels.multiply(matrix, scalar, result.matrix);
+		return result;
+	}
+	
+	/**
+	 * Returns the transpose of this matrix, where each row becomes a column 
+	 * and each column becomes a row.
+	 * 
+	 * @return the transpose of this matrix
+	 * @see MatrixUtils#transpose(int[][])
+	 */
+	public ValidatedIntMatrix transpose() {
+		return transpose(create(columns, rows));
+	}
+	
+	/**
+	 * Stores the transpose of this matrix in {@code result} and returns it. 
+	 * {@code result} must not be this matrix.
+	 * 
+	 * @param result the matrix to store the transpose in, which must have as 
+	 * many rows as this matrix has columns and as many columns as this 
+	 * matrix has rows
+	 * @return {@code result}
+	 * @throws IllegalArgumentException if {@code result} is {@code null}, if 
+	 * it is the wrong size or if it wraps the same matrix as this matrix
+	 * @see MatrixUtils#transpose(int[][], int[][])
+	 */
+	public ValidatedIntMatrix transpose(ValidatedIntMatrix result) {
+		Argument.checkNotNull(result, "result");
+		if (rows != result.columns || columns != result.rows) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_SIZE);
+		} else if (result.matrix == matrix) {
+			throw new IllegalArgumentException(MatrixUtils.EXCEPTION_MESSAGE_RESULT_ALIAS);
+		}
+		
+		MatrixKernels.transpose(matrix, result.matrix);
+		return result;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.forObject(this)
+				.append("rows", rows)
+				.append("columns", columns)
+				.toString();
+	}
+
+}
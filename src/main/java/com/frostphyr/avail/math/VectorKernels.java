@@ -0,0 +1,165 @@
+package com.frostphyr.avail.math;
+
+import java.util.Arrays;
+
+/**
+ * Package-private kernels for the products of matrices and vectors, used 
+ * by {@link MatrixUtils} once the arguments have been validated.
+ * <p>
+ * The product of a matrix and a vector computes the dot products of four 
+ * rows at a time, so that each element of the vector is loaded once for 
+ * every four rows. The product of a vector and a matrix adds four scaled 
+ * rows to the result at a time, so that each element of the result is 
+ * loaded and stored once for every four rows, and its loop over the 
+ * columns can be vectorized by the JIT compiler. In both cases the 
+ * elements of each row are accumulated in the same order as a plain loop, 
+ * so the result is exactly the same.
+ * 
+ * @since 1.6
+ */
+final class VectorKernels {
+	
+	private VectorKernels() {
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and the column vector 
+	 * {@code vector} in the elements of {@code result} between 
+	 * {@code rowStart} (inclusive) and {@code rowEnd} (exclusive).
+	 */
+	static void multiply(float[][] matrix, float[] vector, float[] result, int rowStart, int rowEnd) {
+		int columns = vector.length;
+		int r = rowStart;
+		for (; r < rowEnd - 3; r += 4) {
+			float[] row0 = matrix[r];
+			float[] row1 = matrix[r + 1];
+			float[] row2 = matrix[r + 2];
+			float[] row3 = matrix[r + 3];
+			float sum0 = 0;
+			float sum1 = 0;
+			float sum2 = 0;
+			float sum3 = 0;
+			for (int c = 0; c < columns; c++) {
+				float value = vector[c];
+				sum0 += row0[c] * value;
+				sum1 += row1[c] * value;
+				sum2 += row2[c] * value;
+				sum3 += row3[c] * value;
+			}
+			result[r] = sum0;
+			result[r + 1] = sum1;
+			result[r + 2] = sum2;
+			result[r + 3] = sum3;
+		}
+		for (; r < rowEnd; r++) {
+			float[] row = matrix[r];
+			float sum = 0;
+			for (int c = 0; c < columns; c++) {
+				sum += row[c] * vector[c];
+			}
+			result[r] = sum;
+		}
+	}
+	
+	/**
+	 * Stores the product of {@code matrix} and the column vector 
+	 * {@code vector} in the elements of {@code result} between 
+	 * {@code rowStart} (inclusive) and {@code rowEnd} (exclusive).
+	 */
+	static void multiply(double[][] matrix, double[] vector, double[] result, int rowStart, int rowEnd) {
+		int columns = vector.length;
+		int r = rowStart;
+		for (; r < rowEnd - 3; r += 4) {
+			double[] row0 = matrix[r];
+			double[] row1 = matrix[r + 1];
+			double[] row2 = matrix[r + 2];
+			double[] row3 = matrix[r + 3];
+			double sum0 = 0;
+			double sum1 = 0;
+			double sum2 = 0;
+			double sum3 = 0;
+			for (int c = 0; c < columns; c++) {
+				double value = vector[c];
+				sum0 += row0[c] * value;
+				sum1 += row1[c] * value;
+				sum2 += row2[c] * value;
+				sum3 += row3[c] * value;
+			}
+			result[r] = sum0;
+			result[r + 1] = sum1;
+			result[r + 2] = sum2;
+			result[r + 3] = sum3;
+		}
+		for (; r < rowEnd; r++) {
+			double[] row = matrix[r];
+			double sum = 0;
+			for (int c = 0; c < columns; c++) {
+				sum += row[c] * vector[c];
+			}
+			result[r] = sum;
+		}
+	}
+	
+	/**
+	 * Stores the product of the row vector {@code vector} and 
+	 * {@code matrix} in {@code result}.
+	 */
+	static void multiply(float[] vector, float[][] matrix, float[] result) {
+		int rows = vector.length;
+		int columns = result.length;
+		Arrays.fill(result, 0);
+		int r = 0;
+		for (; r < rows - 3; r += 4) {
+			float value0 = vector[r];
+			float value1 = vector[r + 1];
+			float value2 = vector[r + 2];
+			float value3 = vector[r + 3];
+			float[] row0 = matrix[r];
+			float[] row1 = matrix[r + 1];
+			float[] row2 = matrix[r + 2];
+			float[] row3 = matrix[r + 3];
+			for (int c = 0; c < columns; c++) {
+				result[c] = result[c] + value0 * row0[c] + value1 * row1[c] + value2 * row2[c] + value3 * row3[c];
+			}
+		}
+		for (; r < rows; r++) {
+			float value = vector[r];
+			float[] row = matrix[r];
+			for (int c = 0; c < columns; c++) {
+				result[c] += value * row[c];
+			}
+		}
+	}
+	
+	/**
+	 * Stores the product of the row vector {@code vector} and 
+	 * {@code matrix} in {@code result}.
+	 */
+	static void multiply(double[] vector, double[][] matrix, double[] result) {
+		int rows = vector.length;
+		int columns = result.length;
+		Arrays.fill(result, 0);
+		int r = 0;
+		for (; r < rows - 3; r += 4) {
+			double value0 = vector[r];
+			double value1 = vector[r + 1];
+			double value2 = vector[r + 2];
+			double value3 = vector[r + 3];
+			double[] row0 = matrix[r];
+			double[] row1 = matrix[r + 1];
+			double[] row2 = matrix[r + 2];
+			double[] row3 = matrix[r + 3];
+			for (int c = 0; c < columns; c++) {
+				result[c] = result[c] + value0 * row0[c] + value1 * row1[c] + value2 * row2[c] + value3 * row3[c];
+			}
+		}
+		for (; r < rows; r++) {
+			double value = vector[r];
+			double[] row = matrix[r];
+			for (int c = 0; c < columns; c++) {
+				result[c] += value * row[c];
+			}
+		}
+	}
+
+}
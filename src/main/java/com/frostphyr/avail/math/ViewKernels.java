@@ -0,0 +1,183 @@
+package com.frostphyr.avail.math;
+
+/**
+ * Package-private kernels for the operations of {@link MatrixUtils} on 
+ * {@link MatrixView}s, used once the arguments have been validated.
+ * <p>
+ * The elementwise kernels process a row at a time. A row that is contiguous 
+ * in the array backing its view is passed to {@link RowKernels} where it 
+ * is, and any other row is copied into a scratch row first, so views that 
+ * are blocks of a matrix are as fast as the matrix itself. An operand that 
+ * is a view of the same array as the result, other than the result itself, 
+ * is copied before anything is written so that overlapping views give the 
+ * same result as views of separate matrices.
+ * 
+ * @since 1.6
+ */
+final class ViewKernels {
+	
+	private static final RowKernels ROWS = RowKernels.INSTANCE;
+	
+	private ViewKernels() {
+	}
+	
+	static void add(MatrixView matrix1, MatrixView matrix2, MatrixView result) {
+		matrix1 = detach(matrix1, result);
+		matrix2 = detach(matrix2, result);
+		int columns = result.getColumns();
+		double[] scratch1 = matrix1.isRowContiguous() ? null : new double[columns];
+		double[] scratch2 = matrix2.isRowContiguous() ? null : new double[columns];
+		double[] scratch = result.isRowContiguous() ? null : new double[columns];
+		for (int r = 0; r < result.getRows(); r++) {
+			double[] row1 = scratch1;
+			int offset1 = 0;
+			if (row1 == null) {
+				row1 = matrix1.rowArray(r);
+				offset1 = matrix1.rowIndex(r);
+			} else {
+				matrix1.read(r, row1);
+			}
+			double[] row2 = scratch2;
+			int offset2 = 0;
+			if (row2 == null) {
+				row2 = matrix2.rowArray(r);
+				offset2 = matrix2.rowIndex(r);
+			} else {
+				matrix2.read(r, row2);
+			}
+			if (scratch == null) {
+				ROWS.add(row1, offset1, row2, offset2, result.rowArray(r), result.rowIndex(r), columns);
+			} else {
+				ROWS.add(row1, offset1, row2, offset2, scratch, 0, columns);
+				result.write(r, scratch);
+			}
+		}
+	}
+	
+	static void multiply(MatrixView matrix, double scalar, MatrixView result) {
+		matrix = detach(matrix, result);
+		int columns = result.getColumns();
+		double[] scratch1 = matrix.isRowContiguous() ? null : new double[columns];
+		double[] scratch = result.isRowContiguous() ? null : new double[columns];
+		for (int r = 0; r < result.getRows(); r++) {
+			double[] row = scratch1;
+			int offset = 0;
+			if (row == null) {
+				row = matrix.rowArray(r);
+				offset = matrix.rowIndex(r);
+			} else {
+				matrix.read(r, row);
+			}
+			if (scratch == null) {
+				ROWS.multiply(row, offset, scalar, result.rowArray(r), result.rowIndex(r), columns);
+			} else {
+				ROWS.multiply(row, offset, scalar, scratch, 0, columns);
+				result.write(r, scratch);
+			}
+		}
+	}
+	
+	/**
+	 * Copies {@code matrix} into {@code result}. Views that read across the 
+	 * rows of their array are copied a tile at a time so that the array is 
+	 * still read a cache line at a time.
+	 */
+	static void copy(MatrixView matrix, MatrixView result) {
+		matrix = detach(matrix, result);
+		int rows = result.getRows();
+		int columns = result.getColumns();
+		if (matrix.isRowContiguous() && result.isRowContiguous()) {
+			for (int r = 0; r < rows; r++) {
+				System.arraycopy(matrix.rowArray(r), matrix.rowIndex(r), result.rowArray(r), result.rowIndex(r), columns);
+			}
+			return;
+		}
+		
+		int tileSize = MatrixKernels.TRANSPOSE_TILE_SIZE;
+		for (int row = 0; row < rows; row += tileSize) {
+			int rowEnd = Math.min(row + tileSize, rows);
+			for (int column = 0; column < columns; column += tileSize) {
+				int columnEnd = Math.min(column + tileSize, columns);
+				for (int r = row; r < rowEnd; r++) {
+					for (int c = column; c < columnEnd; c++) {
+						result.setElement(r, c, matrix.getElement(r, c));
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Stores the product of {@code matrix1} and {@code matrix2} in 
+	 * {@code result}, overwriting its previous contents. Operands that aren't 
+	 * dense views of a different array than the result are packed into 
+	 * flat arrays, which takes time proportional to their size rather than 
+	 * to the product, so that the tiled kernel of {@link MatrixKernels} can 
+	 * be used for every view.
+	 */
+	static void multiply(MatrixView matrix1, MatrixView matrix2, MatrixView result) {
+		int rows = matrix1.getRows();
+		int inner = matrix1.getColumns();
+		int columns = matrix2.getColumns();
+		double[] data1;
+		int offset1;
+		int stride1;
+		if (matrix1.isDense() && !matrix1.sharesArray(result)) {
+			data1 = matrix1.rowArray(0);
+			offset1 = matrix1.rowIndex(0);
+			stride1 = matrix1.rowDistance();
+		} else {
+			data1 = pack(matrix1);
+			offset1 = 0;
+			stride1 = inner;
+		}
+		double[] data2;
+		int offset2;
+		int stride2;
+		if (matrix2.isDense() && !matrix2.sharesArray(result)) {
+			data2 = matrix2.rowArray(0);
+			offset2 = matrix2.rowIndex(0);
+			stride2 = matrix2.rowDistance();
+		} else {
+			data2 = pack(matrix2);
+			offset2 = 0;
+			stride2 = columns;
+		}
+		
+		if (result.isDense()) {
+			result.fill(0);
+			MatrixKernels.multiply(data1, offset1, stride1, data2, offset2, stride2,
+					result.rowArray(0), result.rowIndex(0), result.rowDistance(), rows, inner, columns);
+		} else {
+			double[] product = new double[rows * columns];
+			MatrixKernels.multiply(data1, offset1, stride1, data2, offset2, stride2, product, 0, columns, rows, inner, columns);
+			copy(MatrixView.wrap(product, rows, columns), result);
+		}
+	}
+	
+	/**
+	 * Returns the elements of {@code matrix} in a new flat array in 
+	 * row-major order.
+	 */
+	private static double[] pack(MatrixView matrix) {
+		int rows = matrix.getRows();
+		int columns = matrix.getColumns();
+		double[] packed = new double[rows * columns];
+		copy(matrix, MatrixView.wrap(packed, rows, columns));
+		return packed;
+	}
+	
+	/**
+	 * Returns {@code matrix}, or a copy of it if it is a view of the same 
+	 * array as {@code result} but not the same view, so that writing to 
+	 * {@code result} can't change elements of {@code matrix} that haven't 
+	 * been read yet.
+	 */
+	private static MatrixView detach(MatrixView matrix, MatrixView result) {
+		if (matrix.sharesArray(result) && !matrix.isSameView(result)) {
+			return MatrixView.of(matrix.toArray());
+		}
+		return matrix;
+	}
+
+}
@@ -0,0 +1,153 @@
+package com.frostphyr.avail.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RowKernels} implemented with the incubating Vector API using the 
+ * preferred vector size of the platform. The elements at the end of a run 
+ * that don't fill a whole vector are handled with the plain loops.
+ * <p>
+ * This class is only compiled for Java 17 and later and is loaded 
+ * reflectively by {@link RowKernels}, so that failing to link it against a 
+ * missing {@code jdk.incubator.vector} module only disables it.
+ * 
+ * @since 1.6
+ */
+final class VectorRowKernels extends RowKernels {
+	
+	private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+	
+	VectorRowKernels() {
+	}
+	
+	@Override
+	boolean isVectorized() {
+		return true;
+	}
+	
+	@Override
+	void add(int[] matrix1, int offset1, int[] matrix2, int offset2, int[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = INT_SPECIES.loopBound(length); i < bound; i += INT_SPECIES.length()) {
+			IntVector.fromArray(INT_SPECIES, matrix1, offset1 + i)
+					.add(IntVector.fromArray(INT_SPECIES, matrix2, offset2 + i))
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] = matrix1[offset1 + i] + matrix2[offset2 + i];
+		}
+	}
+	
+	@Override
+	void multiply(int[] matrix, int offset1, int scalar, int[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = INT_SPECIES.loopBound(length); i < bound; i += INT_SPECIES.length()) {
+			IntVector.fromArray(INT_SPECIES, matrix, offset1 + i)
+					.mul(scalar)
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] = matrix[offset1 + i] * scalar;
+		}
+	}
+	
+	@Override
+	void multiplyAdd(int value, int[] matrix, int offset1, int[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = INT_SPECIES.loopBound(length); i < bound; i += INT_SPECIES.length()) {
+			IntVector.fromArray(INT_SPECIES, matrix, offset1 + i)
+					.mul(value)
+					.add(IntVector.fromArray(INT_SPECIES, result, offset + i))
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] += value * matrix[offset1 + i];
+		}
+	}
+	
+	@Override
+	void add(float[] matrix1, int offset1, float[] matrix2, int offset2, float[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = FLOAT_SPECIES.loopBound(length); i < bound; i += FLOAT_SPECIES.length()) {
+			FloatVector.fromArray(FLOAT_SPECIES, matrix1, offset1 + i)
+					.add(FloatVector.fromArray(FLOAT_SPECIES, matrix2, offset2 + i))
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] = matrix1[offset1 + i] + matrix2[offset2 + i];
+		}
+	}
+	
+	@Override
+	void multiply(float[] matrix, int offset1, float scalar, float[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = FLOAT_SPECIES.loopBound(length); i < bound; i += FLOAT_SPECIES.length()) {
+			FloatVector.fromArray(FLOAT_SPECIES, matrix, offset1 + i)
+					.mul(scalar)
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] = matrix[offset1 + i] * scalar;
+		}
+	}
+	
+	@Override
+	void multiplyAdd(float value, float[] matrix, int offset1, float[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = FLOAT_SPECIES.loopBound(length); i < bound; i += FLOAT_SPECIES.length()) {
+			FloatVector.fromArray(FLOAT_SPECIES, matrix, offset1 + i)
+					.mul(value)
+					.add(FloatVector.fromArray(FLOAT_SPECIES, result, offset + i))
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] += value * matrix[offset1 + i];
+		}
+	}
+	
+	@Override
+	void add(double[] matrix1, int offset1, double[] matrix2, int offset2, double[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = DOUBLE_SPECIES.loopBound(length); i < bound; i += DOUBLE_SPECIES.length()) {
+			DoubleVector.fromArray(DOUBLE_SPECIES, matrix1, offset1 + i)
+					.add(DoubleVector.fromArray(DOUBLE_SPECIES, matrix2, offset2 + i))
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] = matrix1[offset1 + i] + matrix2[offset2 + i];
+		}
+	}
+	
+	@Override
+	void multiply(double[] matrix, int offset1, double scalar, double[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = DOUBLE_SPECIES.loopBound(length); i < bound; i += DOUBLE_SPECIES.length()) {
+			DoubleVector.fromArray(DOUBLE_SPECIES, matrix, offset1 + i)
+					.mul(scalar)
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] = matrix[offset1 + i] * scalar;
+		}
+	}
+	
+	@Override
+	void multiplyAdd(double value, double[] matrix, int offset1, double[] result, int offset, int length) {
+		int i = 0;
+		for (int bound = DOUBLE_SPECIES.loopBound(length); i < bound; i += DOUBLE_SPECIES.length()) {
+			DoubleVector.fromArray(DOUBLE_SPECIES, matrix, offset1 + i)
+					.mul(value)
+					.add(DoubleVector.fromArray(DOUBLE_SPECIES, result, offset + i))
+					.intoArray(result, offset + i);
+		}
+		for (; i < length; i++) {
+			result[offset + i] += value * matrix[offset1 + i];
+		}
+	}
+
+}
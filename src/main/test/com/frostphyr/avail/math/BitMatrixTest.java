@@ -0,0 +1,99 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BitMatrixTest {
+	
+	private static boolean[][] randomMatrix(Random random, int rows, int columns, double density) {
+		boolean[][] matrix = new boolean[rows][columns];
+		for (boolean[] row : matrix) {
+			for (int c = 0; c < columns; c++) {
+				row[c] = random.nextDouble() < density;
+			}
+		}
+		return matrix;
+	}
+	
+	private static boolean[][] multiplyNaive(boolean[][] matrix1, boolean[][] matrix2) {
+		boolean[][] result = new boolean[matrix1.length][matrix2[0].length];
+		for (int r = 0; r < matrix1.length; r++) {
+			for (int k = 0; k < matrix2.length; k++) {
+				for (int c = 0; c < matrix2[0].length; c++) {
+					result[r][c] |= matrix1[r][k] && matrix2[k][c];
+				}
+			}
+		}
+		return result;
+	}
+	
+	@Test
+	public void testFromArray() {
+		boolean[][] array = randomMatrix(new Random(12), 70, 130, 0.5);
+		BitMatrix matrix = BitMatrix.fromArray(array);
+		assertEquals(70, matrix.getRows());
+		assertEquals(130, matrix.getColumns());
+		assertArrayEquals(array, matrix.toArray());
+		
+		long count = 0;
+		for (boolean[] row : array) {
+			for (boolean value : row) {
+				count += value ? 1 : 0;
+			}
+		}
+		assertEquals(count, matrix.cardinality());
+		
+		matrix.set(69, 129, true);
+		assertTrue(matrix.get(69, 129));
+		matrix.set(69, 129, false);
+		assertFalse(matrix.get(69, 129));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, 130));
+	}
+	
+	@Test
+	public void testMultiply() {
+		Random random = new Random(13);
+		boolean[][] matrix1 = randomMatrix(random, 70, 130, 0.05);
+		boolean[][] matrix2 = randomMatrix(random, 130, 65, 0.05);
+		assertArrayEquals(multiplyNaive(matrix1, matrix2), BitMatrix.fromArray(matrix1).multiply(BitMatrix.fromArray(matrix2)).toArray());
+		assertEquals(BitMatrix.fromArray(matrix1), BitMatrix.identity(70).multiply(BitMatrix.fromArray(matrix1)));
+		
+		assertThrows(IllegalArgumentException.class, () -> BitMatrix.fromArray(matrix1).multiply(BitMatrix.fromArray(matrix1)));
+	}
+	
+	@Test
+	public void testTranspose() {
+		Random random = new Random(14);
+		for (int[] size : new int[][] {{1, 1}, {64, 64}, {70, 130}, {200, 3}}) {
+			boolean[][] matrix = randomMatrix(random, size[0], size[1], 0.5);
+			assertArrayEquals(MatrixUtils.transpose(matrix), BitMatrix.fromArray(matrix).transpose().toArray());
+		}
+	}
+	
+	@Test
+	public void testTransitiveClosure() {
+		Random random = new Random(15);
+		boolean[][] matrix = randomMatrix(random, 150, 150, 0.006);
+		boolean[][] expected = MatrixUtils.transpose(MatrixUtils.transpose(matrix));
+		for (int k = 0; k < 150; k++) {
+			for (int r = 0; r < 150; r++) {
+				for (int c = 0; c < 150; c++) {
+					expected[r][c] |= expected[r][k] && expected[k][c];
+				}
+			}
+		}
+		BitMatrix closure = BitMatrix.fromArray(matrix).transitiveClosure();
+		assertArrayEquals(expected, closure.toArray());
+		assertEquals(closure, closure.multiply(closure).or(BitMatrix.fromArray(matrix)));
+		
+		assertThrows(IllegalArgumentException.class, () -> new BitMatrix(2, 3).transitiveClosure());
+	}
+
+}
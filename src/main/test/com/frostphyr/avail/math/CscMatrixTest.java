@@ -0,0 +1,80 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CscMatrixTest {
+	
+	private final double[][] matrix3x4 = {
+			{1, 0, 0, 2},
+			{0, 0, 0, 0},
+			{0, 3, 4, 0}
+	};
+	
+	@Test
+	public void testFromDense() {
+		CscMatrix matrix = CscMatrix.fromDense(matrix3x4);
+		assertEquals(3, matrix.getRows());
+		assertEquals(4, matrix.getColumns());
+		assertEquals(4, matrix.getNonZeroCount());
+		assertEquals(2, matrix.get(0, 3), 0);
+		assertEquals(0, matrix.get(1, 3), 0);
+		assertArrayEquals(matrix3x4, matrix.toDense());
+		assertArrayEquals(matrix3x4, matrix.toCsr().toDense());
+		assertArrayEquals(MatrixUtils.transpose(matrix3x4), matrix.transpose().toDense());
+		
+		assertArrayEquals(matrix3x4, CscMatrix.of(3, 4, new int[] {0, 1, 2, 3, 4}, new int[] {0, 2, 2, 0}, new double[] {1, 3, 4, 2}).toDense());
+		assertThrows(IllegalArgumentException.class, () -> CscMatrix.of(3, 4, new int[] {0, 1, 2, 3, 4}, new int[] {0, 2, 3, 0}, new double[] {1, 3, 4, 2}));
+	}
+	
+	@Test
+	public void testMultiply() {
+		Random random = new Random(10);
+		double[][] matrix1 = CsrMatrixTest.randomSparseMatrix(random, 45, 60, 0.1);
+		double[][] matrix2 = CsrMatrixTest.randomSparseMatrix(random, 60, 25, 0.1);
+		double[][] expected = MatrixUtils.multiply(matrix1, matrix2);
+		CscMatrix sparse1 = CscMatrix.fromDense(matrix1);
+		CscMatrix sparse2 = CscMatrix.fromDense(matrix2);
+		assertArrayEquals(expected, sparse1.multiply(sparse2).toDense());
+		assertArrayEquals(expected, sparse1.multiply(matrix2));
+		assertArrayEquals(expected, sparse2.premultiply(matrix1));
+		
+		// Rows of the product that cancel to 0 must not hide columns from
+		// the rows after them
+		assertArrayEquals(new double[][] {
+			{0, 5},
+			{1, 5}
+		}, CscMatrix.fromDense(new double[][] {{1, 1}, {1, 0}})
+				.multiply(CscMatrix.fromDense(new double[][] {{1, 5}, {-1, 0}})).toDense());
+		double[][] signs1 = new double[30][20];
+		double[][] signs2 = new double[20][30];
+		for (int r = 0; r < 30; r++) {
+			for (int c = 0; c < 20; c++) {
+				signs1[r][c] = random.nextInt(3) - 1;
+				signs2[c][r] = random.nextInt(3) - 1;
+			}
+		}
+		assertArrayEquals(MatrixUtils.multiply(signs1, signs2),
+				CscMatrix.fromDense(signs1).multiply(CscMatrix.fromDense(signs2)).toDense());
+		
+		double[] vector = new double[60];
+		vector[7] = 3;
+		assertArrayEquals(CsrMatrix.fromDense(matrix1).multiply(vector), sparse1.multiply(vector), 0);
+		
+		assertThrows(IllegalArgumentException.class, () -> sparse2.multiply(sparse2));
+	}
+	
+	@Test
+	public void testAdd() {
+		Random random = new Random(11);
+		double[][] matrix1 = CsrMatrixTest.randomSparseMatrix(random, 20, 35, 0.2);
+		double[][] matrix2 = CsrMatrixTest.randomSparseMatrix(random, 20, 35, 0.2);
+		assertArrayEquals(MatrixUtils.add(matrix1, matrix2), CscMatrix.fromDense(matrix1).add(CscMatrix.fromDense(matrix2)).toDense());
+	}
+
+}
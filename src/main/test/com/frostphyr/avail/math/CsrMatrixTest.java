@@ -0,0 +1,120 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CsrMatrixTest {
+	
+	private final double[][] matrix3x4 = {
+			{1, 0, 0, 2},
+			{0, 0, 0, 0},
+			{0, 3, 4, 0}
+	};
+	
+	static double[][] randomSparseMatrix(Random random, int rows, int columns, double density) {
+		double[][] matrix = new double[rows][columns];
+		for (double[] row : matrix) {
+			for (int c = 0; c < columns; c++) {
+				if (random.nextDouble() < density) {
+					row[c] = random.nextInt(19) - 9;
+				}
+			}
+		}
+		return matrix;
+	}
+	
+	@Test
+	public void testFromDense() {
+		CsrMatrix matrix = CsrMatrix.fromDense(matrix3x4);
+		assertEquals(3, matrix.getRows());
+		assertEquals(4, matrix.getColumns());
+		assertEquals(4, matrix.getNonZeroCount());
+		assertEquals(4, matrix.get(2, 2), 0);
+		assertEquals(0, matrix.get(1, 2), 0);
+		assertArrayEquals(matrix3x4, matrix.toDense());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(3, 0));
+	}
+	
+	@Test
+	public void testOf() {
+		CsrMatrix matrix = CsrMatrix.of(3, 4, new int[] {0, 2, 2, 4}, new int[] {0, 3, 1, 2}, new double[] {1, 2, 3, 4});
+		assertArrayEquals(matrix3x4, matrix.toDense());
+		
+		assertThrows(IllegalArgumentException.class, () -> CsrMatrix.of(3, 4, new int[] {0, 2, 2, 4}, new int[] {3, 0, 1, 2}, new double[] {1, 2, 3, 4}));
+		assertThrows(IllegalArgumentException.class, () -> CsrMatrix.of(3, 4, new int[] {0, 2, 2, 4}, new int[] {0, 4, 1, 2}, new double[] {1, 2, 3, 4}));
+		assertThrows(IllegalArgumentException.class, () -> CsrMatrix.of(3, 4, new int[] {0, 2, 1, 4}, new int[] {0, 3, 1, 2}, new double[] {1, 2, 3, 4}));
+		assertThrows(IllegalArgumentException.class, () -> CsrMatrix.of(3, 4, new int[] {0, 2, 2, 4}, new int[] {0, 3, 1, 2}, new double[] {1, 2, 3}));
+	}
+	
+	@Test
+	public void testTranspose() {
+		CsrMatrix matrix = CsrMatrix.fromDense(matrix3x4);
+		assertArrayEquals(MatrixUtils.transpose(matrix3x4), matrix.transpose().toDense());
+		assertArrayEquals(matrix3x4, matrix.toCsc().toDense());
+		assertArrayEquals(matrix3x4, matrix.toCsc().toCsr().toDense());
+	}
+	
+	@Test
+	public void testMultiply() {
+		Random random = new Random(8);
+		double[][] matrix1 = randomSparseMatrix(random, 40, 70, 0.1);
+		double[][] matrix2 = randomSparseMatrix(random, 70, 30, 0.1);
+		double[][] expected = MatrixUtils.multiply(matrix1, matrix2);
+		CsrMatrix sparse1 = CsrMatrix.fromDense(matrix1);
+		CsrMatrix sparse2 = CsrMatrix.fromDense(matrix2);
+		assertArrayEquals(expected, sparse1.multiply(sparse2).toDense());
+		assertArrayEquals(expected, sparse1.multiply(matrix2));
+		assertArrayEquals(expected, sparse2.premultiply(matrix1));
+		assertEquals(CsrMatrix.fromDense(expected).getNonZeroCount(), sparse1.multiply(sparse2).getNonZeroCount());
+		
+		// Rows of the product that cancel to 0 must not hide columns from
+		// the rows after them
+		assertArrayEquals(new double[][] {
+			{0, 5},
+			{1, 5}
+		}, CsrMatrix.fromDense(new double[][] {{1, 1}, {1, 0}})
+				.multiply(CsrMatrix.fromDense(new double[][] {{1, 5}, {-1, 0}})).toDense());
+		double[][] signs1 = new double[30][20];
+		double[][] signs2 = new double[20][30];
+		for (int r = 0; r < 30; r++) {
+			for (int c = 0; c < 20; c++) {
+				signs1[r][c] = random.nextInt(3) - 1;
+				signs2[c][r] = random.nextInt(3) - 1;
+			}
+		}
+		assertArrayEquals(MatrixUtils.multiply(signs1, signs2),
+				CsrMatrix.fromDense(signs1).multiply(CsrMatrix.fromDense(signs2)).toDense());
+		
+		double[] vector = new double[70];
+		vector[3] = 2;
+		vector[10] = -1;
+		double[] expectedVector = new double[40];
+		for (int r = 0; r < 40; r++) {
+			expectedVector[r] = 2 * matrix1[r][3] - matrix1[r][10];
+		}
+		assertArrayEquals(expectedVector, sparse1.multiply(vector), 0);
+		
+		assertThrows(IllegalArgumentException.class, () -> sparse2.multiply(sparse2));
+		assertThrows(IllegalArgumentException.class, () -> sparse1.multiply(matrix1));
+	}
+	
+	@Test
+	public void testAdd() {
+		Random random = new Random(9);
+		double[][] matrix1 = randomSparseMatrix(random, 30, 50, 0.2);
+		double[][] matrix2 = MatrixUtils.multiply(matrix1, -1.0);
+		matrix2[4][7] += 5;
+		CsrMatrix sum = CsrMatrix.fromDense(matrix1).add(CsrMatrix.fromDense(matrix2));
+		assertArrayEquals(MatrixUtils.add(matrix1, matrix2), sum.toDense());
+		assertEquals(1, sum.getNonZeroCount());
+		
+		assertThrows(IllegalArgumentException.class, () -> CsrMatrix.fromDense(matrix1).add(CsrMatrix.fromDense(matrix3x4)));
+	}
+
+}
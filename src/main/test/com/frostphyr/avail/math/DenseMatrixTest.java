@@ -0,0 +1,141 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DenseMatrixTest {
+	
+	private final double[][] matrix2x3_1 = {
+			{1, 2, 3},
+			{4, 5, 6}
+	};
+	
+	private final double[][] matrix2x3_2 = {
+			{7, 8, 9},
+			{10, 11, 12}
+	};
+	
+	private final double[][] matrix3x3 = {
+			{7, 8, 9},
+			{10, 11, 12},
+			{13, 14, 15}
+	};
+	
+	@Test
+	public void testFromArray() {
+		DenseMatrix matrix = DenseMatrix.fromArray(matrix2x3_1);
+		assertEquals(2, matrix.getRows());
+		assertEquals(3, matrix.getColumns());
+		assertEquals(6, matrix.get(1, 2), 0);
+		assertArrayEquals(matrix2x3_1, matrix.toArray());
+		
+		assertThrows(IllegalArgumentException.class, () -> DenseMatrix.fromArray(new double[][] {
+			{1, 2},
+			{3}
+		}));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, 3));
+	}
+	
+	@Test
+	public void testWrap() {
+		double[] data = {
+				0, 0, 0, 0,
+				0, 1, 2, 3,
+				0, 4, 5, 6
+		};
+		DenseMatrix matrix = DenseMatrix.wrap(data, 5, 4, 2, 3);
+		assertArrayEquals(matrix2x3_1, matrix.toArray());
+		assertEquals(DenseMatrix.fromArray(matrix2x3_1), matrix);
+		
+		matrix.set(0, 0, 10);
+		assertEquals(10, data[5], 0);
+		
+		assertThrows(IllegalArgumentException.class, () -> DenseMatrix.wrap(data, 6, 4, 2, 3));
+		assertThrows(IllegalArgumentException.class, () -> DenseMatrix.wrap(data, 0, 2, 2, 3));
+	}
+	
+	@Test
+	public void testAdd() {
+		assertArrayEquals(new double[][] {
+			{8, 10, 12},
+			{14, 16, 18}
+		}, DenseMatrix.fromArray(matrix2x3_1).add(DenseMatrix.fromArray(matrix2x3_2)).toArray());
+		
+		assertThrows(IllegalArgumentException.class, () -> DenseMatrix.fromArray(matrix2x3_1).add(DenseMatrix.fromArray(matrix3x3)));
+	}
+	
+	@Test
+	public void testMultiply() {
+		assertArrayEquals(new double[][] {
+			{66, 72, 78},
+			{156, 171, 186}
+		}, DenseMatrix.fromArray(matrix2x3_1).multiply(DenseMatrix.fromArray(matrix3x3)).toArray());
+		
+		Random random = new Random(3);
+		double[][] matrix1 = MatrixUtilsTest.randomMatrix(random, 60, 300);
+		double[][] matrix2 = MatrixUtilsTest.randomMatrix(random, 300, 200);
+		assertArrayEquals(MatrixUtils.multiply(matrix1, matrix2),
+				DenseMatrix.fromArray(matrix1).multiply(DenseMatrix.fromArray(matrix2)).toArray());
+		
+		assertThrows(IllegalArgumentException.class, () -> DenseMatrix.fromArray(matrix3x3).multiply(DenseMatrix.fromArray(matrix2x3_1)));
+	}
+	
+	@Test
+	public void testMultiplyScalar() {
+		assertArrayEquals(new double[][] {
+			{2, 4, 6},
+			{8, 10, 12}
+		}, DenseMatrix.fromArray(matrix2x3_1).multiply(2).toArray());
+	}
+	
+	@Test
+	public void testTranspose() {
+		assertArrayEquals(new double[][] {
+			{1, 4},
+			{2, 5},
+			{3, 6}
+		}, DenseMatrix.fromArray(matrix2x3_1).transpose().toArray());
+		
+		double[][] matrix = MatrixUtilsTest.randomMatrix(new Random(4), 70, 45);
+		assertArrayEquals(MatrixUtils.transpose(matrix), DenseMatrix.fromArray(matrix).transpose().toArray());
+	}
+	
+	@Test
+	public void testResult() {
+		DenseMatrix matrix1 = DenseMatrix.fromArray(matrix2x3_1);
+		DenseMatrix matrix2 = DenseMatrix.fromArray(matrix3x3);
+		DenseMatrix result = new DenseMatrix(2, 3);
+		result.fill(1);
+		assertSame(result, matrix1.multiply(matrix2, result));
+		assertEquals(matrix1.multiply(matrix2), result);
+		
+		DenseMatrix sum = DenseMatrix.fromArray(matrix2x3_1);
+		sum.add(DenseMatrix.fromArray(matrix2x3_2), sum).multiply(2, sum);
+		assertArrayEquals(new double[][] {
+			{16, 20, 24},
+			{28, 32, 36}
+		}, sum.toArray());
+		
+		DenseMatrix transpose = new DenseMatrix(3, 2);
+		assertEquals(matrix1.transpose(), matrix1.transpose(transpose));
+		
+		assertThrows(IllegalArgumentException.class, () -> matrix2.multiply(matrix2, matrix2));
+		assertThrows(IllegalArgumentException.class, () -> matrix1.transpose(new DenseMatrix(2, 3)));
+	}
+	
+	@Test
+	public void testEquals() {
+		assertEquals(DenseMatrix.fromArray(matrix2x3_1), DenseMatrix.fromArray(matrix2x3_1));
+		assertEquals(DenseMatrix.fromArray(matrix2x3_1).hashCode(), DenseMatrix.fromArray(matrix2x3_1).hashCode());
+		assertNotEquals(DenseMatrix.fromArray(matrix2x3_1), DenseMatrix.fromArray(matrix2x3_2));
+		assertNotEquals(DenseMatrix.fromArray(matrix2x3_1), DenseMatrix.fromArray(matrix2x3_1).transpose());
+	}
+
+}
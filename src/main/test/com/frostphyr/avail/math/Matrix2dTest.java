@@ -0,0 +1,106 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Matrix2dTest {
+	
+	private static final double DELTA = 1e-12;
+	
+	private static void assertMatrixEquals(double[][] expected, Matrix2d actual) {
+		double[][] array = actual.toArray();
+		for (int r = 0; r < 2; r++) {
+			assertArrayEquals(expected[r], array[r], DELTA);
+		}
+	}
+	
+	@Test
+	public void testElements() {
+		Matrix2d matrix = new Matrix2d(1, 2,
+				3, 4);
+		assertArrayEquals(new double[][] {{1, 2}, {3, 4}}, matrix.toArray());
+		assertEquals(2, matrix.get(0, 1), 0);
+		assertEquals(3, matrix.get(1, 0), 0);
+		assertEquals(matrix, Matrix2d.fromArray(new double[][] {{1, 2}, {3, 4}}));
+		assertEquals(matrix.hashCode(), new Matrix2d(matrix).hashCode());
+		
+		assertSame(matrix, matrix.set(1, 0, 5));
+		assertEquals(5, matrix.m10, 0);
+		assertNotEquals(matrix, new Matrix2d(1, 2, 3, 4));
+		assertEquals(new Matrix2d(1, 0, 0, 1), matrix.setIdentity());
+		assertEquals(matrix, new Matrix2d());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(2, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.set(0, -1, 0));
+		assertThrows(IllegalArgumentException.class, () -> Matrix2d.fromArray(new double[2][3]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix2d.fromArray(new double[3][2]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix2d.fromArray(null));
+	}
+	
+	@Test
+	public void testMultiply() {
+		Matrix2d matrix1 = new Matrix2d(1, 2, 3, 4);
+		Matrix2d matrix2 = new Matrix2d(5, 6, 7, 8);
+		Matrix2d result = new Matrix2d();
+		assertSame(result, matrix1.multiply(matrix2, result));
+		assertEquals(new Matrix2d(19, 22, 43, 50), result);
+		assertSame(matrix2, matrix1.multiply(matrix2, matrix2));
+		assertEquals(new Matrix2d(19, 22, 43, 50), matrix2);
+		assertSame(matrix1, matrix1.multiply(matrix1));
+		assertEquals(new Matrix2d(7, 10, 15, 22), matrix1);
+		
+		// A rotation by 90 degrees four times is the identity
+		Matrix2d rotation = new Matrix2d(0, -1, 1, 0);
+		Matrix2d power = new Matrix2d();
+		for (int i = 0; i < 4; i++) {
+			power.multiply(rotation);
+		}
+		assertMatrixEquals(new double[][] {{1, 0}, {0, 1}}, power);
+	}
+	
+	@Test
+	public void testTranspose() {
+		Matrix2d matrix = new Matrix2d(1, 2, 3, 4);
+		assertEquals(new Matrix2d(1, 3, 2, 4), matrix.transpose(new Matrix2d()));
+		assertSame(matrix, matrix.transpose());
+		assertEquals(new Matrix2d(1, 3, 2, 4), matrix);
+	}
+	
+	@Test
+	public void testInvert() {
+		Matrix2d matrix = new Matrix2d(4, 7, 2, 6);
+		assertEquals(10, matrix.determinant(), 0);
+		Matrix2d inverse = matrix.invert(new Matrix2d());
+		assertMatrixEquals(new double[][] {{0.6, -0.7}, {-0.2, 0.4}}, inverse);
+		
+		// The closed form swaps the diagonal, negates the other elements and
+		// divides by the determinant
+		Random random = new Random(30);
+		double a = random.nextDouble() + 1;
+		double b = random.nextDouble();
+		double c = random.nextDouble();
+		double d = random.nextDouble() + 1;
+		double determinant = a * d - b * c;
+		inverse = new Matrix2d(a, b, c, d).invert();
+		assertEquals(d / determinant, inverse.m00, DELTA);
+		assertEquals(-b / determinant, inverse.m01, DELTA);
+		assertEquals(-c / determinant, inverse.m10, DELTA);
+		assertEquals(a / determinant, inverse.m11, DELTA);
+		assertMatrixEquals(new double[][] {{1, 0}, {0, 1}}, new Matrix2d(a, b, c, d).multiply(inverse));
+		
+		Matrix2d singular = new Matrix2d(1, 2, 2, 4);
+		Matrix2d result = new Matrix2d(9, 9, 9, 9);
+		assertEquals(0, singular.determinant(), 0);
+		assertThrows(ArithmeticException.class, () -> singular.invert(result));
+		assertEquals(new Matrix2d(9, 9, 9, 9), result);
+		assertThrows(ArithmeticException.class, () -> new Matrix2d(0, 0, 0, 0).invert());
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Matrix2fTest {
+	
+	private static final float DELTA = 1e-5f;
+	
+	@Test
+	public void testElements() {
+		Matrix2f matrix = new Matrix2f(1, 2,
+				3, 4);
+		assertArrayEquals(new float[][] {{1, 2}, {3, 4}}, matrix.toArray());
+		assertEquals(2, matrix.get(0, 1), 0);
+		assertEquals(3, matrix.get(1, 0), 0);
+		assertEquals(matrix, Matrix2f.fromArray(new float[][] {{1, 2}, {3, 4}}));
+		assertEquals(matrix.hashCode(), new Matrix2f(matrix).hashCode());
+		
+		assertSame(matrix, matrix.set(0, 1, -2));
+		assertEquals(-2, matrix.m01, 0);
+		assertNotEquals(matrix, new Matrix2f(1, 2, 3, 4));
+		assertSame(matrix, matrix.set(new Matrix2f(5, 6, 7, 8)));
+		assertEquals(new Matrix2f(5, 6, 7, 8), matrix);
+		assertEquals(new Matrix2f(), matrix.setIdentity());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.set(-1, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> Matrix2f.fromArray(new float[2][1]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix2f.fromArray(new float[][] {{1, 2}, {3}}));
+		assertThrows(IllegalArgumentException.class, () -> Matrix2f.fromArray(null));
+	}
+	
+	@Test
+	public void testMultiply() {
+		Matrix2f matrix1 = new Matrix2f(1, 2, 3, 4);
+		Matrix2f matrix2 = new Matrix2f(5, 6, 7, 8);
+		assertEquals(new Matrix2f(19, 22, 43, 50), matrix1.multiply(matrix2, new Matrix2f()));
+		assertEquals(new Matrix2f(23, 34, 31, 46), matrix2.multiply(matrix1, new Matrix2f()));
+		assertSame(matrix1, matrix1.multiply(matrix2, matrix1));
+		assertEquals(new Matrix2f(19, 22, 43, 50), matrix1);
+		
+		// Scaling then shearing is not the same as shearing then scaling
+		Matrix2f scale = new Matrix2f(2, 0, 0, 3);
+		Matrix2f shear = new Matrix2f(1, 1, 0, 1);
+		assertEquals(new Matrix2f(2, 3, 0, 3), shear.multiply(scale, new Matrix2f()));
+		assertEquals(new Matrix2f(2, 2, 0, 3), scale.multiply(shear, new Matrix2f()));
+	}
+	
+	@Test
+	public void testTranspose() {
+		Matrix2f matrix = new Matrix2f(1, 2, 3, 4);
+		assertEquals(new Matrix2f(1, 3, 2, 4), matrix.transpose(new Matrix2f()));
+		assertEquals(new Matrix2f(1, 2, 3, 4), matrix.transpose().transpose());
+	}
+	
+	@Test
+	public void testInvert() {
+		Matrix2f matrix = new Matrix2f(2, 1, 1, 1);
+		assertEquals(1, matrix.determinant(), 0);
+		assertEquals(new Matrix2f(1, -1, -1, 2), matrix.invert(new Matrix2f()));
+		
+		Random random = new Random(31);
+		float a = random.nextFloat() + 1;
+		float b = random.nextFloat();
+		float c = random.nextFloat();
+		float d = random.nextFloat() + 1;
+		float determinant = a * d - b * c;
+		Matrix2f inverse = new Matrix2f(a, b, c, d);
+		assertSame(inverse, inverse.invert());
+		assertEquals(d / determinant, inverse.m00, DELTA);
+		assertEquals(-b / determinant, inverse.m01, DELTA);
+		assertEquals(-c / determinant, inverse.m10, DELTA);
+		assertEquals(a / determinant, inverse.m11, DELTA);
+		assertEquals(1 / determinant, inverse.determinant(), DELTA);
+		
+		Matrix2f singular = new Matrix2f(3, -6, -1, 2);
+		Matrix2f result = new Matrix2f(9, 9, 9, 9);
+		assertEquals(0, singular.determinant(), 0);
+		assertThrows(ArithmeticException.class, () -> singular.invert(result));
+		assertEquals(new Matrix2f(9, 9, 9, 9), result);
+		assertEquals(new Matrix2f(3, -6, -1, 2), singular);
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Matrix3dTest {
+	
+	private static final double DELTA = 1e-12;
+	
+	private static void assertMatrixEquals(double[][] expected, Matrix3d actual) {
+		double[][] array = actual.toArray();
+		for (int r = 0; r < 3; r++) {
+			assertArrayEquals(expected[r], array[r], DELTA);
+		}
+	}
+	
+	@Test
+	public void testElements() {
+		Matrix3d matrix = new Matrix3d(1, 2, 3,
+				4, 5, 6,
+				7, 8, 9);
+		assertArrayEquals(new double[][] {{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}, matrix.toArray());
+		assertEquals(6, matrix.get(1, 2), 0);
+		assertEquals(8, matrix.get(2, 1), 0);
+		assertEquals(matrix, Matrix3d.fromArray(matrix.toArray()));
+		assertEquals(matrix.hashCode(), new Matrix3d(matrix).hashCode());
+		
+		assertSame(matrix, matrix.set(2, 1, -8));
+		assertEquals(-8, matrix.m21, 0);
+		assertEquals(6, matrix.m12, 0);
+		assertNotEquals(matrix, new Matrix3d(1, 2, 3, 4, 5, 6, 7, 8, 9));
+		assertEquals(new Matrix3d(1, 0, 0, 0, 1, 0, 0, 0, 1), matrix.setIdentity());
+		assertEquals(matrix, new Matrix3d());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(3, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, 3));
+		assertThrows(IllegalArgumentException.class, () -> Matrix3d.fromArray(new double[3][4]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix3d.fromArray(new double[2][3]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix3d.fromArray(null));
+	}
+	
+	@Test
+	public void testMultiply() {
+		Matrix3d matrix1 = new Matrix3d(1, 2, 3, 4, 5, 6, 7, 8, 10);
+		Matrix3d matrix2 = new Matrix3d(1, 0, 2, 0, 1, 0, 3, 0, 1);
+		Matrix3d result = new Matrix3d();
+		assertSame(result, matrix1.multiply(matrix2, result));
+		assertEquals(new Matrix3d(10, 2, 5, 22, 5, 14, 37, 8, 24), result);
+		assertSame(matrix2, matrix1.multiply(matrix2, matrix2));
+		assertEquals(new Matrix3d(10, 2, 5, 22, 5, 14, 37, 8, 24), matrix2);
+		
+		Random random = new Random(40);
+		double[][] array1 = MatrixUtilsTest.randomMatrix(random, 3, 3);
+		double[][] array2 = MatrixUtilsTest.randomMatrix(random, 3, 3);
+		matrix1 = Matrix3d.fromArray(array1);
+		assertSame(matrix1, matrix1.multiply(Matrix3d.fromArray(array2)));
+		assertMatrixEquals(MatrixUtils.multiply(array1, array2), matrix1);
+	}
+	
+	@Test
+	public void testTranspose() {
+		Matrix3d matrix = new Matrix3d(1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertEquals(new Matrix3d(1, 4, 7, 2, 5, 8, 3, 6, 9), matrix.transpose(new Matrix3d()));
+		assertSame(matrix, matrix.transpose());
+		assertEquals(new Matrix3d(1, 4, 7, 2, 5, 8, 3, 6, 9), matrix);
+	}
+	
+	@Test
+	public void testInvert() {
+		// Expanding along the first row: 2 * (6 - 2) - 0 + 1 * (1 - 3)
+		assertEquals(6, new Matrix3d(2, 0, 1, 1, 3, 2, 1, 1, 2).determinant(), 0);
+		
+		// A matrix with a determinant of 1 has an integer adjugate, so its
+		// inverse is exact
+		Matrix3d matrix = new Matrix3d(1, 2, 3, 0, 1, 4, 5, 6, 0);
+		assertEquals(1, matrix.determinant(), 0);
+		assertEquals(new Matrix3d(-24, 18, 5, 20, -15, -4, -5, 4, 1), matrix.invert(new Matrix3d()));
+		assertSame(matrix, matrix.invert().invert());
+		assertEquals(new Matrix3d(1, 2, 3, 0, 1, 4, 5, 6, 0), matrix);
+		
+		double[][] array = MatrixUtilsTest.randomMatrix(new Random(41), 3, 3);
+		Matrix3d random = Matrix3d.fromArray(array);
+		Matrix3d inverse = random.invert(new Matrix3d());
+		assertMatrixEquals(new double[][] {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}}, random.multiply(inverse, new Matrix3d()));
+		assertEquals(1, random.determinant() * inverse.determinant(), DELTA);
+		
+		// The rows are linearly dependent without any being a multiple of
+		// another
+		Matrix3d singular = new Matrix3d(1, 2, 3, 4, 5, 6, 7, 8, 9);
+		Matrix3d result = new Matrix3d(matrix);
+		assertEquals(0, singular.determinant(), 0);
+		assertThrows(ArithmeticException.class, () -> singular.invert(result));
+		assertEquals(matrix, result);
+	}
+
+}
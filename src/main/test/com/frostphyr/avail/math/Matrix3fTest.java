@@ -0,0 +1,110 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Matrix3fTest {
+	
+	private static final float DELTA = 1e-4f;
+	
+	private static void assertMatrixEquals(float[][] expected, Matrix3f actual) {
+		float[][] array = actual.toArray();
+		for (int r = 0; r < 3; r++) {
+			assertArrayEquals(expected[r], array[r], DELTA);
+		}
+	}
+	
+	private static float[][] randomArray(Random random) {
+		float[][] array = new float[3][3];
+		for (float[] row : array) {
+			for (int i = 0; i < row.length; i++) {
+				row[i] = random.nextFloat() * 2 - 1;
+			}
+		}
+		return array;
+	}
+	
+	@Test
+	public void testElements() {
+		Matrix3f matrix = new Matrix3f(1, 2, 3,
+				4, 5, 6,
+				7, 8, 9);
+		assertArrayEquals(new float[][] {{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}, matrix.toArray());
+		assertEquals(4, matrix.get(1, 0), 0);
+		assertEquals(3, matrix.get(0, 2), 0);
+		assertEquals(matrix, new Matrix3f(matrix));
+		assertEquals(matrix.hashCode(), Matrix3f.fromArray(matrix.toArray()).hashCode());
+		
+		assertSame(matrix, matrix.set(0, 2, 5));
+		assertEquals(5, matrix.m02, 0);
+		assertEquals(7, matrix.m20, 0);
+		assertNotEquals(matrix, new Matrix3f(1, 2, 3, 4, 5, 6, 7, 8, 9));
+		assertEquals(new Matrix3f(), matrix.setIdentity());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(-1, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.set(1, 3, 0));
+		assertThrows(IllegalArgumentException.class, () -> Matrix3f.fromArray(new float[3][4]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix3f.fromArray(new float[4][3]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix3f.fromArray(null));
+	}
+	
+	@Test
+	public void testMultiply() {
+		// Scaling and translating homogeneous 2D coordinates
+		Matrix3f translation = new Matrix3f(1, 0, 4, 0, 1, -2, 0, 0, 1);
+		Matrix3f scale = new Matrix3f(3, 0, 0, 0, 2, 0, 0, 0, 1);
+		assertEquals(new Matrix3f(3, 0, 4, 0, 2, -2, 0, 0, 1), translation.multiply(scale, new Matrix3f()));
+		assertEquals(new Matrix3f(3, 0, 12, 0, 2, -4, 0, 0, 1), scale.multiply(translation, new Matrix3f()));
+		
+		Random random = new Random(42);
+		float[][] array1 = randomArray(random);
+		float[][] array2 = randomArray(random);
+		Matrix3f matrix1 = Matrix3f.fromArray(array1);
+		Matrix3f matrix2 = Matrix3f.fromArray(array2);
+		assertSame(matrix2, matrix1.multiply(matrix2, matrix2));
+		assertMatrixEquals(MatrixUtils.multiply(array1, array2), matrix2);
+		assertSame(matrix1, matrix1.multiply(matrix1));
+		assertMatrixEquals(MatrixUtils.multiply(array1, array1), matrix1);
+	}
+	
+	@Test
+	public void testTranspose() {
+		Matrix3f matrix = new Matrix3f(1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertEquals(new Matrix3f(1, 4, 7, 2, 5, 8, 3, 6, 9), matrix.transpose(new Matrix3f()));
+		assertEquals(new Matrix3f(1, 2, 3, 4, 5, 6, 7, 8, 9), matrix.transpose().transpose());
+	}
+	
+	@Test
+	public void testInvert() {
+		// Expanding along the first row: 1 * (0 - 24) - 2 * (0 - 20) + 3 * (0 - 5)
+		Matrix3f matrix = new Matrix3f(1, 2, 3, 0, 1, 4, 5, 6, 0);
+		assertEquals(1, matrix.determinant(), 0);
+		assertEquals(new Matrix3f(-24, 18, 5, 20, -15, -4, -5, 4, 1), matrix.invert(new Matrix3f()));
+		
+		// The inverse of a translation translates the other way
+		Matrix3f translation = new Matrix3f(1, 0, 4, 0, 1, -2, 0, 0, 1);
+		assertSame(translation, translation.invert());
+		assertMatrixEquals(new float[][] {{1, 0, -4}, {0, 1, 2}, {0, 0, 1}}, translation);
+		
+		float[][] array = randomArray(new Random(43));
+		Matrix3f random = Matrix3f.fromArray(array);
+		Matrix3f inverse = random.invert(new Matrix3f());
+		assertMatrixEquals(new float[][] {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}}, random.multiply(inverse, new Matrix3f()));
+		assertMatrixEquals(array, inverse.invert());
+		
+		Matrix3f singular = new Matrix3f(1, 2, 3, 2, 4, 6, 3, 6, 9);
+		Matrix3f result = new Matrix3f();
+		assertEquals(0, singular.determinant(), 0);
+		assertThrows(ArithmeticException.class, () -> singular.invert(result));
+		assertEquals(new Matrix3f(), result);
+		assertEquals(new Matrix3f(1, 2, 3, 2, 4, 6, 3, 6, 9), singular);
+	}
+
+}
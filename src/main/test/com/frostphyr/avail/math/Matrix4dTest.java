@@ -0,0 +1,113 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Matrix4dTest {
+	
+	private static final double DELTA = 1e-12;
+	
+	private static void assertMatrixEquals(double[][] expected, Matrix4d actual) {
+		double[][] array = actual.toArray();
+		for (int r = 0; r < 4; r++) {
+			assertArrayEquals(expected[r], array[r], DELTA);
+		}
+	}
+	
+	private static Matrix4d translation(double x, double y, double z) {
+		return new Matrix4d(1, 0, 0, x,
+				0, 1, 0, y,
+				0, 0, 1, z,
+				0, 0, 0, 1);
+	}
+	
+	@Test
+	public void testElements() {
+		Matrix4d matrix = new Matrix4d(1, 2, 3, 4,
+				5, 6, 7, 8,
+				9, 10, 11, 12,
+				13, 14, 15, 16);
+		assertArrayEquals(new double[][] {{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}, {13, 14, 15, 16}},
+				matrix.toArray());
+		assertEquals(14, matrix.get(3, 1), 0);
+		assertEquals(8, matrix.get(1, 3), 0);
+		assertEquals(matrix, Matrix4d.fromArray(matrix.toArray()));
+		assertEquals(matrix.hashCode(), new Matrix4d(matrix).hashCode());
+		
+		assertSame(matrix, matrix.set(3, 2, 0));
+		assertEquals(0, matrix.m32, 0);
+		assertEquals(12, matrix.m23, 0);
+		assertNotEquals(matrix, new Matrix4d(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
+		assertEquals(translation(0, 0, 0), matrix.setIdentity());
+		assertEquals(matrix, new Matrix4d());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(4, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.set(0, 4, 0));
+		assertThrows(IllegalArgumentException.class, () -> Matrix4d.fromArray(new double[4][5]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix4d.fromArray(new double[3][3]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix4d.fromArray(null));
+	}
+	
+	@Test
+	public void testMultiply() {
+		// Transforms are applied right to left, so translating after scaling
+		// doesn't scale the translation but scaling after translating does
+		Matrix4d translation = translation(1, 2, 3);
+		Matrix4d scale = new Matrix4d(2, 0, 0, 0, 0, 3, 0, 0, 0, 0, 4, 0, 0, 0, 0, 1);
+		assertEquals(new Matrix4d(2, 0, 0, 1, 0, 3, 0, 2, 0, 0, 4, 3, 0, 0, 0, 1),
+				translation.multiply(scale, new Matrix4d()));
+		assertSame(scale, scale.multiply(translation, scale));
+		assertEquals(new Matrix4d(2, 0, 0, 2, 0, 3, 0, 6, 0, 0, 4, 12, 0, 0, 0, 1), scale);
+		assertEquals(translation(2, 4, 6), translation.multiply(translation));
+		
+		Random random = new Random(50);
+		double[][] array1 = MatrixUtilsTest.randomMatrix(random, 4, 4);
+		double[][] array2 = MatrixUtilsTest.randomMatrix(random, 4, 4);
+		Matrix4d matrix2 = Matrix4d.fromArray(array2);
+		assertSame(matrix2, Matrix4d.fromArray(array1).multiply(matrix2, matrix2));
+		assertMatrixEquals(MatrixUtils.multiply(array1, array2), matrix2);
+	}
+	
+	@Test
+	public void testTranspose() {
+		Matrix4d matrix = translation(1, 2, 3);
+		assertEquals(new Matrix4d(1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 1, 2, 3, 1), matrix.transpose(new Matrix4d()));
+		assertSame(matrix, matrix.transpose().transpose());
+		assertEquals(translation(1, 2, 3), matrix);
+	}
+	
+	@Test
+	public void testInvert() {
+		// The determinant is expanded from 2x2 minors of the top and bottom
+		// rows, so swapping the first and last rows must negate it
+		Matrix4d permutation = new Matrix4d(0, 0, 0, 1, 0, 1, 0, 0, 0, 0, 1, 0, 1, 0, 0, 0);
+		assertEquals(-1, permutation.determinant(), 0);
+		assertMatrixEquals(permutation.toArray(), permutation.invert(new Matrix4d()));
+		assertEquals(6, new Matrix4d(2, 1, 0, 0, 1, 1, 0, 0, 0, 0, 3, 1, 0, 0, 0, 2).determinant(), 0);
+		
+		assertEquals(translation(-1, -2, -3), translation(1, 2, 3).invert());
+		Matrix4d triangular = new Matrix4d(1, 2, 0, 0, 0, 1, 3, 0, 0, 0, 1, 4, 0, 0, 0, 1);
+		assertSame(triangular, triangular.invert());
+		assertEquals(new Matrix4d(1, -2, 6, -24, 0, 1, -3, 12, 0, 0, 1, -4, 0, 0, 0, 1), triangular);
+		
+		double[][] array = MatrixUtilsTest.randomMatrix(new Random(51), 4, 4);
+		Matrix4d random = Matrix4d.fromArray(array);
+		Matrix4d inverse = random.invert(new Matrix4d());
+		assertMatrixEquals(translation(0, 0, 0).toArray(), random.multiply(inverse, new Matrix4d()));
+		assertEquals(1, random.determinant() * inverse.determinant(), DELTA);
+		
+		Matrix4d singular = new Matrix4d(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
+		Matrix4d result = translation(7, 8, 9);
+		assertEquals(0, singular.determinant(), 0);
+		assertThrows(ArithmeticException.class, () -> singular.invert(result));
+		assertEquals(translation(7, 8, 9), result);
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Matrix4fTest {
+	
+	private static final float DELTA = 1e-4f;
+	
+	private static void assertMatrixEquals(float[][] expected, Matrix4f actual) {
+		float[][] array = actual.toArray();
+		for (int r = 0; r < 4; r++) {
+			assertArrayEquals(expected[r], array[r], DELTA);
+		}
+	}
+	
+	private static float[][] randomArray(Random random) {
+		float[][] array = new float[4][4];
+		for (float[] row : array) {
+			for (int i = 0; i < row.length; i++) {
+				row[i] = random.nextFloat() * 2 - 1;
+			}
+		}
+		return array;
+	}
+	
+	@Test
+	public void testElements() {
+		Matrix4f matrix = new Matrix4f(1, 2, 3, 4,
+				5, 6, 7, 8,
+				9, 10, 11, 12,
+				13, 14, 15, 16);
+		assertArrayEquals(new float[][] {{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}, {13, 14, 15, 16}},
+				matrix.toArray());
+		assertEquals(10, matrix.get(2, 1), 0);
+		assertEquals(4, matrix.get(0, 3), 0);
+		assertEquals(matrix, new Matrix4f(matrix));
+		assertEquals(matrix.hashCode(), Matrix4f.fromArray(matrix.toArray()).hashCode());
+		
+		assertSame(matrix, matrix.set(0, 3, -4));
+		assertEquals(-4, matrix.m03, 0);
+		assertEquals(13, matrix.m30, 0);
+		assertNotEquals(matrix, new Matrix4f(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
+		assertEquals(new Matrix4f(), matrix.setIdentity());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.set(4, 3, 0));
+		assertThrows(IllegalArgumentException.class, () -> Matrix4f.fromArray(new float[4][3]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix4f.fromArray(new float[5][4]));
+		assertThrows(IllegalArgumentException.class, () -> Matrix4f.fromArray(null));
+	}
+	
+	@Test
+	public void testMultiply() {
+		// Rotating a quarter turn about z twice is a half turn
+		Matrix4f rotation = new Matrix4f(0, -1, 0, 0, 1, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+		assertMatrixEquals(new float[][] {{-1, 0, 0, 0}, {0, -1, 0, 0}, {0, 0, 1, 0}, {0, 0, 0, 1}},
+				rotation.multiply(rotation, new Matrix4f()));
+		
+		Random random = new Random(52);
+		float[][] array1 = randomArray(random);
+		float[][] array2 = randomArray(random);
+		Matrix4f matrix1 = Matrix4f.fromArray(array1);
+		Matrix4f matrix2 = Matrix4f.fromArray(array2);
+		Matrix4f result = new Matrix4f();
+		assertSame(result, matrix1.multiply(matrix2, result));
+		assertMatrixEquals(MatrixUtils.multiply(array1, array2), result);
+		assertSame(matrix1, matrix1.multiply(matrix2));
+		assertEquals(result, matrix1);
+	}
+	
+	@Test
+	public void testTranspose() {
+		Matrix4f matrix = new Matrix4f(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
+		assertEquals(new Matrix4f(1, 5, 9, 13, 2, 6, 10, 14, 3, 7, 11, 15, 4, 8, 12, 16), matrix.transpose(new Matrix4f()));
+		assertSame(matrix, matrix.transpose());
+		assertEquals(new Matrix4f(1, 5, 9, 13, 2, 6, 10, 14, 3, 7, 11, 15, 4, 8, 12, 16), matrix);
+	}
+	
+	@Test
+	public void testInvert() {
+		// The inverse of a rotation is its transpose
+		Matrix4f rotation = new Matrix4f(0, -1, 0, 0, 1, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+		assertEquals(1, rotation.determinant(), 0);
+		assertMatrixEquals(rotation.transpose(new Matrix4f()).toArray(), rotation.invert(new Matrix4f()));
+		
+		Matrix4f triangular = new Matrix4f(1, 2, 0, 0, 0, 1, 3, 0, 0, 0, 1, 4, 0, 0, 0, 1);
+		assertEquals(new Matrix4f(1, -2, 6, -24, 0, 1, -3, 12, 0, 0, 1, -4, 0, 0, 0, 1), triangular.invert());
+		
+		float[][] array = randomArray(new Random(53));
+		Matrix4f random = Matrix4f.fromArray(array);
+		Matrix4f inverse = random.invert(new Matrix4f());
+		assertMatrixEquals(new Matrix4f().toArray(), random.multiply(inverse, new Matrix4f()));
+		assertSame(inverse, inverse.invert());
+		assertMatrixEquals(array, inverse);
+		
+		// Only the last two rows are dependent, which the 2x2 minors of the
+		// bottom rows must all detect
+		Matrix4f singular = new Matrix4f(1, 0, 2, 0, 0, 1, 0, 3, 1, 2, 3, 4, 2, 4, 6, 8);
+		Matrix4f result = new Matrix4f();
+		assertEquals(0, singular.determinant(), 0);
+		assertThrows(ArithmeticException.class, () -> singular.invert(result));
+		assertEquals(new Matrix4f(), result);
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.frostphyr.avail.math.MatrixBatch.Layout;
+
+public class MatrixBatchTest {
+	
+	private static double[] randomArray(Random random, int length) {
+		double[] array = new double[length];
+		for (int i = 0; i < length; i++) {
+			array[i] = random.nextDouble() * 2 - 1;
+		}
+		return array;
+	}
+	
+	private static int index(Layout layout, int size, int count, int i, int r, int c, int columns) {
+		return layout == Layout.ARRAY_OF_STRUCTURES ? (i * size + r) * columns + c : (r * columns + c) * count + i;
+	}
+	
+	private static double[][] get(Layout layout, int size, int count, double[] batch, int i, int columns) {
+		double[][] matrix = new double[size][columns];
+		for (int r = 0; r < size; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = batch[index(layout, size, count, i, r, c, columns)];
+			}
+		}
+		return matrix;
+	}
+	
+	private static float[] toFloat(double[] array) {
+		float[] result = new float[array.length];
+		for (int i = 0; i < array.length; i++) {
+			result[i] = (float) array[i];
+		}
+		return result;
+	}
+	
+	@Test
+	public void testMultiply() {
+		Random random = new Random(24);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (Layout layout : Layout.values()) {
+				for (int size = 1; size <= 5; size++) {
+					int count = size == 4 ? 10000 : 37;
+					double[] matrices1 = randomArray(random, size * size * count);
+					double[] matrices2 = randomArray(random, size * size * count);
+					double[] result = new double[matrices1.length];
+					double[] parallelResult = new double[matrices1.length];
+					assertSame(result, MatrixBatch.multiply(layout, size, count, matrices1, matrices2, result));
+					assertSame(parallelResult, MatrixBatch.parallelMultiply(layout, size, count, matrices1, matrices2, parallelResult, pool));
+					assertArrayEquals(result, parallelResult, 0);
+					for (int i = 0; i < count; i += 7) {
+						double[][] expected = MatrixUtils.multiply(get(layout, size, count, matrices1, i, size), get(layout, size, count, matrices2, i, size));
+						assertArrayEquals(expected, get(layout, size, count, result, i, size));
+					}
+					
+					float[] floatResult = MatrixBatch.multiply(layout, size, count, toFloat(matrices1), toFloat(matrices2), new float[result.length]);
+					assertArrayEquals(toFloat(result), floatResult, 1e-5f);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	@Test
+	public void testTransform() {
+		Random random = new Random(25);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (Layout layout : Layout.values()) {
+				for (int size = 1; size <= 5; size++) {
+					int count = size == 3 ? 30000 : 41;
+					double[] matrices = randomArray(random, size * size * count);
+					double[] vectors = randomArray(random, size * count);
+					double[] result = MatrixBatch.transform(layout, size, count, matrices, vectors, new double[vectors.length]);
+					assertArrayEquals(result, MatrixBatch.parallelTransform(layout, size, count, matrices, vectors, new double[vectors.length], pool), 0);
+					for (int i = 0; i < count; i += 5) {
+						double[][] expected = MatrixUtils.multiply(get(layout, size, count, matrices, i, size), get(layout, size, count, vectors, i, 1));
+						assertArrayEquals(expected, get(layout, size, count, result, i, 1));
+					}
+					
+					float[] floatResult = MatrixBatch.transform(layout, size, count, toFloat(matrices), toFloat(vectors), new float[result.length]);
+					assertArrayEquals(toFloat(result), floatResult, 1e-5f);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	@Test
+	public void testInvalidArguments() {
+		double[] batch = new double[32];
+		assertArrayEquals(new double[0], MatrixBatch.multiply(Layout.STRUCTURE_OF_ARRAYS, 4, 0, new double[0], new double[0], new double[0]), 0);
+		assertThrows(IllegalArgumentException.class, () -> MatrixBatch.multiply(null, 4, 2, batch, batch.clone(), new double[32]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixBatch.multiply(Layout.ARRAY_OF_STRUCTURES, 0, 2, batch, batch.clone(), new double[32]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixBatch.multiply(Layout.ARRAY_OF_STRUCTURES, 4, -1, batch, batch.clone(), new double[32]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixBatch.multiply(Layout.ARRAY_OF_STRUCTURES, 4, 3, batch, batch.clone(), new double[48]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixBatch.multiply(Layout.ARRAY_OF_STRUCTURES, 4, 2, batch, batch.clone(), batch));
+		assertThrows(IllegalArgumentException.class, () -> MatrixBatch.transform(Layout.ARRAY_OF_STRUCTURES, 4, 2, batch, new double[8], new double[7]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixBatch.parallelTransform(Layout.ARRAY_OF_STRUCTURES, 4, 2, batch, new double[8], new double[8], null));
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MatrixExpressionTest {
+	
+	private static double[][] randomMatrix(Random random, int rows, int columns) {
+		double[][] matrix = new double[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = random.nextDouble() * 2 - 1;
+			}
+		}
+		return matrix;
+	}
+	
+	private static double[][] copy(double[][] matrix) {
+		double[][] result = new double[matrix.length][];
+		for (int r = 0; r < matrix.length; r++) {
+			result[r] = matrix[r].clone();
+		}
+		return result;
+	}
+	
+	private static void assertMatrixEquals(double[][] expected, double[][] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int r = 0; r < expected.length; r++) {
+			assertArrayEquals(expected[r], actual[r], 0);
+		}
+	}
+	
+	@Test
+	public void testEvaluate() {
+		Random random = new Random(19);
+		int[][] sizes = {{1, 1}, {3, 5}, {64, 64}, {100, 70}, {130, 129}};
+		for (int[] size : sizes) {
+			int rows = size[0];
+			int columns = size[1];
+			double[][] a = randomMatrix(random, rows, columns);
+			double[][] b = randomMatrix(random, rows, columns);
+			double[][] c = randomMatrix(random, rows, columns);
+			double[][] d = randomMatrix(random, columns, rows);
+			
+			double[][] expected = MatrixUtils.add(MatrixUtils.multiply(MatrixUtils.add(a, b), 2.5), c);
+			assertMatrixEquals(expected, MatrixExpression.of(a).add(b).multiply(2.5).add(c).evaluate());
+			
+			expected = MatrixUtils.add(MatrixUtils.multiply(MatrixUtils.add(a, MatrixUtils.multiply(b, -1)), -1),
+					MatrixUtils.transpose(d));
+			MatrixExpression expression = MatrixExpression.of(a).subtract(b).negate().add(MatrixExpression.of(d).transpose());
+			assertEquals(rows, expression.getRows());
+			assertEquals(columns, expression.getColumns());
+			double[][] result = new double[rows][columns];
+			assertSame(result, expression.evaluate(result));
+			assertMatrixEquals(expected, result);
+			
+			expected = MatrixUtils.transpose(MatrixUtils.add(MatrixUtils.transpose(a), MatrixUtils.multiply(d, 3)));
+			assertMatrixEquals(expected, MatrixExpression.of(a).transpose().add(MatrixExpression.of(d).multiply(3))
+					.transpose().evaluate());
+			assertMatrixEquals(a, MatrixExpression.of(a).transpose().transpose().evaluate());
+		}
+	}
+	
+	@Test
+	public void testEvaluateInPlace() {
+		Random random = new Random(20);
+		double[][] a = randomMatrix(random, 90, 90);
+		double[][] b = randomMatrix(random, 90, 90);
+		double[][] expected = MatrixUtils.add(MatrixUtils.multiply(a, 0.5), MatrixUtils.transpose(b));
+		double[][] result = copy(a);
+		MatrixExpression expression = MatrixExpression.of(result).multiply(0.5).add(MatrixExpression.of(b).transpose());
+		assertSame(result, expression.evaluate(result));
+		assertMatrixEquals(expected, result);
+		
+		double[][] original = copy(a);
+		assertThrows(IllegalArgumentException.class, () -> MatrixExpression.of(b).add(MatrixExpression.of(a).transpose()).evaluate(a));
+		assertMatrixEquals(original, a);
+	}
+	
+	@Test
+	public void testInvalid() {
+		double[][] a = new double[3][4];
+		assertThrows(IllegalArgumentException.class, () -> MatrixExpression.of(null));
+		assertThrows(IllegalArgumentException.class, () -> MatrixExpression.of(new double[][] {{1, 2}, {3}}));
+		assertThrows(IllegalArgumentException.class, () -> MatrixExpression.of(a).add(new double[4][3]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixExpression.of(a).subtract((MatrixExpression) null));
+		assertThrows(IllegalArgumentException.class, () -> MatrixExpression.of(a).evaluate(new double[4][3]));
+		
+		MatrixExpression expression = MatrixExpression.of(a).multiply(2);
+		a[1] = new double[5];
+		assertThrows(IllegalArgumentException.class, () -> expression.evaluate());
+	}
+
+}
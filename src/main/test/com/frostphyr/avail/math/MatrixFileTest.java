@@ -0,0 +1,111 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MatrixFileTest {
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	@Test
+	public void testWriteAndOpen() throws IOException {
+		double[][] array = MatrixUtilsTest.randomMatrix(new Random(18), 20, 30);
+		Path path = folder.newFile().toPath();
+		MatrixFile.write(path, array);
+		assertEquals(MatrixFile.HEADER_SIZE + 20 * 30 * Double.BYTES, Files.size(path));
+		
+		ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(MatrixFile.MAGIC, header.getInt());
+		assertEquals(MatrixFile.VERSION, header.getInt());
+		assertEquals(MatrixFile.TYPE_DOUBLE, header.getInt());
+		assertEquals(0, header.getInt());
+		assertEquals(20, header.getLong());
+		assertEquals(30, header.getLong());
+		assertEquals(array[0][0], header.getDouble(), 0);
+		
+		try (OffHeapMatrix matrix = MatrixFile.open(path); OffHeapMatrix chunked = MatrixFile.open(path, true, 6)) {
+			assertArrayEquals(array, matrix.toArray());
+			assertArrayEquals(array, chunked.toArray());
+			assertThrows(ReadOnlyBufferException.class, () -> matrix.set(0, 0, 1));
+			chunked.set(19, 29, 5);
+		}
+		try (OffHeapMatrix matrix = MatrixFile.open(path)) {
+			assertEquals(5, matrix.get(19, 29), 0);
+		}
+	}
+	
+	@Test
+	public void testCreate() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("created");
+		try (OffHeapMatrix matrix = MatrixFile.create(path, 3, 4, 3)) {
+			assertArrayEquals(new double[3][4], matrix.toArray());
+			matrix.fill(7);
+		}
+		try (OffHeapMatrix matrix = MatrixFile.open(path)) {
+			assertEquals(3, matrix.getRows());
+			assertEquals(4, matrix.getColumns());
+			assertEquals(7, matrix.get(2, 3), 0);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixFile.create(path, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> MatrixFile.write(path, new double[][] {{1}, {1, 2}}));
+	}
+	
+	@Test
+	public void testInvalidFile() throws IOException {
+		Path path = folder.newFile().toPath();
+		assertThrows(IOException.class, () -> MatrixFile.open(path));
+		
+		Files.write(path, new byte[MatrixFile.HEADER_SIZE]);
+		assertThrows(IOException.class, () -> MatrixFile.open(path));
+		
+		MatrixFile.write(path, new double[][] {{1, 2}, {3, 4}});
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+		assertThrows(IOException.class, () -> MatrixFile.open(path));
+		
+		bytes[8] = 2;
+		Files.write(path, bytes);
+		assertThrows(IOException.class, () -> MatrixFile.open(path));
+	}
+	
+	@Test
+	public void testMultiplyAndTranspose() throws IOException {
+		Random random = new Random(19);
+		double[][] array1 = MatrixUtilsTest.randomMatrix(random, 45, 300);
+		double[][] array2 = MatrixUtilsTest.randomMatrix(random, 300, 210);
+		Path path1 = folder.newFile().toPath();
+		Path path2 = folder.newFile().toPath();
+		Path productPath = folder.getRoot().toPath().resolve("product");
+		Path transposePath = folder.getRoot().toPath().resolve("transpose");
+		MatrixFile.write(path1, array1);
+		MatrixFile.write(path2, array2);
+		
+		MatrixFile.multiply(path1, path2, productPath);
+		MatrixFile.transpose(path1, transposePath);
+		try (OffHeapMatrix product = MatrixFile.open(productPath); OffHeapMatrix transpose = MatrixFile.open(transposePath)) {
+			assertArrayEquals(MatrixUtils.multiply(array1, array2), product.toArray());
+			assertArrayEquals(MatrixUtils.transpose(array1), transpose.toArray());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixFile.multiply(path1, path1, productPath));
+		assertThrows(IllegalArgumentException.class, () -> MatrixFile.multiply(path1, path2, path2));
+		assertThrows(IllegalArgumentException.class, () -> MatrixFile.transpose(path1, path1));
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MatrixPoolTest {
+	
+	@Test
+	public void testPool() {
+		MatrixPool pool = new MatrixPool(3);
+		double[][] matrix1 = pool.acquire(2, 3);
+		double[][] matrix2 = pool.acquire(2, 3);
+		double[][] matrix3 = pool.acquire(3, 2);
+		assertEquals(2, matrix1.length);
+		assertEquals(3, matrix1[0].length);
+		assertNotSame(matrix1, matrix2);
+		assertEquals(0, pool.size());
+		
+		assertTrue(pool.release(matrix1));
+		assertTrue(pool.release(matrix3));
+		assertThrows(IllegalArgumentException.class, () -> pool.release(matrix1));
+		assertEquals(2, pool.size());
+		assertSame(matrix3, pool.acquire(3, 2));
+		assertSame(matrix1, pool.acquire(2, 3));
+		assertNotSame(matrix2, pool.acquire(2, 3));
+		
+		assertTrue(pool.release(matrix1));
+		assertTrue(pool.release(matrix2));
+		assertTrue(pool.release(new double[4][4]));
+		assertFalse(pool.release(matrix3));
+		assertEquals(3, pool.size());
+		assertSame(matrix2, pool.acquire(2, 3));
+		assertTrue(pool.release(matrix3));
+		assertSame(matrix3, pool.acquire(3, 2));
+		
+		pool.clear();
+		assertEquals(0, pool.size());
+		assertNotSame(matrix1, pool.acquire(2, 3));
+		assertThrows(IllegalArgumentException.class, () -> new MatrixPool(0));
+		assertThrows(IllegalArgumentException.class, () -> pool.acquire(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> pool.release(new double[][] {{1}, {1, 2}}));
+	}
+	
+	@Test
+	public void testArena() {
+		Random random = new Random(25);
+		double[][] a = MatrixUtilsTest.randomMatrix(random, 20, 30);
+		double[][] b = MatrixUtilsTest.randomMatrix(random, 30, 10);
+		double[][] c = MatrixUtilsTest.randomMatrix(random, 20, 10);
+		double[][] expected = MatrixUtils.add(MatrixUtils.multiply(a, b), c);
+		
+		MatrixPool pool = new MatrixPool(10);
+		MatrixArena arena = new MatrixArena(pool);
+		double[][] product = null;
+		for (int i = 0; i < 3; i++) {
+			try (MatrixArena scope = arena) {
+				double[][] result = MatrixUtils.multiply(a, b, scope.allocate(20, 10));
+				MatrixUtils.add(result, c, result);
+				assertArrayEquals(expected, result);
+				if (product != null) {
+					assertSame(product, result);
+				}
+				product = result;
+				scope.allocate(5, 5);
+				assertEquals(2, scope.size());
+			}
+			assertEquals(0, arena.size());
+			assertEquals(2, pool.size());
+		}
+		
+		assertSame(pool, arena.getPool());
+		assertThrows(IllegalArgumentException.class, () -> new MatrixArena(null));
+	}
+
+}
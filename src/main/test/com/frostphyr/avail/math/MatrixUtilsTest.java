@@ -1,10 +1,17 @@
 package com.frostphyr.avail.math;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.Test;
 
 public class MatrixUtilsTest {
@@ -73,6 +80,48 @@ public class MatrixUtilsTest {
 		}, MatrixUtils.transpose(matrix2x3_1));
 	}
 	
+	@Test
+	public void testTranspose2dResult() {
+		int[][] result = new int[3][2];
+		assertSame(result, MatrixUtils.transpose(matrix2x3_1, result));
+		assertArrayEquals(MatrixUtils.transpose(matrix2x3_1), result);
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.transpose(matrix2x3_1, new int[2][3]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.transpose(matrix3x3, matrix3x3));
+	}
+	
+	@Test
+	public void testTranspose2dTiled() {
+		double[][] matrix = randomMatrix(new Random(5), 100, 70);
+		double[][] result = MatrixUtils.transpose(matrix);
+		for (int r = 0; r < matrix.length; r++) {
+			for (int c = 0; c < matrix[0].length; c++) {
+				assertEquals(matrix[r][c], result[c][r], 0);
+			}
+		}
+	}
+	
+	@Test
+	public void testTransposeInPlace() {
+		int[][] matrix = {
+			{1, 2, 3},
+			{4, 5, 6},
+			{7, 8, 9}
+		};
+		assertSame(matrix, MatrixUtils.transposeInPlace(matrix));
+		assertArrayEquals(new int[][] {
+			{1, 4, 7},
+			{2, 5, 8},
+			{3, 6, 9}
+		}, matrix);
+		
+		double[][] large = randomMatrix(new Random(6), 75, 75);
+		double[][] expected = MatrixUtils.transpose(large);
+		assertArrayEquals(expected, MatrixUtils.transposeInPlace(large));
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.transposeInPlace(matrix2x3_1));
+	}
+	
 	@Test
 	public void testAdd1d() {
 		assertArrayEquals(new int[] {
@@ -88,6 +137,22 @@ public class MatrixUtilsTest {
 		}, MatrixUtils.add(matrix2x3_1, matrix2x3_2));
 	}
 	
+	@Test
+	public void testAdd2dResult() {
+		int[][] result = new int[2][3];
+		assertSame(result, MatrixUtils.add(matrix2x3_1, matrix2x3_2, result));
+		assertArrayEquals(MatrixUtils.add(matrix2x3_1, matrix2x3_2), result);
+		
+		int[][] inPlace = {
+			{1, 2, 3},
+			{4, 5, 6}
+		};
+		MatrixUtils.add(inPlace, matrix2x3_2, inPlace);
+		assertArrayEquals(MatrixUtils.add(matrix2x3_1, matrix2x3_2), inPlace);
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.add(matrix2x3_1, matrix2x3_2, new int[3][2]));
+	}
+	
 	@Test
 	public void testMultiply1d2d() {
 		assertArrayEquals(new int[] {
@@ -108,6 +173,62 @@ public class MatrixUtilsTest {
 		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(matrix3x3, matrix1x3_1));
 	}
 	
+	@Test
+	public void testMultiplyVector() {
+		Random random = new Random(22);
+		for (int rows : new int[] {1, 3, 4, 7, 300}) {
+			double[][] matrix = randomMatrix(random, rows, 37);
+			double[] vector = randomMatrix(random, 1, 37)[0];
+			double[] expected = new double[rows];
+			for (int r = 0; r < rows; r++) {
+				for (int c = 0; c < 37; c++) {
+					expected[r] += matrix[r][c] * vector[c];
+				}
+			}
+			assertArrayEquals(expected, MatrixUtils.multiplyVector(matrix, vector), 0);
+			double[] result = new double[rows];
+			assertSame(result, MatrixUtils.multiplyVector(matrix, vector, result));
+			assertArrayEquals(expected, result, 0);
+			for (int parallelism = 1; parallelism <= 4; parallelism *= 2) {
+				ForkJoinPool pool = new ForkJoinPool(parallelism);
+				try {
+					assertArrayEquals(expected, MatrixUtils.parallelMultiplyVector(matrix, vector, new double[rows], pool), 0);
+				} finally {
+					pool.shutdown();
+				}
+			}
+			
+			double[] row = randomMatrix(random, 1, rows)[0];
+			expected = new double[37];
+			for (int r = 0; r < rows; r++) {
+				for (int c = 0; c < 37; c++) {
+					expected[c] += row[r] * matrix[r][c];
+				}
+			}
+			assertArrayEquals(expected, MatrixUtils.multiply(row, matrix), 0);
+			result = new double[37];
+			result[0] = 5;
+			assertSame(result, MatrixUtils.multiply(row, matrix, result));
+			assertArrayEquals(expected, result, 0);
+		}
+		
+		double[][] tall = randomMatrix(random, 100000, 8);
+		double[] vector = randomMatrix(random, 1, 8)[0];
+		assertArrayEquals(MatrixUtils.multiplyVector(tall, vector), MatrixUtils.parallelMultiplyVector(tall, vector), 0);
+		
+		assertArrayEquals(new float[] {50, 122}, MatrixUtils.multiplyVector(new float[][] {{1, 2, 3}, {4, 5, 6}},
+				new float[] {7, 8, 9}), 0);
+		assertArrayEquals(new float[] {39, 54, 69}, MatrixUtils.multiply(new float[] {1, 2},
+				new float[][] {{7, 8, 9}, {16, 23, 30}}, new float[3]), 0);
+		double[] square = {1, 2, 3};
+		double[][] matrix3x3 = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}};
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyVector(matrix3x3, new double[2]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyVector(matrix3x3, square, new double[2]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyVector(matrix3x3, square, square));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(square, matrix3x3, square));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelMultiplyVector(matrix3x3, square, new double[3], null));
+	}
+	
 	@Test
 	public void testMultiply2d2d() {
 		assertArrayEquals(new int[][] {
@@ -118,6 +239,414 @@ public class MatrixUtilsTest {
 		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(matrix3x3, matrix2x3_1));
 	}
 	
+	@Test
+	public void testMultiply2d2dResult() {
+		double[][] result = {
+			{1, 1, 1},
+			{1, 1, 1}
+		};
+		double[][] matrix1 = {
+			{1, 2, 3},
+			{4, 5, 6}
+		};
+		double[][] matrix2 = {
+			{7, 8, 9},
+			{10, 11, 12},
+			{13, 14, 15}
+		};
+		assertSame(result, MatrixUtils.multiply(matrix1, matrix2, result));
+		assertArrayEquals(new double[][] {
+			{66, 72, 78},
+			{156, 171, 186}
+		}, result);
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(matrix1, matrix2, new double[3][3]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(matrix2, matrix2, matrix2));
+	}
+	
+	@Test
+	public void testMultiply2d2dTiled() {
+		Random random = new Random(1);
+		double[][] matrix1 = randomMatrix(random, 70, 300);
+		double[][] matrix2 = randomMatrix(random, 300, 250);
+		assertArrayEquals(multiplyNaive(matrix1, matrix2), MatrixUtils.multiply(matrix1, matrix2));
+		
+		int[][] intMatrix1 = randomIntMatrix(random, 40, 300);
+		int[][] intMatrix2 = randomIntMatrix(random, 300, 300);
+		int[][] expected = new int[40][300];
+		for (int r1 = 0; r1 < 40; r1++) {
+			for (int c1 = 0; c1 < 300; c1++) {
+				for (int c2 = 0; c2 < 300; c2++) {
+					expected[r1][c2] += intMatrix1[r1][c1] * intMatrix2[c1][c2];
+				}
+			}
+		}
+		assertArrayEquals(expected, MatrixUtils.multiply(intMatrix1, intMatrix2));
+	}
+	
+	@Test
+	public void testParallelMultiply2d2d() {
+		Random random = new Random(2);
+		double[][] matrix1 = randomMatrix(random, 200, 150);
+		double[][] matrix2 = randomMatrix(random, 150, 180);
+		double[][] expected = MatrixUtils.multiply(matrix1, matrix2);
+		for (int parallelism = 1; parallelism <= 4; parallelism++) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				assertArrayEquals(expected, MatrixUtils.parallelMultiply(matrix1, matrix2, pool));
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		assertArrayEquals(new int[][] {
+			{66, 72, 78},
+			{156, 171, 186}
+		}, MatrixUtils.parallelMultiply(matrix2x3_1, matrix3x3));
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelMultiply(matrix3x3, matrix2x3_1));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelMultiply(matrix1, matrix2, null));
+	}
+	
+	@Test
+	public void testParallelAdd() {
+		Random random = new Random(3);
+		double[][] matrix1 = randomMatrix(random, 700, 500);
+		double[][] matrix2 = randomMatrix(random, 700, 500);
+		int[][] ints = randomIntMatrix(random, 700, 500);
+		long[][] longs = randomLongMatrix(random, 700, 500);
+		float[][] floats = randomFloatMatrix(random, 700, 500);
+		double[][] sum = MatrixUtils.add(matrix1, matrix2);
+		double[][] product = MatrixUtils.multiply(matrix1, 0.75);
+		int[][] intSum = MatrixUtils.add(ints, ints);
+		long[][] longSum = MatrixUtils.add(longs, longs);
+		long[][] longProduct = MatrixUtils.multiply(longs, -7L);
+		float[][] floatSum = MatrixUtils.add(floats, floats);
+		float[][] floatProduct = MatrixUtils.multiply(floats, 0.75f);
+		for (int parallelism = 1; parallelism <= 4; parallelism++) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				assertArrayEquals(sum, MatrixUtils.parallelAdd(matrix1, matrix2, new double[700][500], pool));
+				assertArrayEquals(product, MatrixUtils.parallelMultiply(matrix1, 0.75, new double[700][500], pool));
+				int[][] result = MatrixUtils.multiply(ints, 1);
+				assertSame(result, MatrixUtils.parallelAdd(result, ints, result, pool));
+				assertArrayEquals(intSum, result);
+				
+				assertArrayEquals(longSum, MatrixUtils.parallelAdd(longs, longs, new long[700][500], pool));
+				long[][] longResult = MatrixUtils.multiply(longs, 1L);
+				assertSame(longResult, MatrixUtils.parallelMultiply(longResult, -7L, longResult, pool));
+				assertArrayEquals(longProduct, longResult);
+				
+				assertArrayEquals(floatProduct, MatrixUtils.parallelMultiply(floats, 0.75f, new float[700][500], pool));
+				float[][] floatResult = MatrixUtils.multiply(floats, 1f);
+				assertSame(floatResult, MatrixUtils.parallelAdd(floatResult, floats, floatResult, pool));
+				assertArrayEquals(floatSum, floatResult);
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		assertArrayEquals(sum, MatrixUtils.parallelAdd(matrix1, matrix2));
+		assertArrayEquals(MatrixUtils.multiply(ints, -3), MatrixUtils.parallelMultiply(ints, -3));
+		assertArrayEquals(longSum, MatrixUtils.parallelAdd(longs, longs));
+		assertArrayEquals(longProduct, MatrixUtils.parallelMultiply(longs, -7L));
+		assertArrayEquals(floatSum, MatrixUtils.parallelAdd(floats, floats));
+		assertArrayEquals(floatProduct, MatrixUtils.parallelMultiply(floats, 0.75f));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelAdd(longs, new long[700][499]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelMultiply(floats, 2f, new float[699][500], ForkJoinPool.commonPool()));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelAdd(matrix1, new double[500][700]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelMultiply(matrix1, 2, new double[700][499], ForkJoinPool.commonPool()));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.parallelAdd(matrix1, matrix2, matrix1, null));
+	}
+	
+	@Test
+	public void testMultiplyAdd() {
+		Random random = new Random(10);
+		double[][] matrix1 = randomMatrix(random, 30, 200);
+		double[][] matrix2 = randomMatrix(random, 200, 210);
+		double[][] initial = randomMatrix(random, 30, 210);
+		double[][] expected = MatrixUtils.add(MatrixUtils.multiply(MatrixUtils.multiply(matrix1, matrix2), 1.5),
+				MatrixUtils.multiply(initial, -0.5));
+		double[][] transpose1 = MatrixUtils.transpose(matrix1);
+		double[][] transpose2 = MatrixUtils.transpose(matrix2);
+		for (int flags = 0; flags < 4; flags++) {
+			boolean transposed1 = (flags & 1) != 0;
+			boolean transposed2 = (flags & 2) != 0;
+			double[][] result = MatrixUtils.multiply(initial, 1.0);
+			assertSame(result, MatrixUtils.multiplyAdd(1.5, transposed1 ? transpose1 : matrix1, transposed1,
+					transposed2 ? transpose2 : matrix2, transposed2, -0.5, result));
+			for (int r = 0; r < expected.length; r++) {
+				assertArrayEquals(expected[r], result[r], 1e-12);
+			}
+		}
+		
+		float[][] result = {
+			{Float.NaN, Float.NaN},
+			{Float.NaN, Float.NaN}
+		};
+		assertArrayEquals(new float[][] {
+			{2, 4},
+			{6, 8}
+		}, MatrixUtils.multiplyAdd(2f, new float[][] {{1, 0}, {0, 1}}, new float[][] {{1, 2}, {3, 4}}, 0f, result));
+		assertArrayEquals(new float[][] {
+			{3, 7},
+			{8, 12}
+		}, MatrixUtils.multiplyAdd(1f, new float[][] {{1, 0}, {0, 1}}, true, new float[][] {{1, 2}, {3, 4}}, true, 1f, result));
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyAdd(1.0, matrix1, matrix1, 1.0, initial));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyAdd(1.0, matrix1, true, matrix2, false, 1.0, initial));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyAdd(1.0, matrix1, matrix2, 1.0, new double[30][200]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyAdd(1.0, initial, transpose2, 1.0, initial));
+	}
+	
+	@Test
+	public void testMultiplyChain() {
+		int[][] splits = ChainKernels.order(new int[] {30, 35, 15, 5, 10, 20, 25});
+		assertEquals(2, splits[0][5]);
+		assertEquals(0, splits[0][2]);
+		assertEquals(4, splits[3][5]);
+		
+		Random random = new Random(12);
+		int[] dimensions = {40, 3, 60, 5, 50, 2, 45};
+		double[][][] matrices = new double[dimensions.length - 1][][];
+		int[][][] intMatrices = new int[dimensions.length - 1][][];
+		double[][] expected = null;
+		int[][] intExpected = null;
+		for (int i = 0; i < matrices.length; i++) {
+			matrices[i] = randomMatrix(random, dimensions[i], dimensions[i + 1]);
+			intMatrices[i] = randomIntMatrix(random, dimensions[i], dimensions[i + 1]);
+			expected = i == 0 ? matrices[i] : MatrixUtils.multiply(expected, matrices[i]);
+			intExpected = i == 0 ? intMatrices[i] : MatrixUtils.multiply(intExpected, intMatrices[i]);
+		}
+		double[][] product = MatrixUtils.multiplyChain(matrices);
+		assertEquals(40, product.length);
+		assertEquals(45, product[0].length);
+		for (int r = 0; r < product.length; r++) {
+			assertArrayEquals(expected[r], product[r], 1e-9);
+		}
+		assertArrayEquals(intExpected, MatrixUtils.multiplyChain(intMatrices));
+		
+		double[][] copy = MatrixUtils.multiplyChain(matrices[0]);
+		assertArrayEquals(matrices[0], copy);
+		assertNotSame(matrices[0][0], copy[0]);
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyChain(new double[0][][]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyChain(matrices[0], matrices[0]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyChain(matrices[0], null));
+	}
+	
+	@Test
+	public void testPower() {
+		long[][] fibonacci = {{1, 1}, {1, 0}};
+		assertArrayEquals(new long[][] {{1, 0}, {0, 1}}, MatrixUtils.power(fibonacci, 0));
+		assertArrayEquals(fibonacci, MatrixUtils.power(fibonacci, 1));
+		assertArrayEquals(new long[][] {{7540113804746346429L, 4660046610375530309L}, {4660046610375530309L, 2880067194370816120L}},
+				MatrixUtils.power(fibonacci, 91));
+		
+		Random random = new Random(13);
+		double[][] matrix = randomMatrix(random, 30, 30);
+		double[][] expected = matrix;
+		for (int exponent = 2; exponent <= 13; exponent++) {
+			expected = MatrixUtils.multiply(expected, matrix);
+		}
+		double[][] power = MatrixUtils.power(matrix, 13);
+		for (int r = 0; r < power.length; r++) {
+			assertArrayEquals(expected[r], power[r], 1e-9 * Math.abs(expected[r][r]) + 1e-9);
+		}
+		assertArrayEquals(new double[][] {{1, 0}, {0, 1}}, MatrixUtils.power(new double[][] {{2, 3}, {4, 5}}, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.power(fibonacci, -1));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.power(new double[2][3], 2));
+	}
+	
+	@Test
+	public void testPowerModulus() {
+		long[][] fibonacci = {{1, 1}, {1, 0}};
+		// F(10^18) mod 10^9 + 7
+		assertEquals(209783453L, MatrixUtils.power(fibonacci, 1_000_000_000_000_000_000L, 1_000_000_007L)[0][1]);
+		assertArrayEquals(new long[][] {{0, 0}, {0, 0}}, MatrixUtils.power(fibonacci, 0, 1));
+		
+		Random random = new Random(14);
+		long[] moduli = {2, 1_000_000_007L, PowerKernels.MAX_DIRECT_MODULUS, PowerKernels.MAX_DIRECT_MODULUS + 1, Long.MAX_VALUE, (1L << 62) + 135};
+		for (long modulus : moduli) {
+			long[][] matrix = new long[5][5];
+			for (long[] row : matrix) {
+				for (int c = 0; c < row.length; c++) {
+					row[c] = random.nextLong();
+				}
+			}
+			long exponent = 1_000_003;
+			assertArrayEquals(powerExact(matrix, exponent, modulus), MatrixUtils.power(matrix, exponent, modulus));
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.power(fibonacci, 2, 0));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.power(new long[2][3], 2, 5));
+	}
+	
+	private static long[][] powerExact(long[][] matrix, long exponent, long modulus) {
+		BigInteger m = BigInteger.valueOf(modulus);
+		int size = matrix.length;
+		BigInteger[][] base = new BigInteger[size][size];
+		BigInteger[][] result = new BigInteger[size][size];
+		for (int r = 0; r < size; r++) {
+			for (int c = 0; c < size; c++) {
+				base[r][c] = BigInteger.valueOf(matrix[r][c]).mod(m);
+				result[r][c] = r == c ? BigInteger.ONE.mod(m) : BigInteger.ZERO;
+			}
+		}
+		for (; exponent > 0; exponent >>= 1) {
+			if ((exponent & 1) != 0) {
+				result = multiplyExact(result, base, m);
+			}
+			base = multiplyExact(base, base, m);
+		}
+		
+		long[][] values = new long[size][size];
+		for (int r = 0; r < size; r++) {
+			for (int c = 0; c < size; c++) {
+				values[r][c] = result[r][c].longValueExact();
+			}
+		}
+		return values;
+	}
+	
+	private static BigInteger[][] multiplyExact(BigInteger[][] matrix1, BigInteger[][] matrix2, BigInteger modulus) {
+		int size = matrix1.length;
+		BigInteger[][] result = new BigInteger[size][size];
+		for (int r = 0; r < size; r++) {
+			for (int c = 0; c < size; c++) {
+				BigInteger sum = BigInteger.ZERO;
+				for (int k = 0; k < size; k++) {
+					sum = sum.add(matrix1[r][k].multiply(matrix2[k][c]));
+				}
+				result[r][c] = sum.mod(modulus);
+			}
+		}
+		return result;
+	}
+	
+	@Test
+	public void testMultiplyWide() {
+		Random random = new Random(11);
+		byte[][] bytes1 = new byte[40][300];
+		byte[][] bytes2 = new byte[300][350];
+		short[][] shorts1 = new short[40][300];
+		short[][] shorts2 = new short[300][350];
+		for (int r = 0; r < 300; r++) {
+			for (int c = 0; c < 350; c++) {
+				bytes2[r][c] = (byte) random.nextInt();
+				shorts2[r][c] = (short) random.nextInt();
+				if (r < 40 && c < 300) {
+					bytes1[r][c] = (byte) random.nextInt();
+					shorts1[r][c] = (short) random.nextInt();
+				}
+			}
+		}
+		
+		int[][] expectedInts = new int[40][350];
+		long[][] expectedLongs = new long[40][350];
+		for (int r = 0; r < 40; r++) {
+			for (int k = 0; k < 300; k++) {
+				for (int c = 0; c < 350; c++) {
+					expectedInts[r][c] += bytes1[r][k] * bytes2[k][c];
+					expectedLongs[r][c] += (long) shorts1[r][k] * shorts2[k][c];
+				}
+			}
+		}
+		assertArrayEquals(expectedInts, MatrixUtils.multiplyWide(bytes1, bytes2));
+		assertArrayEquals(expectedLongs, MatrixUtils.multiplyWide(shorts1, shorts2));
+		
+		int[][] result = new int[40][350];
+		result[0][0] = 5;
+		assertSame(result, MatrixUtils.multiplyWide(bytes1, bytes2, result));
+		assertArrayEquals(expectedInts, result);
+		
+		assertArrayEquals(new int[][] {
+			{32768}
+		}, MatrixUtils.multiplyWide(new byte[][] {{-128, -128}}, new byte[][] {{-128}, {-128}}));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyWide(bytes1, bytes1));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyWide(shorts1, shorts2, new long[350][40]));
+	}
+	
+	@Test
+	public void testMultiplyExtended() {
+		Random random = new Random(15);
+		float[][] matrix1 = new float[150][300];
+		float[][] matrix2 = new float[300][350];
+		for (int r = 0; r < 150; r++) {
+			for (int c = 0; c < 300; c++) {
+				matrix1[r][c] = random.nextFloat() - 0.5f;
+			}
+		}
+		for (int r = 0; r < 300; r++) {
+			for (int c = 0; c < 350; c++) {
+				matrix2[r][c] = random.nextFloat() - 0.5f;
+			}
+		}
+		
+		double[][] expected = new double[150][350];
+		for (int r = 0; r < 150; r++) {
+			for (int k = 0; k < 300; k++) {
+				for (int c = 0; c < 350; c++) {
+					expected[r][c] += (double) matrix1[r][k] * matrix2[k][c];
+				}
+			}
+		}
+		assertArrayEquals(expected, MatrixUtils.multiplyWide(matrix1, matrix2));
+		float[][] rounded = new float[150][350];
+		for (int r = 0; r < 150; r++) {
+			for (int c = 0; c < 350; c++) {
+				rounded[r][c] = (float) expected[r][c];
+			}
+		}
+		assertArrayEquals(rounded, MatrixUtils.multiplyExtended(matrix1, matrix2));
+		
+		double[][] wide = new double[150][350];
+		wide[0][0] = 5;
+		assertSame(wide, MatrixUtils.multiplyWide(matrix1, matrix2, wide));
+		assertArrayEquals(expected, wide);
+		float[][] result = new float[150][350];
+		result[0][0] = 5;
+		assertSame(result, MatrixUtils.multiplyExtended(matrix1, matrix2, result));
+		assertArrayEquals(rounded, result);
+		
+		assertArrayEquals(new float[][] {
+			{1}
+		}, MatrixUtils.multiplyExtended(new float[][] {{1e8f, 1, -1e8f}}, new float[][] {{1}, {1}, {1}}));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyExtended(matrix1, matrix1));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyWide(matrix1, matrix2, new double[350][150]));
+		float[][] square = new float[2][2];
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiplyExtended(square, square, square));
+	}
+	
+	@Test
+	public void testStrassenMultiply() {
+		Random random = new Random(9);
+		for (int size : new int[] {5, 64, 100, 131}) {
+			long[][] matrix1 = new long[size][size];
+			long[][] matrix2 = new long[size][size];
+			for (int r = 0; r < size; r++) {
+				for (int c = 0; c < size; c++) {
+					matrix1[r][c] = random.nextLong();
+					matrix2[r][c] = random.nextLong();
+				}
+			}
+			assertArrayEquals(MatrixUtils.multiply(matrix1, matrix2), MatrixUtils.strassenMultiply(matrix1, matrix2, 16));
+			
+			double[][] doubleMatrix1 = randomMatrix(random, size, size);
+			double[][] doubleMatrix2 = randomMatrix(random, size, size);
+			double[][] expected = MatrixUtils.multiply(doubleMatrix1, doubleMatrix2);
+			double[][] actual = MatrixUtils.strassenMultiply(doubleMatrix1, doubleMatrix2, 16);
+			for (int r = 0; r < size; r++) {
+				assertArrayEquals(expected[r], actual[r], 1e-10);
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.strassenMultiply(new double[2][3], new double[2][3]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.strassenMultiply(new double[2][2], new double[3][3]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.strassenMultiply(new long[2][2], new long[2][2], 0));
+	}
+	
 	@Test
 	public void testMultiplyScalar1d() {
 		assertArrayEquals(new int[] {
@@ -132,5 +661,69 @@ public class MatrixUtilsTest {
 				{8, 10, 12}
 		}, MatrixUtils.multiply(matrix2x3_1, 2));
 	}
+	
+	@Test
+	public void testMultiplyScalar2dResult() {
+		int[][] inPlace = {
+			{1, 2, 3},
+			{4, 5, 6}
+		};
+		assertSame(inPlace, MatrixUtils.multiply(inPlace, 2, inPlace));
+		assertArrayEquals(MatrixUtils.multiply(matrix2x3_1, 2), inPlace);
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(matrix2x3_1, 2, new int[2][2]));
+	}
+	
+	static double[][] randomMatrix(Random random, int rows, int columns) {
+		double[][] matrix = new double[rows][columns];
+		for (double[] row : matrix) {
+			for (int c = 0; c < columns; c++) {
+				row[c] = random.nextDouble() * 2 - 1;
+			}
+		}
+		return matrix;
+	}
+	
+	static int[][] randomIntMatrix(Random random, int rows, int columns) {
+		int[][] matrix = new int[rows][columns];
+		for (int[] row : matrix) {
+			for (int c = 0; c < columns; c++) {
+				row[c] = random.nextInt(201) - 100;
+			}
+		}
+		return matrix;
+	}
+	
+	static long[][] randomLongMatrix(Random random, int rows, int columns) {
+		long[][] matrix = new long[rows][columns];
+		for (long[] row : matrix) {
+			for (int c = 0; c < columns; c++) {
+				row[c] = random.nextLong();
+			}
+		}
+		return matrix;
+	}
+	
+	static float[][] randomFloatMatrix(Random random, int rows, int columns) {
+		float[][] matrix = new float[rows][columns];
+		for (float[] row : matrix) {
+			for (int c = 0; c < columns; c++) {
+				row[c] = random.nextFloat() * 2 - 1;
+			}
+		}
+		return matrix;
+	}
+	
+	static double[][] multiplyNaive(double[][] matrix1, double[][] matrix2) {
+		double[][] result = new double[matrix1.length][matrix2[0].length];
+		for (int r1 = 0; r1 < matrix1.length; r1++) {
+			for (int c1 = 0; c1 < matrix2.length; c1++) {
+				for (int c2 = 0; c2 < matrix2[0].length; c2++) {
+					result[r1][c2] += matrix1[r1][c1] * matrix2[c1][c2];
+				}
+			}
+		}
+		return result;
+	}
 
 }
@@ -0,0 +1,140 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MatrixViewTest {
+	
+	private static double[][] randomMatrix(Random random, int rows, int columns) {
+		double[][] matrix = new double[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				matrix[r][c] = random.nextInt(19) - 9;
+			}
+		}
+		return matrix;
+	}
+	
+	private static double[][] block(double[][] matrix, int row, int column, int rowStride, int columnStride,
+			int rows, int columns) {
+		double[][] result = new double[rows][columns];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				result[r][c] = matrix[row + r * rowStride][column + c * columnStride];
+			}
+		}
+		return result;
+	}
+	
+	private static double[] flatten(double[][] matrix) {
+		double[] result = new double[matrix.length * matrix[0].length];
+		for (int r = 0; r < matrix.length; r++) {
+			System.arraycopy(matrix[r], 0, result, r * matrix[0].length, matrix[0].length);
+		}
+		return result;
+	}
+	
+	private static void assertMatrixEquals(double[][] expected, double[][] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int r = 0; r < expected.length; r++) {
+			assertArrayEquals(expected[r], actual[r], 0);
+		}
+	}
+	
+	@Test
+	public void testView() {
+		double[][] matrix = randomMatrix(new Random(20), 9, 11);
+		MatrixView[] views = {MatrixView.of(matrix), MatrixView.wrap(flatten(matrix), 9, 11),
+				DenseMatrix.fromArray(matrix).view()};
+		for (MatrixView view : views) {
+			assertMatrixEquals(matrix, view.toArray());
+			assertMatrixEquals(block(matrix, 2, 3, 1, 1, 4, 5), view.view(2, 3, 4, 5).toArray());
+			assertMatrixEquals(block(matrix, 1, 0, 3, 2, 3, 6), view.view(1, 0, 3, 2, 3, 6).toArray());
+			assertMatrixEquals(MatrixUtils.transpose(matrix), view.transpose().toArray());
+			assertMatrixEquals(MatrixUtils.transpose(block(matrix, 1, 2, 2, 3, 4, 3)),
+					view.view(1, 2, 2, 3, 4, 3).transpose().toArray());
+			assertMatrixEquals(block(MatrixUtils.transpose(matrix), 2, 1, 2, 3, 4, 3),
+					view.transpose().view(2, 1, 2, 3, 4, 3).toArray());
+			assertMatrixEquals(block(matrix, 3, 4, 1, 1, 2, 2),
+					view.view(2, 3, 5, 6).transpose().view(1, 1, 2, 2).transpose().toArray());
+			assertEquals(matrix[5][7], view.view(4, 5, 3, 4).get(1, 2), 0);
+			assertEquals(matrix[5][7], view.transpose().get(7, 5), 0);
+		}
+		
+		MatrixView view = MatrixView.of(matrix).view(1, 1, 2, 2, 3, 3).transpose();
+		view.set(2, 1, 100);
+		assertEquals(100, matrix[3][5], 0);
+		view.fill(-1);
+		assertEquals(-1, matrix[5][5], 0);
+		assertEquals(-1, matrix[1][1], 0);
+		
+		assertThrows(IllegalArgumentException.class, () -> MatrixView.of(new double[][] {{1}, {1, 2}}));
+		assertThrows(IllegalArgumentException.class, () -> MatrixView.wrap(new double[10], 3, 4));
+		assertThrows(IllegalArgumentException.class, () -> MatrixView.of(matrix).view(5, 0, 5, 1));
+		assertThrows(IllegalArgumentException.class, () -> MatrixView.of(matrix).view(0, 0, 3, 1, 4, 1));
+		assertThrows(IllegalArgumentException.class, () -> MatrixView.of(matrix).view(0, 0, 0, 1, 2, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> MatrixView.of(matrix).view(0, 0, 2, 2).get(2, 0));
+	}
+	
+	@Test
+	public void testOperations() {
+		Random random = new Random(21);
+		double[][] a = randomMatrix(random, 40, 50);
+		double[][] b = randomMatrix(random, 50, 40);
+		double[][] ab = MatrixUtils.multiply(block(a, 3, 5, 1, 1, 20, 30), block(b, 10, 0, 1, 1, 30, 25));
+		MatrixView[] as = {MatrixView.of(a), MatrixView.wrap(flatten(a), 40, 50)};
+		MatrixView[] bs = {MatrixView.of(b), MatrixView.wrap(flatten(b), 50, 40), MatrixView.of(MatrixUtils.transpose(b)).transpose()};
+		for (MatrixView viewA : as) {
+			for (MatrixView viewB : bs) {
+				assertMatrixEquals(ab, MatrixUtils.multiply(viewA.view(3, 5, 20, 30), viewB.view(10, 0, 30, 25)));
+				assertMatrixEquals(MatrixUtils.add(block(a, 0, 0, 1, 1, 40, 40), MatrixUtils.transpose(block(b, 0, 0, 1, 1, 40, 40))),
+						MatrixUtils.add(viewA.view(0, 0, 40, 40), viewB.view(0, 0, 40, 40).transpose()));
+			}
+			assertMatrixEquals(MatrixUtils.multiply(block(a, 0, 1, 2, 3, 20, 10), 1.5),
+					MatrixUtils.multiply(viewA.view(0, 1, 2, 3, 20, 10), 1.5));
+			assertMatrixEquals(MatrixUtils.transpose(block(a, 5, 5, 1, 1, 35, 45)), MatrixUtils.transpose(viewA.view(5, 5, 35, 45)));
+		}
+		
+		double[][] c = new double[60][60];
+		MatrixView result = MatrixView.of(c).view(10, 20, 2, 1, 20, 25);
+		assertSame(result, MatrixUtils.multiply(as[1].view(3, 5, 20, 30), bs[2].view(10, 0, 30, 25), result));
+		assertMatrixEquals(ab, result.toArray());
+		assertEquals(0, c[11][20], 0);
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(as[0], as[0]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.add(as[0], bs[0]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.transpose(as[0], as[0]));
+		assertThrows(IllegalArgumentException.class, () -> MatrixUtils.multiply(as[0], 2, null));
+	}
+	
+	@Test
+	public void testOverlap() {
+		Random random = new Random(22);
+		double[][] matrix = randomMatrix(random, 30, 30);
+		double[][] original = block(matrix, 0, 0, 1, 1, 30, 30);
+		MatrixView view = MatrixView.wrap(flatten(matrix), 30, 30);
+		MatrixView jagged = MatrixView.of(matrix);
+		
+		MatrixUtils.transpose(view, view);
+		assertMatrixEquals(MatrixUtils.transpose(original), view.toArray());
+		MatrixUtils.transpose(jagged, jagged);
+		assertMatrixEquals(MatrixUtils.transpose(original), matrix);
+		
+		MatrixUtils.multiply(view, view, view);
+		assertMatrixEquals(MatrixUtils.multiply(MatrixUtils.transpose(original), MatrixUtils.transpose(original)), view.toArray());
+		
+		double[][] expected = MatrixUtils.add(block(matrix, 0, 0, 1, 1, 20, 20), block(matrix, 5, 5, 1, 1, 20, 20));
+		MatrixUtils.add(jagged.view(0, 0, 20, 20), jagged.view(5, 5, 20, 20), jagged.view(5, 5, 20, 20).transpose().transpose());
+		assertMatrixEquals(expected, block(matrix, 5, 5, 1, 1, 20, 20));
+		
+		expected = MatrixUtils.multiply(block(matrix, 0, 0, 1, 1, 10, 10), 3);
+		MatrixUtils.multiply(jagged.view(0, 0, 10, 10), 3, jagged.view(2, 0, 10, 10));
+		assertMatrixEquals(expected, block(matrix, 2, 0, 1, 1, 10, 10));
+	}
+
+}
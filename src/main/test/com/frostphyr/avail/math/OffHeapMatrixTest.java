@@ -0,0 +1,84 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class OffHeapMatrixTest {
+	
+	private static OffHeapMatrix fromArray(double[][] matrix, int chunkShift) {
+		OffHeapMatrix result = new OffHeapMatrix(matrix.length, matrix[0].length, chunkShift);
+		for (int r = 0; r < matrix.length; r++) {
+			for (int c = 0; c < matrix[0].length; c++) {
+				result.set(r, c, matrix[r][c]);
+			}
+		}
+		return result;
+	}
+	
+	@Test
+	public void testFromArray() {
+		double[][] array = MatrixUtilsTest.randomMatrix(new Random(16), 20, 30);
+		try (OffHeapMatrix matrix = OffHeapMatrix.fromArray(array); OffHeapMatrix chunked = fromArray(array, 6)) {
+			assertEquals(20, matrix.getRows());
+			assertEquals(30, matrix.getColumns());
+			assertEquals(array[19][29], matrix.get(19, 29), 0);
+			assertArrayEquals(array, matrix.toArray());
+			assertArrayEquals(array, chunked.toArray());
+			
+			chunked.fill(2);
+			assertEquals(2, chunked.get(10, 10), 0);
+			assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(20, 0));
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapMatrix(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapMatrix(Long.MAX_VALUE, 2));
+	}
+	
+	@Test
+	public void testOperations() {
+		Random random = new Random(17);
+		double[][] array1 = MatrixUtilsTest.randomMatrix(random, 45, 300);
+		double[][] array2 = MatrixUtilsTest.randomMatrix(random, 300, 210);
+		double[][] array3 = MatrixUtilsTest.randomMatrix(random, 45, 300);
+		try (OffHeapMatrix matrix1 = fromArray(array1, 10);
+				OffHeapMatrix matrix2 = fromArray(array2, 7);
+				OffHeapMatrix matrix3 = OffHeapMatrix.fromArray(array3);
+				OffHeapMatrix product = matrix1.multiply(matrix2);
+				OffHeapMatrix sum = matrix1.add(matrix3);
+				OffHeapMatrix scaled = matrix1.multiply(3);
+				OffHeapMatrix transpose = matrix1.transpose()) {
+			assertArrayEquals(MatrixUtils.multiply(array1, array2), product.toArray());
+			assertArrayEquals(MatrixUtils.add(array1, array3), sum.toArray());
+			assertArrayEquals(MatrixUtils.multiply(array1, 3.0), scaled.toArray());
+			assertArrayEquals(MatrixUtils.transpose(array1), transpose.toArray());
+			
+			assertSame(sum, sum.multiply(2, sum));
+			assertArrayEquals(MatrixUtils.multiply(MatrixUtils.add(array1, array3), 2.0), sum.toArray());
+			
+			assertThrows(IllegalArgumentException.class, () -> matrix1.multiply(matrix1));
+			assertThrows(IllegalArgumentException.class, () -> matrix1.add(matrix2));
+			assertThrows(IllegalArgumentException.class, () -> matrix1.multiply(matrix2, matrix1));
+			assertThrows(IllegalArgumentException.class, () -> matrix1.transpose(matrix3));
+		}
+	}
+	
+	@Test
+	public void testClose() {
+		OffHeapMatrix matrix = new OffHeapMatrix(10, 10);
+		matrix.close();
+		matrix.close();
+		assertTrue(matrix.isClosed());
+		assertThrows(IllegalStateException.class, () -> matrix.get(0, 0));
+		assertThrows(IllegalStateException.class, () -> matrix.transpose());
+		assertTrue(DirectBuffers.free(ByteBuffer.allocateDirect(16)));
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+public class ValidatedMatrixTest {
+	
+	private final double[][] matrix2x3_1 = {
+			{1, 2, 3},
+			{4, 5, 6}
+	};
+	
+	private final double[][] matrix2x3_2 = {
+			{7, 8, 9},
+			{10, 11, 12}
+	};
+	
+	private final double[][] matrix3x3 = {
+			{7, 8, 9},
+			{10, 11, 12},
+			{13, 14, 15}
+	};
+	
+	@Test
+	public void testOf() {
+		ValidatedMatrix matrix = ValidatedMatrix.of(matrix2x3_1);
+		assertSame(matrix2x3_1, matrix.getMatrix());
+		assertEquals(2, matrix.getRows());
+		assertEquals(3, matrix.getColumns());
+		
+		assertThrows(IllegalArgumentException.class, () -> ValidatedMatrix.of(null));
+		assertThrows(IllegalArgumentException.class, () -> ValidatedMatrix.of(new double[][] {
+			{1, 2},
+			{3}
+		}));
+	}
+	
+	@Test
+	public void testChain() {
+		ValidatedMatrix matrix1 = ValidatedMatrix.of(matrix2x3_1);
+		ValidatedMatrix matrix2 = ValidatedMatrix.of(matrix2x3_2);
+		ValidatedMatrix matrix3 = ValidatedMatrix.of(matrix3x3);
+		
+		double[][] expected = MatrixUtils.multiply(MatrixUtils.multiply(MatrixUtils.add(matrix2x3_1, matrix2x3_2), 2), matrix3x3);
+		assertArrayEquals(expected, matrix1.add(matrix2).multiply(2).multiply(matrix3).getMatrix());
+		assertArrayEquals(MatrixUtils.transpose(matrix2x3_1), matrix1.transpose().getMatrix());
+		
+		ValidatedMatrix result = ValidatedMatrix.create(2, 3);
+		assertSame(result, matrix1.add(matrix2, result).multiply(2, result));
+		assertArrayEquals(MatrixUtils.multiply(MatrixUtils.add(matrix2x3_1, matrix2x3_2), 2), result.getMatrix());
+		
+		assertThrows(IllegalArgumentException.class, () -> matrix1.add(matrix3));
+		assertThrows(IllegalArgumentException.class, () -> matrix3.multiply(matrix1));
+		assertThrows(IllegalArgumentException.class, () -> matrix3.multiply(matrix3, matrix3));
+	}
+
+}
@@ -0,0 +1,155 @@
+package com.frostphyr.avail.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+
+public class VectorRowKernelsTest {
+	
+	private static final RowKernels SCALAR = new RowKernels();
+	private static final RowKernels VECTOR = new VectorRowKernels();
+	
+	// The offsets of the operands and the result differ, so that a kernel
+	// mixing them up reads or writes the wrong elements
+	private static final int OFFSET1 = 1;
+	private static final int OFFSET2 = 3;
+	private static final int OFFSET = 2;
+	
+	/**
+	 * Returns lengths that are a single element, one short of a whole 
+	 * vector, exactly a vector and a few elements into the tail loop after 
+	 * one and two vectors.
+	 */
+	private static int[] lengths(int species) {
+		return new int[] {1, Math.max(species - 1, 1), species, species + 3, 2 * species + 1};
+	}
+	
+	private static int[] randomInts(Random random, int length) {
+		int[] array = new int[length];
+		for (int i = 0; i < length; i++) {
+			array[i] = random.nextInt();
+		}
+		return array;
+	}
+	
+	private static float[] randomFloats(Random random, int length) {
+		float[] array = new float[length];
+		for (int i = 0; i < length; i++) {
+			array[i] = random.nextFloat() * 2 - 1;
+		}
+		return array;
+	}
+	
+	private static double[] randomDoubles(Random random, int length) {
+		double[] array = new double[length];
+		for (int i = 0; i < length; i++) {
+			array[i] = random.nextDouble() * 2 - 1;
+		}
+		return array;
+	}
+	
+	@Test
+	public void testVectorized() {
+		assertTrue(VECTOR.isVectorized());
+		assertTrue(RowKernels.INSTANCE.isVectorized());
+	}
+	
+	@Test
+	public void testInt() {
+		Random random = new Random(60);
+		for (int length : lengths(IntVector.SPECIES_PREFERRED.length())) {
+			int size = length + OFFSET2 + 1;
+			int[] matrix1 = randomInts(random, size);
+			int[] matrix2 = randomInts(random, size);
+			int[] initial = randomInts(random, size);
+			int value = random.nextInt();
+			
+			int[] expected = initial.clone();
+			int[] actual = initial.clone();
+			SCALAR.add(matrix1, OFFSET1, matrix2, OFFSET2, expected, OFFSET, length);
+			VECTOR.add(matrix1, OFFSET1, matrix2, OFFSET2, actual, OFFSET, length);
+			assertArrayEquals("add " + length, expected, actual);
+			
+			expected = initial.clone();
+			actual = initial.clone();
+			SCALAR.multiply(matrix1, OFFSET1, value, expected, OFFSET, length);
+			VECTOR.multiply(matrix1, OFFSET1, value, actual, OFFSET, length);
+			assertArrayEquals("multiply " + length, expected, actual);
+			
+			expected = initial.clone();
+			actual = initial.clone();
+			SCALAR.multiplyAdd(value, matrix1, OFFSET1, expected, OFFSET, length);
+			VECTOR.multiplyAdd(value, matrix1, OFFSET1, actual, OFFSET, length);
+			assertArrayEquals("multiplyAdd " + length, expected, actual);
+		}
+	}
+	
+	@Test
+	public void testFloat() {
+		Random random = new Random(61);
+		for (int length : lengths(FloatVector.SPECIES_PREFERRED.length())) {
+			int size = length + OFFSET2 + 1;
+			float[] matrix1 = randomFloats(random, size);
+			float[] matrix2 = randomFloats(random, size);
+			float[] initial = randomFloats(random, size);
+			float value = random.nextFloat() * 2 - 1;
+			
+			// The kernels must be bit-identical, so the delta is 0
+			float[] expected = initial.clone();
+			float[] actual = initial.clone();
+			SCALAR.add(matrix1, OFFSET1, matrix2, OFFSET2, expected, OFFSET, length);
+			VECTOR.add(matrix1, OFFSET1, matrix2, OFFSET2, actual, OFFSET, length);
+			assertArrayEquals("add " + length, expected, actual, 0);
+			
+			expected = initial.clone();
+			actual = initial.clone();
+			SCALAR.multiply(matrix1, OFFSET1, value, expected, OFFSET, length);
+			VECTOR.multiply(matrix1, OFFSET1, value, actual, OFFSET, length);
+			assertArrayEquals("multiply " + length, expected, actual, 0);
+			
+			expected = initial.clone();
+			actual = initial.clone();
+			SCALAR.multiplyAdd(value, matrix1, OFFSET1, expected, OFFSET, length);
+			VECTOR.multiplyAdd(value, matrix1, OFFSET1, actual, OFFSET, length);
+			assertArrayEquals("multiplyAdd " + length, expected, actual, 0);
+		}
+	}
+	
+	@Test
+	public void testDouble() {
+		Random random = new Random(62);
+		for (int length : lengths(DoubleVector.SPECIES_PREFERRED.length())) {
+			int size = length + OFFSET2 + 1;
+			double[] matrix1 = randomDoubles(random, size);
+			double[] matrix2 = randomDoubles(random, size);
+			double[] initial = randomDoubles(random, size);
+			double value = random.nextDouble() * 2 - 1;
+			
+			double[] expected = initial.clone();
+			double[] actual = initial.clone();
+			SCALAR.add(matrix1, OFFSET1, matrix2, OFFSET2, expected, OFFSET, length);
+			VECTOR.add(matrix1, OFFSET1, matrix2, OFFSET2, actual, OFFSET, length);
+			assertArrayEquals("add " + length, expected, actual, 0);
+			
+			expected = initial.clone();
+			actual = initial.clone();
+			SCALAR.multiply(matrix1, OFFSET1, value, expected, OFFSET, length);
+			VECTOR.multiply(matrix1, OFFSET1, value, actual, OFFSET, length);
+			assertArrayEquals("multiply " + length, expected, actual, 0);
+			
+			expected = initial.clone();
+			actual = initial.clone();
+			SCALAR.multiplyAdd(value, matrix1, OFFSET1, expected, OFFSET, length);
+			VECTOR.multiplyAdd(value, matrix1, OFFSET1, actual, OFFSET, length);
+			assertArrayEquals("multiplyAdd " + length, expected, actual, 0);
+		}
+	}
+
+}